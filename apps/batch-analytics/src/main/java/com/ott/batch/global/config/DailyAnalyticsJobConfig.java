@@ -0,0 +1,67 @@
+package com.ott.batch.global.config;
+
+import com.ott.batch.modules.preference.tasklet.UserPreferenceCompactionTasklet;
+import com.ott.batch.modules.recommendation.tasklet.CoWatchSimilarityTasklet;
+import com.ott.batch.modules.watch.tasklet.SeenVideoFilterRebuildTasklet;
+import com.ott.batch.modules.watch.tasklet.WatchHistoryMaintenanceTasklet;
+import lombok.RequiredArgsConstructor;
+import org.springframework.batch.core.Job;
+import org.springframework.batch.core.Step;
+import org.springframework.batch.core.job.builder.JobBuilder;
+import org.springframework.batch.core.launch.support.RunIdIncrementer;
+import org.springframework.batch.core.repository.JobRepository;
+import org.springframework.batch.core.step.builder.StepBuilder;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.transaction.PlatformTransactionManager;
+
+/**
+ * 매일 1회 실행되는 배치 잡 (ECS 예약 태스크로 기동 → 잡 실행 후 종료)
+ */
+@Configuration
+@RequiredArgsConstructor
+public class DailyAnalyticsJobConfig {
+
+    private final JobRepository jobRepository;
+    private final PlatformTransactionManager transactionManager;
+
+    @Bean
+    public Job dailyAnalyticsJob(Step watchHistoryMaintenanceStep, Step userPreferenceCompactionStep,
+                                 Step seenVideoFilterRebuildStep, Step coWatchSimilarityStep) {
+        return new JobBuilder("dailyAnalyticsJob", jobRepository)
+                .incrementer(new RunIdIncrementer())
+                .start(watchHistoryMaintenanceStep)
+                .next(userPreferenceCompactionStep)
+                .next(seenVideoFilterRebuildStep)
+                .next(coWatchSimilarityStep)
+                .build();
+    }
+
+    @Bean
+    public Step watchHistoryMaintenanceStep(WatchHistoryMaintenanceTasklet tasklet) {
+        return new StepBuilder("watchHistoryMaintenanceStep", jobRepository)
+                .tasklet(tasklet, transactionManager)
+                .build();
+    }
+
+    @Bean
+    public Step userPreferenceCompactionStep(UserPreferenceCompactionTasklet tasklet) {
+        return new StepBuilder("userPreferenceCompactionStep", jobRepository)
+                .tasklet(tasklet, transactionManager)
+                .build();
+    }
+
+    @Bean
+    public Step seenVideoFilterRebuildStep(SeenVideoFilterRebuildTasklet tasklet) {
+        return new StepBuilder("seenVideoFilterRebuildStep", jobRepository)
+                .tasklet(tasklet, transactionManager)
+                .build();
+    }
+
+    @Bean
+    public Step coWatchSimilarityStep(CoWatchSimilarityTasklet tasklet) {
+        return new StepBuilder("coWatchSimilarityStep", jobRepository)
+                .tasklet(tasklet, transactionManager)
+                .build();
+    }
+}
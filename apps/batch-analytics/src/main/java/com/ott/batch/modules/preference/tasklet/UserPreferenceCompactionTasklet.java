@@ -0,0 +1,227 @@
+package com.ott.batch.modules.preference.tasklet;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.batch.core.StepContribution;
+import org.springframework.batch.core.scope.context.ChunkContext;
+import org.springframework.batch.core.step.tasklet.Tasklet;
+import org.springframework.batch.repeat.RepeatStatus;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.connection.ReturnType;
+import org.springframework.data.redis.core.Cursor;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.ScanOptions;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 사용자 취향 점수 정리 (사용자당 저장량 상한 유지)
+ * 1. user_preference: 사용자별 (감쇠 적용) 점수 절댓값 상위 K개 태그만 남기고, 감쇠 모드면 거의 0이 된 점수도 삭제
+ * 2. user:{userId}:preference: 오래 변경이 없는 사용자 키는 삭제 (다음 조회 시 DB에서 복구), 나머지는 절댓값 상위 K개로 자름
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class UserPreferenceCompactionTasklet implements Tasklet {
+
+    private static final String KEY_PREFIX = "user:";
+    private static final String KEY_SUFFIX = ":preference";
+    private static final String EPOCH_SUFFIX = ":epoch";
+    private static final int SCAN_BATCH_SIZE = 500;
+    private static final int USER_BATCH_SIZE = 1000;
+
+    /**
+     * KEYS[1] = 점수 ZSET, ARGV[1] = 남길 태그 수
+     * core-api PreferenceScoreStore와 같은 기준으로 0에 가장 가까운(절댓값이 작은) 태그부터 제거
+     */
+    private static final byte[] TRIM_SCRIPT = """
+            local keep = tonumber(ARGV[1])
+            local card = redis.call('ZCARD', KEYS[1])
+            if card <= keep then
+                return 0
+            end
+            local excess = card - keep
+            local negatives = redis.call('ZCOUNT', KEYS[1], '-inf', '(0')
+            local from = math.max(0, negatives - excess)
+            local window = redis.call('ZRANGE', KEYS[1], from, math.min(card - 1, negatives + excess - 1), 'WITHSCORES')
+            local lo = negatives - from
+            local hi = lo
+            for _ = 1, excess do
+                local left = lo > 0 and math.abs(tonumber(window[lo * 2])) or math.huge
+                local right = hi < #window / 2 and math.abs(tonumber(window[hi * 2 + 2])) or math.huge
+                if left <= right then lo = lo - 1 else hi = hi + 1 end
+            end
+            return redis.call('ZREMRANGEBYRANK', KEYS[1], from + lo, from + hi - 1)
+            """.getBytes(StandardCharsets.UTF_8);
+
+    private final JdbcTemplate jdbcTemplate;
+    private final StringRedisTemplate stringRedisTemplate;
+
+    @Value("${app.batch.preference.top-k:50}")
+    private int topK;
+
+    @Value("${app.batch.preference.idle-days:30}")
+    private int idleDays;
+
+    @Value("${app.batch.preference.half-life-days:0}")
+    private double halfLifeDays;
+
+    @Value("${app.batch.preference.min-score:0.01}")
+    private double minScore;
+
+    @Override
+    public RepeatStatus execute(StepContribution contribution, ChunkContext chunkContext) {
+        int trimmed = compactTable();
+        contribution.incrementWriteCount(trimmed);
+        log.info("[PreferenceCompaction] user_preference 정리 - {}건 삭제", trimmed);
+
+        int[] redisResult = compactRedis();
+        log.info("[PreferenceCompaction] Redis 취향 키 정리 - 유휴 삭제: {}, 상위 {}개로 자름: {}", redisResult[0], topK, redisResult[1]);
+        return RepeatStatus.FINISHED;
+    }
+
+    /**
+     * 사용자 id 순으로 USER_BATCH_SIZE명씩 나눠 삭제 (한 문장이 테이블 전체를 정렬/잠그지 않도록)
+     */
+    private int compactTable() {
+        // 감쇠 모드면 저장된 점수(updated_at 시점 값)를 지금 시점으로 감쇠시켜 순위를 매김
+        String current = halfLifeDays > 0
+                ? "score * power(2, -EXTRACT(EPOCH FROM (now() - updated_at)) / " + (halfLifeDays * 24 * 60 * 60) + ")"
+                : "score";
+        // 싫어요(음수) 점수도 신호이므로 절댓값이 큰 순으로 남김
+        String sql = """
+                DELETE FROM user_preference up
+                USING (
+                    SELECT user_preference_id
+                    FROM (
+                        SELECT user_preference_id,
+                               %1$s AS current_score,
+                               row_number() OVER (PARTITION BY user_id ORDER BY abs(%1$s) DESC) AS rn
+                        FROM user_preference
+                        WHERE user_id BETWEEN ? AND ?
+                    ) ranked
+                    WHERE ranked.rn > ?
+                       OR (? AND abs(ranked.current_score) < ?)
+                ) doomed
+                WHERE up.user_preference_id = doomed.user_preference_id
+                """.formatted(current);
+
+        int deleted = 0;
+        long after = Long.MIN_VALUE;
+        while (true) {
+            List<Long> userIds = jdbcTemplate.queryForList("""
+                    SELECT user_id
+                    FROM user_preference
+                    WHERE user_id > ?
+                    GROUP BY user_id
+                    ORDER BY user_id
+                    LIMIT ?
+                    """, Long.class, after, USER_BATCH_SIZE);
+            if (userIds.isEmpty()) {
+                return deleted;
+            }
+            long from = userIds.getFirst();
+            after = userIds.getLast();
+            deleted += jdbcTemplate.update(sql, from, after, Math.max(1, topK), halfLifeDays > 0, minScore);
+        }
+    }
+
+    /**
+     * @return [유휴 삭제 수, 자른 키 수]
+     */
+    private int[] compactRedis() {
+        ScanOptions options = ScanOptions.scanOptions()
+                .match(KEY_PREFIX + "[0-9]*" + KEY_SUFFIX)
+                .count(SCAN_BATCH_SIZE)
+                .build();
+
+        int[] result = new int[2];
+        List<Long> batch = new ArrayList<>();
+        try (Cursor<String> cursor = stringRedisTemplate.scan(options)) {
+            while (cursor.hasNext()) {
+                String key = cursor.next();
+                try {
+                    batch.add(Long.valueOf(key.substring(KEY_PREFIX.length(), key.length() - KEY_SUFFIX.length())));
+                } catch (NumberFormatException e) {
+                    log.warn("[PreferenceCompaction] 형식이 맞지 않는 키 건너뜀 - {}", key);
+                }
+                if (batch.size() >= SCAN_BATCH_SIZE || (!cursor.hasNext() && !batch.isEmpty())) {
+                    compactBatch(batch, result);
+                    batch.clear();
+                }
+            }
+        }
+        return result;
+    }
+
+    private void compactBatch(List<Long> userIds, int[] result) {
+        Map<Long, OffsetDateTime> lastUpdated = findLastUpdated(userIds);
+        OffsetDateTime idleBefore = OffsetDateTime.now(ZoneOffset.UTC).minusDays(idleDays);
+        long ttlSeconds = Math.max(1, idleDays) * 24L * 60 * 60;
+        byte[] keep = bytes(String.valueOf(Math.max(1, topK)));
+
+        List<Long> idle = new ArrayList<>();
+        List<Long> active = new ArrayList<>();
+        for (Long userId : userIds) {
+            OffsetDateTime updatedAt = lastUpdated.get(userId);
+            // DB에 행이 없거나 마지막 변경이 오래된 사용자는 캐시를 유지할 이유가 없음
+            (updatedAt == null || updatedAt.isBefore(idleBefore) ? idle : active).add(userId);
+        }
+
+        // TTL이 없는 키(이전 버전에서 만든 키, 프로필 수정으로 만든 키)는 유휴 기간만큼 만료 설정
+        List<Object> ttls = active.isEmpty() ? List.of() : stringRedisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+            active.forEach(userId -> connection.keyCommands().ttl(bytes(key(userId))));
+            return null;
+        });
+
+        stringRedisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+            idle.forEach(userId -> connection.keyCommands().del(bytes(key(userId)), bytes(key(userId) + EPOCH_SUFFIX)));
+            for (int i = 0; i < active.size(); i++) {
+                byte[] rawKey = bytes(key(active.get(i)));
+                connection.scriptingCommands().eval(TRIM_SCRIPT, ReturnType.INTEGER, 1, rawKey, keep);
+                if (ttls.get(i) instanceof Long ttl && ttl == -1) {
+                    connection.keyCommands().expire(rawKey, ttlSeconds);
+                }
+            }
+            return null;
+        });
+
+        result[0] += idle.size();
+        result[1] += active.size();
+    }
+
+    private Map<Long, OffsetDateTime> findLastUpdated(List<Long> userIds) {
+        if (userIds.isEmpty()) {
+            return Map.of();
+        }
+        String placeholders = String.join(",", Collections.nCopies(userIds.size(), "?"));
+        Map<Long, OffsetDateTime> lastUpdated = new HashMap<>();
+        jdbcTemplate.query("""
+                SELECT user_id, max(updated_at) AS last_updated
+                FROM user_preference
+                WHERE user_id IN (%s)
+                GROUP BY user_id
+                """.formatted(placeholders), rs -> {
+            lastUpdated.put(rs.getLong("user_id"), rs.getObject("last_updated", OffsetDateTime.class));
+        }, userIds.toArray());
+        return lastUpdated;
+    }
+
+    private static String key(Long userId) {
+        return KEY_PREFIX + userId + KEY_SUFFIX;
+    }
+
+    private static byte[] bytes(String value) {
+        return value.getBytes(StandardCharsets.UTF_8);
+    }
+}
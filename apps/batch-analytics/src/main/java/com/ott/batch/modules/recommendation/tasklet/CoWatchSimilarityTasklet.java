@@ -0,0 +1,291 @@
+package com.ott.batch.modules.recommendation.tasklet;
+
+import com.ott.batch.modules.recommendation.support.LongIntHashMap;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.batch.core.StepContribution;
+import org.springframework.batch.core.scope.context.ChunkContext;
+import org.springframework.batch.core.step.tasklet.Tasklet;
+import org.springframework.batch.repeat.RepeatStatus;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.connection.DefaultTuple;
+import org.springframework.data.redis.connection.RedisZSetCommands;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.sql.PreparedStatement;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.Set;
+
+/**
+ * 영상 간 함께 본(co-watch) 유사도 계산 → video:cowatch:{videoId} ZSET (이웃 videoId → 유사도)
+ * 1. 최근 lookback-days 동안 완주했거나 좋아요/왕따봉을 누른 (사용자, 영상)을 user_id 순으로 스트리밍
+ * 2. 사용자마다 영상 쌍의 함께 본 수를 누적 (영상 id는 조밀한 int 번호로 바꿔 두 번호를 long 하나로 묶어 키로 사용)
+ * 3. 유사도 = 함께 본 수 / sqrt(각 영상을 본 사용자 수 곱) (cosine), 영상마다 상위 K개만 Redis에 게시
+ * 사용자당 최근 max-items-per-user개만 쓰므로 쌍의 수는 사용자당 최대 n(n-1)/2로 제한됨
+ * 전체 쌍 수(메모리)는 영상마다 서로 다른 이웃 max-pairs-per-video개까지만 새로 만들어 제한 (이미 있는 쌍은 계속 누적)
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class CoWatchSimilarityTasklet implements Tasklet {
+
+    private static final String KEY_PREFIX = "video:cowatch:";
+    private static final int WRITE_BATCH_SIZE = 500;
+    private static final int FETCH_SIZE = 5000;
+
+    // 사용자별 최근 긍정 반응 영상 (최신 N개)
+    private static final String ENGAGED_SQL = """
+            SELECT e.user_id, vm.video_id
+            FROM (
+                SELECT user_id, video_metadata_id,
+                       row_number() OVER (PARTITION BY user_id ORDER BY max(engaged_at) DESC) AS rn
+                FROM (
+                    SELECT wh.user_id, wh.video_metadata_id, wh.updated_at AS engaged_at
+                    FROM watch_history wh
+                    WHERE wh.completed = true
+                      AND wh.deleted = false
+                      AND wh.updated_at >= now() - make_interval(days => ?)
+                    UNION ALL
+                    SELECT i.user_id, i.video_metadata_id, i.updated_at
+                    FROM interaction i
+                    WHERE i.interaction_type IN ('LIKE', 'SUPERLIKE')
+                      AND i.updated_at >= now() - make_interval(days => ?)
+                ) engaged
+                GROUP BY user_id, video_metadata_id
+            ) e
+            JOIN video_metadata vm ON vm.video_metadata_id = e.video_metadata_id
+            WHERE e.rn <= ?
+              AND vm.deleted = false
+            ORDER BY e.user_id
+            """;
+
+    private final JdbcTemplate jdbcTemplate;
+    private final StringRedisTemplate stringRedisTemplate;
+
+    @Value("${app.batch.cowatch.enabled:false}")
+    private boolean enabled;
+
+    @Value("${app.batch.cowatch.lookback-days:30}")
+    private int lookbackDays;
+
+    @Value("${app.batch.cowatch.max-items-per-user:100}")
+    private int maxItemsPerUser;
+
+    @Value("${app.batch.cowatch.min-co-count:2}")
+    private int minCoCount;
+
+    @Value("${app.batch.cowatch.max-pairs-per-video:2000}")
+    private int maxPairsPerVideo;
+
+    @Value("${app.batch.cowatch.top-k:20}")
+    private int topK;
+
+    @Value("${app.batch.cowatch.ttl-days:3}")
+    private int ttlDays;
+
+    @Override
+    public RepeatStatus execute(StepContribution contribution, ChunkContext chunkContext) {
+        if (!enabled) {
+            log.info("[CoWatch] 비활성화 상태 - 건너뜀");
+            return RepeatStatus.FINISHED;
+        }
+
+        CoWatchCounts counts = new CoWatchCounts(Math.max(1, maxItemsPerUser), Math.max(1, maxPairsPerVideo));
+        jdbcTemplate.query(con -> {
+            PreparedStatement ps = con.prepareStatement(ENGAGED_SQL);
+            ps.setFetchSize(FETCH_SIZE);
+            ps.setInt(1, lookbackDays);
+            ps.setInt(2, lookbackDays);
+            ps.setInt(3, Math.max(1, maxItemsPerUser));
+            return ps;
+        }, rs -> {
+            counts.add(rs.getLong("user_id"), rs.getLong("video_id"));
+        });
+        counts.finishUser();
+        log.info("[CoWatch] 집계 완료 - 사용자: {}, 영상: {}, 영상 쌍: {} (이웃 상한으로 버린 쌍: {})",
+                counts.users, counts.itemCount, counts.pairCounts.size(), counts.droppedPairs);
+
+        int k = Math.max(1, topK);
+        int[] neighbors = new int[counts.itemCount * k];
+        float[] scores = new float[counts.itemCount * k];
+        int[] filled = new int[counts.itemCount];
+        counts.pairCounts.forEach((pair, coCount) -> {
+            if (coCount < minCoCount) {
+                return;
+            }
+            int a = firstOf(pair);
+            int b = secondOf(pair);
+            float score = (float) (coCount / Math.sqrt((double) counts.itemUsers[a] * counts.itemUsers[b]));
+            offer(neighbors, scores, filled, k, a, b, score);
+            offer(neighbors, scores, filled, k, b, a, score);
+        });
+
+        int published = publish(counts.videoIds, neighbors, scores, filled, k);
+        contribution.incrementWriteCount(published);
+        log.info("[CoWatch] 이웃 목록 게시 - 영상 {}개 (top-k: {})", published, k);
+        return RepeatStatus.FINISHED;
+    }
+
+    /**
+     * 두 영상 번호를 순서와 관계없이 같은 키로 묶음 (작은 번호 << 32 | 큰 번호)
+     */
+    static long pairKey(int a, int b) {
+        return a < b ? ((long) a << 32) | b : ((long) b << 32) | a;
+    }
+
+    static int firstOf(long pair) {
+        return (int) (pair >>> 32);
+    }
+
+    static int secondOf(long pair) {
+        return (int) pair;
+    }
+
+    /**
+     * item의 상위 k개 이웃에 넣기 (가득 찼으면 가장 낮은 점수와 비교해 교체)
+     */
+    static void offer(int[] neighbors, float[] scores, int[] filled, int k, int item, int neighbor, float score) {
+        int base = item * k;
+        if (filled[item] < k) {
+            neighbors[base + filled[item]] = neighbor;
+            scores[base + filled[item]] = score;
+            filled[item]++;
+            return;
+        }
+        int min = base;
+        for (int i = base + 1; i < base + k; i++) {
+            if (scores[i] < scores[min]) {
+                min = i;
+            }
+        }
+        if (score > scores[min]) {
+            neighbors[min] = neighbor;
+            scores[min] = score;
+        }
+    }
+
+    private int publish(long[] videoIds, int[] neighbors, float[] scores, int[] filled, int k) {
+        long ttlSeconds = Math.max(1, ttlDays) * 24L * 60 * 60;
+        int published = 0;
+        for (int from = 0; from < filled.length; from += WRITE_BATCH_SIZE) {
+            int start = from;
+            int end = Math.min(from + WRITE_BATCH_SIZE, filled.length);
+            stringRedisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+                for (int item = start; item < end; item++) {
+                    if (filled[item] == 0) {
+                        continue;
+                    }
+                    Set<RedisZSetCommands.Tuple> tuples = new HashSet<>(filled[item]);
+                    for (int i = item * k; i < item * k + filled[item]; i++) {
+                        tuples.add(new DefaultTuple(bytes(String.valueOf(videoIds[neighbors[i]])), (double) scores[i]));
+                    }
+                    byte[] key = bytes(KEY_PREFIX + videoIds[item]);
+                    // 읽는 쪽이 빈 목록을 보지 않도록 교체를 한 트랜잭션으로
+                    connection.multi();
+                    connection.keyCommands().del(key);
+                    connection.zSetCommands().zAdd(key, tuples);
+                    connection.keyCommands().expire(key, ttlSeconds);
+                    connection.exec();
+                }
+                return null;
+            });
+            for (int item = start; item < end; item++) {
+                if (filled[item] > 0) {
+                    published++;
+                }
+            }
+        }
+        return published;
+    }
+
+    private static byte[] bytes(String value) {
+        return value.getBytes(StandardCharsets.UTF_8);
+    }
+
+    /**
+     * user_id 순 스트림을 받아 사용자 단위로 영상 쌍을 누적
+     */
+    static final class CoWatchCounts {
+
+        final LongIntHashMap videoIndex = new LongIntHashMap(1 << 16);
+        final LongIntHashMap pairCounts = new LongIntHashMap(1 << 20);
+        long[] videoIds = new long[1 << 16];
+        int[] itemUsers = new int[1 << 16];
+        // 영상별 서로 다른 이웃(쌍) 수
+        int[] itemPairs = new int[1 << 16];
+        int itemCount;
+        long users;
+        long droppedPairs;
+
+        private final int[] userItems;
+        private final int maxPairsPerVideo;
+        private int userItemCount;
+        private long currentUser = Long.MIN_VALUE;
+
+        CoWatchCounts(int maxItemsPerUser, int maxPairsPerVideo) {
+            this.userItems = new int[maxItemsPerUser];
+            this.maxPairsPerVideo = maxPairsPerVideo;
+        }
+
+        void add(long userId, long videoId) {
+            if (userId != currentUser) {
+                finishUser();
+                currentUser = userId;
+            }
+            if (userItemCount < userItems.length) {
+                userItems[userItemCount++] = indexOf(videoId);
+            }
+        }
+
+        void finishUser() {
+            if (userItemCount == 0) {
+                return;
+            }
+            int[] items = Arrays.copyOf(userItems, userItemCount);
+            Arrays.sort(items);
+            userItemCount = 0;
+            users++;
+
+            for (int i = 0; i < items.length; i++) {
+                itemUsers[items[i]]++;
+                for (int j = i + 1; j < items.length; j++) {
+                    addPair(items[i], items[j]);
+                }
+            }
+        }
+
+        // 새 쌍은 두 영상 모두 이웃 상한 미만일 때만 만듦 (인기 영상 하나가 쌍 수를 키우지 않도록)
+        private void addPair(int a, int b) {
+            long pair = pairKey(a, b);
+            if (pairCounts.get(pair, 0) > 0) {
+                pairCounts.addTo(pair, 1);
+                return;
+            }
+            if (itemPairs[a] >= maxPairsPerVideo || itemPairs[b] >= maxPairsPerVideo) {
+                droppedPairs++;
+                return;
+            }
+            pairCounts.addTo(pair, 1);
+            itemPairs[a]++;
+            itemPairs[b]++;
+        }
+
+        private int indexOf(long videoId) {
+            int index = videoIndex.putIfAbsent(videoId, itemCount);
+            if (index == itemCount) {
+                if (itemCount == videoIds.length) {
+                    videoIds = Arrays.copyOf(videoIds, itemCount << 1);
+                    itemUsers = Arrays.copyOf(itemUsers, itemCount << 1);
+                    itemPairs = Arrays.copyOf(itemPairs, itemCount << 1);
+                }
+                videoIds[itemCount++] = videoId;
+            }
+            return index;
+        }
+    }
+}
@@ -0,0 +1,132 @@
+package com.ott.batch.modules.watch.tasklet;
+
+import com.ott.common.util.BloomFilterSpec;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.batch.core.StepContribution;
+import org.springframework.batch.core.scope.context.ChunkContext;
+import org.springframework.batch.core.step.tasklet.Tasklet;
+import org.springframework.batch.repeat.RepeatStatus;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.connection.RedisStringCommands;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.types.Expiration;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.sql.PreparedStatement;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * 사용자별 완주 영상 Bloom filter(feed:seen:{userId}) 재구성
+ * - 최근 lookback-days 동안 완주한 영상 중 최신 expected-items개로 비트맵을 새로 만들어 통째로 교체
+ * - 실시간 기록(core-api)은 쌓이기만 하므로 오래된 기록 정리와 크기 설정 변경 반영을 여기서 맡음
+ * 재구성 도중 완주한 영상이 덮어써져 빠지더라도 DB에는 남아 있으므로 다음 재구성에서 복구됨
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class SeenVideoFilterRebuildTasklet implements Tasklet {
+
+    private static final String KEY_PREFIX = "feed:seen:";
+    private static final int WRITE_BATCH_SIZE = 500;
+    private static final int FETCH_SIZE = 5000;
+
+    // 사용자별 최근 완주 영상 (최신 N개)
+    private static final String RECENT_COMPLETED_SQL = """
+            SELECT user_id, video_id
+            FROM (
+                SELECT wh.user_id, vm.video_id,
+                       row_number() OVER (PARTITION BY wh.user_id ORDER BY wh.updated_at DESC) AS rn
+                FROM watch_history wh
+                JOIN video_metadata vm ON vm.video_metadata_id = wh.video_metadata_id
+                WHERE wh.completed = true
+                  AND wh.deleted = false
+                  AND wh.updated_at >= now() - make_interval(days => ?)
+            ) recent
+            WHERE rn <= ?
+            ORDER BY user_id
+            """;
+
+    private final JdbcTemplate jdbcTemplate;
+    private final StringRedisTemplate stringRedisTemplate;
+
+    @Value("${app.batch.seen-filter.expected-items:1000}")
+    private int expectedItems;
+
+    @Value("${app.batch.seen-filter.false-positive-rate:0.01}")
+    private double falsePositiveRate;
+
+    @Value("${app.batch.seen-filter.ttl-days:90}")
+    private int ttlDays;
+
+    @Value("${app.batch.seen-filter.lookback-days:90}")
+    private int lookbackDays;
+
+    @Override
+    public RepeatStatus execute(StepContribution contribution, ChunkContext chunkContext) {
+        BloomFilterSpec spec = BloomFilterSpec.of(expectedItems, falsePositiveRate);
+        Expiration expiration = Expiration.seconds(Math.max(1, ttlDays) * 24L * 60 * 60);
+
+        Map<Long, byte[]> pending = new LinkedHashMap<>();
+        long[] written = new long[1];
+        long[] currentUser = {-1L};
+        byte[][] bitmap = new byte[1][];
+
+        // user_id 순으로 스트리밍하며 사용자가 바뀔 때마다 비트맵 하나를 완성
+        jdbcTemplate.query(con -> {
+            PreparedStatement ps = con.prepareStatement(RECENT_COMPLETED_SQL);
+            ps.setFetchSize(FETCH_SIZE);
+            ps.setInt(1, lookbackDays);
+            ps.setInt(2, expectedItems);
+            return ps;
+        }, rs -> {
+            long userId = rs.getLong("user_id");
+            if (userId != currentUser[0]) {
+                if (bitmap[0] != null) {
+                    pending.put(currentUser[0], bitmap[0]);
+                    if (pending.size() >= WRITE_BATCH_SIZE) {
+                        written[0] += flush(pending, expiration);
+                    }
+                }
+                currentUser[0] = userId;
+                bitmap[0] = new byte[(int) ((spec.bitSize() + 7) / 8)];
+            }
+            for (long offset : spec.offsets(rs.getLong("video_id"))) {
+                // Redis 비트맵은 바이트마다 최상위 비트가 0번
+                bitmap[0][(int) (offset >>> 3)] |= (byte) (0x80 >>> (offset & 7));
+            }
+        });
+
+        if (bitmap[0] != null) {
+            pending.put(currentUser[0], bitmap[0]);
+        }
+        written[0] += flush(pending, expiration);
+
+        contribution.incrementWriteCount(written[0]);
+        log.info("[SeenVideoFilterRebuild] 완주 영상 필터 재구성 - 사용자 {}명 (bits: {}, hashes: {})",
+                written[0], spec.bitSize(), spec.hashCount());
+        return RepeatStatus.FINISHED;
+    }
+
+    private int flush(Map<Long, byte[]> pending, Expiration expiration) {
+        if (pending.isEmpty()) {
+            return 0;
+        }
+        stringRedisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+            pending.forEach((userId, bitmap) -> connection.stringCommands().set(
+                    bytes(KEY_PREFIX + userId), bitmap, expiration, RedisStringCommands.SetOption.upsert()));
+            return null;
+        });
+        int count = pending.size();
+        pending.clear();
+        return count;
+    }
+
+    private static byte[] bytes(String value) {
+        return value.getBytes(StandardCharsets.UTF_8);
+    }
+}
@@ -0,0 +1,78 @@
+package com.ott.batch.modules.recommendation.support;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.HashMap;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class LongIntHashMapTest {
+
+    @Test
+    @DisplayName("초기 용량을 여러 번 넘겨 재해시해도 모든 값이 유지됨")
+    void 재해시_후_값_유지() {
+        LongIntHashMap map = new LongIntHashMap(4);
+        for (long key = 1; key <= 10_000; key++) {
+            map.addTo(key, (int) key);
+        }
+
+        assertThat(map.size()).isEqualTo(10_000);
+        for (long key = 1; key <= 10_000; key++) {
+            assertThat(map.get(key, -1)).isEqualTo((int) key);
+        }
+        assertThat(map.get(10_001, -1)).isEqualTo(-1);
+    }
+
+    @Test
+    @DisplayName("같은 슬롯으로 몰리는 (a << 32 | b) 키도 선형 탐사로 구분됨")
+    void 충돌_키_구분() {
+        LongIntHashMap map = new LongIntHashMap(16);
+        Map<Long, Integer> expected = new HashMap<>();
+        for (int a = 0; a < 50; a++) {
+            for (int b = a + 1; b < 50; b++) {
+                long key = ((long) a << 32) | b;
+                map.addTo(key, 1);
+                map.addTo(key, a);
+                expected.put(key, 1 + a);
+            }
+        }
+
+        assertThat(map.size()).isEqualTo(expected.size());
+        expected.forEach((key, value) -> assertThat(map.get(key, -1)).isEqualTo(value));
+    }
+
+    @Test
+    @DisplayName("키 0은 빈 칸 표시와 겹치지 않게 따로 보관되고 forEach에도 포함됨")
+    void 키_0() {
+        LongIntHashMap map = new LongIntHashMap(16);
+        assertThat(map.get(0, -1)).isEqualTo(-1);
+
+        assertThat(map.putIfAbsent(0, 7)).isEqualTo(7);
+        assertThat(map.putIfAbsent(0, 9)).isEqualTo(7);
+        assertThat(map.addTo(0, 3)).isEqualTo(10);
+        map.addTo(5, 1);
+
+        Map<Long, Integer> seen = new HashMap<>();
+        map.forEach(seen::put);
+        assertThat(map.size()).isEqualTo(2);
+        assertThat(seen).containsExactlyInAnyOrderEntriesOf(Map.of(0L, 10, 5L, 1));
+    }
+
+    @Test
+    @DisplayName("음수 키와 Long 경계값도 일반 키처럼 저장/조회됨")
+    void 음수_키() {
+        LongIntHashMap map = new LongIntHashMap(16);
+        long[] keys = {-1L, -42L, Long.MIN_VALUE, Long.MAX_VALUE, 0xFFFFFFFF00000000L};
+        for (int i = 0; i < keys.length; i++) {
+            assertThat(map.putIfAbsent(keys[i], i)).isEqualTo(i);
+        }
+
+        for (int i = 0; i < keys.length; i++) {
+            assertThat(map.get(keys[i], -1)).isEqualTo(i);
+        }
+        assertThat(map.get(1L, -1)).isEqualTo(-1);
+        assertThat(map.size()).isEqualTo(keys.length);
+    }
+}
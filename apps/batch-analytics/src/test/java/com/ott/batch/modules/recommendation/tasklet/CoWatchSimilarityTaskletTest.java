@@ -0,0 +1,64 @@
+package com.ott.batch.modules.recommendation.tasklet;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class CoWatchSimilarityTaskletTest {
+
+    @Test
+    @DisplayName("영상 쌍 키는 순서와 관계없이 같고, (작은 번호, 큰 번호)로 복원됨")
+    void 쌍_키_대칭() {
+        int[][] pairs = {{0, 1}, {3, 7}, {1_000_000, 5}, {Integer.MAX_VALUE, Integer.MAX_VALUE - 1}};
+        for (int[] pair : pairs) {
+            long key = CoWatchSimilarityTasklet.pairKey(pair[0], pair[1]);
+            assertThat(CoWatchSimilarityTasklet.pairKey(pair[1], pair[0])).isEqualTo(key);
+            assertThat(CoWatchSimilarityTasklet.firstOf(key)).isEqualTo(Math.min(pair[0], pair[1]));
+            assertThat(CoWatchSimilarityTasklet.secondOf(key)).isEqualTo(Math.max(pair[0], pair[1]));
+        }
+    }
+
+    @Test
+    @DisplayName("상위 K개 이웃만 남고, 가득 찬 뒤에는 가장 낮은 점수보다 높은 이웃만 교체됨")
+    void 상위_K_유지() {
+        int k = 3;
+        int[] neighbors = new int[2 * k];
+        float[] scores = new float[2 * k];
+        int[] filled = new int[2];
+        float[] offered = {0.2f, 0.9f, 0.1f, 0.5f, 0.7f, 0.3f};
+        for (int neighbor = 0; neighbor < offered.length; neighbor++) {
+            CoWatchSimilarityTasklet.offer(neighbors, scores, filled, k, 1, neighbor, offered[neighbor]);
+        }
+
+        assertThat(filled[0]).isZero();
+        assertThat(filled[1]).isEqualTo(k);
+        assertThat(Arrays.copyOfRange(neighbors, k, 2 * k)).containsExactlyInAnyOrder(1, 3, 4);
+        assertThat(Arrays.copyOfRange(scores, k, 2 * k)).containsExactlyInAnyOrder(0.9f, 0.5f, 0.7f);
+    }
+
+    @Test
+    @DisplayName("영상당 이웃 상한을 넘는 새 쌍은 만들지 않고, 이미 있는 쌍은 계속 누적")
+    void 영상당_쌍_상한() {
+        CoWatchSimilarityTasklet.CoWatchCounts counts = new CoWatchSimilarityTasklet.CoWatchCounts(10, 2);
+        // 사용자 1: 영상 100과 200, 300 → 100의 이웃 2개로 상한 도달
+        counts.add(1, 100);
+        counts.add(1, 200);
+        counts.add(1, 300);
+        // 사용자 2: 100-400은 새 쌍이라 버림, 100-200은 기존 쌍이라 누적
+        counts.add(2, 100);
+        counts.add(2, 200);
+        counts.add(2, 400);
+        counts.finishUser();
+
+        int v100 = counts.videoIndex.get(100, -1);
+        int v200 = counts.videoIndex.get(200, -1);
+        int v400 = counts.videoIndex.get(400, -1);
+        assertThat(counts.pairCounts.get(CoWatchSimilarityTasklet.pairKey(v100, v200), 0)).isEqualTo(2);
+        assertThat(counts.pairCounts.get(CoWatchSimilarityTasklet.pairKey(v100, v400), 0)).isZero();
+        assertThat(counts.droppedPairs).isPositive();
+        assertThat(counts.itemUsers[v100]).isEqualTo(2);
+    }
+}
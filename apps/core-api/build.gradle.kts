@@ -43,6 +43,12 @@ dependencies {
     // Redis
     implementation("org.springframework.boot:spring-boot-starter-data-redis")
 
+    // Local cache (Caffeine)
+    implementation("com.github.ben-manes.caffeine:caffeine")
+
+    // Metrics (Micrometer)
+    implementation("org.springframework.boot:spring-boot-starter-actuator")
+
     // Kafka
     implementation("org.springframework.kafka:spring-kafka")
 
@@ -61,3 +67,14 @@ dependencies {
 
 
 }
+
+tasks.named<Test>("test") {
+    useJUnitPlatform {
+        // 코덱 비교 등 측정용 테스트(@Tag("benchmark"))는 -Pbenchmark 지정 시에만 실행
+        if (project.hasProperty("benchmark")) {
+            includeTags("benchmark")
+        } else {
+            excludeTags("benchmark")
+        }
+    }
+}
@@ -0,0 +1,58 @@
+package com.ott.core.global.concurrent;
+
+import org.springframework.core.task.TaskExecutor;
+import org.springframework.core.task.TaskRejectedException;
+
+import java.util.concurrent.Executor;
+import java.util.concurrent.Semaphore;
+
+/**
+ * 동시 실행 수를 세마포어로 제한하는 Executor 래퍼 (가상 스레드 Executor용)
+ * SimpleAsyncTaskExecutor의 concurrencyLimit은 상한에서 제출 스레드를 대기시키므로,
+ * 자리가 없으면 대기하지 않고 거부(TaskRejectedException)하거나 제출 스레드에서 직접 실행
+ */
+public class ConcurrencyLimitedExecutor implements TaskExecutor, AutoCloseable {
+
+    private final Executor delegate;
+    private final Semaphore permits;
+    private final boolean callerRunsWhenFull;
+
+    /**
+     * @param callerRunsWhenFull true면 상한에서 제출 스레드가 직접 실행 (CallerRunsPolicy), false면 거부 (AbortPolicy)
+     */
+    public ConcurrencyLimitedExecutor(Executor delegate, int concurrencyLimit, boolean callerRunsWhenFull) {
+        this.delegate = delegate;
+        this.permits = new Semaphore(Math.max(1, concurrencyLimit));
+        this.callerRunsWhenFull = callerRunsWhenFull;
+    }
+
+    @Override
+    public void execute(Runnable task) {
+        if (!permits.tryAcquire()) {
+            if (callerRunsWhenFull) {
+                task.run();
+                return;
+            }
+            throw new TaskRejectedException("동시 실행 상한 초과로 작업 거부");
+        }
+        try {
+            delegate.execute(() -> {
+                try {
+                    task.run();
+                } finally {
+                    permits.release();
+                }
+            });
+        } catch (RuntimeException e) {
+            permits.release();
+            throw e;
+        }
+    }
+
+    @Override
+    public void close() throws Exception {
+        if (delegate instanceof AutoCloseable closeable) {
+            closeable.close();
+        }
+    }
+}
@@ -0,0 +1,40 @@
+package com.ott.core.global.concurrent;
+
+import java.time.Duration;
+
+/**
+ * 요청 단위 마감 시각 (System.nanoTime 기준)
+ * 요청 진입 시 한 번 만들고 하위 호출에 그대로 넘겨, 각 호출이 남은 시간 안에서만 기다리도록 함
+ */
+public final class Deadline {
+
+    // ES 등 하위 호출에 0 이하의 시간 제한을 넘기지 않기 위한 최소값
+    private static final Duration MIN_BUDGET = Duration.ofMillis(1);
+
+    private final long deadlineNanos;
+
+    private Deadline(long deadlineNanos) {
+        this.deadlineNanos = deadlineNanos;
+    }
+
+    public static Deadline after(Duration timeout) {
+        return new Deadline(System.nanoTime() + timeout.toNanos());
+    }
+
+    public Duration remaining() {
+        return Duration.ofNanos(Math.max(0, deadlineNanos - System.nanoTime()));
+    }
+
+    public boolean isExpired() {
+        return deadlineNanos - System.nanoTime() <= 0;
+    }
+
+    /**
+     * 하위 호출 예산: 호출별 상한과 남은 시간 중 작은 값 (최소 1ms)
+     */
+    public Duration cap(Duration budget) {
+        Duration remaining = remaining();
+        Duration capped = budget.compareTo(remaining) < 0 ? budget : remaining;
+        return capped.compareTo(MIN_BUDGET) < 0 ? MIN_BUDGET : capped;
+    }
+}
@@ -0,0 +1,77 @@
+package com.ott.core.global.concurrent;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.core.task.TaskExecutor;
+
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 작업 대기/실행 수와 대기 시간을 기록하는 Executor 래퍼
+ * 스레드 풀/가상 스레드 구현과 관계없이 같은 지표(executor.* {name})로 노출
+ */
+public class InstrumentedExecutor implements TaskExecutor, DisposableBean {
+
+    private final Executor delegate;
+    private final AtomicInteger queued = new AtomicInteger();
+    private final AtomicInteger running = new AtomicInteger();
+    private final Timer queueWaitTimer;
+    private final Counter rejectedCounter;
+
+    public InstrumentedExecutor(String name, Executor delegate, MeterRegistry meterRegistry) {
+        this.delegate = delegate;
+
+        Gauge.builder("executor.queued", queued, AtomicInteger::get)
+                .description("제출되었지만 아직 시작하지 않은 작업 수")
+                .tag("name", name)
+                .register(meterRegistry);
+        Gauge.builder("executor.running", running, AtomicInteger::get)
+                .description("실행 중인 작업 수")
+                .tag("name", name)
+                .register(meterRegistry);
+        this.queueWaitTimer = Timer.builder("executor.queue.wait")
+                .description("제출부터 시작까지 대기 시간")
+                .tag("name", name)
+                .register(meterRegistry);
+        this.rejectedCounter = Counter.builder("executor.rejected")
+                .tag("name", name)
+                .register(meterRegistry);
+    }
+
+    @Override
+    public void execute(Runnable task) {
+        long submittedAt = System.nanoTime();
+        queued.incrementAndGet();
+        try {
+            delegate.execute(() -> {
+                queued.decrementAndGet();
+                running.incrementAndGet();
+                queueWaitTimer.record(System.nanoTime() - submittedAt, TimeUnit.NANOSECONDS);
+                try {
+                    task.run();
+                } finally {
+                    running.decrementAndGet();
+                }
+            });
+        } catch (RejectedExecutionException e) {
+            queued.decrementAndGet();
+            rejectedCounter.increment();
+            throw e;
+        }
+    }
+
+    @Override
+    public void destroy() throws Exception {
+        if (delegate instanceof DisposableBean disposable) {
+            disposable.destroy();
+        } else if (delegate instanceof AutoCloseable closeable) {
+            closeable.close();
+        }
+    }
+}
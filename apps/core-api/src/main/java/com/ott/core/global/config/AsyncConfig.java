@@ -1,14 +1,19 @@
 package com.ott.core.global.config;
 
+import com.ott.core.global.concurrent.ConcurrencyLimitedExecutor;
+import com.ott.core.global.concurrent.InstrumentedExecutor;
+import io.micrometer.core.instrument.MeterRegistry;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.aop.interceptor.AsyncUncaughtExceptionHandler;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.core.task.SimpleAsyncTaskExecutor;
 import org.springframework.scheduling.annotation.AsyncConfigurer;
 import org.springframework.scheduling.annotation.EnableAsync;
 import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
 
 import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionHandler;
 import java.util.concurrent.ThreadPoolExecutor;
 
 @Slf4j
@@ -20,18 +25,54 @@ public class AsyncConfig implements AsyncConfigurer {
      * 시청 이력 저장용 비동기 Executor
      */
     @Bean(name = "watchHistoryTaskExecutor")
-    public Executor watchHistoryTaskExecutor() {
+    public Executor watchHistoryTaskExecutor(ExecutorProperties properties, MeterRegistry meterRegistry) {
+        // 거부 정책: 호출한 스레드에서 직접 실행 (write-behind 유실 방지)
+        return create("watch-history", properties.getWatchHistory(), new ThreadPoolExecutor.CallerRunsPolicy(), meterRegistry);
+    }
+
+    /**
+     * 추천 피드 하위 호출용 Executor
+     * 가득 차면 거부 → 호출부가 기본 결과로 대체 (ES가 느려도 다른 작업의 스레드를 잡아먹지 않음)
+     */
+    @Bean(name = "recommendationTaskExecutor")
+    public Executor recommendationTaskExecutor(ExecutorProperties properties, MeterRegistry meterRegistry) {
+        return create("recommendation", properties.getRecommendation(), new ThreadPoolExecutor.AbortPolicy(), meterRegistry);
+    }
+
+    /**
+     * ES 색인 동기화용 Executor (@Async("searchIndexTaskExecutor"))
+     */
+    @Bean(name = "searchIndexTaskExecutor")
+    public Executor searchIndexTaskExecutor(ExecutorProperties properties, MeterRegistry meterRegistry) {
+        return create("search-index", properties.getSearchIndex(), new ThreadPoolExecutor.CallerRunsPolicy(), meterRegistry);
+    }
+
+    private Executor create(String name, ExecutorProperties.Pool pool, RejectedExecutionHandler rejectedHandler,
+                            MeterRegistry meterRegistry) {
+        if (pool.isVirtualThreads()) {
+            SimpleAsyncTaskExecutor executor = new SimpleAsyncTaskExecutor(name + "-vt-");
+            executor.setVirtualThreads(true);
+            executor.setTaskTerminationTimeout(60_000L);
+            // concurrencyLimit은 상한에서 제출 스레드를 대기시키므로 대신 세마포어로 제한하고 거부 정책을 그대로 따름
+            boolean callerRuns = rejectedHandler instanceof ThreadPoolExecutor.CallerRunsPolicy;
+            log.info("{} TaskExecutor initialized (virtual threads, limit: {}, when full: {})",
+                    name, pool.getConcurrencyLimit(), callerRuns ? "caller-runs" : "reject");
+            return new InstrumentedExecutor(name,
+                    new ConcurrencyLimitedExecutor(executor, pool.getConcurrencyLimit(), callerRuns), meterRegistry);
+        }
+
         ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
-        executor.setCorePoolSize(5); // 기본 스레드 수
-        executor.setMaxPoolSize(10); // 최대 스레드 수
-        executor.setQueueCapacity(100); // 큐 용량
-        executor.setThreadNamePrefix("watch-history-async-");
-        executor.setRejectedExecutionHandler(new ThreadPoolExecutor.CallerRunsPolicy()); // 거부 정책: 호출한 스레드에서 직접 실행
+        executor.setCorePoolSize(pool.getCorePoolSize()); // 기본 스레드 수
+        executor.setMaxPoolSize(pool.getMaxPoolSize()); // 최대 스레드 수
+        executor.setQueueCapacity(pool.getQueueCapacity()); // 큐 용량
+        executor.setThreadNamePrefix(name + "-async-");
+        executor.setRejectedExecutionHandler(rejectedHandler);
         executor.setWaitForTasksToCompleteOnShutdown(true);
         executor.setAwaitTerminationSeconds(60);
         executor.initialize();
-        log.info("WatchHistory TaskExecutor initialized");
-        return executor;
+        log.info("{} TaskExecutor initialized (core: {}, max: {}, queue: {})",
+                name, pool.getCorePoolSize(), pool.getMaxPoolSize(), pool.getQueueCapacity());
+        return new InstrumentedExecutor(name, executor, meterRegistry);
     }
 
     @Override
@@ -0,0 +1,61 @@
+package com.ott.core.global.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+/**
+ * 작업 종류별 비동기 Executor 설정 (서로 격리되어 한쪽이 밀려도 다른 쪽 스레드를 빼앗지 않음)
+ */
+@Getter
+@Setter
+@Component
+@ConfigurationProperties(prefix = "app.executor")
+public class ExecutorProperties {
+
+    /**
+     * 시청 이력/취향 점수 write-behind
+     */
+    private Pool watchHistory = new Pool(5, 10, 100);
+
+    /**
+     * 추천 피드 하위 호출 (취향 조회, 후보 목록 보충)
+     */
+    private Pool recommendation = new Pool(8, 16, 200);
+
+    /**
+     * ES 색인 동기화
+     */
+    private Pool searchIndex = new Pool(2, 4, 500);
+
+    @Getter
+    @Setter
+    public static class Pool {
+
+        /**
+         * true면 작업마다 가상 스레드 생성 (풀/큐 대신 concurrencyLimit으로 동시 실행 수 제한)
+         */
+        private boolean virtualThreads = false;
+
+        private int corePoolSize;
+
+        private int maxPoolSize;
+
+        private int queueCapacity;
+
+        /**
+         * 가상 스레드 사용 시 동시 실행 상한 (초과분은 풀과 같은 거부 정책: 거부 또는 제출 스레드에서 실행)
+         */
+        private int concurrencyLimit = 64;
+
+        public Pool() {
+        }
+
+        public Pool(int corePoolSize, int maxPoolSize, int queueCapacity) {
+            this.corePoolSize = corePoolSize;
+            this.maxPoolSize = maxPoolSize;
+            this.queueCapacity = queueCapacity;
+        }
+    }
+}
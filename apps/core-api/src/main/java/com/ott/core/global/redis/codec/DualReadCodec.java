@@ -0,0 +1,33 @@
+package com.ott.core.global.redis.codec;
+
+/**
+ * 쓰기는 설정된 코덱 하나로, 읽기는 첫 바이트로 형식을 판별해 텍스트/바이너리 모두 지원
+ */
+public class DualReadCodec<T> implements RedisValueCodec<T> {
+
+    private static final int MAX_BINARY_VERSION = 0x1F;
+
+    private final RedisValueCodec<T> textCodec;
+    private final RedisValueCodec<T> binaryCodec;
+    private final RedisValueCodec<T> writeCodec;
+
+    public DualReadCodec(RedisCodecType writeType, RedisValueCodec<T> textCodec, RedisValueCodec<T> binaryCodec) {
+        this.textCodec = textCodec;
+        this.binaryCodec = binaryCodec;
+        this.writeCodec = writeType == RedisCodecType.BINARY ? binaryCodec : textCodec;
+    }
+
+    @Override
+    public byte[] encode(T value) {
+        return writeCodec.encode(value);
+    }
+
+    @Override
+    public T decode(byte[] bytes) {
+        if (bytes == null || bytes.length == 0) {
+            return null;
+        }
+        int first = bytes[0] & 0xFF;
+        return first >= 0x01 && first <= MAX_BINARY_VERSION ? binaryCodec.decode(bytes) : textCodec.decode(bytes);
+    }
+}
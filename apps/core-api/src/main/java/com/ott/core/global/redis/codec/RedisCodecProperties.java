@@ -0,0 +1,26 @@
+package com.ott.core.global.redis.codec;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.util.HashMap;
+import java.util.Map;
+
+@Getter
+@Setter
+@Component
+@ConfigurationProperties(prefix = "app.redis.codec")
+public class RedisCodecProperties {
+
+    /**
+     * 키 패밀리별 쓰기 코덱 (예: watch-state: binary)
+     * 읽기는 항상 두 형식을 모두 지원하므로 text → binary 전환 중에도 기존 값을 읽을 수 있음
+     */
+    private Map<String, RedisCodecType> families = new HashMap<>();
+
+    public RedisCodecType getType(String family) {
+        return families.getOrDefault(family, RedisCodecType.TEXT);
+    }
+}
@@ -0,0 +1,6 @@
+package com.ott.core.global.redis.codec;
+
+public enum RedisCodecType {
+    TEXT,
+    BINARY
+}
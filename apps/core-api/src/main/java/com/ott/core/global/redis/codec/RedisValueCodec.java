@@ -0,0 +1,13 @@
+package com.ott.core.global.redis.codec;
+
+/**
+ * Redis 값 인코딩/디코딩 규약
+ * 바이너리 구현은 첫 바이트를 스키마 버전(0x01 ~ 0x1F)으로 사용해야 하며,
+ * 텍스트 구현은 출력 가능한 문자(0x20 이상)로 시작해야 함 → {@link DualReadCodec}가 형식을 구분
+ */
+public interface RedisValueCodec<T> {
+
+    byte[] encode(T value);
+
+    T decode(byte[] bytes);
+}
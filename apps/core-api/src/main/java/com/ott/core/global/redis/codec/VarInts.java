@@ -0,0 +1,38 @@
+package com.ott.core.global.redis.codec;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.ByteBuffer;
+
+/**
+ * 부호 없는 LEB128 varint 인코딩 (작은 값일수록 적은 바이트)
+ */
+public final class VarInts {
+
+    private VarInts() {
+    }
+
+    public static void write(ByteArrayOutputStream out, long value) {
+        if (value < 0) {
+            throw new IllegalArgumentException("varint는 음수를 지원하지 않습니다: " + value);
+        }
+        while ((value & ~0x7FL) != 0) {
+            out.write((int) ((value & 0x7F) | 0x80));
+            value >>>= 7;
+        }
+        out.write((int) value);
+    }
+
+    public static long read(ByteBuffer buffer) {
+        long result = 0;
+        int shift = 0;
+        while (shift < 64) {
+            byte b = buffer.get();
+            result |= (long) (b & 0x7F) << shift;
+            if ((b & 0x80) == 0) {
+                return result;
+            }
+            shift += 7;
+        }
+        throw new IllegalArgumentException("잘못된 varint 형식입니다.");
+    }
+}
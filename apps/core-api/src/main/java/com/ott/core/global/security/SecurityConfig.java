@@ -70,6 +70,7 @@ public class SecurityConfig {
                                                 .requestMatchers(HttpMethod.POST, "/api/v1/bookmarks/admin/warmup").hasRole("ADMIN")
                                                 .requestMatchers(HttpMethod.POST, "/api/v1/interactions/admin/warmup").hasRole("ADMIN")
                                                 .requestMatchers(HttpMethod.POST, "/api/v1/search/admin/sync").hasRole("ADMIN")
+                                                .requestMatchers(HttpMethod.POST, "/api/v1/tags/admin/refresh").hasRole("ADMIN")
 
                                                 // ===================================================================
                                                 // 1. 완전 공개 (Public) - 비로그인 사용자도 접근 가능
@@ -111,6 +112,7 @@ public class SecurityConfig {
 
                                                 // --- Health Check ---
                                                 .requestMatchers("/actuator/health").permitAll()
+                                                .requestMatchers("/actuator/metrics/**").hasRole("ADMIN")
 
                                                 // --- UPlus ---
                                                 .requestMatchers(HttpMethod.GET, "/api/v1/uplus/plans").permitAll()
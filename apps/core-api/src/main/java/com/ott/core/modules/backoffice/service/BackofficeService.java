@@ -11,12 +11,14 @@ import com.ott.common.persistence.enums.UserRole;
 import com.ott.core.modules.backoffice.dto.*;
 import com.ott.core.modules.backoffice.repository.UserQueryRepository;
 import com.ott.core.modules.backoffice.repository.VideoMetadataQueryRepository;
+import com.ott.core.modules.bookmark.dto.RankingWindow;
 import com.ott.core.modules.tag.repository.TagRepository;
 import com.ott.core.modules.tag.repository.VideoTagRepository;
 import com.ott.core.modules.user.repository.UserRepository;
 import com.ott.core.modules.video.repository.VideoMetadataRepository;
 import com.ott.core.modules.video.repository.VideoRepository;
 import com.ott.core.modules.video.service.S3ObjectStorage;
+import com.ott.core.modules.video.service.VideoPlaybackMetaCache;
 import lombok.RequiredArgsConstructor;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.data.domain.Page;
@@ -38,6 +40,7 @@ public class BackofficeService {
     private final VideoMetadataQueryRepository videoMetadataQueryRepository;
     private final VideoMetadataRepository videoMetadataRepository;
     private final VideoRepository videoRepository;
+    private final VideoPlaybackMetaCache videoPlaybackMetaCache;
     private final VideoTagRepository videoTagRepository;
     private final TagRepository tagRepository;
     private final UserQueryRepository userQueryRepository;
@@ -45,8 +48,6 @@ public class BackofficeService {
     private final S3ObjectStorage s3ObjectStorage;
     private final StringRedisTemplate stringRedisTemplate;
 
-    private static final String KEY_RANKING = "video:ranking";
-
     @Value("${aws.s3.source-bucket}")
     private String bucket;
 
@@ -114,11 +115,13 @@ public class BackofficeService {
             }
             videoMetadataRepository.softDeleteByUploader(request.videoIds(), userId);
 
-            // Redis 랭킹에서 삭제된 비디오 일괄 삭제
+            // Redis 랭킹(누적 + 구간별)에서 삭제된 비디오 일괄 삭제
             Object[] videoIdsToRemove = request.videoIds().stream()
                     .map(String::valueOf)
                     .toArray();
-            stringRedisTemplate.opsForZSet().remove(KEY_RANKING, videoIdsToRemove);
+            for (RankingWindow window : RankingWindow.values()) {
+                stringRedisTemplate.opsForZSet().remove(window.key(), videoIdsToRemove);
+            }
         }
 
         videoRepository.softDeleteByIds(request.videoIds());
@@ -129,6 +132,7 @@ public class BackofficeService {
                 new org.springframework.transaction.support.TransactionSynchronization() {
                     @Override
                     public void afterCommit() {
+                        videoPlaybackMetaCache.invalidateAll(ids);
                         for (Long videoId : ids) {
                             s3ObjectStorage.deleteByPrefix(bucket, "videos/" + videoId + "/");
                         }
@@ -0,0 +1,33 @@
+package com.ott.core.modules.bookmark.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+@Getter
+@Setter
+@Component
+@ConfigurationProperties(prefix = "app.ranking.snapshot")
+public class RankingSnapshotProperties {
+
+    /**
+     * 스냅샷에 미리 만들어 두는 순위 수. 이보다 큰 limit 요청은 Redis/DB에서 직접 조회
+     */
+    private int topN = 100;
+
+    /**
+     * 스냅샷 최대 유지 시간 (밀리초). 지나면 다시 만듦
+     */
+    private long refreshIntervalMs = 30_000L;
+
+    /**
+     * 이 인스턴스에서 점수 변경이 이 횟수 이상 쌓이면 주기를 기다리지 않고 다시 만듦
+     */
+    private int changeThreshold = 50;
+
+    /**
+     * 갱신 필요 여부 확인 주기 (밀리초)
+     */
+    private long checkIntervalMs = 1_000L;
+}
@@ -0,0 +1,33 @@
+package com.ott.core.modules.bookmark.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+@Getter
+@Setter
+@Component
+@ConfigurationProperties(prefix = "app.ranking.trending")
+public class TrendingRankingProperties {
+
+    /**
+     * hot 점수 반감기 (시간). 이 시간이 지나면 같은 북마크의 기여도가 절반이 됨
+     */
+    private double hotHalfLifeHours = 24;
+
+    /**
+     * 일간/주간 랭킹 합산 시 시간 버킷 가중치 반감기 (시간). 0 이하이면 가중치 없이 단순 합산
+     */
+    private double windowHalfLifeHours = 0;
+
+    /**
+     * 일간/주간/hot ZSET에 유지하는 최대 영상 수 (메모리 상한)
+     */
+    private int maxSize = 1000;
+
+    /**
+     * 일간/주간 랭킹 재계산 주기 (밀리초)
+     */
+    private long mergeIntervalMs = 300_000L;
+}
@@ -6,7 +6,7 @@ import com.ott.core.modules.bookmark.dto.BookmarkPageResponse;
 import com.ott.core.modules.bookmark.dto.BookmarkStatusResponseDto;
 import com.ott.core.modules.bookmark.dto.BookmarkSummaryResponse;
 import com.ott.core.modules.bookmark.service.BookmarkService;
-import com.ott.core.modules.bookmark.service.BookmarkSyncService;
+import com.ott.core.modules.counter.service.VideoCounterWarmUpService;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import lombok.RequiredArgsConstructor;
@@ -21,7 +21,7 @@ import org.springframework.web.bind.annotation.*;
 public class BookmarkController {
 
     private final BookmarkService bookmarkService;
-    private final BookmarkSyncService bookmarkSyncService;
+    private final VideoCounterWarmUpService videoCounterWarmUpService;
 
     // 찜하기
     @Operation(summary = "찜하기(북마크) 토글", description = "누를 때마다 찜 상태가 켜지거나 꺼집니다.")
@@ -69,7 +69,7 @@ public class BookmarkController {
     @Operation(summary = "[관리자] 북마크 랭킹 캐시 웜업", description = "DB의 모든 북마크 데이터를 기반으로 Redis 랭킹(ZSet)을 강제 초기화(복구)합니다.")
     @PostMapping("/admin/warmup")
     public ApiResponse<String> warmUpBookmarks() {
-        bookmarkSyncService.warmUpRankingFromDB();
+        videoCounterWarmUpService.warmUpBookmarks();
         return ApiResponse.success("✅ 북마크 실시간 랭킹 Redis 캐시 복구가 완료되었습니다.");
     }
 }
\ No newline at end of file
@@ -2,7 +2,8 @@ package com.ott.core.modules.bookmark.controller;
 
 import com.ott.common.response.ApiResponse;
 import com.ott.core.modules.bookmark.dto.RankingResponse;
-import com.ott.core.modules.bookmark.service.RankingService;
+import com.ott.core.modules.bookmark.dto.RankingWindow;
+import com.ott.core.modules.bookmark.service.RankingSnapshotService;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
 import io.swagger.v3.oas.annotations.tags.Tag;
@@ -18,15 +19,17 @@ import java.util.List;
 @RequiredArgsConstructor
 public class RankingController {
 
-    private final RankingService rankingService;
+    private final RankingSnapshotService rankingSnapshotService;
 
     @Operation(summary = "실시간 인기 영상 랭킹 조회", description = "Redis에 캐싱된 북마크 개수를 기준으로 가장 인기 있는 영상들의 랭킹 리스트를 반환합니다.")
     @GetMapping
     public ApiResponse<List<RankingResponse>> getBookmarkRanking(
             @Parameter(description = "조회할 랭킹 개수 (기본값: 10, 최대 노출 개수 지정)", example = "10")
-            @RequestParam(name = "limit", defaultValue = "10") int limit) {
+            @RequestParam(name = "limit", defaultValue = "10") int limit,
+            @Parameter(description = "집계 구간 (all: 누적, daily: 최근 24시간, weekly: 최근 7일, hot: 최근 활동 가중)", example = "daily")
+            @RequestParam(name = "window", defaultValue = "all") String window) {
 
-        List<RankingResponse> rankingList = rankingService.getTopBookmarkVideos(limit);
+        List<RankingResponse> rankingList = rankingSnapshotService.getTop(RankingWindow.from(window), limit);
 
         return ApiResponse.success(rankingList);
     }
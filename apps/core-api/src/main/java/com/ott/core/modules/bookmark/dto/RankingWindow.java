@@ -0,0 +1,33 @@
+package com.ott.core.modules.bookmark.dto;
+
+import com.ott.common.error.BusinessException;
+import com.ott.common.error.ErrorCode;
+
+/**
+ * 랭킹 집계 구간
+ */
+public enum RankingWindow {
+    ALL("video:ranking"),                 // 누적 북마크 수
+    DAILY("video:trending:daily"),        // 최근 24시간 시간 버킷 합산
+    WEEKLY("video:trending:weekly"),      // 최근 7일 시간 버킷 합산
+    HOT("video:trending:hot");            // 지수 감쇠 점수
+
+    private final String key;
+
+    RankingWindow(String key) {
+        this.key = key;
+    }
+
+    public String key() {
+        return key;
+    }
+
+    public static RankingWindow from(String value) {
+        for (RankingWindow window : values()) {
+            if (window.name().equalsIgnoreCase(value)) {
+                return window;
+            }
+        }
+        throw new BusinessException(ErrorCode.INVALID_REQUEST);
+    }
+}
@@ -60,10 +60,11 @@ public interface BookmarkRepository extends JpaRepository<Bookmark, Long> {
             "WHERE b.user.id = :userId AND vm.videoId = :videoId")
     boolean existsByUserIdAndVideoId(@Param("userId") Long userId, @Param("videoId") Long videoId);
 
-    // 3. 특정 비디오의 북마크 총개수 계산 (명시적 JOIN)
-    @Query("SELECT COUNT(b) FROM Bookmark b JOIN b.videoMetadata vm WHERE vm.videoId = :videoId")
-    long countByVideoId(@Param("videoId") Long videoId);
+    // 3. 여러 비디오의 북마크 총개수 계산 (카운터 동기화 시 보정용, 북마크가 없는 비디오는 결과에 없음)
+    @Query("SELECT vm.videoId, COUNT(b) FROM Bookmark b JOIN b.videoMetadata vm WHERE vm.videoId IN :videoIds GROUP BY vm.videoId")
+    List<Object[]> countGroupedByVideoIdIn(@Param("videoIds") List<Long> videoIds);
 
-    @Query("SELECT b.videoMetadata.videoId, COUNT(b) FROM Bookmark b GROUP BY b.videoMetadata.videoId")
-    List<Object[]> countTotalBookmarksGroupedByVideo();
+    // 4. 여러 영상 중 사용자가 북마크한 영상 ID (피드 카드 상태 표시용)
+    @Query("SELECT vm.videoId FROM Bookmark b JOIN b.videoMetadata vm WHERE b.user.id = :userId AND vm.videoId IN :videoIds")
+    List<Long> findVideoIdsByUserIdAndVideoIdIn(@Param("userId") Long userId, @Param("videoIds") List<Long> videoIds);
 }
\ No newline at end of file
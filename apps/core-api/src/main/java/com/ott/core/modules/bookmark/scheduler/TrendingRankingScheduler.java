@@ -0,0 +1,27 @@
+package com.ott.core.modules.bookmark.scheduler;
+
+import com.ott.core.modules.bookmark.service.TrendingRankingService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class TrendingRankingScheduler {
+
+    private final TrendingRankingService trendingRankingService;
+
+    /**
+     * 일간/주간 랭킹을 시간 버킷에서 다시 합산하고 hot 점수를 재조정
+     */
+    @Scheduled(fixedDelayString = "${app.ranking.trending.merge-interval-ms:300000}")
+    public void refreshTrending() {
+        try {
+            trendingRankingService.refreshWindows();
+        } catch (Exception e) {
+            log.error("[Scheduler] 구간별 랭킹 갱신 중 에러 발생: {}", e.getMessage(), e);
+        }
+    }
+}
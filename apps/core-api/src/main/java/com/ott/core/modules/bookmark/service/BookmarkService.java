@@ -12,6 +12,9 @@ import com.ott.core.modules.bookmark.dto.BookmarkPageResponse;
 import com.ott.core.modules.bookmark.dto.BookmarkPlaylistResponse;
 import com.ott.core.modules.bookmark.dto.BookmarkSummaryResponse;
 import com.ott.core.modules.bookmark.repository.BookmarkRepository;
+import com.ott.core.modules.counter.dto.VideoCounterField;
+import com.ott.core.modules.counter.service.VideoCounterService;
+import com.ott.core.modules.engagement.service.EngagementStatusService;
 import com.ott.core.modules.user.repository.UserRepository;
 import com.ott.core.modules.video.repository.VideoMetadataRepository;
 import com.ott.core.modules.watch.repository.WatchHistoryRepository;
@@ -21,9 +24,10 @@ import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Slice;
-import org.springframework.data.redis.core.StringRedisTemplate;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
 
 import java.util.List;
 import java.util.Map;
@@ -39,14 +43,15 @@ public class BookmarkService {
     private final BookmarkRepository bookmarkRepository;
     private final UserRepository userRepository;
     private final VideoMetadataRepository videoMetadataRepository;
-    private final StringRedisTemplate stringRedisTemplate;
     private final WatchHistoryRepository watchHistoryRepository;
+    private final VideoCounterService videoCounterService;
+    private final TrendingRankingService trendingRankingService;
+    private final RankingSnapshotService rankingSnapshotService;
+    private final EngagementStatusService engagementStatusService;
 
 
     // Redis Key 상수
-    private static final String KEY_VIDEO_COUNT = "video:count:bookmark"; // Hash 구조
     private static final String KEY_RANKING = "video:ranking"; // ZSet 구조
-    private static final String KEY_DIRTY_DATA = "video:dirty:bookmark"; // 변경된 영상 ID 목록 (Set)
 
     @Transactional
     public void toggleBookmark(Long userId, Long videoId) {
@@ -61,25 +66,15 @@ public class BookmarkService {
             if (existingBookmark.isPresent()) {
                 bookmarkRepository.delete(existingBookmark.get());
                 bookmarkRepository.flush(); // DB에 쿼리를 즉시 날려 예외가 있는지 먼저 확인
-                updateRedis(videoId, -1);   // 예외가 안 터졌을 때만 Redis 연산 실행 (안전 보장)
+                updateRedisAfterCommit(videoId, -1);   // 예외가 안 터졌을 때만, 커밋 후 Redis 연산 실행 (안전 보장)
+                engagementStatusService.recordBookmark(userId, videoId, false);
             } else {
                 Bookmark newBookmark = new Bookmark(user, metadata);
                 bookmarkRepository.save(newBookmark);
                 bookmarkRepository.flush(); // DB 유니크 제약조건 위반 검사
-                updateRedis(videoId, 1);    // 정상 처리 시에만 Redis 연산 실행
+                updateRedisAfterCommit(videoId, 1);    // 정상 처리 시에만, 커밋 후 Redis 연산 실행
+                engagementStatusService.recordBookmark(userId, videoId, true);
             }
-
-            // 1. DB 저장이 완료된 후, 실제 북마크 개수를 다시 셉니다. (가장 정확한 팩트 데이터)
-            long realCount = bookmarkRepository.countByVideoId(videoId);
-            String videoIdStr = String.valueOf(videoId);
-
-            // 2. Redis ZSet 실시간 랭킹 차트 갱신
-            stringRedisTemplate.opsForZSet().add(KEY_RANKING, videoIdStr, realCount);
-
-            stringRedisTemplate.opsForSet().add(KEY_DIRTY_DATA, videoIdStr);
-
-            log.info("[Bookmark] 비디오 {} 북마크 변경 완료. 현재 총 카운트: {} (스케줄러 대기열 적재 완료)", videoIdStr, realCount);
-
         } catch (DataIntegrityViolationException e) {
 
             log.warn("[Bookmark] 동시 요청으로 인한 중복 방어 - userId: {}, videoId: {}", userId, videoId);
@@ -89,20 +84,37 @@ public class BookmarkService {
 
     @Transactional(readOnly = true)
     public boolean isBookmarked(Long userId, Long videoId) {
-        return bookmarkRepository.existsByUserIdAndVideoMetadata_VideoId(userId, videoId);
+        return engagementStatusService.getStatus(userId, videoId).bookmarked();
     }
 
-    private void updateRedis(Long videoId, int delta) {
-        String videoIdStr = String.valueOf(videoId);
-
-        // 화면 표시용 카운트 (Hash) -> 상세 페이지에서 보여줄 숫자
-        stringRedisTemplate.opsForHash().increment(KEY_VIDEO_COUNT, videoIdStr, delta);
+    /**
+     * 커밋 전에 반영하면 카운터 동기화가 커밋 전 DB 개수로 덮어쓰거나(토글 유실) 롤백된 토글이 남으므로 커밋 후 반영
+     * 커밋 후 반영 시점에 동기화가 먼저 돌았더라도 스크립트가 다시 dirty로 등록하므로 다음 동기화에서 DB 기준으로 보정
+     */
+    private void updateRedisAfterCommit(Long videoId, int delta) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            updateRedis(videoId, delta);
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                updateRedis(videoId, delta);
+            }
+        });
+    }
 
-        // 인기 차트용 점수 (Sorted Set) -> 실시간 랭킹 반영
-        stringRedisTemplate.opsForZSet().incrementScore(KEY_RANKING, videoIdStr, delta);
+    /**
+     * 화면 표시용 카운트, 누적 인기 차트 점수, 스케줄러 대기열(dirty)을 하나의 Redis 스크립트로 갱신
+     * + 구간별(일간/주간/hot) 랭킹 반영
+     */
+    private void updateRedis(Long videoId, int delta) {
+        long count = videoCounterService.incrementRanked(videoId, VideoCounterField.BOOKMARK, delta, KEY_RANKING);
+        trendingRankingService.record(videoId, delta);
+        rankingSnapshotService.recordChange();
 
-        // [Write-Back] 변경 감지 목록에 추가 -> 스케줄러가 이 Set을 뒤져서 DB에 반영함. (중복 방지를 위해 Set 사용)
-        stringRedisTemplate.opsForSet().add(KEY_DIRTY_DATA, videoIdStr);
+        // 정확한 DB 개수(COUNT)는 주기적 동기화(VideoCounterSyncService)에서만 보정 → 인기 영상도 토글 비용이 일정
+        log.info("[Bookmark] 비디오 {} 북마크 변경 완료. 현재 총 카운트: {} (스케줄러 대기열 적재 완료)", videoId, count);
     }
 
     @Transactional(readOnly = true)
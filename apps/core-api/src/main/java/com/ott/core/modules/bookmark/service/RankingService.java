@@ -2,6 +2,7 @@ package com.ott.core.modules.bookmark.service;
 
 import com.ott.common.persistence.entity.VideoMetadata;
 import com.ott.core.modules.bookmark.dto.RankingResponse;
+import com.ott.core.modules.bookmark.dto.RankingWindow;
 import com.ott.core.modules.video.repository.VideoMetadataRepository;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -21,16 +22,15 @@ public class RankingService {
     private final StringRedisTemplate stringRedisTemplate;
     private final VideoMetadataRepository videoMetadataRepository;
 
-    private static final String KEY_RANKING = "video:ranking";
-
     /**
      * [Step 3] Redis에 저장된 카운트를 통해 실시간 인기 차트 제공
+     * @param window 집계 구간 (ALL: 누적, DAILY/WEEKLY: 최근 24시간/7일, HOT: 지수 감쇠 점수)
      */
     @Transactional(readOnly = true)
-    public List<RankingResponse> getTopBookmarkVideos(int limit) {
-        // 1. Redis에서 순위대로 꺼내옴
+    public List<RankingResponse> getTopBookmarkVideos(RankingWindow window, int limit) {
+        // 1. Redis에서 순위대로 꺼내옴 (ZREVRANGE, O(log N + k))
         Set<ZSetOperations.TypedTuple<String>> topRankings = stringRedisTemplate.opsForZSet()
-                .reverseRangeWithScores(KEY_RANKING, 0, limit - 1);
+                .reverseRangeWithScores(window.key(), 0, limit - 1);
 
         if (topRankings == null || topRankings.isEmpty()) {
             return List.of();
@@ -51,6 +51,7 @@ public class RankingService {
         // 2. DB에서 메타데이터 긁어오기 (순서 섞임 주의)
         List<VideoMetadata> metadataList = videoMetadataRepository.findAllByVideoIdIn(rankedVideoIds);
         Map<Long, VideoMetadata> metadataMap = metadataList.stream()
+                .filter(m -> !m.isDeleted())
                 .collect(Collectors.toMap(VideoMetadata::getVideoId, m -> m));
 
         // 3. Redis가 알려준 정확한 순서대로 재배치하여 DTO 응답
@@ -0,0 +1,134 @@
+package com.ott.core.modules.bookmark.service;
+
+import com.ott.core.modules.bookmark.config.RankingSnapshotProperties;
+import com.ott.core.modules.bookmark.dto.RankingResponse;
+import com.ott.core.modules.bookmark.dto.RankingWindow;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * 랭킹 상위 N개 스냅샷 (인스턴스 메모리)
+ * 랭킹은 천천히 변하므로 메타데이터까지 조인된 응답 객체를 주기적으로 만들어 두고,
+ * 조회 요청은 Redis/DB 접근 없이 스냅샷을 잘라서 반환
+ */
+@Slf4j
+@Service
+public class RankingSnapshotService {
+
+    private final RankingService rankingService;
+    private final RankingSnapshotProperties properties;
+
+    private final Map<RankingWindow, Snapshot> snapshots = new EnumMap<>(RankingWindow.class);
+    private final AtomicInteger pendingChanges = new AtomicInteger();
+    private final Map<RankingWindow, ReentrantLock> rebuildLocks = new EnumMap<>(RankingWindow.class);
+
+    public RankingSnapshotService(RankingService rankingService,
+                                  RankingSnapshotProperties properties,
+                                  MeterRegistry meterRegistry) {
+        this.rankingService = rankingService;
+        this.properties = properties;
+
+        for (RankingWindow window : RankingWindow.values()) {
+            rebuildLocks.put(window, new ReentrantLock());
+            Gauge.builder("ranking.snapshot.age", this, s -> s.ageSeconds(window))
+                    .description("랭킹 스냅샷이 만들어진 후 경과 시간 (초)")
+                    .baseUnit("seconds")
+                    .tag("window", window.name().toLowerCase())
+                    .register(meterRegistry);
+        }
+    }
+
+    /**
+     * 상위 limit개 랭킹 조회 (스냅샷 범위를 넘는 요청만 직접 조회)
+     */
+    public List<RankingResponse> getTop(RankingWindow window, int limit) {
+        if (limit <= 0) {
+            return List.of();
+        }
+        if (limit > properties.getTopN()) {
+            return rankingService.getTopBookmarkVideos(window, limit);
+        }
+
+        Snapshot snapshot = current(window);
+        if (snapshot == null) {
+            snapshot = rebuildOnce(window);
+        }
+        return snapshot.items().subList(0, Math.min(limit, snapshot.items().size()));
+    }
+
+    /**
+     * 점수 변경 알림 (임계치를 넘으면 다음 확인 주기에 바로 갱신)
+     */
+    public void recordChange() {
+        pendingChanges.incrementAndGet();
+    }
+
+    @Scheduled(fixedDelayString = "${app.ranking.snapshot.check-interval-ms:1000}")
+    public void refreshIfStale() {
+        // 재구성 전에 비워야 재구성 도중 들어온 변경이 지워지지 않고 다음 주기에 반영됨
+        int pending = pendingChanges.getAndSet(0);
+        boolean changed = pending >= properties.getChangeThreshold();
+        if (!changed && pending > 0) {
+            pendingChanges.addAndGet(pending);
+        }
+        long now = System.currentTimeMillis();
+
+        for (RankingWindow window : RankingWindow.values()) {
+            Snapshot snapshot = current(window);
+            if (changed || snapshot == null || now - snapshot.builtAt() >= properties.getRefreshIntervalMs()) {
+                try {
+                    rebuild(window);
+                } catch (Exception e) {
+                    // 실패 시 기존 스냅샷을 계속 사용 (경과 시간 지표로 확인 가능)
+                    log.error("[RankingSnapshot] {} 스냅샷 갱신 실패: {}", window, e.getMessage(), e);
+                }
+            }
+        }
+    }
+
+    /**
+     * 기동 직후 스냅샷이 없을 때 동시에 들어온 요청 중 하나만 재구성하고 나머지는 그 결과를 사용
+     */
+    private Snapshot rebuildOnce(RankingWindow window) {
+        ReentrantLock lock = rebuildLocks.get(window);
+        lock.lock();
+        try {
+            Snapshot snapshot = current(window);
+            return snapshot != null ? snapshot : rebuild(window);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private Snapshot rebuild(RankingWindow window) {
+        List<RankingResponse> items = List.copyOf(rankingService.getTopBookmarkVideos(window, properties.getTopN()));
+        Snapshot snapshot = new Snapshot(items, System.currentTimeMillis());
+        synchronized (snapshots) {
+            snapshots.put(window, snapshot);
+        }
+        return snapshot;
+    }
+
+    private Snapshot current(RankingWindow window) {
+        synchronized (snapshots) {
+            return snapshots.get(window);
+        }
+    }
+
+    private double ageSeconds(RankingWindow window) {
+        Snapshot snapshot = current(window);
+        return snapshot == null ? Double.NaN : (System.currentTimeMillis() - snapshot.builtAt()) / 1000.0;
+    }
+
+    private record Snapshot(List<RankingResponse> items, long builtAt) {
+    }
+}
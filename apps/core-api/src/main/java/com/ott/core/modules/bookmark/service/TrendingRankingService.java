@@ -0,0 +1,164 @@
+package com.ott.core.modules.bookmark.service;
+
+import com.ott.core.modules.bookmark.config.TrendingRankingProperties;
+import com.ott.core.modules.bookmark.dto.RankingWindow;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.connection.zset.Aggregate;
+import org.springframework.data.redis.connection.zset.Weights;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Service;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.time.format.DateTimeFormatter;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 구간별 인기 랭킹 (북마크 증감 기준)
+ * - video:trending:h:{yyyyMMddHH} ZSET 시간 버킷 (주간 구간 + 여유분 이후 만료)
+ * - video:trending:daily / weekly  ZSET 최근 24시간 / 7일 버킷을 ZUNIONSTORE로 합산한 결과 (주기적으로 교체)
+ * - video:trending:hot             ZSET forward decay 점수: 증감 시점 기준 exp(λ(t - epoch))를 더하므로
+ *                                       읽을 때 별도 계산 없이 순위가 곧 감쇠 점수 순위 (epoch는 주기적으로 당겨서 재조정)
+ * 모든 ZSET은 maxSize로 잘라 메모리가 카탈로그 크기가 아닌 구간 내 활동량에 비례
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class TrendingRankingService {
+
+    private static final String BUCKET_PREFIX = "video:trending:h:";
+    private static final String HOT_EPOCH_KEY = "video:trending:hot:epoch";
+    private static final DateTimeFormatter BUCKET_FORMAT = DateTimeFormatter.ofPattern("yyyyMMddHH").withZone(ZoneOffset.UTC);
+
+    private static final int DAILY_HOURS = 24;
+    private static final int WEEKLY_HOURS = 24 * 7;
+    // 주간 합산에 필요한 기간 + 1일
+    private static final long BUCKET_TTL_SECONDS = Duration.ofHours(WEEKLY_HOURS + 24).toSeconds();
+
+    private final StringRedisTemplate stringRedisTemplate;
+    private final TrendingRankingProperties properties;
+
+    /**
+     * 시간 버킷과 hot 점수에 증감 반영
+     * KEYS[1] = 시간 버킷, KEYS[2] = hot ZSET, KEYS[3] = hot epoch
+     * ARGV[1] = videoId, ARGV[2] = 증감값, ARGV[3] = 현재 시각(ms), ARGV[4] = λ (1/ms), ARGV[5] = 버킷 TTL(초)
+     */
+    private static final RedisScript<Long> RECORD_SCRIPT = new DefaultRedisScript<>("""
+            redis.call('ZINCRBY', KEYS[1], ARGV[2], ARGV[1])
+            redis.call('EXPIRE', KEYS[1], ARGV[5])
+
+            local now = tonumber(ARGV[3])
+            local epoch = tonumber(redis.call('GET', KEYS[3]) or '')
+            if not epoch then
+                epoch = now
+                redis.call('SET', KEYS[3], now)
+            end
+            local weight = math.exp(tonumber(ARGV[4]) * (now - epoch))
+            redis.call('ZINCRBY', KEYS[2], tonumber(ARGV[2]) * weight, ARGV[1])
+            return 1
+            """, Long.class);
+
+    /**
+     * hot 점수 epoch를 현재 시각으로 당기고(전체 점수에 exp(-λ·경과) 곱함) 하위 항목 정리
+     * KEYS[1] = hot ZSET, KEYS[2] = hot epoch
+     * ARGV[1] = 현재 시각(ms), ARGV[2] = λ (1/ms), ARGV[3] = 최대 보관 수
+     */
+    private static final RedisScript<Long> REBASE_HOT_SCRIPT = new DefaultRedisScript<>("""
+            local now = tonumber(ARGV[1])
+            local epoch = tonumber(redis.call('GET', KEYS[2]) or '')
+            if epoch and now > epoch then
+                local factor = math.exp(-tonumber(ARGV[2]) * (now - epoch))
+                redis.call('ZUNIONSTORE', KEYS[1], 1, KEYS[1], 'WEIGHTS', factor)
+            end
+            redis.call('SET', KEYS[2], now)
+            redis.call('ZREMRANGEBYSCORE', KEYS[1], '-inf', 0)
+            redis.call('ZREMRANGEBYRANK', KEYS[1], 0, -(tonumber(ARGV[3]) + 1))
+            return redis.call('ZCARD', KEYS[1])
+            """, Long.class);
+
+    public void record(Long videoId, long delta) {
+        long now = System.currentTimeMillis();
+        stringRedisTemplate.execute(
+                RECORD_SCRIPT,
+                List.of(bucketKey(Instant.ofEpochMilli(now)), RankingWindow.HOT.key(), HOT_EPOCH_KEY),
+                String.valueOf(videoId), String.valueOf(delta), String.valueOf(now),
+                String.valueOf(hotDecayPerMillis()), String.valueOf(BUCKET_TTL_SECONDS));
+    }
+
+    /**
+     * 일간/주간 랭킹 재계산 + hot 점수 재조정
+     * 임시 키에 합산한 뒤 RENAME으로 교체하므로 조회 중에 빈 랭킹이 보이지 않음 (여러 인스턴스가 실행해도 결과 동일)
+     */
+    public void refreshWindows() {
+        Instant now = Instant.now();
+        mergeBuckets(RankingWindow.DAILY, now, DAILY_HOURS);
+        mergeBuckets(RankingWindow.WEEKLY, now, WEEKLY_HOURS);
+
+        Long hotSize = stringRedisTemplate.execute(
+                REBASE_HOT_SCRIPT,
+                List.of(RankingWindow.HOT.key(), HOT_EPOCH_KEY),
+                String.valueOf(now.toEpochMilli()), String.valueOf(hotDecayPerMillis()),
+                String.valueOf(properties.getMaxSize()));
+        log.debug("[Trending] hot 점수 재조정 - 보관: {}건", hotSize);
+    }
+
+    private void mergeBuckets(RankingWindow window, Instant now, int hours) {
+        Instant currentHour = now.truncatedTo(ChronoUnit.HOURS);
+        List<String> buckets = new ArrayList<>(hours);
+        List<Double> weights = new ArrayList<>(hours);
+        double halfLife = properties.getWindowHalfLifeHours();
+
+        for (int age = 0; age < hours; age++) {
+            buckets.add(bucketKey(currentHour.minus(age, ChronoUnit.HOURS)));
+            weights.add(halfLife > 0 ? Math.pow(0.5, age / halfLife) : 1.0);
+        }
+
+        byte[] windowKey = bytes(window.key());
+        byte[] tempKey = bytes(window.key() + ":tmp:" + now.toEpochMilli());
+        byte[][] sources = buckets.stream().map(TrendingRankingService::bytes).toArray(byte[][]::new);
+
+        Long size = stringRedisTemplate.execute((RedisCallback<Long>) connection -> {
+            Long stored = connection.zSetCommands().zUnionStore(tempKey, Aggregate.SUM,
+                    Weights.of(weights.stream().mapToDouble(Double::doubleValue).toArray()), sources);
+            if (stored == null || stored == 0) {
+                // 구간 내 활동이 없으면 이전 결과도 비움
+                connection.keyCommands().del(windowKey);
+                return 0L;
+            }
+            connection.keyCommands().expire(tempKey, 60);
+            connection.zSetCommands().zRemRangeByScore(tempKey, Double.NEGATIVE_INFINITY, 0);
+            connection.zSetCommands().zRemRange(tempKey, 0, -(properties.getMaxSize() + 1L));
+
+            Long remaining = connection.zSetCommands().zCard(tempKey);
+            if (remaining == null || remaining == 0) {
+                connection.keyCommands().del(windowKey);
+                return 0L;
+            }
+            connection.keyCommands().rename(tempKey, windowKey);
+            connection.keyCommands().persist(windowKey);
+            return remaining;
+        });
+
+        log.debug("[Trending] {} 랭킹 재계산 - 버킷: {}개, 영상: {}건", window, hours, size);
+    }
+
+    private double hotDecayPerMillis() {
+        return Math.log(2) / Duration.ofMinutes((long) (properties.getHotHalfLifeHours() * 60)).toMillis();
+    }
+
+    private static byte[] bytes(String value) {
+        return value.getBytes(StandardCharsets.UTF_8);
+    }
+
+    private static String bucketKey(Instant at) {
+        return BUCKET_PREFIX + BUCKET_FORMAT.format(at);
+    }
+}
@@ -7,6 +7,8 @@ import com.ott.common.persistence.entity.User;
 import com.ott.common.persistence.entity.VideoMetadata;
 import com.ott.core.modules.comment.dto.*;
 import com.ott.core.modules.comment.repository.CommentRepository;
+import com.ott.core.modules.counter.dto.VideoCounterField;
+import com.ott.core.modules.counter.service.VideoCounterService;
 import com.ott.core.modules.user.repository.UserRepository;
 import com.ott.core.modules.video.repository.VideoMetadataRepository;
 import lombok.RequiredArgsConstructor;
@@ -14,6 +16,8 @@ import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Slice;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
 
 import java.util.List;
 
@@ -25,6 +29,7 @@ public class CommentService {
     private final CommentRepository commentRepository;
     private final UserRepository userRepository;
     private final VideoMetadataRepository videoMetadataRepository;
+    private final VideoCounterService videoCounterService;
 
     public CommentPageResponse getComments(Long userId, Long videoId, int page, int size) {
         Slice<Comment> slice = commentRepository.findByVideoId(videoId, PageRequest.of(page, size));
@@ -65,7 +70,7 @@ public class CommentService {
         Comment comment = new Comment(videoMetadata, user, request.getText());
         commentRepository.save(comment);
 
-        videoMetadataRepository.incrementCommentCount(videoId);
+        incrementCommentCountAfterCommit(videoId, 1);
 
         return MyCommentResponse.from(comment);
     }
@@ -94,7 +99,21 @@ public class CommentService {
         Long videoId = comment.getVideoMetadata().getVideoId();
         comment.softDelete();
 
-        videoMetadataRepository.decrementCommentCount(videoId);
+        incrementCommentCountAfterCommit(videoId, -1);
+    }
+
+    // 롤백된 작성/삭제가 Redis 카운터에 남지 않도록 커밋 후 반영
+    private void incrementCommentCountAfterCommit(Long videoId, long delta) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            videoCounterService.increment(videoId, VideoCounterField.COMMENT, delta);
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                videoCounterService.increment(videoId, VideoCounterField.COMMENT, delta);
+            }
+        });
     }
 
     private Comment findComment(Long commentId) {
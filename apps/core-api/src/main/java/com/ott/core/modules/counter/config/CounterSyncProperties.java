@@ -0,0 +1,39 @@
+package com.ott.core.modules.counter.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+@Getter
+@Setter
+@Component
+@ConfigurationProperties(prefix = "app.sync.counter")
+public class CounterSyncProperties {
+
+    /**
+     * 한 번의 파이프라인 조회 / UPDATE로 처리할 영상 수
+     */
+    private int chunkSize = 1000;
+
+    /**
+     * dirty SET 샤드 수 (videoId % shards). 인스턴스들이 샤드 단위로 나눠 처리
+     * 줄이기 전에는 기존 샤드를 모두 비워야 함 (범위를 벗어난 샤드는 처리되지 않음)
+     */
+    private int shards = 16;
+
+    /**
+     * 샤드 처리 임대 시간 (밀리초). 청크마다 연장되며, 소유 인스턴스가 죽으면 만료 후 다른 인스턴스가 이어받음
+     */
+    private long leaseMs = 60_000L;
+
+    /**
+     * 동기화 주기 (밀리초)
+     */
+    private long intervalMs = 600_000L;
+
+    /**
+     * 샤드별 지연 지표 갱신 주기 (밀리초)
+     */
+    private long metricsIntervalMs = 30_000L;
+}
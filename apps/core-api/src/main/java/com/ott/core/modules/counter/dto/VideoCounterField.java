@@ -0,0 +1,58 @@
+package com.ott.core.modules.counter.dto;
+
+import com.ott.common.persistence.entity.VideoMetadata;
+import com.ott.common.persistence.enums.InteractionType;
+
+import java.util.function.ToIntFunction;
+
+/**
+ * 영상 단위 카운터 종류
+ * hashField: Redis 해시(video:counters:{videoId}) 필드명, column: video_metadata 반영 컬럼
+ */
+public enum VideoCounterField {
+    VIEW("v", "view_count", VideoMetadata::getViewCount),
+    LIKE("l", "like_count", VideoMetadata::getLikeCount),
+    DISLIKE("d", "dislike_count", VideoMetadata::getDislikeCount),
+    SUPER_LIKE("s", "super_like_count", VideoMetadata::getSuperLikeCount),
+    BOOKMARK("b", "bookmark_count", VideoMetadata::getBookmarkCount),
+    COMMENT("c", "comment_count", VideoMetadata::getCommentCount);
+
+    private final String hashField;
+    private final String column;
+    private final ToIntFunction<VideoMetadata> dbValue;
+
+    VideoCounterField(String hashField, String column, ToIntFunction<VideoMetadata> dbValue) {
+        this.hashField = hashField;
+        this.column = column;
+        this.dbValue = dbValue;
+    }
+
+    public String hashField() {
+        return hashField;
+    }
+
+    public String column() {
+        return column;
+    }
+
+    public int dbValue(VideoMetadata metadata) {
+        return dbValue.applyAsInt(metadata);
+    }
+
+    public static VideoCounterField from(InteractionType type) {
+        return switch (type) {
+            case LIKE -> LIKE;
+            case DISLIKE -> DISLIKE;
+            case SUPERLIKE -> SUPER_LIKE;
+        };
+    }
+
+    public static VideoCounterField fromHashField(String hashField) {
+        for (VideoCounterField field : values()) {
+            if (field.hashField.equals(hashField)) {
+                return field;
+            }
+        }
+        return null;
+    }
+}
@@ -0,0 +1,16 @@
+package com.ott.core.modules.counter.dto;
+
+import java.util.Map;
+
+/**
+ * 한 영상의 카운터 값 (Redis 해시에 없는 필드는 포함되지 않음)
+ */
+public record VideoCounters(
+        Long videoId,
+        Map<VideoCounterField, Long> values
+) {
+
+    public long get(VideoCounterField field) {
+        return values.getOrDefault(field, 0L);
+    }
+}
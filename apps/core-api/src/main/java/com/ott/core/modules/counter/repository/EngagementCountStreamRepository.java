@@ -0,0 +1,52 @@
+package com.ott.core.modules.counter.repository;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.stereotype.Repository;
+
+import java.sql.PreparedStatement;
+
+/**
+ * 웜업용 집계 결과를 서버 측 커서로 스트리밍 (fetchSize 단위로 나눠 받으므로 전체 결과를 메모리에 올리지 않음)
+ * PostgreSQL 커서는 트랜잭션 안에서만 동작하므로 호출부에서 @Transactional(readOnly = true) 필요
+ */
+@Repository
+@RequiredArgsConstructor
+public class EngagementCountStreamRepository {
+
+    private final JdbcTemplate jdbcTemplate;
+
+    /**
+     * (video_id, interaction_type, count) - 같은 영상의 행이 연속되도록 video_id 순 정렬
+     */
+    public void streamInteractionCounts(int fetchSize, RowCallbackHandler handler) {
+        stream("""
+                SELECT vm.video_id, i.interaction_type, COUNT(*)
+                FROM interaction i
+                JOIN video_metadata vm ON vm.video_metadata_id = i.video_metadata_id
+                GROUP BY vm.video_id, i.interaction_type
+                ORDER BY vm.video_id
+                """, fetchSize, handler);
+    }
+
+    /**
+     * (video_id, count)
+     */
+    public void streamBookmarkCounts(int fetchSize, RowCallbackHandler handler) {
+        stream("""
+                SELECT vm.video_id, COUNT(*)
+                FROM bookmark b
+                JOIN video_metadata vm ON vm.video_metadata_id = b.video_metadata_id
+                GROUP BY vm.video_id
+                """, fetchSize, handler);
+    }
+
+    private void stream(String sql, int fetchSize, RowCallbackHandler handler) {
+        jdbcTemplate.query(con -> {
+            PreparedStatement ps = con.prepareStatement(sql);
+            ps.setFetchSize(fetchSize);
+            return ps;
+        }, handler);
+    }
+}
@@ -0,0 +1,58 @@
+package com.ott.core.modules.counter.repository;
+
+import com.ott.core.modules.counter.dto.VideoCounterField;
+import com.ott.core.modules.counter.dto.VideoCounters;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.util.ArrayList;
+import java.util.List;
+
+@Repository
+@RequiredArgsConstructor
+public class VideoCounterBatchRepository {
+
+    private final JdbcTemplate jdbcTemplate;
+
+    /**
+     * 여러 영상의 카운터를 하나의 UPDATE ... FROM (VALUES ...) 문으로 반영
+     * - 음수는 0으로 보정
+     * - Redis 해시에 없는 카운터(NULL)는 기존 값 유지
+     */
+    public int updateAll(List<VideoCounters> counters) {
+        if (counters.isEmpty()) {
+            return 0;
+        }
+
+        VideoCounterField[] fields = VideoCounterField.values();
+        StringBuilder sql = new StringBuilder("UPDATE video_metadata vm SET ");
+        for (int f = 0; f < fields.length; f++) {
+            String column = fields[f].column();
+            sql.append(f == 0 ? "" : ", ")
+                    .append(column).append(" = COALESCE(GREATEST(v.").append(column).append(", 0), vm.").append(column).append(")");
+        }
+        sql.append("\nFROM (VALUES ");
+
+        List<Object> params = new ArrayList<>(counters.size() * (fields.length + 1));
+        for (int i = 0; i < counters.size(); i++) {
+            VideoCounters row = counters.get(i);
+            sql.append(i == 0 ? "(?::bigint" : ", (?::bigint");
+            params.add(row.videoId());
+            for (VideoCounterField field : fields) {
+                sql.append(", ?::int");
+                Long value = row.values().get(field);
+                params.add(value == null ? null : (int) Math.min(value, Integer.MAX_VALUE));
+            }
+            sql.append(")");
+        }
+
+        sql.append(") AS v (video_id");
+        for (VideoCounterField field : fields) {
+            sql.append(", ").append(field.column());
+        }
+        sql.append(")\nWHERE vm.video_id = v.video_id");
+
+        return jdbcTemplate.update(sql.toString(), params.toArray());
+    }
+}
@@ -0,0 +1,32 @@
+package com.ott.core.modules.counter.scheduler;
+
+import com.ott.core.modules.counter.service.VideoCounterSyncService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class VideoCounterSyncScheduler {
+
+    private final VideoCounterSyncService videoCounterSyncService;
+
+    /**
+     * Redis 영상 카운터(조회수/반응/북마크/댓글)를 VideoMetadata DB에 동기화
+     * - 모든 인스턴스에서 실행되며, 샤드 임대를 잡은 인스턴스만 해당 샤드를 처리합니다. (기본 10분 주기)
+     */
+    @Scheduled(fixedDelayString = "${app.sync.counter.interval-ms:600000}")
+    public void runSync() {
+        log.info("========== [Scheduler] 영상 카운터 DB 동기화 시작 ==========");
+
+        try {
+            videoCounterSyncService.syncDirtyCounters();
+        } catch (Exception e) {
+            log.error("[Scheduler] 영상 카운터 동기화 스케줄러 실행 중 치명적인 에러 발생: {}", e.getMessage(), e);
+        }
+
+        log.info("========== [Scheduler] 영상 카운터 DB 동기화 종료 ==========");
+    }
+}
@@ -0,0 +1,91 @@
+package com.ott.core.modules.counter.service;
+
+import com.ott.core.modules.counter.config.CounterSyncProperties;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 카운터 동기화 샤드별 지연 지표 (클러스터 전체 기준, Redis 값을 주기적으로 읽어 둠)
+ * - counter.sync.shard.backlog: 샤드의 대기 + 처리 중 영상 수
+ * - counter.sync.shard.lag:     샤드를 마지막으로 비운 후 경과 시간 (초)
+ */
+@Slf4j
+@Component
+public class CounterSyncLagMonitor {
+
+    private final StringRedisTemplate stringRedisTemplate;
+    private final int shards;
+
+    private volatile long[] backlog;
+    private volatile long[] drainedAt;
+
+    public CounterSyncLagMonitor(StringRedisTemplate stringRedisTemplate,
+                                 CounterSyncProperties properties,
+                                 MeterRegistry meterRegistry) {
+        this.stringRedisTemplate = stringRedisTemplate;
+        this.shards = Math.max(1, properties.getShards());
+        this.backlog = new long[shards];
+        this.drainedAt = new long[shards];
+
+        for (int shard = 0; shard < shards; shard++) {
+            int s = shard;
+            Gauge.builder("counter.sync.shard.backlog", this, m -> m.backlog[s])
+                    .description("DB 반영을 기다리는 영상 수")
+                    .tag("shard", String.valueOf(shard))
+                    .register(meterRegistry);
+            Gauge.builder("counter.sync.shard.lag", this, m -> m.lagSeconds(s))
+                    .description("샤드를 마지막으로 비운 후 경과 시간 (초)")
+                    .baseUnit("seconds")
+                    .tag("shard", String.valueOf(shard))
+                    .register(meterRegistry);
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${app.sync.counter.metrics-interval-ms:30000}")
+    public void refresh() {
+        try {
+            List<Object> sizes = stringRedisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+                for (int shard = 0; shard < shards; shard++) {
+                    connection.setCommands().sCard(bytes(VideoCounterService.DIRTY_PREFIX + shard));
+                    connection.setCommands().sCard(bytes(VideoCounterSyncService.PROCESSING_PREFIX + shard));
+                }
+                return null;
+            });
+            Map<Object, Object> drained = stringRedisTemplate.opsForHash().entries(VideoCounterSyncService.DRAINED_KEY);
+
+            long[] nextBacklog = new long[shards];
+            long[] nextDrainedAt = new long[shards];
+            for (int shard = 0; shard < shards; shard++) {
+                nextBacklog[shard] = asLong(sizes.get(shard * 2)) + asLong(sizes.get(shard * 2 + 1));
+                Object at = drained.get(String.valueOf(shard));
+                nextDrainedAt[shard] = at != null ? Long.parseLong(String.valueOf(at)) : 0L;
+            }
+            backlog = nextBacklog;
+            drainedAt = nextDrainedAt;
+        } catch (Exception e) {
+            log.warn("[CounterSync] 샤드 지표 갱신 실패: {}", e.getMessage());
+        }
+    }
+
+    private double lagSeconds(int shard) {
+        long at = drainedAt[shard];
+        return at == 0 ? 0 : (System.currentTimeMillis() - at) / 1000.0;
+    }
+
+    private static long asLong(Object value) {
+        return value instanceof Number n ? n.longValue() : 0L;
+    }
+
+    private static byte[] bytes(String value) {
+        return value.getBytes(StandardCharsets.UTF_8);
+    }
+}
@@ -0,0 +1,211 @@
+package com.ott.core.modules.counter.service;
+
+import com.ott.common.error.BusinessException;
+import com.ott.common.error.ErrorCode;
+import com.ott.common.persistence.entity.VideoMetadata;
+import com.ott.core.modules.counter.config.CounterSyncProperties;
+import com.ott.core.modules.counter.dto.VideoCounterField;
+import com.ott.core.modules.counter.dto.VideoCounters;
+import com.ott.core.modules.video.repository.VideoMetadataRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Service;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.EnumMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 영상 카운터 엔진 (조회수/좋아요/싫어요/왕따봉/북마크/댓글 공통)
+ * - video:counters:{videoId}  HASH 카운터 종류별 현재 값 ({@link VideoCounterField#hashField()})
+ * - video:counters:dirty:{n}  SET  DB 반영이 필요한 videoId, videoId % 샤드 수로 분산 (VideoCounterSyncService가 샤드별로 video_metadata에 반영)
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class VideoCounterService {
+
+    public static final String COUNTER_PREFIX = "video:counters:";
+    public static final String DIRTY_PREFIX = "video:counters:dirty:";
+
+    private final StringRedisTemplate stringRedisTemplate;
+    private final VideoMetadataRepository videoMetadataRepository;
+    private final CounterSyncProperties counterSyncProperties;
+
+    /**
+     * 여러 카운터를 한 번에 증감 (음수가 되면 0으로 보정) + dirty 등록 (+ 선택적으로 랭킹 ZSET 점수를 카운터 값으로 갱신)
+     * KEYS[1] = 카운터 해시, KEYS[2] = dirty SET, KEYS[3] = 랭킹 ZSET (선택)
+     * ARGV[1] = videoId, ARGV[2] = 랭킹 점수로 쓸 필드 (없으면 빈 값), ARGV[3] = 시딩 필드 수 n,
+     * 이후 (필드, 값) n쌍, 이후 (필드, 증감값) 반복
+     * 반환: 랭킹 필드의 반영 후 값 (랭킹 미사용 시 0), -1 = 해시가 없어 시딩 필요 (n = 0으로 호출한 경우)
+     */
+    private static final RedisScript<Long> APPLY_SCRIPT = new DefaultRedisScript<>("""
+            local seeds = tonumber(ARGV[3])
+            if seeds == 0 and redis.call('EXISTS', KEYS[1]) == 0 then
+                return -1
+            end
+            local i = 4
+            for _ = 1, seeds do
+                redis.call('HSETNX', KEYS[1], ARGV[i], ARGV[i + 1])
+                i = i + 2
+            end
+            while i < #ARGV do
+                if redis.call('HINCRBY', KEYS[1], ARGV[i], ARGV[i + 1]) < 0 then
+                    redis.call('HSET', KEYS[1], ARGV[i], 0)
+                end
+                i = i + 2
+            end
+            redis.call('SADD', KEYS[2], ARGV[1])
+
+            if ARGV[2] == '' then
+                return 0
+            end
+            local ranked = tonumber(redis.call('HGET', KEYS[1], ARGV[2]) or '0')
+            if ranked > 0 then
+                redis.call('ZADD', KEYS[3], ranked, ARGV[1])
+            else
+                redis.call('ZREM', KEYS[3], ARGV[1])
+            end
+            return ranked
+            """, Long.class);
+
+    public void increment(Long videoId, VideoCounterField field, long delta) {
+        apply(videoId, Map.of(field, delta));
+    }
+
+    /**
+     * 여러 카운터 증감을 하나의 스크립트로 원자적으로 반영
+     * 해시가 없으면(최초 사용, Redis 유실) video_metadata의 마지막 반영 값으로 시딩한 뒤 증감
+     */
+    public void apply(Long videoId, Map<VideoCounterField, Long> deltas) {
+        if (!deltas.isEmpty()) {
+            apply(videoId, deltas, null, null);
+        }
+    }
+
+    /**
+     * 카운터 증감과 함께 랭킹 ZSET 점수를 같은 스크립트 안에서 반영 후 카운터 값으로 맞춤 (0이면 랭킹에서 제거)
+     * @return 랭킹 필드의 반영 후 값
+     */
+    public long incrementRanked(Long videoId, VideoCounterField field, long delta, String rankingKey) {
+        return apply(videoId, Map.of(field, delta), field, rankingKey);
+    }
+
+    private long apply(Long videoId, Map<VideoCounterField, Long> deltas, VideoCounterField rankedField, String rankingKey) {
+        Long result = execute(videoId, Map.of(), deltas, rankedField, rankingKey);
+        if (Long.valueOf(-1L).equals(result)) {
+            VideoMetadata metadata = videoMetadataRepository.findByVideoId(videoId)
+                    .orElseThrow(() -> new BusinessException(ErrorCode.VIDEO_NOT_FOUND));
+
+            Map<VideoCounterField, Long> seed = new EnumMap<>(VideoCounterField.class);
+            for (VideoCounterField field : VideoCounterField.values()) {
+                seed.put(field, (long) field.dbValue(metadata));
+            }
+            result = execute(videoId, seed, deltas, rankedField, rankingKey);
+            log.debug("[Counter] 시딩 후 반영 - videoId: {}, deltas: {}", videoId, deltas);
+        }
+        return result != null ? result : 0L;
+    }
+
+    /**
+     * 여러 영상의 카운터를 파이프라인 HGETALL로 일괄 조회
+     * @return videoId → 카운터 (해시가 없는 영상은 제외)
+     */
+    public Map<Long, VideoCounters> getCounts(Collection<Long> videoIds) {
+        List<Long> ids = List.copyOf(videoIds);
+        Map<Long, VideoCounters> result = new LinkedHashMap<>();
+        if (ids.isEmpty()) {
+            return result;
+        }
+
+        List<Object> hashes = stringRedisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+            for (Long videoId : ids) {
+                connection.hashCommands().hGetAll(bytes(COUNTER_PREFIX + videoId));
+            }
+            return null;
+        });
+
+        for (int i = 0; i < ids.size(); i++) {
+            @SuppressWarnings("unchecked")
+            Map<Object, Object> hash = (Map<Object, Object>) hashes.get(i);
+            if (hash == null || hash.isEmpty()) {
+                continue;
+            }
+            Map<VideoCounterField, Long> values = new EnumMap<>(VideoCounterField.class);
+            hash.forEach((k, v) -> {
+                VideoCounterField field = VideoCounterField.fromHashField(String.valueOf(k));
+                if (field != null) {
+                    values.put(field, Long.parseLong(String.valueOf(v)));
+                }
+            });
+            result.put(ids.get(i), new VideoCounters(ids.get(i), values));
+        }
+        return result;
+    }
+
+    /**
+     * DB 기준 정확한 값으로 카운터를 보정 (+ 랭킹 ZSET 점수 동기화, 0이면 제거)
+     * @param exact videoId → 정확한 값
+     */
+    public void reconcile(VideoCounterField field, Map<Long, Long> exact, String rankingKey) {
+        if (exact.isEmpty()) {
+            return;
+        }
+        stringRedisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+            byte[] hashField = bytes(field.hashField());
+            exact.forEach((videoId, value) -> {
+                byte[] member = bytes(String.valueOf(videoId));
+                connection.hashCommands().hSet(bytes(COUNTER_PREFIX + videoId), hashField, bytes(String.valueOf(value)));
+                if (rankingKey != null) {
+                    if (value > 0) {
+                        connection.zSetCommands().zAdd(bytes(rankingKey), value, member);
+                    } else {
+                        connection.zSetCommands().zRem(bytes(rankingKey), member);
+                    }
+                }
+            });
+            return null;
+        });
+    }
+
+    private Long execute(Long videoId, Map<VideoCounterField, Long> seed, Map<VideoCounterField, Long> deltas,
+                         VideoCounterField rankedField, String rankingKey) {
+        List<String> args = new ArrayList<>(3 + (seed.size() + deltas.size()) * 2);
+        args.add(String.valueOf(videoId));
+        args.add(rankedField != null ? rankedField.hashField() : "");
+        args.add(String.valueOf(seed.size()));
+        seed.forEach((field, value) -> {
+            args.add(field.hashField());
+            args.add(String.valueOf(value));
+        });
+        deltas.forEach((field, delta) -> {
+            args.add(field.hashField());
+            args.add(String.valueOf(delta));
+        });
+
+        List<String> keys = rankingKey != null
+                ? List.of(COUNTER_PREFIX + videoId, dirtyKey(videoId), rankingKey)
+                : List.of(COUNTER_PREFIX + videoId, dirtyKey(videoId));
+        return stringRedisTemplate.execute(APPLY_SCRIPT, keys, args.toArray());
+    }
+
+    public int shardOf(long videoId) {
+        return (int) Math.floorMod(videoId, (long) Math.max(1, counterSyncProperties.getShards()));
+    }
+
+    public String dirtyKey(long videoId) {
+        return DIRTY_PREFIX + shardOf(videoId);
+    }
+
+    private static byte[] bytes(String value) {
+        return value.getBytes(StandardCharsets.UTF_8);
+    }
+}
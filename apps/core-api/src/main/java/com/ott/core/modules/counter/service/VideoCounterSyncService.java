@@ -0,0 +1,296 @@
+package com.ott.core.modules.counter.service;
+
+import com.ott.common.persistence.enums.InteractionType;
+import com.ott.core.modules.bookmark.repository.BookmarkRepository;
+import com.ott.core.modules.counter.config.CounterSyncProperties;
+import com.ott.core.modules.counter.dto.VideoCounterField;
+import com.ott.core.modules.counter.dto.VideoCounters;
+import com.ott.core.modules.counter.repository.VideoCounterBatchRepository;
+import com.ott.core.modules.interaction.repository.InteractionRepository;
+import com.ott.core.modules.search.service.VideoSearchCounterService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * Redis 영상 카운터 → video_metadata 일괄 반영 (Write-Back)
+ * - dirty SET은 videoId % 샤드 수로 나뉘어 있고, 인스턴스들은 샤드별 임대(lease)를 잡은 뒤 처리 → 인스턴스 수만큼 병렬
+ * - 샤드 처리 중 죽으면 processing SET이 남고, 임대 만료 후 그 샤드를 잡은 인스턴스가 dirty로 되돌려 다시 처리
+ * - DB에는 증감이 아니라 Redis의 현재 값을 그대로 쓰므로 같은 영상을 두 번 반영해도 결과가 같음
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class VideoCounterSyncService {
+
+    public static final String PROCESSING_PREFIX = "video:counters:processing:"; // Set (샤드별 안전 큐)
+    public static final String DRAINED_KEY = "video:counters:drained"; // Hash (샤드 → 마지막으로 비운 시각 millis)
+    static final String LEASE_PREFIX = "video:counters:lease:"; // String (샤드 임대, 값 = 인스턴스 ID)
+    private static final String LEGACY_DIRTY_KEY = "video:counters:dirty"; // Set (샤딩 이전 대기열)
+    private static final String LEGACY_PROCESSING_KEY = "video:counters:processing"; // Set (샤딩 이전 안전 큐)
+    private static final String KEY_RANKING = "video:ranking"; // ZSet (북마크 랭킹)
+
+    // 임대를 가진 인스턴스만 연장/해제
+    private static final RedisScript<Long> RENEW_LEASE_SCRIPT = new DefaultRedisScript<>("""
+            if redis.call('GET', KEYS[1]) == ARGV[1] then
+                return redis.call('PEXPIRE', KEYS[1], ARGV[2])
+            end
+            return 0
+            """, Long.class);
+
+    private static final RedisScript<Long> RELEASE_LEASE_SCRIPT = new DefaultRedisScript<>("""
+            if redis.call('GET', KEYS[1]) == ARGV[1] then
+                return redis.call('DEL', KEYS[1])
+            end
+            return 0
+            """, Long.class);
+
+    private final String instanceId = UUID.randomUUID().toString();
+
+    private final StringRedisTemplate stringRedisTemplate;
+    private final VideoCounterService videoCounterService;
+    private final VideoCounterBatchRepository videoCounterBatchRepository;
+    private final BookmarkRepository bookmarkRepository;
+    private final InteractionRepository interactionRepository;
+    private final VideoSearchCounterService videoSearchCounterService;
+    private final CounterSyncProperties properties;
+
+    public void syncDirtyCounters() {
+        int shards = Math.max(1, properties.getShards());
+        // 인스턴스마다 다른 샤드부터 시도해 임대 경합을 줄임
+        int offset = ThreadLocalRandom.current().nextInt(shards);
+        int drained = 0;
+        int successCount = 0;
+
+        for (int i = 0; i < shards; i++) {
+            int shard = (offset + i) % shards;
+            String leaseKey = LEASE_PREFIX + shard;
+            if (!Boolean.TRUE.equals(stringRedisTemplate.opsForValue()
+                    .setIfAbsent(leaseKey, instanceId, Duration.ofMillis(properties.getLeaseMs())))) {
+                continue; // 다른 인스턴스가 처리 중
+            }
+
+            try {
+                successCount += drainShard(shard, leaseKey);
+                drained++;
+            } catch (Exception e) {
+                log.error("[CounterSync] 샤드 {} 동기화 중 에러 발생: {}", shard, e.getMessage());
+            } finally {
+                stringRedisTemplate.execute(RELEASE_LEASE_SCRIPT, List.of(leaseKey), instanceId);
+            }
+        }
+
+        if (successCount > 0) {
+            log.info("[CounterSync] 영상 카운터 {}건 DB 동기화 완료 (처리 샤드: {}/{})", successCount, drained, shards);
+        }
+    }
+
+    /**
+     * @return DB에 반영한 영상 수
+     */
+    private int drainShard(int shard, String leaseKey) {
+        String dirtyKey = VideoCounterService.DIRTY_PREFIX + shard;
+        String processingKey = PROCESSING_PREFIX + shard;
+
+        // 1. [장애 복구] 이전 소유 인스턴스가 처리 중 죽었다면 다시 합침 (임대를 가진 상태라 안전)
+        if (Boolean.TRUE.equals(stringRedisTemplate.hasKey(processingKey))) {
+            stringRedisTemplate.opsForSet().unionAndStore(dirtyKey, processingKey, dirtyKey);
+            stringRedisTemplate.delete(processingKey);
+            log.warn("[CounterSync] 샤드 {} 미완료 작업 복구", shard);
+        }
+
+        if (Boolean.FALSE.equals(stringRedisTemplate.hasKey(dirtyKey))) {
+            markDrained(shard);
+            return 0; // 동기화할 데이터가 없으면 조용히 종료
+        }
+
+        // 2. [동시성 방어] 대기열을 작업장(processing)으로 원자적 이동 (이후 증감은 새 dirty에 쌓임)
+        stringRedisTemplate.rename(dirtyKey, processingKey);
+
+        Set<String> videoIdsToProcess = stringRedisTemplate.opsForSet().members(processingKey);
+        if (videoIdsToProcess == null || videoIdsToProcess.isEmpty()) {
+            stringRedisTemplate.delete(processingKey);
+            markDrained(shard);
+            return 0;
+        }
+
+        log.info("[CounterSync] 샤드 {} 동기화 시작 (대상: {}건)", shard, videoIdsToProcess.size());
+        List<String> videoIds = List.copyOf(videoIdsToProcess);
+        int size = Math.max(1, properties.getChunkSize());
+        int successCount = 0;
+
+        for (int from = 0; from < videoIds.size(); from += size) {
+            // 임대를 잃었으면 (GC 정지 등으로 만료) 중단. processing은 다음 소유 인스턴스가 복구
+            if (!Long.valueOf(1L).equals(stringRedisTemplate.execute(RENEW_LEASE_SCRIPT, List.of(leaseKey),
+                    instanceId, String.valueOf(properties.getLeaseMs())))) {
+                log.warn("[CounterSync] 샤드 {} 임대 만료로 중단 - 반영: {}건", shard, successCount);
+                return successCount;
+            }
+
+            List<String> chunk = videoIds.subList(from, Math.min(from + size, videoIds.size()));
+            long startedAt = System.nanoTime();
+
+            try {
+                // 3. 청크 단위 파이프라인 HGETALL
+                List<Long> chunkIds = chunk.stream().map(Long::valueOf).toList();
+                Map<Long, VideoCounters> counters = videoCounterService.getCounts(chunkIds);
+                long readNanos = System.nanoTime() - startedAt;
+
+                // 북마크는 토글 시 COUNT 없이 증감만 하므로 여기서 DB 기준 정확한 값으로 보정
+                reconcileBookmarkCounts(chunkIds, counters);
+                // 웜업이 DB 집계로 덮어쓰는 사이 들어온 반응 증감은 유실될 수 있으므로 (웜업이 쓴 영상은 dirty에 들어옴) DB 기준으로 보정
+                reconcileInteractionCounts(chunkIds, counters);
+
+                // 4. 청크 전체를 하나의 UPDATE ... FROM (VALUES ...) 문으로 반영
+                videoCounterBatchRepository.updateAll(new ArrayList<>(counters.values()));
+                successCount += counters.size();
+
+                // 5. 검색/추천 정렬에 쓰이는 ES viewCount 부분 갱신
+                syncViewCountsToSearch(counters);
+
+                log.info("[CounterSync] 샤드 {} 청크 반영 - 건수: {}, Redis 조회: {}ms, 전체: {}ms", shard, counters.size(),
+                        readNanos / 1_000_000, (System.nanoTime() - startedAt) / 1_000_000);
+            } catch (Exception e) {
+                log.error("[CounterSync] 샤드 {} 청크({}건) 동기화 중 에러 발생: {}", shard, chunk.size(), e.getMessage());
+                // 에러 발생 시, 유실되지 않게 다음 턴에 다시 시도하도록 dirty에 다시 넣음
+                stringRedisTemplate.opsForSet().add(dirtyKey, chunk.toArray(String[]::new));
+            }
+        }
+
+        // 6. 완료된 큐 삭제
+        stringRedisTemplate.delete(processingKey);
+        markDrained(shard);
+        return successCount;
+    }
+
+    private void markDrained(int shard) {
+        stringRedisTemplate.opsForHash().put(DRAINED_KEY, String.valueOf(shard), String.valueOf(System.currentTimeMillis()));
+    }
+
+    /**
+     * 샤딩 이전 버전이 남긴 대기열을 샤드로 옮김 (기동 시 한 번, 키가 있을 때만)
+     * 새 버전은 샤딩 이전 키에 쓰지 않으므로 배포가 끝나면 키가 없어 EXISTS만 하고 끝남
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void migrateLegacyQueue() {
+        try {
+            moveLegacyQueues();
+        } catch (Exception e) {
+            // 기동은 막지 않음 (남은 키는 다음 기동 때 다시 시도)
+            log.warn("[CounterSync] 기존 대기열 이동 실패: {}", e.getMessage());
+        }
+    }
+
+    private void moveLegacyQueues() {
+        for (String legacyKey : List.of(LEGACY_PROCESSING_KEY, LEGACY_DIRTY_KEY)) {
+            String movingKey = legacyKey + ":migrating";
+            // 옮기던 중 죽은 흔적(movingKey)이 있으면 이어서 처리 (SADD는 중복 실행해도 안전)
+            if (Boolean.TRUE.equals(stringRedisTemplate.hasKey(legacyKey))) {
+                try {
+                    stringRedisTemplate.rename(legacyKey, movingKey); // 동시에 기동한 인스턴스 중 하나만 성공
+                } catch (Exception e) {
+                    log.debug("[CounterSync] 기존 대기열 {}은 다른 인스턴스가 이동 중", legacyKey);
+                }
+            }
+            if (!Boolean.TRUE.equals(stringRedisTemplate.hasKey(movingKey))) {
+                continue;
+            }
+
+            Set<String> videoIds = stringRedisTemplate.opsForSet().members(movingKey);
+            if (videoIds != null && !videoIds.isEmpty()) {
+                Map<String, List<String>> byShard = new HashMap<>();
+                videoIds.forEach(id -> byShard.computeIfAbsent(videoCounterService.dirtyKey(Long.parseLong(id)),
+                        k -> new ArrayList<>()).add(id));
+                byShard.forEach((key, ids) -> stringRedisTemplate.opsForSet().add(key, ids.toArray(String[]::new)));
+                log.info("[CounterSync] 기존 대기열 {} → 샤드 이동 ({}건)", legacyKey, videoIds.size());
+            }
+            stringRedisTemplate.delete(movingKey);
+        }
+    }
+
+    /**
+     * ES 반영 실패는 DB 반영과 분리 (다음 조회 발생 시 또는 전체 재색인으로 복구되므로 dirty에 다시 넣지 않음)
+     */
+    private void syncViewCountsToSearch(Map<Long, VideoCounters> counters) {
+        Map<Long, Long> viewCounts = new HashMap<>();
+        counters.forEach((videoId, counter) -> {
+            if (counter.values().containsKey(VideoCounterField.VIEW)) {
+                viewCounts.put(videoId, counter.get(VideoCounterField.VIEW));
+            }
+        });
+
+        try {
+            videoSearchCounterService.updateViewCounts(viewCounts);
+        } catch (Exception e) {
+            log.warn("[CounterSync] ES 조회수 반영 실패 - 대상: {}건, 원인: {}", viewCounts.size(), e.getMessage());
+        }
+    }
+
+    private void reconcileBookmarkCounts(List<Long> videoIds, Map<Long, VideoCounters> counters) {
+        Map<Long, Long> exact = new HashMap<>();
+        videoIds.forEach(videoId -> exact.put(videoId, 0L));
+        for (Object[] row : bookmarkRepository.countGroupedByVideoIdIn(videoIds)) {
+            exact.put((Long) row[0], (Long) row[1]);
+        }
+
+        Map<Long, Long> drifted = new HashMap<>();
+        exact.forEach((videoId, count) -> {
+            VideoCounters current = counters.get(videoId);
+            if (current != null && current.get(VideoCounterField.BOOKMARK) != count) {
+                current.values().put(VideoCounterField.BOOKMARK, count);
+                drifted.put(videoId, count);
+            }
+        });
+
+        if (!drifted.isEmpty()) {
+            videoCounterService.reconcile(VideoCounterField.BOOKMARK, drifted, KEY_RANKING);
+            log.info("[CounterSync] 북마크 카운트 보정 - {}건", drifted.size());
+        }
+    }
+
+    private void reconcileInteractionCounts(List<Long> videoIds, Map<Long, VideoCounters> counters) {
+        Map<Long, Map<VideoCounterField, Long>> exact = new HashMap<>();
+        for (Object[] row : interactionRepository.countGroupedByVideoIdAndTypeIn(videoIds)) {
+            exact.computeIfAbsent((Long) row[0], k -> new EnumMap<>(VideoCounterField.class))
+                    .put(VideoCounterField.from((InteractionType) row[1]), (Long) row[2]);
+        }
+
+        Map<VideoCounterField, Map<Long, Long>> drifted = new EnumMap<>(VideoCounterField.class);
+        for (Long videoId : videoIds) {
+            VideoCounters current = counters.get(videoId);
+            if (current == null) {
+                continue;
+            }
+            Map<VideoCounterField, Long> counts = exact.getOrDefault(videoId, Map.of());
+            for (InteractionType type : InteractionType.values()) {
+                VideoCounterField field = VideoCounterField.from(type);
+                long count = counts.getOrDefault(field, 0L);
+                if (current.get(field) != count) {
+                    current.values().put(field, count);
+                    drifted.computeIfAbsent(field, k -> new HashMap<>()).put(videoId, count);
+                }
+            }
+        }
+
+        drifted.forEach((field, values) -> videoCounterService.reconcile(field, values, null));
+        if (!drifted.isEmpty()) {
+            log.info("[CounterSync] 반응 카운트 보정 - {}", drifted.entrySet().stream()
+                    .map(e -> e.getKey() + " " + e.getValue().size() + "건").toList());
+        }
+    }
+}
@@ -0,0 +1,254 @@
+package com.ott.core.modules.counter.service;
+
+import com.ott.common.persistence.enums.InteractionType;
+import com.ott.core.modules.counter.dto.VideoCounterField;
+import com.ott.core.modules.counter.repository.EngagementCountStreamRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.core.Cursor;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.ScanOptions;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+
+/**
+ * [DB -> Redis] 인터랙션/북마크 카운터와 북마크 랭킹 복구 (관리자 웜업, Redis 유실 후 콜드 스타트)
+ * - DB 집계는 서버 측 커서로 스트리밍하고, Redis 쓰기는 청크 단위 파이프라인
+ * - 영상별 카운터 해시는 필드 단위로 덮어쓰므로(HSET) 복구 중에도 조회가 비지 않음
+ *   (집계 이후 들어온 증감은 덮어써질 수 있으므로, 쓴 영상을 dirty에 넣어 다음 동기화에서 DB 기준으로 보정)
+ * - 랭킹 ZSET은 섀도 키에 만든 뒤 RENAME으로 원자적 교체
+ * - 집계에 없는 영상(0건)은 마지막에 기존 해시를 훑어 0으로 맞춤
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class VideoCounterWarmUpService {
+
+    private static final String KEY_RANKING = "video:ranking"; // ZSet
+    private static final String KEY_RANKING_SHADOW = "video:ranking:warmup"; // ZSet (교체 전 섀도)
+    private static final String KEY_INTERACTION_SEEN = "video:counters:warmup:interaction"; // Set (집계에 나온 영상)
+    private static final int PROGRESS_LOG_EVERY_CHUNKS = 10;
+
+    private static final List<VideoCounterField> INTERACTION_FIELDS =
+            List.of(VideoCounterField.LIKE, VideoCounterField.DISLIKE, VideoCounterField.SUPER_LIKE);
+
+    private final StringRedisTemplate stringRedisTemplate;
+    private final EngagementCountStreamRepository engagementCountStreamRepository;
+    private final VideoCounterService videoCounterService;
+
+    @Value("${app.sync.counter.chunk-size:1000}")
+    private int chunkSize;
+
+    @Transactional(readOnly = true)
+    public void warmUpInteractions() {
+        log.info("[WarmUp] DB 데이터를 기반으로 Redis 인터랙션 카운트 복구를 시작합니다...");
+        Progress progress = new Progress("interaction");
+        stringRedisTemplate.delete(KEY_INTERACTION_SEEN);
+
+        int size = Math.max(1, chunkSize);
+        Map<Long, Map<VideoCounterField, Long>> buffer = new LinkedHashMap<>();
+        long[] currentVideoId = {Long.MIN_VALUE};
+
+        engagementCountStreamRepository.streamInteractionCounts(size, rs -> {
+            long videoId = rs.getLong(1);
+            InteractionType type = InteractionType.valueOf(rs.getString(2));
+            long count = rs.getLong(3);
+
+            // video_id 순으로 오므로 새 영상이 나오면 이전 영상들의 집계는 완성된 상태
+            if (videoId != currentVideoId[0] && buffer.size() >= size) {
+                writeInteractionChunk(buffer, progress);
+            }
+            currentVideoId[0] = videoId;
+            buffer.computeIfAbsent(videoId, k -> zeroInteractionFields()).put(VideoCounterField.from(type), count);
+        });
+        writeInteractionChunk(buffer, progress);
+
+        // 집계에 없는 영상은 모든 반응이 취소된 상태 → 0으로
+        int zeroed = zeroMissing(INTERACTION_FIELDS, ids -> {
+            Map<Object, Boolean> seen = stringRedisTemplate.opsForSet()
+                    .isMember(KEY_INTERACTION_SEEN, ids.stream().map(String::valueOf).toArray());
+            return ids.stream().map(id -> Boolean.TRUE.equals(seen.get(String.valueOf(id)))).toList();
+        });
+        stringRedisTemplate.delete(KEY_INTERACTION_SEEN);
+
+        progress.finish(zeroed);
+    }
+
+    @Transactional(readOnly = true)
+    public void warmUpBookmarks() {
+        log.info("[WarmUp] DB 데이터를 기반으로 Redis 북마크 랭킹(ZSet)/카운트 복구를 시작합니다...");
+        Progress progress = new Progress("bookmark");
+        stringRedisTemplate.delete(KEY_RANKING_SHADOW);
+
+        int size = Math.max(1, chunkSize);
+        Map<Long, Long> buffer = new LinkedHashMap<>();
+
+        engagementCountStreamRepository.streamBookmarkCounts(size, rs -> {
+            buffer.put(rs.getLong(1), rs.getLong(2));
+            if (buffer.size() >= size) {
+                writeBookmarkChunk(buffer, progress);
+            }
+        });
+        writeBookmarkChunk(buffer, progress);
+
+        // 섀도 키를 원자적으로 교체 (조회 중인 랭킹이 비는 구간 없음)
+        if (Boolean.TRUE.equals(stringRedisTemplate.hasKey(KEY_RANKING_SHADOW))) {
+            stringRedisTemplate.rename(KEY_RANKING_SHADOW, KEY_RANKING);
+        } else {
+            stringRedisTemplate.delete(KEY_RANKING);
+        }
+
+        // 새 랭킹에 없는 영상은 북마크 0건 → 카운터도 0으로
+        int zeroed = zeroMissing(List.of(VideoCounterField.BOOKMARK), ids -> {
+            List<Double> scores = stringRedisTemplate.opsForZSet()
+                    .score(KEY_RANKING, ids.stream().map(String::valueOf).toArray());
+            return scores == null
+                    ? ids.stream().map(id -> false).toList()
+                    : scores.stream().map(score -> score != null).toList();
+        });
+
+        progress.finish(zeroed);
+    }
+
+    private void writeInteractionChunk(Map<Long, Map<VideoCounterField, Long>> buffer, Progress progress) {
+        if (buffer.isEmpty()) {
+            return;
+        }
+        byte[] seenKey = bytes(KEY_INTERACTION_SEEN);
+        stringRedisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+            buffer.forEach((videoId, counts) -> {
+                Map<byte[], byte[]> fields = new LinkedHashMap<>();
+                counts.forEach((field, count) -> fields.put(bytes(field.hashField()), bytes(String.valueOf(count))));
+                connection.hashCommands().hMSet(bytes(VideoCounterService.COUNTER_PREFIX + videoId), fields);
+                connection.setCommands().sAdd(seenKey, bytes(String.valueOf(videoId)));
+                connection.setCommands().sAdd(bytes(videoCounterService.dirtyKey(videoId)), bytes(String.valueOf(videoId)));
+            });
+            return null;
+        });
+        progress.chunkWritten(buffer.size());
+        buffer.clear();
+    }
+
+    private void writeBookmarkChunk(Map<Long, Long> buffer, Progress progress) {
+        if (buffer.isEmpty()) {
+            return;
+        }
+        byte[] shadowKey = bytes(KEY_RANKING_SHADOW);
+        byte[] bookmarkField = bytes(VideoCounterField.BOOKMARK.hashField());
+        stringRedisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+            buffer.forEach((videoId, count) -> {
+                byte[] member = bytes(String.valueOf(videoId));
+                if (count > 0) {
+                    connection.zSetCommands().zAdd(shadowKey, count, member);
+                }
+                connection.hashCommands().hSet(bytes(VideoCounterService.COUNTER_PREFIX + videoId), bookmarkField,
+                        bytes(String.valueOf(count)));
+                connection.setCommands().sAdd(bytes(videoCounterService.dirtyKey(videoId)), member);
+            });
+            return null;
+        });
+        progress.chunkWritten(buffer.size());
+        buffer.clear();
+    }
+
+    /**
+     * 기존 카운터 해시 중 집계에 나오지 않은 영상의 필드를 0으로 설정
+     * @param seen videoId 목록 → 각 영상이 집계에 나왔는지 여부
+     * @return 0으로 맞춘 영상 수
+     */
+    private int zeroMissing(List<VideoCounterField> fields, Function<List<Long>, List<Boolean>> seen) {
+        ScanOptions options = ScanOptions.scanOptions()
+                .match(VideoCounterService.COUNTER_PREFIX + "[0-9]*")
+                .count(Math.max(1, chunkSize))
+                .build();
+
+        int zeroed = 0;
+        List<Long> batch = new ArrayList<>();
+        try (Cursor<String> cursor = stringRedisTemplate.scan(options)) {
+            while (cursor.hasNext()) {
+                batch.add(Long.valueOf(cursor.next().substring(VideoCounterService.COUNTER_PREFIX.length())));
+                if (batch.size() >= Math.max(1, chunkSize) || !cursor.hasNext()) {
+                    zeroed += zeroBatch(fields, batch, seen.apply(batch));
+                    batch.clear();
+                }
+            }
+        }
+        return zeroed;
+    }
+
+    private int zeroBatch(List<VideoCounterField> fields, List<Long> videoIds, List<Boolean> seen) {
+        List<Long> missing = new ArrayList<>();
+        for (int i = 0; i < videoIds.size(); i++) {
+            if (!seen.get(i)) {
+                missing.add(videoIds.get(i));
+            }
+        }
+        if (missing.isEmpty()) {
+            return 0;
+        }
+
+        Map<byte[], byte[]> zeros = new LinkedHashMap<>();
+        fields.forEach(field -> zeros.put(bytes(field.hashField()), bytes("0")));
+        stringRedisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+            missing.forEach(videoId -> {
+                connection.hashCommands().hMSet(bytes(VideoCounterService.COUNTER_PREFIX + videoId), zeros);
+                connection.setCommands().sAdd(bytes(videoCounterService.dirtyKey(videoId)), bytes(String.valueOf(videoId)));
+            });
+            return null;
+        });
+        return missing.size();
+    }
+
+    private static Map<VideoCounterField, Long> zeroInteractionFields() {
+        Map<VideoCounterField, Long> counts = new EnumMap<>(VideoCounterField.class);
+        INTERACTION_FIELDS.forEach(field -> counts.put(field, 0L));
+        return counts;
+    }
+
+    private static byte[] bytes(String value) {
+        return value.getBytes(StandardCharsets.UTF_8);
+    }
+
+    /**
+     * 웜업 진행률/처리량 로그
+     */
+    private static final class Progress {
+
+        private final String name;
+        private final long startedAt = System.nanoTime();
+        private long videos;
+        private int chunks;
+
+        private Progress(String name) {
+            this.name = name;
+        }
+
+        private void chunkWritten(int count) {
+            videos += count;
+            chunks++;
+            if (chunks % PROGRESS_LOG_EVERY_CHUNKS == 0) {
+                log.info("[WarmUp] {} 진행 중 - 영상: {}건, {}건/초", name, videos, throughput());
+            }
+        }
+
+        private void finish(int zeroed) {
+            log.info("[WarmUp] {} 복구 완료 - 영상: {}건, 0건 보정: {}건, 소요: {}ms, {}건/초",
+                    name, videos, zeroed, (System.nanoTime() - startedAt) / 1_000_000, throughput());
+        }
+
+        private long throughput() {
+            long elapsedMillis = Math.max(1, (System.nanoTime() - startedAt) / 1_000_000);
+            return videos * 1000 / elapsedMillis;
+        }
+    }
+}
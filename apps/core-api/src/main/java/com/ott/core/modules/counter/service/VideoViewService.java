@@ -0,0 +1,56 @@
+package com.ott.core.modules.counter.service;
+
+import com.ott.core.modules.counter.dto.VideoCounterField;
+import com.ott.core.modules.counter.dto.VideoCounters;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.stereotype.Service;
+
+import java.util.List;
+
+/**
+ * 조회수 집계 (시청 시작 후 첫 하트비트 기준)
+ * - 새 조회 여부는 시청 상태 저장 스크립트(WatchHistoryRedisService)가 직전 시청 시각과 app.view.replay-window-seconds로 판단
+ *   (이어서 보는 동안은 1회, 윈도우 이상 끊긴 뒤 재생하면 새 조회) → 하트비트당 Redis 왕복은 상태 저장 한 번
+ * - video:uv:{videoId}                   HLL    순 시청자 수 추정 (오차 약 0.81%, 키당 최대 12KB)
+ * - 누적 조회수는 영상 카운터 엔진(VIEW)에 증감 → VideoCounterSyncService가 DB/ES에 일괄 반영
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class VideoViewService {
+
+    private static final String UNIQUE_VIEWER_PREFIX = "video:uv:";
+
+    private final StringRedisTemplate stringRedisTemplate;
+    private final VideoCounterService videoCounterService;
+
+    /**
+     * 새 조회 1회 기록 (호출 측에서 새 조회로 판단된 하트비트에만 호출)
+     */
+    public void recordView(Long userId, Long videoId) {
+        stringRedisTemplate.opsForHyperLogLog().add(UNIQUE_VIEWER_PREFIX + videoId, String.valueOf(userId));
+        videoCounterService.increment(videoId, VideoCounterField.VIEW, 1);
+        log.debug("[View] 조회수 반영 - userId: {}, videoId: {}", userId, videoId);
+    }
+
+    /**
+     * 현재 조회수 (아직 DB에 반영되지 않은 증가분 포함)
+     * @param persisted video_metadata.view_count (카운터 해시가 없을 때 사용)
+     */
+    public long getViewCount(Long videoId, long persisted) {
+        VideoCounters counters = videoCounterService.getCounts(List.of(videoId)).get(videoId);
+        return counters != null && counters.values().containsKey(VideoCounterField.VIEW)
+                ? counters.get(VideoCounterField.VIEW)
+                : persisted;
+    }
+
+    /**
+     * 순 시청자 수 추정치 (HyperLogLog)
+     */
+    public long getUniqueViewers(Long videoId) {
+        Long count = stringRedisTemplate.opsForHyperLogLog().size(UNIQUE_VIEWER_PREFIX + videoId);
+        return count != null ? count : 0L;
+    }
+}
@@ -0,0 +1,43 @@
+package com.ott.core.modules.engagement.controller;
+
+import com.ott.common.error.BusinessException;
+import com.ott.common.error.ErrorCode;
+import com.ott.common.response.ApiResponse;
+import com.ott.core.modules.engagement.dto.EngagementStatusResponseDto;
+import com.ott.core.modules.engagement.service.EngagementStatusService;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.RequiredArgsConstructor;
+import org.springframework.security.core.annotation.AuthenticationPrincipal;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.List;
+
+@Tag(name = "반응 상태 API", description = "여러 영상의 좋아요/싫어요/왕따봉/북마크 상태 일괄 조회")
+@RestController
+@RequestMapping("/api/v1/engagements")
+@RequiredArgsConstructor
+public class EngagementController {
+
+    private static final int MAX_VIDEO_IDS = 100;
+
+    private final EngagementStatusService engagementStatusService;
+
+    @Operation(summary = "반응/북마크 상태 일괄 조회", description = "여러 영상에 대한 내 반응과 찜 여부를 한 번에 조회합니다. (최대 100개)")
+    @GetMapping("/status")
+    public ApiResponse<List<EngagementStatusResponseDto>> getStatuses(
+            @RequestParam("videoIds") List<Long> videoIds,
+            @AuthenticationPrincipal String userId) {
+
+        if (videoIds.isEmpty() || videoIds.size() > MAX_VIDEO_IDS) {
+            throw new BusinessException(ErrorCode.INVALID_REQUEST);
+        }
+
+        List<EngagementStatusResponseDto> response = engagementStatusService.getStatuses(Long.parseLong(userId), videoIds)
+                .entrySet().stream()
+                .map(e -> EngagementStatusResponseDto.of(e.getKey(), e.getValue()))
+                .toList();
+
+        return ApiResponse.success(response);
+    }
+}
@@ -0,0 +1,14 @@
+package com.ott.core.modules.engagement.dto;
+
+import com.ott.common.persistence.enums.InteractionType;
+
+/**
+ * 영상 하나에 대한 사용자의 반응/북마크 상태
+ * @param interactionType 반응이 없으면 null
+ */
+public record EngagementStatus(
+        InteractionType interactionType,
+        boolean bookmarked
+) {
+    public static final EngagementStatus NONE = new EngagementStatus(null, false);
+}
@@ -0,0 +1,15 @@
+package com.ott.core.modules.engagement.dto;
+
+public record EngagementStatusResponseDto(
+        String videoId,
+        String interactionType,
+        boolean isBookmarked
+) {
+    public static EngagementStatusResponseDto of(Long videoId, EngagementStatus status) {
+        return new EngagementStatusResponseDto(
+                String.valueOf(videoId),
+                status.interactionType() != null ? status.interactionType().name() : "NONE",
+                status.bookmarked()
+        );
+    }
+}
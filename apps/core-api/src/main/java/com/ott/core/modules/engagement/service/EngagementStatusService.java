@@ -0,0 +1,183 @@
+package com.ott.core.modules.engagement.service;
+
+import com.ott.common.persistence.enums.InteractionType;
+import com.ott.core.modules.bookmark.repository.BookmarkRepository;
+import com.ott.core.modules.engagement.dto.EngagementStatus;
+import com.ott.core.modules.interaction.repository.InteractionRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * 사용자별 반응(좋아요/싫어요/왕따봉)·북마크 상태 일괄 조회 (피드 카드 표시용)
+ * - user:engagement:{userId}  HASH  i:{videoId} → 반응 타입 ("-" = 없음), b:{videoId} → 1/0
+ * - 조회: HMGET 1회 → 미적중 영상만 DB IN 조회 후 HSETNX로 채움 (동시에 반영된 최신 상태를 덮어쓰지 않음)
+ * - 변경: 트랜잭션 커밋 후 HSET (롤백된 상태가 캐시에 남지 않음)
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class EngagementStatusService {
+
+    private static final String KEY_PREFIX = "user:engagement:";
+    private static final String INTERACTION_FIELD = "i:";
+    private static final String BOOKMARK_FIELD = "b:";
+    private static final String NONE = "-";
+
+    private final StringRedisTemplate stringRedisTemplate;
+    private final InteractionRepository interactionRepository;
+    private final BookmarkRepository bookmarkRepository;
+
+    // 마지막 조회/변경 후 이 시간이 지나면 사용자 해시 전체 만료
+    @Value("${app.engagement.cache-ttl-seconds:86400}")
+    private long cacheTtlSeconds;
+
+    /**
+     * @return videoId → 상태 (요청 순서 유지, 모든 videoId 포함)
+     */
+    @Transactional(readOnly = true)
+    public Map<Long, EngagementStatus> getStatuses(Long userId, Collection<Long> videoIds) {
+        Map<Long, EngagementStatus> result = new LinkedHashMap<>();
+        if (videoIds.isEmpty()) {
+            return result;
+        }
+        if (userId == null) {
+            videoIds.forEach(videoId -> result.put(videoId, EngagementStatus.NONE));
+            return result;
+        }
+
+        List<Long> ids = videoIds.stream().distinct().toList();
+        String key = KEY_PREFIX + userId;
+
+        // 1. Redis 일괄 조회
+        List<Object> fields = new ArrayList<>(ids.size() * 2);
+        for (Long videoId : ids) {
+            fields.add(INTERACTION_FIELD + videoId);
+            fields.add(BOOKMARK_FIELD + videoId);
+        }
+        List<Object> cached = stringRedisTemplate.opsForHash().multiGet(key, fields);
+
+        Map<Long, String> interactions = new HashMap<>();
+        Map<Long, String> bookmarks = new HashMap<>();
+        List<Long> interactionMisses = new ArrayList<>();
+        List<Long> bookmarkMisses = new ArrayList<>();
+        for (int i = 0; i < ids.size(); i++) {
+            Long videoId = ids.get(i);
+            Object interaction = cached.get(i * 2);
+            Object bookmark = cached.get(i * 2 + 1);
+            if (interaction != null) {
+                interactions.put(videoId, String.valueOf(interaction));
+            } else {
+                interactionMisses.add(videoId);
+            }
+            if (bookmark != null) {
+                bookmarks.put(videoId, String.valueOf(bookmark));
+            } else {
+                bookmarkMisses.add(videoId);
+            }
+        }
+
+        // 2. 미적중분만 DB 일괄 조회 후 채움
+        Map<String, String> fills = new LinkedHashMap<>();
+        if (!interactionMisses.isEmpty()) {
+            Map<Long, String> loaded = new HashMap<>();
+            interactionMisses.forEach(videoId -> loaded.put(videoId, NONE));
+            for (Object[] row : interactionRepository.findTypesByUserIdAndVideoIdIn(userId, interactionMisses)) {
+                loaded.put((Long) row[0], ((InteractionType) row[1]).name());
+            }
+            interactions.putAll(loaded);
+            loaded.forEach((videoId, value) -> fills.put(INTERACTION_FIELD + videoId, value));
+        }
+        if (!bookmarkMisses.isEmpty()) {
+            Set<Long> bookmarked = new HashSet<>(bookmarkRepository.findVideoIdsByUserIdAndVideoIdIn(userId, bookmarkMisses));
+            for (Long videoId : bookmarkMisses) {
+                String value = bookmarked.contains(videoId) ? "1" : "0";
+                bookmarks.put(videoId, value);
+                fills.put(BOOKMARK_FIELD + videoId, value);
+            }
+        }
+        if (!fills.isEmpty()) {
+            fill(key, fills);
+        }
+
+        for (Long videoId : videoIds) {
+            String interaction = interactions.get(videoId);
+            result.put(videoId, new EngagementStatus(
+                    interaction == null || NONE.equals(interaction) ? null : InteractionType.valueOf(interaction),
+                    "1".equals(bookmarks.get(videoId))));
+        }
+        return result;
+    }
+
+    public EngagementStatus getStatus(Long userId, Long videoId) {
+        return getStatuses(userId, List.of(videoId)).get(videoId);
+    }
+
+    /**
+     * 반응 변경 반영 (취소 시 type = null)
+     */
+    public void recordInteraction(Long userId, Long videoId, InteractionType type) {
+        afterCommit(userId, INTERACTION_FIELD + videoId, type != null ? type.name() : NONE);
+    }
+
+    public void recordBookmark(Long userId, Long videoId, boolean bookmarked) {
+        afterCommit(userId, BOOKMARK_FIELD + videoId, bookmarked ? "1" : "0");
+    }
+
+    private void afterCommit(Long userId, String field, String value) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            write(userId, field, value);
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                write(userId, field, value);
+            }
+        });
+    }
+
+    private void write(Long userId, String field, String value) {
+        String key = KEY_PREFIX + userId;
+        try {
+            stringRedisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+                connection.hashCommands().hSet(bytes(key), bytes(field), bytes(value));
+                connection.keyCommands().expire(bytes(key), cacheTtlSeconds);
+                return null;
+            });
+        } catch (Exception e) {
+            // 갱신 실패 시 이전 상태가 남지 않도록 필드 제거 (다음 조회에서 DB로 다시 채움)
+            log.warn("[Engagement] 상태 캐시 갱신 실패 - userId: {}, field: {}, 원인: {}", userId, field, e.getMessage());
+            stringRedisTemplate.opsForHash().delete(key, field);
+        }
+    }
+
+    private void fill(String key, Map<String, String> fills) {
+        stringRedisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+            byte[] rawKey = bytes(key);
+            fills.forEach((field, value) -> connection.hashCommands().hSetNX(rawKey, bytes(field), bytes(value)));
+            connection.keyCommands().expire(rawKey, cacheTtlSeconds);
+            return null;
+        });
+    }
+
+    private static byte[] bytes(String value) {
+        return value.getBytes(StandardCharsets.UTF_8);
+    }
+}
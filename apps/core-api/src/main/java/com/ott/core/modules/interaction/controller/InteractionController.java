@@ -2,9 +2,9 @@ package com.ott.core.modules.interaction.controller;
 
 import com.ott.common.persistence.enums.InteractionType;
 import com.ott.common.response.ApiResponse;
+import com.ott.core.modules.counter.service.VideoCounterWarmUpService;
 import com.ott.core.modules.interaction.dto.InteractionStatusResponseDto;
 import com.ott.core.modules.interaction.service.InteractionService;
-import com.ott.core.modules.interaction.service.InteractionSyncService;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import lombok.RequiredArgsConstructor;
@@ -18,7 +18,7 @@ import org.springframework.web.bind.annotation.*;
 public class InteractionController {
 
     private final InteractionService interactionService;
-    private final InteractionSyncService interactionSyncService;
+    private final VideoCounterWarmUpService videoCounterWarmUpService;
 
     // 좋아요
     @Operation(summary = "좋아요 누르기", description = "해당 영상에 좋아요를 표시합니다.")
@@ -67,7 +67,7 @@ public class InteractionController {
     @Operation(summary = "[관리자] 인터랙션 캐시 웜업", description = "DB의 모든 좋아요/싫어요 데이터를 Redis에 강제 동기화(복구)합니다.")
     @PostMapping("/admin/warmup")
     public ApiResponse<String> warmUpInteractions() {
-        interactionSyncService.warmUpInteractionFromDB();
+        videoCounterWarmUpService.warmUpInteractions();
         return ApiResponse.success("✅ 인터랙션(좋아요/싫어요/조회수) Redis 캐시 복구가 완료되었습니다.");
     }
 }
\ No newline at end of file
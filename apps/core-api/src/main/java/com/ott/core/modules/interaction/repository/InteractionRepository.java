@@ -26,6 +26,13 @@ public interface InteractionRepository extends JpaRepository<Interaction, Long>
             "WHERE vm.videoId = :videoId AND i.interactionType = :type")
     long countByVideoIdAndType(@Param("videoId") Long videoId, @Param("type") InteractionType type);
 
-    @Query("SELECT i.videoMetadata.videoId, i.interactionType, COUNT(i) FROM Interaction i GROUP BY i.videoMetadata.videoId, i.interactionType")
-    List<Object[]> countTotalInteractionsGroupedByVideoAndType();
-}
\ No newline at end of file
+    // 여러 영상에 대한 사용자의 반응 일괄 조회 (피드 카드 상태 표시용, 반응이 없는 영상은 결과에 없음)
+    @Query("SELECT vm.videoId, i.interactionType FROM Interaction i JOIN i.videoMetadata vm " +
+            "WHERE i.user.id = :userId AND vm.videoId IN :videoIds")
+    List<Object[]> findTypesByUserIdAndVideoIdIn(@Param("userId") Long userId, @Param("videoIds") List<Long> videoIds);
+
+    // 여러 비디오의 타입별 반응 총개수 계산 (카운터 동기화 시 보정용, 반응이 없는 (비디오, 타입)은 결과에 없음)
+    @Query("SELECT vm.videoId, i.interactionType, COUNT(i) FROM Interaction i JOIN i.videoMetadata vm " +
+            "WHERE vm.videoId IN :videoIds GROUP BY vm.videoId, i.interactionType")
+    List<Object[]> countGroupedByVideoIdAndTypeIn(@Param("videoIds") List<Long> videoIds);
+}
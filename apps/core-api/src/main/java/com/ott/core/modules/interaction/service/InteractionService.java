@@ -4,6 +4,9 @@ import com.ott.common.error.BusinessException;
 import com.ott.common.error.ErrorCode;
 import com.ott.common.persistence.entity.*;
 import com.ott.common.persistence.enums.InteractionType;
+import com.ott.core.modules.counter.dto.VideoCounterField;
+import com.ott.core.modules.counter.service.VideoCounterService;
+import com.ott.core.modules.engagement.service.EngagementStatusService;
 import com.ott.core.modules.interaction.repository.InteractionRepository;
 import com.ott.core.modules.preference.event.InteractionEvent;
 import com.ott.core.modules.user.repository.UserRepository;
@@ -12,10 +15,13 @@ import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.dao.DataIntegrityViolationException;
-import org.springframework.data.redis.core.StringRedisTemplate;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
 
+import java.util.EnumMap;
+import java.util.Map;
 import java.util.Optional;
 @Slf4j
 @Service
@@ -27,7 +33,8 @@ public class InteractionService {
     private final UserRepository userRepository;
     private final VideoMetadataRepository videoMetadataRepository;
     private final ApplicationEventPublisher eventPublisher;
-    private final StringRedisTemplate stringRedisTemplate;
+    private final VideoCounterService videoCounterService;
+    private final EngagementStatusService engagementStatusService;
 
     public void interact(Long userId, Long videoId, InteractionType newType) {
         User user = userRepository.findById(userId)
@@ -36,8 +43,6 @@ public class InteractionService {
         VideoMetadata metadata = videoMetadataRepository.findByVideoId(videoId)
                 .orElseThrow(() -> new BusinessException(ErrorCode.VIDEO_NOT_FOUND));
 
-        Long metadataId = metadata.getId();
-
         Optional<Interaction> existingInteraction = interactionRepository.findByUserAndVideoMetadata(user, metadata);
 
         try {
@@ -49,28 +54,30 @@ public class InteractionService {
                     // 같은 버튼 또 누름 -> 취소
                     interactionRepository.delete(interaction);
                     interactionRepository.flush(); // 따닥 방어
-                    updateRedis(videoId, oldType, -1);
+                    updateCounters(videoId, oldType, null);
+                    engagementStatusService.recordInteraction(userId, videoId, null);
                     // [이벤트 발행] 취소되었으므로 newType은 null로 보냄
-                    eventPublisher.publishEvent(new InteractionEvent(userId, metadataId, oldType, null));
+                    eventPublisher.publishEvent(new InteractionEvent(userId, videoId, oldType, null));
                 } else {
                     // 변경
                     interaction.changeType(newType);
                     interactionRepository.save(interaction);
                     interactionRepository.flush(); // 따닥 방어
 
-                    updateRedis(videoId, oldType, -1); // 기존 카운트 감소
-                    updateRedis(videoId, newType,1);  // 새 카운트 증가
+                    updateCounters(videoId, oldType, newType); // 기존 카운트 감소 + 새 카운트 증가
+                    engagementStatusService.recordInteraction(userId, videoId, newType);
                     // [이벤트 발행] 변경 전/후 타입 모두 보냄
-                    eventPublisher.publishEvent(new InteractionEvent(userId, metadataId, oldType, newType));
+                    eventPublisher.publishEvent(new InteractionEvent(userId, videoId, oldType, newType));
                 }
             } else {
                 // 생성
                 Interaction newInteraction = new Interaction(user, metadata, newType);
                 interactionRepository.save(newInteraction);
                 interactionRepository.flush(); // 따닥 방어
-                updateRedis(videoId, newType,1);
+                updateCounters(videoId, null, newType);
+                engagementStatusService.recordInteraction(userId, videoId, newType);
                 // [이벤트 발행] 새로 생성되었으므로 oldType은 null로 보냄
-                eventPublisher.publishEvent(new InteractionEvent(userId, metadataId, null, newType));
+                eventPublisher.publishEvent(new InteractionEvent(userId, videoId, null, newType));
             }
         } catch(DataIntegrityViolationException e){
             // [동시성 제어] DB 유니크 제약 조건 위반 시 Redis 카운트 꼬임 방지
@@ -80,34 +87,34 @@ public class InteractionService {
     }
 
 
-    // 조회
+    // 조회 (사용자별 상태 캐시 우선, 미적중 시 DB)
     @Transactional(readOnly = true)
     public Optional<InteractionType> getInteractionStatus (Long userId, Long videoId){
-        return interactionRepository.findByUserIdAndVideoId(userId, videoId)
-                .map(Interaction::getInteractionType);
+        return Optional.ofNullable(engagementStatusService.getStatus(userId, videoId).interactionType());
     }
 
     /**
-     * Redis 카운트, 랭킹, 그리고 스케줄러 동기화 큐(Dirty Set) 업데이트
+     * 영상 카운터 엔진에 반응 카운트 증감 반영 (dirty 등록 포함, 10분 주기로 VideoMetadata에 반영)
+     * 타입 변경 시 감소/증가를 하나의 스크립트로 원자적으로 처리
+     * 동기화가 커밋 전 DB 값으로 덮어쓰거나 롤백된 반응이 남지 않도록 커밋 후 반영 (댓글/북마크와 동일)
      */
-    private void updateRedis(Long videoId, InteractionType type, long delta) {
-        String videoIdStr = String.valueOf(videoId);
-        String typeLower = type.name().toLowerCase(); // like, dislike, superlike
-
-        String countKey = "video:count:" + typeLower;
-        String dirtyKey = "video:dirty:" + typeLower;
-
-        // 1. [Cache Miss 처리] Redis에 값이 없는 경우
-        if (Boolean.FALSE.equals(stringRedisTemplate.opsForHash().hasKey(countKey, videoIdStr))) {
-            // 앞선 로직에서 이미 DB flush()가 일어났으므로, DB 값 자체가 최신값
-            long exactCount = interactionRepository.countByVideoIdAndType(videoId, type);
-            stringRedisTemplate.opsForHash().put(countKey, videoIdStr, String.valueOf(exactCount));
-            // 캐시 미스 시에는 이미 정확한 값을 세팅했으므로 increment를 건너뜀
-        } else {
-            // 2. [Cache Hit 처리] 캐시에 값이 있는 경우에만 delta 증감 연산 수행
-            stringRedisTemplate.opsForHash().increment(countKey, videoIdStr, delta);
+    private void updateCounters(Long videoId, InteractionType oldType, InteractionType newType) {
+        Map<VideoCounterField, Long> deltas = new EnumMap<>(VideoCounterField.class);
+        if (oldType != null) {
+            deltas.merge(VideoCounterField.from(oldType), -1L, Long::sum);
         }
-        // 3. 10분 뒤 VideoMetadata에 반영하기 위해 스케줄러 대기열(Set)에 추가
-        stringRedisTemplate.opsForSet().add(dirtyKey, videoIdStr);
+        if (newType != null) {
+            deltas.merge(VideoCounterField.from(newType), 1L, Long::sum);
+        }
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            videoCounterService.apply(videoId, deltas);
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                videoCounterService.apply(videoId, deltas);
+            }
+        });
     }
-}
\ No newline at end of file
+}
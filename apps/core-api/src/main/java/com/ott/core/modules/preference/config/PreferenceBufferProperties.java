@@ -0,0 +1,24 @@
+package com.ott.core.modules.preference.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+@Getter
+@Setter
+@Component
+@ConfigurationProperties(prefix = "app.preference.buffer")
+public class PreferenceBufferProperties {
+
+    /**
+     * 한 번의 multi-row upsert로 내보낼 최대 (사용자, 태그) 수
+     * 버퍼에 쌓인 (사용자, 영상) 항목이 이 값에 도달하면 주기를 기다리지 않고 즉시 flush 합니다.
+     */
+    private int batchSize = 500;
+
+    /**
+     * 주기적 flush 간격 (밀리초). 이 시간 안에 같은 사용자에게 들어온 점수 변경은 하나로 합쳐서 반영
+     */
+    private long flushIntervalMs = 1000L;
+}
@@ -0,0 +1,37 @@
+package com.ott.core.modules.preference.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+@Getter
+@Setter
+@Component
+@ConfigurationProperties(prefix = "app.preference.decay")
+public class PreferenceDecayProperties {
+
+    /**
+     * 취향 점수 반감기 (일). 0이면 감쇠 없이 누적 (batch-analytics의 같은 설정과 맞춰야 함)
+     */
+    private double halfLifeDays = 0;
+
+    /**
+     * 기준 시각 이후 이 반감기 수만큼 지나면 Redis 점수를 현재 기준으로 다시 맞춤 (가중치가 2^n을 넘지 않도록)
+     */
+    private double rescaleAfterHalfLives = 8;
+
+    /**
+     * 사용자별 Redis에 유지하는 최대 태그 수 (하위 태그는 DB에만 남음)
+     */
+    private int maxTags = 50;
+
+    /**
+     * 마지막 변경 후 Redis 키 유지 기간 (일). 만료되면 다음 조회 시 DB에서 복구
+     */
+    private int redisTtlDays = 30;
+
+    public long halfLifeMillis() {
+        return (long) (halfLifeDays * 24 * 60 * 60 * 1000);
+    }
+}
@@ -0,0 +1,9 @@
+package com.ott.core.modules.preference.dto;
+
+public record PreferenceScoreIncrement(
+        Long userId,
+        Long tagId,
+        String tagName,
+        double score
+) {
+}
@@ -0,0 +1,12 @@
+package com.ott.core.modules.preference.event;
+
+import java.util.Map;
+
+/**
+ * 취향 점수 일괄 반영 후 발행
+ * @param changeByUserId 사용자별 이번 반영분의 점수 변화량 절댓값 합
+ */
+public record PreferenceScoresChangedEvent(
+        Map<Long, Double> changeByUserId
+) {
+}
@@ -0,0 +1,67 @@
+package com.ott.core.modules.preference.repository;
+
+import com.ott.common.util.IdGenerator;
+import com.ott.core.modules.preference.config.PreferenceDecayProperties;
+import com.ott.core.modules.preference.dto.PreferenceScoreIncrement;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.List;
+
+@Repository
+@RequiredArgsConstructor
+public class UserPreferenceBatchRepository {
+
+    private final JdbcTemplate jdbcTemplate;
+    private final PreferenceDecayProperties decayProperties;
+
+    /**
+     * (user_id, tag_id) 단위 점수를 하나의 INSERT ... ON CONFLICT 문으로 누적
+     * 같은 (user_id, tag_id)가 한 문장에 두 번 나오면 안 되므로 호출부에서 합산 후 전달
+     * 감쇠 모드에서는 기존 점수를 마지막 변경(updated_at) 이후 경과 시간만큼 감쇠시킨 뒤 더함
+     * → 저장된 score는 항상 updated_at 시점 값
+     */
+    public int addAll(List<PreferenceScoreIncrement> increments) {
+        if (increments.isEmpty()) {
+            return 0;
+        }
+
+        OffsetDateTime now = OffsetDateTime.now(ZoneOffset.UTC);
+        StringBuilder sql = new StringBuilder("""
+                INSERT INTO user_preference (user_preference_id, user_id, tag_id, score, created_at, updated_at)
+                VALUES
+                """);
+        List<Object> params = new ArrayList<>(increments.size() * 6);
+
+        for (int i = 0; i < increments.size(); i++) {
+            PreferenceScoreIncrement increment = increments.get(i);
+            sql.append(i == 0 ? "" : ",\n").append("(?, ?, ?, ?, ?, ?)");
+            params.add(IdGenerator.generate());
+            params.add(increment.userId());
+            params.add(increment.tagId());
+            params.add(increment.score());
+            params.add(now);
+            params.add(now);
+        }
+
+        double halfLifeSeconds = decayProperties.halfLifeMillis() / 1000.0;
+        String decayed = halfLifeSeconds > 0
+                ? "user_preference.score * power(2, -GREATEST(EXTRACT(EPOCH FROM (EXCLUDED.updated_at - user_preference.updated_at)), 0) / "
+                        + halfLifeSeconds + ")"
+                : "user_preference.score";
+
+        sql.append("""
+
+                ON CONFLICT (user_id, tag_id)
+                DO UPDATE SET
+                    score = %s + EXCLUDED.score,
+                    updated_at = EXCLUDED.updated_at
+                """.formatted(decayed));
+
+        return jdbcTemplate.update(sql.toString(), params.toArray());
+    }
+}
@@ -0,0 +1,232 @@
+package com.ott.core.modules.preference.service;
+
+import com.ott.core.modules.preference.config.PreferenceBufferProperties;
+import com.ott.core.modules.preference.dto.PreferenceScoreIncrement;
+import com.ott.core.modules.preference.event.PreferenceScoresChangedEvent;
+import com.ott.core.modules.preference.repository.UserPreferenceBatchRepository;
+import com.ott.core.modules.tag.repository.VideoTagRepository;
+import com.ott.core.modules.tag.service.TagTreeSnapshotHolder;
+import com.ott.core.modules.tag.snapshot.TagNode;
+import com.ott.core.modules.tag.snapshot.TagTreeSnapshot;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * 취향 점수 변경 버퍼
+ * - 같은 (userId, videoId)의 점수 변경은 메모리에서 합산 (짧은 시간 안의 연속 반응/시청 종료가 한 번의 쓰기로)
+ * - flush 시 영상 태그를 한 번에 조회 → (userId, tagId) 단위로 합산 → multi-row upsert 1회 + 파이프라인 (사용자별 스크립트) 1회
+ * - 종료 시 남은 항목을 모두 flush 하고, 이후 들어오는 변경은 즉시 반영
+ */
+@Slf4j
+@Component
+public class PreferenceScoreBuffer {
+
+    private final UserPreferenceBatchRepository userPreferenceBatchRepository;
+    private final VideoTagRepository videoTagRepository;
+    private final TagTreeSnapshotHolder tagTreeSnapshotHolder;
+    private final PreferenceScoreStore preferenceScoreStore;
+    private final PreferenceBufferProperties properties;
+    private final Executor watchHistoryTaskExecutor;
+    private final ApplicationEventPublisher eventPublisher;
+
+    private final Map<BufferKey, Double> pending = new ConcurrentHashMap<>();
+    private final AtomicBoolean flushRequested = new AtomicBoolean(false);
+    private volatile boolean shutdown = false;
+
+    private final Timer flushTimer;
+    private final Counter flushFailureCounter;
+
+    public PreferenceScoreBuffer(UserPreferenceBatchRepository userPreferenceBatchRepository,
+                                 VideoTagRepository videoTagRepository,
+                                 TagTreeSnapshotHolder tagTreeSnapshotHolder,
+                                 PreferenceScoreStore preferenceScoreStore,
+                                 PreferenceBufferProperties properties,
+                                 @Qualifier("watchHistoryTaskExecutor") Executor watchHistoryTaskExecutor,
+                                 ApplicationEventPublisher eventPublisher,
+                                 MeterRegistry meterRegistry) {
+        this.userPreferenceBatchRepository = userPreferenceBatchRepository;
+        this.videoTagRepository = videoTagRepository;
+        this.tagTreeSnapshotHolder = tagTreeSnapshotHolder;
+        this.preferenceScoreStore = preferenceScoreStore;
+        this.properties = properties;
+        this.watchHistoryTaskExecutor = watchHistoryTaskExecutor;
+        this.eventPublisher = eventPublisher;
+
+        Gauge.builder("preference.buffer.depth", pending, Map::size)
+                .description("반영 대기 중인 (사용자, 영상) 점수 변경 수")
+                .register(meterRegistry);
+        this.flushTimer = Timer.builder("preference.buffer.flush.latency")
+                .description("취향 점수 일괄 반영 소요 시간")
+                .register(meterRegistry);
+        this.flushFailureCounter = Counter.builder("preference.buffer.flush.failures")
+                .register(meterRegistry);
+    }
+
+    /**
+     * 점수 변경을 버퍼에 적재
+     */
+    public void add(Long userId, Long videoId, double score) {
+        if (shutdown) {
+            // 종료 중에는 버퍼를 거치지 않고 바로 반영
+            write(Map.of(new BufferKey(userId, videoId), score));
+            return;
+        }
+
+        pending.merge(new BufferKey(userId, videoId), score, Double::sum);
+
+        if (pending.size() >= properties.getBatchSize()) {
+            requestFlush();
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${app.preference.buffer.flush-interval-ms:1000}")
+    public void scheduledFlush() {
+        flush();
+    }
+
+    @PreDestroy
+    public void drain() {
+        shutdown = true;
+        flush();
+        log.info("[PreferenceBuffer] 종료 전 버퍼 flush 완료 - 잔여: {}", pending.size());
+    }
+
+    /**
+     * 크기 기준 flush는 한 번에 하나만 executor에 제출
+     */
+    private void requestFlush() {
+        if (!flushRequested.compareAndSet(false, true)) {
+            return;
+        }
+        try {
+            watchHistoryTaskExecutor.execute(() -> {
+                try {
+                    flush();
+                } finally {
+                    flushRequested.set(false);
+                }
+            });
+        } catch (RejectedExecutionException e) {
+            flushRequested.set(false);
+            log.warn("[PreferenceBuffer] flush 작업 제출 거부 - 다음 주기에 반영: {}", e.getMessage());
+        }
+    }
+
+    synchronized void flush() {
+        if (pending.isEmpty()) {
+            return;
+        }
+
+        int batchSize = Math.max(1, properties.getBatchSize());
+        Map<BufferKey, Double> batch = new LinkedHashMap<>();
+        for (BufferKey key : new ArrayList<>(pending.keySet())) {
+            Double score = pending.remove(key);
+            if (score == null || score == 0.0) {
+                continue;
+            }
+            batch.put(key, score);
+            if (batch.size() >= batchSize) {
+                writeOrRequeue(batch);
+                batch = new LinkedHashMap<>();
+            }
+        }
+        writeOrRequeue(batch);
+    }
+
+    private void writeOrRequeue(Map<BufferKey, Double> batch) {
+        if (batch.isEmpty()) {
+            return;
+        }
+        try {
+            flushTimer.record(() -> write(batch));
+        } catch (Exception e) {
+            flushFailureCounter.increment();
+            log.error("[PreferenceBuffer] {}건 반영 실패 - 버퍼에 재적재", batch.size(), e);
+            batch.forEach((key, score) -> pending.merge(key, score, Double::sum));
+        }
+    }
+
+    private void write(Map<BufferKey, Double> batch) {
+        // 1. 영상 태그 ID 일괄 조회 → 태그 이름은 태그 트리 스냅샷에서 조회
+        List<Long> videoIds = batch.keySet().stream().map(BufferKey::videoId).distinct().toList();
+        List<Object[]> rows = videoTagRepository.findTagIdRowsByVideoIdIn(videoIds);
+        TagTreeSnapshot current = tagTreeSnapshotHolder.current();
+        TagTreeSnapshot tagTree = current;
+        if (rows.stream().anyMatch(row -> !current.contains((Long) row[1]))) {
+            // 스냅샷 이후 추가된 태그 → 한 번 다시 적재
+            tagTree = tagTreeSnapshotHolder.refresh();
+        }
+
+        Map<Long, List<TagNode>> tagsByVideoId = new HashMap<>();
+        for (Object[] row : rows) {
+            TagNode tag = tagTree.find((Long) row[1]);
+            if (tag != null) {
+                tagsByVideoId.computeIfAbsent((Long) row[0], k -> new ArrayList<>()).add(tag);
+            }
+        }
+
+        // 2. (userId, tagId) 단위 합산
+        Map<TagKey, PreferenceScoreIncrement> rollup = new HashMap<>();
+        batch.forEach((key, score) -> {
+            for (TagNode tag : tagsByVideoId.getOrDefault(key.videoId(), List.of())) {
+                rollup.merge(new TagKey(key.userId(), tag.id()),
+                        new PreferenceScoreIncrement(key.userId(), tag.id(), tag.tagName(), score),
+                        (a, b) -> new PreferenceScoreIncrement(a.userId(), a.tagId(), a.tagName(), a.score() + b.score()));
+            }
+        });
+        if (rollup.isEmpty()) {
+            return;
+        }
+
+        // 여러 인스턴스의 동시 upsert 시 잠금 순서를 맞추기 위해 정렬
+        List<PreferenceScoreIncrement> increments = rollup.values().stream()
+                .sorted(Comparator.comparing(PreferenceScoreIncrement::userId)
+                        .thenComparing(PreferenceScoreIncrement::tagId))
+                .toList();
+
+        // 3. [RDBMS] 영구 저장용 multi-row upsert
+        userPreferenceBatchRepository.addAll(increments);
+
+        // 4. [Redis] 실시간 태그 랭킹 (감쇠 가중치 적용 + 상위 태그만 유지)
+        try {
+            preferenceScoreStore.increment(increments);
+        } catch (Exception e) {
+            // DB에는 반영됨 → 재적재하면 중복 누적되므로 로그만 남김 (캐시 미스 시 DB 기준으로 복구)
+            log.warn("[PreferenceBuffer] Redis 취향 점수 반영 실패 - {}건: {}", increments.size(), e.getMessage());
+        }
+        // 5. 취향 변화량 알림 (피드 후보 목록 폐기 판단용) - 실패해도 점수 반영은 이미 끝남
+        try {
+            Map<Long, Double> changeByUserId = new HashMap<>();
+            batch.forEach((key, score) -> changeByUserId.merge(key.userId(), Math.abs(score), Double::sum));
+            eventPublisher.publishEvent(new PreferenceScoresChangedEvent(changeByUserId));
+        } catch (Exception e) {
+            log.warn("[PreferenceBuffer] 취향 변화 알림 처리 실패: {}", e.getMessage());
+        }
+        log.debug("[PreferenceBuffer] 점수 반영 완료 - 영상 변경: {}건, (사용자, 태그): {}건", batch.size(), increments.size());
+    }
+
+    private record BufferKey(Long userId, Long videoId) {
+    }
+
+    private record TagKey(Long userId, Long tagId) {
+    }
+}
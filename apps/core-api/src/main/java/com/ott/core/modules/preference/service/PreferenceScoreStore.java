@@ -0,0 +1,195 @@
+package com.ott.core.modules.preference.service;
+
+import com.ott.core.modules.preference.config.PreferenceDecayProperties;
+import com.ott.core.modules.preference.dto.PreferenceScoreIncrement;
+import com.ott.core.modules.preference.dto.TagScoreDto;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.redis.connection.ReturnType;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.ZSetOperations;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * 사용자 취향 점수 Redis 저장소
+ * - user:{userId}:preference        ZSET   태그 → 점수
+ * - user:{userId}:preference:epoch  STRING 감쇠 기준 시각 (millis, 감쇠 모드에서만)
+ * 감쇠 모드에서는 점수를 기준 시각 시점 값으로 저장 (Forward Decay): 더할 때 2^((now - epoch) / 반감기)를 곱하고,
+ * 읽을 때 2^(-(now - epoch) / 반감기)를 한 번 곱하면 현재 값. 순위는 기준 시각과 무관하므로 재계산이 필요 없음
+ */
+@Component
+@RequiredArgsConstructor
+public class PreferenceScoreStore {
+
+    private static final String EPOCH_SUFFIX = ":epoch";
+
+    /**
+     * KEYS[1] = 점수 ZSET, KEYS[2] = 기준 시각
+     * ARGV[1] = now, ARGV[2] = 반감기(ms, 0 = 감쇠 없음), ARGV[3] = 재조정 기준 반감기 수, ARGV[4] = 최대 태그 수,
+     * ARGV[5] = TTL(초), 이후 (태그, 점수 증감) 반복
+     */
+    private static final byte[] INCREMENT_SCRIPT = """
+            local now = tonumber(ARGV[1])
+            local halfLife = tonumber(ARGV[2])
+            local weight = 1
+            if halfLife > 0 then
+                local epoch = tonumber(redis.call('GET', KEYS[2]) or 0) or 0
+                if epoch == 0 then
+                    epoch = now
+                    redis.call('SET', KEYS[2], epoch)
+                end
+                local age = (now - epoch) / halfLife
+                if age > tonumber(ARGV[3]) then
+                    -- 가중치가 너무 커지기 전에 기존 점수를 현재 기준으로 축소하고 기준 시각을 옮김
+                    redis.call('ZUNIONSTORE', KEYS[1], 1, KEYS[1], 'WEIGHTS', 2 ^ (-age))
+                    redis.call('SET', KEYS[2], now)
+                    age = 0
+                end
+                weight = 2 ^ age
+            end
+            for i = 6, #ARGV, 2 do
+                redis.call('ZINCRBY', KEYS[1], tonumber(ARGV[i + 1]) * weight, ARGV[i])
+            end
+            local maxTags = tonumber(ARGV[4])
+            local card = redis.call('ZCARD', KEYS[1])
+            if maxTags > 0 and card > maxTags then
+                -- 싫어요(음수) 점수도 신호이므로 0에 가장 가까운(절댓값이 작은) 태그부터 제거
+                -- 제거 대상은 음수/양수 경계를 둘러싼 연속 구간이므로 경계 양옆 excess개씩만 읽어 고름
+                local excess = card - maxTags
+                local negatives = redis.call('ZCOUNT', KEYS[1], '-inf', '(0')
+                local from = math.max(0, negatives - excess)
+                local window = redis.call('ZRANGE', KEYS[1], from, math.min(card - 1, negatives + excess - 1), 'WITHSCORES')
+                local lo = negatives - from
+                local hi = lo
+                for _ = 1, excess do
+                    local left = lo > 0 and math.abs(tonumber(window[lo * 2])) or math.huge
+                    local right = hi < #window / 2 and math.abs(tonumber(window[hi * 2 + 2])) or math.huge
+                    if left <= right then lo = lo - 1 else hi = hi + 1 end
+                end
+                redis.call('ZREMRANGEBYRANK', KEYS[1], from + lo, from + hi - 1)
+            end
+            redis.call('EXPIRE', KEYS[1], ARGV[5])
+            if halfLife > 0 then
+                redis.call('EXPIRE', KEYS[2], ARGV[5])
+            end
+            return card
+            """.getBytes(StandardCharsets.UTF_8);
+
+    private final StringRedisTemplate stringRedisTemplate;
+    private final PreferenceDecayProperties properties;
+
+    public static String preferenceKey(Long userId) {
+        return "user:" + userId + ":preference";
+    }
+
+    /**
+     * 사용자별로 스크립트 1회씩, 전체를 하나의 파이프라인으로 반영
+     */
+    public void increment(Collection<PreferenceScoreIncrement> increments) {
+        Map<Long, List<PreferenceScoreIncrement>> byUser = new LinkedHashMap<>();
+        increments.forEach(increment -> byUser.computeIfAbsent(increment.userId(), k -> new ArrayList<>()).add(increment));
+
+        String now = String.valueOf(System.currentTimeMillis());
+        String halfLife = String.valueOf(properties.halfLifeMillis());
+        String rescaleAfter = String.valueOf(properties.getRescaleAfterHalfLives());
+        String maxTags = String.valueOf(properties.getMaxTags());
+        String ttl = String.valueOf(ttlSeconds());
+
+        stringRedisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+            byUser.forEach((userId, userIncrements) -> {
+                List<byte[]> keysAndArgs = new ArrayList<>(7 + userIncrements.size() * 2);
+                keysAndArgs.add(bytes(preferenceKey(userId)));
+                keysAndArgs.add(bytes(preferenceKey(userId) + EPOCH_SUFFIX));
+                keysAndArgs.add(bytes(now));
+                keysAndArgs.add(bytes(halfLife));
+                keysAndArgs.add(bytes(rescaleAfter));
+                keysAndArgs.add(bytes(maxTags));
+                keysAndArgs.add(bytes(ttl));
+                for (PreferenceScoreIncrement increment : userIncrements) {
+                    keysAndArgs.add(bytes(increment.tagName()));
+                    keysAndArgs.add(bytes(String.valueOf(increment.score())));
+                }
+                connection.scriptingCommands().eval(INCREMENT_SCRIPT, ReturnType.INTEGER, 2,
+                        keysAndArgs.toArray(byte[][]::new));
+            });
+            return null;
+        });
+    }
+
+    /**
+     * 상위 태그와 현재 시점 점수 (키가 없으면 빈 목록)
+     */
+    public List<TagScoreDto> getTop(Long userId, int limit) {
+        String key = preferenceKey(userId);
+        List<Object> results = stringRedisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+            connection.zSetCommands().zRevRangeWithScores(bytes(key), 0, limit - 1);
+            connection.stringCommands().get(bytes(key + EPOCH_SUFFIX));
+            return null;
+        });
+
+        @SuppressWarnings("unchecked")
+        Set<ZSetOperations.TypedTuple<String>> tuples = (Set<ZSetOperations.TypedTuple<String>>) results.get(0);
+        if (tuples == null || tuples.isEmpty()) {
+            return List.of();
+        }
+
+        double factor = 1.0;
+        long halfLifeMillis = properties.halfLifeMillis();
+        if (halfLifeMillis > 0 && results.get(1) != null) {
+            long epoch = Long.parseLong(String.valueOf(results.get(1)));
+            factor = Math.pow(2, -(double) (System.currentTimeMillis() - epoch) / halfLifeMillis);
+        }
+
+        double f = factor;
+        return tuples.stream()
+                .map(tuple -> new TagScoreDto(tuple.getValue(), tuple.getScore() * f))
+                .toList();
+    }
+
+    /**
+     * DB에서 계산한 현재 시점 점수로 캐시 복구 (기준 시각 = 지금)
+     */
+    public void restore(Long userId, List<TagScoreDto> scores) {
+        if (scores.isEmpty()) {
+            return;
+        }
+        String key = preferenceKey(userId);
+        long ttl = ttlSeconds();
+        int maxTags = properties.getMaxTags();
+        // 증감 스크립트와 같이 절댓값이 큰 순으로 남김 (싫어요 태그 유지)
+        List<TagScoreDto> kept = maxTags > 0 && scores.size() > maxTags
+                ? scores.stream().sorted(Comparator.comparingDouble((TagScoreDto score) -> Math.abs(score.score())).reversed())
+                        .limit(maxTags).toList()
+                : scores;
+
+        stringRedisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+            byte[] rawKey = bytes(key);
+            for (TagScoreDto score : kept) {
+                connection.zSetCommands().zAdd(rawKey, score.score(), bytes(score.tagName()));
+            }
+            connection.keyCommands().expire(rawKey, ttl);
+            if (properties.halfLifeMillis() > 0) {
+                connection.stringCommands().set(bytes(key + EPOCH_SUFFIX), bytes(String.valueOf(System.currentTimeMillis())));
+                connection.keyCommands().expire(bytes(key + EPOCH_SUFFIX), ttl);
+            }
+            return null;
+        });
+    }
+
+    private long ttlSeconds() {
+        return Math.max(1, properties.getRedisTtlDays()) * 24L * 60 * 60;
+    }
+
+    private static byte[] bytes(String value) {
+        return value.getBytes(StandardCharsets.UTF_8);
+    }
+}
@@ -1,26 +1,20 @@
 package com.ott.core.modules.preference.service;
 
-import com.ott.common.persistence.entity.Tag;
 import com.ott.common.persistence.entity.UserPreference;
-import com.ott.common.persistence.entity.VideoMetadata;
 import com.ott.common.persistence.enums.InteractionType;
-import com.ott.common.util.IdGenerator;
+import com.ott.core.modules.preference.config.PreferenceDecayProperties;
 import com.ott.core.modules.preference.dto.TagScoreDto;
 import com.ott.core.modules.preference.repository.UserPreferenceRepository;
-import com.ott.core.modules.tag.repository.VideoTagRepository;
-import com.ott.core.modules.video.repository.VideoMetadataRepository;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.data.redis.core.DefaultTypedTuple;
-import org.springframework.data.redis.core.StringRedisTemplate;
-import org.springframework.data.redis.core.ZSetOperations;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
-import java.time.LocalDateTime;
-import java.util.HashSet;
+import java.time.Duration;
+import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
+import java.util.Comparator;
 import java.util.List;
-import java.util.Set;
 
 
 @Slf4j
@@ -29,9 +23,9 @@ import java.util.Set;
 public class UserPreferenceService {
 
     private final UserPreferenceRepository userPreferenceRepository;
-    private final VideoTagRepository videoTagRepository;
-    private final VideoMetadataRepository videoMetadataRepository;
-    private final StringRedisTemplate stringRedisTemplate;
+    private final PreferenceScoreBuffer preferenceScoreBuffer;
+    private final PreferenceScoreStore preferenceScoreStore;
+    private final PreferenceDecayProperties decayProperties;
 
     private static final double SCORE_SUPERLIKE = 5.0; // 왕따봉
     private static final double SCORE_LIKE = 4.0;      // 좋아요
@@ -41,11 +35,9 @@ public class UserPreferenceService {
 
     /**
      * [핵심] 시청 기록 기반 취향 분석 (비동기 처리)
-     * - Redis ZSet에 점수 반영 (실시간 추천용)
-     * - DB에 점수 누적 저장 (데이터 보존용)
+     * - 점수 변경은 버퍼에 모았다가 (사용자, 태그) 단위로 합산해 일괄 반영 (PreferenceScoreBuffer)
+     * - Redis ZSet에 점수 반영 (실시간 추천용) + DB에 점수 누적 저장 (데이터 보존용)
      */
-
-    @Transactional
     public void reflectWatchScore(Long userId, Long videoId, Integer watchSeconds, boolean isCompleted) {
         double scoreToAdd = 0.0;
 
@@ -57,8 +49,8 @@ public class UserPreferenceService {
         }
 
         if (scoreToAdd > 0) {
-            updateScores(userId, videoId, scoreToAdd);
-            log.info("[Preference] 시청 점수 반영 완료 - userId: {}, videoId: {}, score: {}", userId, videoId, scoreToAdd);
+            preferenceScoreBuffer.add(userId, videoId, scoreToAdd);
+            log.info("[Preference] 시청 점수 반영 요청 - userId: {}, videoId: {}, score: {}", userId, videoId, scoreToAdd);
         }
     }
 
@@ -66,7 +58,6 @@ public class UserPreferenceService {
     /**
      * [인터랙션] 좋아요 클릭 시 점수 반영
      */
-    @Transactional
     public void reflectInteractionScore(Long userId, Long videoId, InteractionType oldType, InteractionType newType) {
 
         double oldScore = getScoreByType(oldType);
@@ -79,30 +70,8 @@ public class UserPreferenceService {
 
         // 3. 차이값이 0이 아닐 때만 Redis와 DB 업데이트 실행
         if (delta != 0.0) {
-            updateScores(userId, videoId, delta);
-            log.info("[Preference] 인터랙션 점수 차이값 반영 완료 - userId: {}, videoId: {}, delta: {}", userId, videoId, delta);
-        }
-    }
-
-    private void updateScores(Long userId, Long videoId, Double score) {
-        VideoMetadata metadata = videoMetadataRepository.findByVideoId(videoId).orElse(null);
-        if (metadata == null) {
-            log.warn("[Preference] 메타데이터를 찾을 수 없어 점수 반영 취소 - videoId: {}", videoId);
-            return;
-        }
-        // 영상의 태그 목록 조회
-        List<Tag> tags = videoTagRepository.findTagsByVideoMetadataId(metadata.getId());
-        if (tags.isEmpty()) return;
-
-        String redisKey = "user:" + userId + ":preference";
-        LocalDateTime now = LocalDateTime.now();
-
-        for (Tag tag : tags) {
-            // [RDBMS] Native Upsert 쿼리: 영구 저장용 백업
-            userPreferenceRepository.addScore(IdGenerator.generate(), userId, tag.getId(), score, now);
-
-            // [Redis] ZINCRBY: 실시간 태그 랭킹 업데이트
-            stringRedisTemplate.opsForZSet().incrementScore(redisKey, tag.getTagName(), score);
+            preferenceScoreBuffer.add(userId, videoId, delta);
+            log.info("[Preference] 인터랙션 점수 차이값 반영 요청 - userId: {}, videoId: {}, delta: {}", userId, videoId, delta);
         }
     }
 
@@ -117,19 +86,16 @@ public class UserPreferenceService {
     }
     /**
      * [조회 API] 유저의 Top N 취향 태그 가져오기 (Cache-Aside 패턴 적용)
+     * - 감쇠 모드에서는 현재 시점으로 감쇠된 점수를 반환 (Redis는 기준 시각 보정 1회, DB는 updated_at 기준 계산)
      */
     @Transactional(readOnly = true)
     public List<TagScoreDto> getTopPreferences(Long userId, int limit) {
-        String redisKey = "user:" + userId + ":preference";
-
         // 1. [Cache Hit] Redis에서 먼저 조회 (1등부터 한도(limit)까지 가져옴) 0이 1등
-        var redisResult = stringRedisTemplate.opsForZSet().reverseRangeWithScores(redisKey, 0, limit - 1);
+        List<TagScoreDto> cached = preferenceScoreStore.getTop(userId, limit);
 
-        if (redisResult != null && !redisResult.isEmpty()) {
+        if (!cached.isEmpty()) {
             log.info("[Preference Read] Redis 캐시 히트! 초고속 반환 - userId: {}", userId);
-            return redisResult.stream()
-                    .map(tuple -> new TagScoreDto(tuple.getValue(), tuple.getScore()))
-                    .toList();
+            return cached;
         }
 
         // 2. [Cache Miss] Redis에 데이터가 텅 비었음! DB에서 조회 시작
@@ -141,22 +107,25 @@ public class UserPreferenceService {
             return List.of(); // 빈 리스트 반환 (나중에 ES에서 기본 인기 영상 노출용으로 쓰임)
         }
 
+        // 감쇠 모드면 행마다 경과 시간이 달라 순위가 바뀔 수 있으므로 현재 시점 점수로 다시 정렬
+        OffsetDateTime now = OffsetDateTime.now(ZoneOffset.UTC);
+        long halfLifeMillis = decayProperties.halfLifeMillis();
+        List<TagScoreDto> recoveredScores = dbPreferences.stream()
+                .map(pref -> new TagScoreDto(pref.getTag().getTagName(), decayedScore(pref, now, halfLifeMillis)))
+                .sorted(Comparator.comparing(TagScoreDto::score).reversed())
+                .toList();
 
-        Set<ZSetOperations.TypedTuple<String>> tuples = new HashSet<>();
-        List<TagScoreDto> recoveredScores = new java.util.ArrayList<>();// DB 데이터를 Redis에 복구
-
-        for (UserPreference pref : dbPreferences) {
-            String tagName = pref.getTag().getTagName();
-            Double score = pref.getScore();
-
-            tuples.add(new DefaultTypedTuple<>(tagName, score));
-            recoveredScores.add(new TagScoreDto(tagName, score));
-        }
+        // DB 데이터를 Redis에 복구 (기준 시각 = 지금)
+        preferenceScoreStore.restore(userId, recoveredScores);
+        return recoveredScores.stream().limit(limit).toList();
+    }
 
-        // 반복문 밖에서 한 번의 명령어로 Redis에 와르르 쏟아붓습니다.
-        if (!tuples.isEmpty()) {
-            stringRedisTemplate.opsForZSet().add(redisKey, tuples);
+    private double decayedScore(UserPreference pref, OffsetDateTime now, long halfLifeMillis) {
+        double score = pref.getScore() == null ? 0.0 : pref.getScore();
+        if (halfLifeMillis <= 0 || pref.getUpdatedAt() == null) {
+            return score;
         }
-        return recoveredScores.stream().limit(limit).toList();
+        long elapsed = Math.max(0, Duration.between(pref.getUpdatedAt(), now).toMillis());
+        return score * Math.pow(2, -(double) elapsed / halfLifeMillis);
     }
-}
\ No newline at end of file
+}
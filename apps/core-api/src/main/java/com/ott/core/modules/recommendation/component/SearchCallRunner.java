@@ -0,0 +1,65 @@
+package com.ott.core.modules.recommendation.component;
+
+import com.ott.core.global.concurrent.Deadline;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.FutureTask;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.function.Supplier;
+
+/**
+ * 추천 요청 중 ES 호출을 추천 Executor에서 실행하고 요청 마감 시각까지만 기다림
+ * query.setTimeout은 ES 안의 검색 시간만 제한하므로, 연결/응답 지연에도 요청 스레드가 마감 시각을 넘겨 붙잡히지 않게 함
+ * 시간 초과/Executor 포화 시 작업을 취소(인터럽트)하고 fallback 반환, 호출 자체의 실패는 그대로 던짐
+ */
+@Slf4j
+@Component
+public class SearchCallRunner {
+
+    private final Executor executor;
+
+    public SearchCallRunner(@Qualifier("recommendationTaskExecutor") Executor executor) {
+        this.executor = executor;
+    }
+
+    /**
+     * @param name 로그용 호출 이름
+     */
+    public <T> T call(String name, Supplier<T> call, Deadline deadline, T fallback) {
+        if (deadline.isExpired()) {
+            log.warn("[Recommendation] 마감 시각 초과로 ES 호출 생략 - {}", name);
+            return fallback;
+        }
+        FutureTask<T> task = new FutureTask<>(call::get);
+        try {
+            executor.execute(task);
+        } catch (RejectedExecutionException e) {
+            log.warn("[Recommendation] 추천 Executor 포화로 ES 호출 생략 - {}", name);
+            return fallback;
+        }
+
+        long remainingMillis = Math.max(1, deadline.remaining().toMillis());
+        try {
+            return task.get(remainingMillis, TimeUnit.MILLISECONDS);
+        } catch (TimeoutException e) {
+            task.cancel(true);
+            log.warn("[Recommendation] ES 호출 시간 초과({}ms) - {}", remainingMillis, name);
+            return fallback;
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw new IllegalStateException(e.getCause());
+        } catch (InterruptedException e) {
+            task.cancel(true);
+            Thread.currentThread().interrupt();
+            return fallback;
+        }
+    }
+}
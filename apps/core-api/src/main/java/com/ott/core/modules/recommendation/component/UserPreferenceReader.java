@@ -0,0 +1,69 @@
+package com.ott.core.modules.recommendation.component;
+
+import com.ott.core.global.concurrent.Deadline;
+import com.ott.core.modules.preference.dto.TagScoreDto;
+import com.ott.core.modules.preference.service.UserPreferenceService;
+import com.ott.core.modules.recommendation.config.RecommendationDeadlineProperties;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.FutureTask;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+/**
+ * 요청 마감 시각 안에서 사용자 취향 조회
+ * 시간 초과/실패/Executor 포화 시 null을 반환해 호출부가 취향 없는 피드로 대체하도록 함 (신규 유저의 빈 목록과 구분)
+ */
+@Slf4j
+@Component
+public class UserPreferenceReader {
+
+    private static final int USER_PREFERENCE_TAG_LIMIT = 5;
+
+    private final UserPreferenceService userPreferenceService;
+    private final RecommendationDeadlineProperties properties;
+    private final Executor executor;
+
+    public UserPreferenceReader(UserPreferenceService userPreferenceService,
+                                RecommendationDeadlineProperties properties,
+                                @Qualifier("recommendationTaskExecutor") Executor executor) {
+        this.userPreferenceService = userPreferenceService;
+        this.properties = properties;
+        this.executor = executor;
+    }
+
+    /**
+     * @return 상위 취향 태그, 제한 시간 안에 조회하지 못하면 null
+     */
+    public List<TagScoreDto> read(Long userId, Deadline deadline) {
+        if (userId == null) {
+            return List.of();
+        }
+        Duration budget = deadline.cap(Duration.ofMillis(properties.getPreferenceTimeoutMs()));
+        FutureTask<List<TagScoreDto>> task =
+                new FutureTask<>(() -> userPreferenceService.getTopPreferences(userId, USER_PREFERENCE_TAG_LIMIT));
+        try {
+            executor.execute(task);
+            return task.get(budget.toNanos(), TimeUnit.NANOSECONDS);
+        } catch (TimeoutException e) {
+            // 늦게 끝난 조회가 Executor 자리를 계속 잡지 않도록 인터럽트
+            task.cancel(true);
+            log.warn("[Recommendation] 취향 조회 시간 초과({}ms) - 취향 없이 구성: userId={}", budget.toMillis(), userId);
+        } catch (RejectedExecutionException e) {
+            log.warn("[Recommendation] 추천 Executor 포화 - 취향 없이 구성: userId={}", userId);
+        } catch (ExecutionException e) {
+            log.warn("[Recommendation] 취향 조회 실패 - 취향 없이 구성: userId={}, 원인: {}", userId, e.getCause().getMessage());
+        } catch (InterruptedException e) {
+            task.cancel(true);
+            Thread.currentThread().interrupt();
+        }
+        return null;
+    }
+}
@@ -1,11 +1,12 @@
 package com.ott.core.modules.recommendation.component;
 
 import com.ott.common.persistence.entity.User;
-import com.ott.common.persistence.entity.WatchHistory;
+import com.ott.core.modules.engagement.dto.EngagementStatus;
+import com.ott.core.modules.engagement.service.EngagementStatusService;
 import com.ott.core.modules.recommendation.dto.VideoFeedResponseDto;
 import com.ott.core.modules.search.document.VideoDocument;
 import com.ott.core.modules.user.repository.UserRepository;
-import com.ott.core.modules.watch.repository.WatchHistoryRepository;
+import com.ott.core.modules.watch.service.WatchHistoryService;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Component;
 
@@ -17,7 +18,8 @@ import java.util.stream.Collectors;
 public class VideoFeedEnricher {
 
     private final UserRepository userRepository;
-    private final WatchHistoryRepository watchHistoryRepository;
+    private final WatchHistoryService watchHistoryService;
+    private final EngagementStatusService engagementStatusService;
 
     /**
      * Elasticsearch Document 목록을 기반으로 DB 데이터를 조합하여 최종 DTO로 변환
@@ -34,34 +36,34 @@ public class VideoFeedEnricher {
         Map<Long, User> uploaderMap = userRepository.findAllById(uploaderIds).stream()
                 .collect(Collectors.toMap(User::getId, u -> u));
 
-        // 2. 시청 기록(WatchHistory) 일괄 조회
-        List<Long> metadataIds = documents.stream()
-                .map(VideoDocument::getMetadataId)
-                .filter(Objects::nonNull)
-                .distinct()
-                .toList();
-
-        Map<Long, WatchHistory> historyMap = new HashMap<>();
-        if (currentUserId != null && !metadataIds.isEmpty()) {
-            List<WatchHistory> histories = watchHistoryRepository.findByUserIdAndVideoMetadataIdIn(currentUserId, metadataIds);
-            for (WatchHistory h : histories) {
-                historyMap.put(h.getVideoMetadata().getId(), h);
+        // 2. 시청 기록(WatchHistory) 일괄 조회 (Redis 시청 상태 해시 우선, 미적중분만 DB)
+        Map<Long, Long> metadataIdByVideoId = new HashMap<>();
+        for (VideoDocument doc : documents) {
+            if (doc.getVideoId() != null && doc.getMetadataId() != null) {
+                metadataIdByVideoId.put(doc.getVideoId(), doc.getMetadataId());
             }
         }
 
-        // 3. 최종 DTO 조립
+        Map<Long, Integer> positionMap = watchHistoryService.getLastPositions(currentUserId, metadataIdByVideoId);
+
+        // 3. 반응/북마크 상태 일괄 조회 (사용자별 Redis 해시 우선, 미적중분만 DB)
+        List<Long> videoIds = documents.stream().map(VideoDocument::getVideoId).filter(Objects::nonNull).toList();
+        Map<Long, EngagementStatus> engagementMap = engagementStatusService.getStatuses(currentUserId, videoIds);
+
+        // 4. 최종 DTO 조립
         return documents.stream().map(doc -> {
             User uploader = uploaderMap.get(doc.getUserId());
             String nickname = (uploader != null) ? uploader.getNickname() : "탈퇴한 사용자";
             String profileUrl = (uploader != null) ? uploader.getProfileImageUrl() : null;
 
             int progress = 0;
-            WatchHistory history = historyMap.get(doc.getMetadataId());
-            if (history != null && doc.getDuration() != null && doc.getDuration() > 0 && history.getLastPosition() != null) {
-                progress = (int) Math.min(100.0, Math.round(((double) history.getLastPosition() / doc.getDuration()) * 100));
+            Integer lastPosition = positionMap.get(doc.getVideoId());
+            if (lastPosition != null && doc.getDuration() != null && doc.getDuration() > 0) {
+                progress = (int) Math.min(100.0, Math.round(((double) lastPosition / doc.getDuration()) * 100));
             }
 
-            return VideoFeedResponseDto.of(doc, nickname, profileUrl, progress);
+            EngagementStatus engagement = engagementMap.getOrDefault(doc.getVideoId(), EngagementStatus.NONE);
+            return VideoFeedResponseDto.of(doc, nickname, profileUrl, progress, engagement);
         }).toList();
     }
 }
\ No newline at end of file
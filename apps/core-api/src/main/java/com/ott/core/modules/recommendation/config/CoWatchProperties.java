@@ -0,0 +1,23 @@
+package com.ott.core.modules.recommendation.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+@Getter
+@Setter
+@Component
+@ConfigurationProperties(prefix = "app.recommendation.cowatch")
+public class CoWatchProperties {
+
+    /**
+     * 연관 영상에 함께 본(co-watch) 이웃을 섞을지 여부 (batch-analytics가 video:cowatch:* 를 게시한 뒤 켤 것)
+     */
+    private boolean enabled = false;
+
+    /**
+     * 한 페이지 중 co-watch 이웃이 차지하는 비율 (나머지는 태그 기반)
+     */
+    private double blendRatio = 0.3;
+}
@@ -0,0 +1,38 @@
+package com.ott.core.modules.recommendation.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+@Getter
+@Setter
+@Component
+@ConfigurationProperties(prefix = "app.recommendation.feed-cache")
+public class FeedCandidateProperties {
+
+    /**
+     * false면 기존처럼 페이지마다 ES 쿼리
+     */
+    private boolean enabled = true;
+
+    /**
+     * ES에서 한 번에 가져와 후보 목록에 쌓는 영상 수 (최초 생성/보충 단위)
+     */
+    private int chunkSize = 300;
+
+    /**
+     * 요청 페이지 이후 남은 후보가 이보다 적으면 비동기로 다음 묶음 보충
+     */
+    private int refillThreshold = 50;
+
+    /**
+     * 후보 목록 유지 시간 (초). 마지막 생성/보충 시점 기준
+     */
+    private long ttlSeconds = 1800;
+
+    /**
+     * 목록 생성 이후 누적된 취향 점수 변화량이 이 값 이상이면 목록 폐기 (다음 요청에서 새로 생성)
+     */
+    private double invalidateScoreChange = 8.0;
+}
@@ -0,0 +1,23 @@
+package com.ott.core.modules.recommendation.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+@Getter
+@Setter
+@Component
+@ConfigurationProperties(prefix = "app.recommendation.deadline")
+public class RecommendationDeadlineProperties {
+
+    /**
+     * 피드 요청 하나의 전체 시간 예산 (밀리초). 하위 호출은 남은 시간 안에서만 기다림
+     */
+    private long requestTimeoutMs = 800;
+
+    /**
+     * 취향 조회 시간 예산 (밀리초). 넘으면 취향 없이(인기/최신 기준) 피드 구성
+     */
+    private long preferenceTimeoutMs = 150;
+}
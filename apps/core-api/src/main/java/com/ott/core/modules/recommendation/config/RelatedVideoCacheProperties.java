@@ -0,0 +1,28 @@
+package com.ott.core.modules.recommendation.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+@Getter
+@Setter
+@Component
+@ConfigurationProperties(prefix = "app.recommendation.related-cache")
+public class RelatedVideoCacheProperties {
+
+    /**
+     * 연관 영상 목록 캐시 사용 여부 (false면 매 요청 ES 조회)
+     */
+    private boolean enabled = true;
+
+    /**
+     * 캐시할 (videoId, page, size) 조합 최대 수
+     */
+    private long maxSize = 20_000;
+
+    /**
+     * 저장 후 만료까지 (초). 다른 영상의 태그/조회수 변화는 이 시간 안에 반영됨
+     */
+    private long ttlSeconds = 60;
+}
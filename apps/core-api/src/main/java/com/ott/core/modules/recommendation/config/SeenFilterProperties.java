@@ -0,0 +1,38 @@
+package com.ott.core.modules.recommendation.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+@Getter
+@Setter
+@Component
+@ConfigurationProperties(prefix = "app.recommendation.seen-filter")
+public class SeenFilterProperties {
+
+    /**
+     * 완주한 영상을 피드에서 제외할지 여부
+     */
+    private boolean enabled = true;
+
+    /**
+     * 사용자당 예상 완주 영상 수 (비트맵 크기 기준, batch-analytics 설정과 맞출 것)
+     */
+    private int expectedItems = 1000;
+
+    /**
+     * 목표 오탐률 (본 적 없는 영상을 본 것으로 잘못 판단해 빠뜨릴 확률)
+     */
+    private double falsePositiveRate = 0.01;
+
+    /**
+     * 마지막 기록 후 비트맵 만료까지 (일)
+     */
+    private int ttlDays = 90;
+
+    /**
+     * 제외될 영상을 감안해 세로 피드 하위 쿼리를 더 가져오는 배수
+     */
+    private double overFetchFactor = 1.5;
+}
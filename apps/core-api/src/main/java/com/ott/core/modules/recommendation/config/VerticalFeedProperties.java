@@ -0,0 +1,28 @@
+package com.ott.core.modules.recommendation.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+@Getter
+@Setter
+@Component
+@ConfigurationProperties(prefix = "app.recommendation.vertical")
+public class VerticalFeedProperties {
+
+    /**
+     * 취향 하위 쿼리 시간 예산 (밀리초). 넘으면 ES가 그때까지 모은 결과만 반환
+     */
+    private long personalTimeoutMs = 300;
+
+    /**
+     * 인기 하위 쿼리 시간 예산 (밀리초)
+     */
+    private long popularTimeoutMs = 200;
+
+    /**
+     * 랜덤 하위 쿼리 시간 예산 (밀리초)
+     */
+    private long randomTimeoutMs = 200;
+}
@@ -2,6 +2,7 @@ package com.ott.core.modules.recommendation.dto;
 
 import com.fasterxml.jackson.annotation.JsonFormat;
 import com.ott.common.persistence.enums.VideoType;
+import com.ott.core.modules.engagement.dto.EngagementStatus;
 import com.ott.core.modules.search.document.VideoDocument;
 
 import java.util.List;
@@ -21,9 +22,12 @@ public record VideoFeedResponseDto(
         int likeCount,
         String uploadDate,
         VideoType videoType,
-        Integer watchProgress
+        Integer watchProgress,
+        String interactionType,
+        boolean isBookmarked
 ) {
-    public static VideoFeedResponseDto of(VideoDocument doc, String nickname, String profileUrl, Integer watchProgress){
+    public static VideoFeedResponseDto of(VideoDocument doc, String nickname, String profileUrl, Integer watchProgress,
+                                          EngagementStatus engagement){
         return new VideoFeedResponseDto(
                 doc.getVideoId(),
                 doc.getUserId(),
@@ -38,7 +42,9 @@ public record VideoFeedResponseDto(
                 doc.getLikeCount(),
                 doc.getCreatedAt() != null ? doc.getCreatedAt().toString() : null,
                 doc.getVideoType(),
-                watchProgress
+                watchProgress,
+                engagement.interactionType() != null ? engagement.interactionType().name() : "NONE",
+                engagement.bookmarked()
         );
     }
 }
@@ -0,0 +1,40 @@
+package com.ott.core.modules.recommendation.service;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.Set;
+
+/**
+ * 함께 본(co-watch) 이웃 조회
+ * - video:cowatch:{videoId}  ZSET  이웃 videoId → 유사도 (batch-analytics가 매일 교체)
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class CoWatchNeighborStore {
+
+    private static final String KEY_PREFIX = "video:cowatch:";
+
+    private final StringRedisTemplate stringRedisTemplate;
+
+    /**
+     * 유사도순 이웃 videoId (없거나 Redis 오류면 빈 목록)
+     */
+    public List<Long> getNeighbors(Long videoId, long offset, int count) {
+        if (count <= 0) {
+            return List.of();
+        }
+        try {
+            Set<String> members = stringRedisTemplate.opsForZSet()
+                    .reverseRange(KEY_PREFIX + videoId, offset, offset + count - 1);
+            return members == null ? List.of() : members.stream().map(Long::valueOf).toList();
+        } catch (Exception e) {
+            log.warn("[CoWatch] 이웃 조회 실패 - 태그 기반만 사용, videoId: {}: {}", videoId, e.getMessage());
+            return List.of();
+        }
+    }
+}
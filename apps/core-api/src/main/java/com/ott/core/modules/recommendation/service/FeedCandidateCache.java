@@ -0,0 +1,468 @@
+package com.ott.core.modules.recommendation.service;
+
+import com.ott.core.modules.preference.dto.TagScoreDto;
+import com.ott.core.modules.preference.event.PreferenceScoresChangedEvent;
+import com.ott.core.global.concurrent.Deadline;
+import com.ott.core.modules.recommendation.component.RecommendationQueryBuilder;
+import com.ott.core.modules.recommendation.component.SearchCallRunner;
+import com.ott.core.modules.recommendation.component.UserPreferenceReader;
+import com.ott.core.modules.recommendation.config.FeedCandidateProperties;
+import com.ott.core.modules.search.document.VideoDocument;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.elasticsearch.client.elc.NativeQuery;
+import org.springframework.data.elasticsearch.core.ElasticsearchOperations;
+import org.springframework.data.elasticsearch.core.SearchHit;
+import org.springframework.data.elasticsearch.core.query.FetchSourceFilterBuilder;
+import org.springframework.data.redis.connection.ReturnType;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+
+/**
+ * 사용자별 홈 피드 후보 목록 캐시
+ * - feed:candidates:{userId}       LIST  ES 점수순 videoId (한 번에 chunkSize개씩 over-fetch)
+ * - feed:candidates:{userId}:meta  HASH  fetched(ES에서 소비한 결과 수), exhausted, prefs(생성 시 취향), drift(생성 후 취향 변화량),
+ *                                        gen(생성마다 새로 발급하는 세대 값)
+ * - feed:candidates:{userId}:refill STRING 생성/보충 잠금 (값 = 잠근 쪽 토큰)
+ * 페이지는 LRANGE로 잘라 제공하므로 뒤 페이지도 비용이 같고, 같은 취향 기준으로 보충하므로 페이지 간 결과가 흔들리지 않음
+ * 이미 완주한 영상은 목록에 넣을 때 제외 (SeenVideoFilter)
+ */
+@Slf4j
+@Component
+public class FeedCandidateCache {
+
+    private static final String KEY_PREFIX = "feed:candidates:";
+    private static final String META_SUFFIX = ":meta";
+    private static final String REFILL_LOCK_SUFFIX = ":refill";
+    private static final Duration LOCK_TTL = Duration.ofSeconds(30);
+    // 다른 요청이 목록을 생성 중일 때 다시 읽는 간격
+    private static final Duration BUILD_POLL_INTERVAL = Duration.ofMillis(20);
+    // 건너뛴 페이지 요청 시 동기 보충 최대 횟수
+    private static final int MAX_SYNC_REFILLS = 3;
+
+    // 취향 직렬화 구분자 (태그 이름에 쓰이지 않는 제어 문자)
+    private static final String PREF_SEPARATOR = "\u0002";
+    private static final String SCORE_SEPARATOR = "\u0001";
+
+    /**
+     * KEYS[1] = 후보 LIST, KEYS[2] = 메타 HASH, ARGV[1] = 변화량, ARGV[2] = 폐기 기준
+     * 목록이 있을 때만 누적하고, 기준을 넘으면 목록과 메타를 함께 삭제
+     */
+    private static final byte[] DRIFT_SCRIPT = """
+            if redis.call('EXISTS', KEYS[1]) == 0 then
+                return 0
+            end
+            local drift = tonumber(redis.call('HINCRBYFLOAT', KEYS[2], 'drift', ARGV[1]))
+            if drift >= tonumber(ARGV[2]) then
+                redis.call('DEL', KEYS[1], KEYS[2])
+                return 1
+            end
+            return 0
+            """.getBytes(StandardCharsets.UTF_8);
+
+    /**
+     * KEYS[1] = 후보 LIST, KEYS[2] = 메타 HASH
+     * ARGV[1] = 보충 시작 시 읽은 세대, ARGV[2] = fetched 증가분 (빈 값이면 부분 결과라 그대로), ARGV[3] = 끝 도달 여부,
+     * ARGV[4] = TTL(초), 이후 추가할 videoId
+     * 보충 중 목록이 폐기/재생성되었으면 (메타가 없거나 세대가 다르면) 아무것도 하지 않고 -1
+     */
+    private static final byte[] APPEND_SCRIPT = """
+            if redis.call('EXISTS', KEYS[2]) == 0 or (redis.call('HGET', KEYS[2], 'gen') or '') ~= ARGV[1] then
+                return -1
+            end
+            for i = 5, #ARGV, 1000 do
+                redis.call('RPUSH', KEYS[1], unpack(ARGV, i, math.min(i + 999, #ARGV)))
+            end
+            if ARGV[2] ~= '' then
+                redis.call('HINCRBY', KEYS[2], 'fetched', ARGV[2])
+            end
+            if ARGV[3] == '1' then
+                redis.call('HSET', KEYS[2], 'exhausted', '1')
+            end
+            redis.call('EXPIRE', KEYS[1], ARGV[4])
+            redis.call('EXPIRE', KEYS[2], ARGV[4])
+            return #ARGV - 4
+            """.getBytes(StandardCharsets.UTF_8);
+
+    // 잠근 쪽만 해제 (TTL이 지나 다른 쪽이 새로 잡은 잠금은 지우지 않음)
+    private static final byte[] UNLOCK_SCRIPT = """
+            if redis.call('GET', KEYS[1]) == ARGV[1] then
+                return redis.call('DEL', KEYS[1])
+            end
+            return 0
+            """.getBytes(StandardCharsets.UTF_8);
+
+    private final StringRedisTemplate stringRedisTemplate;
+    private final ElasticsearchOperations elasticsearchOperations;
+    private final RecommendationQueryBuilder queryBuilder;
+    private final UserPreferenceReader userPreferenceReader;
+    private final SeenVideoFilter seenVideoFilter;
+    private final SearchCallRunner searchCallRunner;
+    private final FeedCandidateProperties properties;
+    private final Executor executor;
+
+    private final Counter hitCounter;
+    private final Counter missCounter;
+    private final Counter invalidationCounter;
+    private final Timer buildTimer;
+    private final Timer refillTimer;
+
+    public FeedCandidateCache(StringRedisTemplate stringRedisTemplate,
+                              ElasticsearchOperations elasticsearchOperations,
+                              RecommendationQueryBuilder queryBuilder,
+                              UserPreferenceReader userPreferenceReader,
+                              SeenVideoFilter seenVideoFilter,
+                              SearchCallRunner searchCallRunner,
+                              FeedCandidateProperties properties,
+                              @Qualifier("recommendationTaskExecutor") Executor executor,
+                              MeterRegistry meterRegistry) {
+        this.stringRedisTemplate = stringRedisTemplate;
+        this.elasticsearchOperations = elasticsearchOperations;
+        this.queryBuilder = queryBuilder;
+        this.userPreferenceReader = userPreferenceReader;
+        this.seenVideoFilter = seenVideoFilter;
+        this.searchCallRunner = searchCallRunner;
+        this.properties = properties;
+        this.executor = executor;
+
+        this.hitCounter = Counter.builder("feed.candidates.requests")
+                .description("홈 피드 후보 목록 조회")
+                .tag("result", "hit")
+                .register(meterRegistry);
+        this.missCounter = Counter.builder("feed.candidates.requests")
+                .description("홈 피드 후보 목록 조회")
+                .tag("result", "miss")
+                .register(meterRegistry);
+        this.invalidationCounter = Counter.builder("feed.candidates.invalidations")
+                .description("취향 변화로 폐기된 후보 목록 수")
+                .register(meterRegistry);
+        this.buildTimer = Timer.builder("feed.candidates.refill.latency")
+                .description("후보 목록 생성/보충 소요 시간")
+                .tag("type", "build")
+                .register(meterRegistry);
+        this.refillTimer = Timer.builder("feed.candidates.refill.latency")
+                .description("후보 목록 생성/보충 소요 시간")
+                .tag("type", "refill")
+                .register(meterRegistry);
+    }
+
+    /**
+     * 요청 페이지의 videoId 목록 (후보 목록이 없으면 만들고, 부족해지면 보충)
+     * 마감 시각 안에 취향을 읽지 못하면 목록을 만들지 않고 인기/최신순 페이지로 대체
+     * @param readSize 페이지 시작(page * size)부터 읽을 개수 - 목록 생성 후 완주한 영상을 호출 측에서 거를 수 있도록 size보다 크게 읽음
+     */
+    public List<Long> getPage(Long userId, int page, int size, int readSize, Deadline deadline) {
+        long start = (long) page * size;
+        long end = start + Math.max(size, readSize) - 1;
+
+        PageRead read = readPage(userId, start, end);
+        if (read.length() == 0) {
+            missCounter.increment();
+            read = buildOnce(userId, start, end, deadline);
+            if (read == null) {
+                NativeQuery fallbackQuery = queryBuilder.buildFallbackQuery(page, size);
+                fallbackQuery.setMaxResults((int) (end - start + 1));
+                return fetchIds(fallbackQuery, deadline);
+            }
+        } else {
+            hitCounter.increment();
+        }
+
+        // 목록 끝을 넘는 페이지를 바로 요청한 경우 → 마감 시각 전까지 동기 보충
+        for (int i = 0; i < MAX_SYNC_REFILLS && read.ids().size() < end - start + 1 && !read.exhausted() && read.length() > 0
+                && !deadline.isExpired(); i++) {
+            refillTimer.record(() -> refill(userId, deadline));
+            read = readPage(userId, start, end);
+        }
+
+        if (!read.exhausted() && read.length() - (end + 1) < properties.getRefillThreshold()) {
+            refillAsync(userId);
+        }
+        return read.ids();
+    }
+
+    /**
+     * 취향 점수가 바뀐 사용자의 변화량 누적 → 기준을 넘으면 목록 폐기
+     */
+    @EventListener
+    public void onPreferenceScoresChanged(PreferenceScoresChangedEvent event) {
+        if (!properties.isEnabled() || event.changeByUserId().isEmpty()) {
+            return;
+        }
+        byte[] threshold = bytes(String.valueOf(properties.getInvalidateScoreChange()));
+        List<Object> results = stringRedisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+            event.changeByUserId().forEach((userId, change) -> connection.scriptingCommands().eval(
+                    DRIFT_SCRIPT, ReturnType.INTEGER, 2,
+                    bytes(key(userId)), bytes(metaKey(userId)), bytes(String.valueOf(change)), threshold));
+            return null;
+        });
+        long invalidated = results.stream().filter(r -> r instanceof Long l && l == 1L).count();
+        if (invalidated > 0) {
+            invalidationCounter.increment(invalidated);
+            log.debug("[FeedCandidates] 취향 변화로 후보 목록 폐기 - {}명", invalidated);
+        }
+    }
+
+    private PageRead readPage(Long userId, long start, long end) {
+        List<Object> results = stringRedisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+            connection.listCommands().lRange(bytes(key(userId)), start, end);
+            connection.listCommands().lLen(bytes(key(userId)));
+            connection.hashCommands().hGet(bytes(metaKey(userId)), bytes("exhausted"));
+            return null;
+        });
+
+        @SuppressWarnings("unchecked")
+        List<String> raw = (List<String>) results.get(0);
+        List<Long> ids = raw == null ? List.of() : raw.stream().map(Long::valueOf).toList();
+        long length = results.get(1) == null ? 0 : (Long) results.get(1);
+        boolean exhausted = "1".equals(results.get(2));
+        return new PageRead(ids, length, exhausted);
+    }
+
+    /**
+     * 목록이 없을 때 한 요청만 생성 (보충과 같은 잠금)
+     * 동시에 각자 만들면 나중 생성이 먼저 페이지를 받아 간 목록을 통째로 바꾸고 ES 조회도 중복되므로,
+     * 잠금을 잡지 못한 요청은 남은 시간의 절반까지 생성이 끝나기를 기다렸다가 다시 읽음
+     * @return 생성(또는 대기) 후 읽은 페이지, 목록을 만들지 못했으면 null (인기/최신순 페이지로 대체)
+     */
+    private PageRead buildOnce(Long userId, long start, long end, Deadline deadline) {
+        String token = UUID.randomUUID().toString();
+        if (!tryLock(userId, token)) {
+            return awaitBuild(userId, start, end, Deadline.after(deadline.remaining().dividedBy(2)));
+        }
+        try {
+            // 잠금을 잡기 직전에 다른 요청이 생성을 마쳤을 수 있음
+            PageRead read = readPage(userId, start, end);
+            if (read.length() > 0) {
+                return read;
+            }
+            List<TagScoreDto> preferences = userPreferenceReader.read(userId, deadline);
+            if (preferences == null) {
+                return null;
+            }
+            buildTimer.record(() -> build(userId, preferences, deadline));
+            return readPage(userId, start, end);
+        } finally {
+            unlock(userId, token);
+        }
+    }
+
+    private PageRead awaitBuild(Long userId, long start, long end, Deadline waitDeadline) {
+        while (!waitDeadline.isExpired()) {
+            try {
+                Thread.sleep(Math.min(BUILD_POLL_INTERVAL.toMillis(), Math.max(1, waitDeadline.remaining().toMillis())));
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return null;
+            }
+            PageRead read = readPage(userId, start, end);
+            if (read.length() > 0) {
+                return read;
+            }
+            if (!Boolean.TRUE.equals(stringRedisTemplate.hasKey(lockKey(userId)))) {
+                // 생성한 쪽이 목록 없이 끝남 (취향 조회 실패/결과 없음)
+                return null;
+            }
+        }
+        log.debug("[FeedCandidates] 다른 요청의 목록 생성 대기 시간 초과 - userId: {}", userId);
+        return null;
+    }
+
+    /**
+     * 현재 취향으로 첫 묶음을 가져와 목록을 새로 생성
+     */
+    private void build(Long userId, List<TagScoreDto> preferences, Deadline deadline) {
+        List<Long> ids = fetchChunk(preferences, 0, deadline);
+        if (ids.isEmpty()) {
+            return;
+        }
+        // 마감 시각을 넘겨 ES가 부분 결과를 준 경우 → 끝으로 보지 않고 다음 보충에서 같은 묶음부터 다시 가져옴
+        boolean partial = ids.size() < properties.getChunkSize() && deadline.isExpired();
+
+        // 모두 본 영상이면 빈 목록이 되어 매 요청마다 다시 만들게 되므로 거르지 않고 둠
+        Set<Long> seen = seenVideoFilter.findSeen(userId, ids);
+        List<Long> kept = seen.size() < ids.size() ? ids.stream().filter(id -> !seen.contains(id)).toList() : ids;
+
+        Map<byte[], byte[]> meta = new LinkedHashMap<>();
+        meta.put(bytes("fetched"), bytes(partial ? "0" : String.valueOf(ids.size())));
+        meta.put(bytes("exhausted"), bytes(!partial && ids.size() < properties.getChunkSize() ? "1" : "0"));
+        meta.put(bytes("prefs"), bytes(encode(preferences)));
+        meta.put(bytes("drift"), bytes("0"));
+        meta.put(bytes("gen"), bytes(UUID.randomUUID().toString()));
+
+        stringRedisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+            byte[] listKey = bytes(key(userId));
+            byte[] metaKey = bytes(metaKey(userId));
+            // 동시에 생성된 목록이 섞이지 않도록 교체를 한 트랜잭션으로
+            connection.multi();
+            connection.keyCommands().del(listKey, metaKey);
+            connection.listCommands().rPush(listKey, kept.stream().map(id -> bytes(String.valueOf(id))).toArray(byte[][]::new));
+            connection.hashCommands().hMSet(metaKey, meta);
+            connection.keyCommands().expire(listKey, properties.getTtlSeconds());
+            connection.keyCommands().expire(metaKey, properties.getTtlSeconds());
+            connection.exec();
+            return null;
+        });
+        log.debug("[FeedCandidates] 후보 목록 생성 - userId: {}, {}건 (본 영상 제외: {}건)", userId, kept.size(), ids.size() - kept.size());
+    }
+
+    /**
+     * 생성 시와 같은 취향으로 다음 묶음을 가져와 중복 제외 후 뒤에 추가
+     * @param deadline 요청 처리 중 동기 보충이면 요청 마감 시각, 백그라운드 보충이면 null
+     */
+    private void refill(Long userId, Deadline deadline) {
+        String token = UUID.randomUUID().toString();
+        if (!tryLock(userId, token)) {
+            return;
+        }
+        try {
+            List<Object> meta = stringRedisTemplate.opsForHash().multiGet(metaKey(userId), List.of("fetched", "exhausted", "prefs", "gen"));
+            if (meta.get(0) == null || "1".equals(meta.get(1))) {
+                // 그 사이 폐기되었거나 더 가져올 결과가 없음
+                return;
+            }
+            long fetched = Long.parseLong((String) meta.get(0));
+            List<TagScoreDto> preferences = decode((String) meta.get(2));
+            // 세대 값이 없는 목록(이전 버전에서 생성)은 빈 값으로 비교
+            String generation = meta.get(3) == null ? "" : (String) meta.get(3);
+
+            List<Long> fetchedIds = fetchChunk(preferences, (int) (fetched / properties.getChunkSize()), deadline);
+            List<String> current = stringRedisTemplate.opsForList().range(key(userId), 0, -1);
+            Set<String> existing = current == null ? new HashSet<>() : new HashSet<>(current);
+            Set<Long> seen = seenVideoFilter.findSeen(userId, fetchedIds);
+            List<String> appended = fetchedIds.stream()
+                    .filter(id -> !seen.contains(id))
+                    .map(String::valueOf)
+                    .filter(existing::add)
+                    .toList();
+            boolean partial = fetchedIds.size() < properties.getChunkSize() && deadline != null && deadline.isExpired();
+
+            List<byte[]> keysAndArgs = new ArrayList<>(6 + appended.size());
+            keysAndArgs.add(bytes(key(userId)));
+            keysAndArgs.add(bytes(metaKey(userId)));
+            keysAndArgs.add(bytes(generation));
+            keysAndArgs.add(bytes(partial ? "" : String.valueOf(fetchedIds.size())));
+            keysAndArgs.add(bytes(!partial && fetchedIds.size() < properties.getChunkSize() ? "1" : "0"));
+            keysAndArgs.add(bytes(String.valueOf(properties.getTtlSeconds())));
+            appended.forEach(id -> keysAndArgs.add(bytes(id)));
+
+            Long result = stringRedisTemplate.execute((RedisCallback<Long>) connection -> connection.scriptingCommands()
+                    .eval(APPEND_SCRIPT, ReturnType.INTEGER, 2, keysAndArgs.toArray(byte[][]::new)));
+            if (result != null && result < 0) {
+                log.debug("[FeedCandidates] 보충 중 목록이 폐기/재생성되어 버림 - userId: {}", userId);
+                return;
+            }
+            log.debug("[FeedCandidates] 후보 목록 보충 - userId: {}, 추가: {}건", userId, appended.size());
+        } finally {
+            unlock(userId, token);
+        }
+    }
+
+    private boolean tryLock(Long userId, String token) {
+        return Boolean.TRUE.equals(stringRedisTemplate.opsForValue().setIfAbsent(lockKey(userId), token, LOCK_TTL));
+    }
+
+    private void unlock(Long userId, String token) {
+        stringRedisTemplate.execute((RedisCallback<Long>) connection -> connection.scriptingCommands()
+                .eval(UNLOCK_SCRIPT, ReturnType.INTEGER, 1, bytes(lockKey(userId)), bytes(token)));
+    }
+
+    private void refillAsync(Long userId) {
+        try {
+            executor.execute(() -> {
+                try {
+                    refillTimer.record(() -> refill(userId, null));
+                } catch (Exception e) {
+                    log.warn("[FeedCandidates] 비동기 보충 실패 - userId: {}: {}", userId, e.getMessage());
+                }
+            });
+        } catch (RejectedExecutionException e) {
+            log.warn("[FeedCandidates] 보충 작업 제출 거부 - 다음 요청에서 재시도: {}", e.getMessage());
+        }
+    }
+
+    /**
+     * ES에서 chunkIndex번째 묶음의 videoId만 조회 (문서 본문은 페이지 단위로 다시 가져옴)
+     */
+    private List<Long> fetchChunk(List<TagScoreDto> preferences, int chunkIndex, Deadline deadline) {
+        int chunkSize = properties.getChunkSize();
+        NativeQuery query = preferences.isEmpty()
+                ? queryBuilder.buildFallbackQuery(chunkIndex, chunkSize)
+                : queryBuilder.buildMainPersonalizedQuery(preferences, chunkIndex, chunkSize);
+        return fetchIds(query, deadline);
+    }
+
+    /**
+     * @param deadline 요청 마감 시각 (ES 검색 시간 제한 + 응답 대기 상한, 넘으면 부분 결과 또는 빈 목록), null이면 제한 없음
+     *                 백그라운드 보충은 이미 추천 Executor에서 돌고 있으므로 같은 Executor에 다시 제출하지 않고 직접 호출
+     */
+    private List<Long> fetchIds(NativeQuery query, Deadline deadline) {
+        query.addSourceFilter(new FetchSourceFilterBuilder().withIncludes("videoId").build());
+        if (deadline == null) {
+            return searchIds(query);
+        }
+        query.setTimeout(deadline.cap(deadline.remaining()));
+        return searchCallRunner.call("feed candidates", () -> searchIds(query), deadline, List.of());
+    }
+
+    private List<Long> searchIds(NativeQuery query) {
+        return elasticsearchOperations.search(query, VideoDocument.class).getSearchHits().stream()
+                .map(SearchHit::getId)
+                .map(Long::valueOf)
+                .toList();
+    }
+
+    private static String encode(List<TagScoreDto> preferences) {
+        List<String> parts = new ArrayList<>(preferences.size());
+        preferences.forEach(pref -> parts.add(pref.tagName() + SCORE_SEPARATOR + pref.score()));
+        return String.join(PREF_SEPARATOR, parts);
+    }
+
+    private static List<TagScoreDto> decode(String encoded) {
+        if (encoded == null || encoded.isEmpty()) {
+            return List.of();
+        }
+        List<TagScoreDto> preferences = new ArrayList<>();
+        for (String part : encoded.split(PREF_SEPARATOR)) {
+            int separator = part.lastIndexOf(SCORE_SEPARATOR);
+            preferences.add(new TagScoreDto(part.substring(0, separator), Double.valueOf(part.substring(separator + 1))));
+        }
+        return preferences;
+    }
+
+    private static String key(Long userId) {
+        return KEY_PREFIX + userId;
+    }
+
+    private static String metaKey(Long userId) {
+        return KEY_PREFIX + userId + META_SUFFIX;
+    }
+
+    private static String lockKey(Long userId) {
+        return KEY_PREFIX + userId + REFILL_LOCK_SUFFIX;
+    }
+
+    private static byte[] bytes(String value) {
+        return value.getBytes(StandardCharsets.UTF_8);
+    }
+
+    private record PageRead(List<Long> ids, long length, boolean exhausted) {
+    }
+}
@@ -1,122 +1,268 @@
 package com.ott.core.modules.recommendation.service;
 
-import co.elastic.clients.elasticsearch._types.FieldValue;
+import com.ott.core.global.concurrent.Deadline;
 import com.ott.core.modules.preference.dto.TagScoreDto;
-import com.ott.core.modules.preference.service.UserPreferenceService;
 import com.ott.core.modules.recommendation.component.RecommendationQueryBuilder;
+import com.ott.core.modules.recommendation.component.SearchCallRunner;
+import com.ott.core.modules.recommendation.component.UserPreferenceReader;
 import com.ott.core.modules.recommendation.component.VideoFeedEnricher;
+import com.ott.core.modules.recommendation.config.FeedCandidateProperties;
+import com.ott.core.modules.recommendation.config.RecommendationDeadlineProperties;
+import com.ott.core.modules.recommendation.config.SeenFilterProperties;
+import com.ott.core.modules.recommendation.config.VerticalFeedProperties;
 import com.ott.core.modules.recommendation.dto.VideoFeedResponseDto;
 import com.ott.core.modules.search.document.VideoDocument;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.data.elasticsearch.client.elc.NativeQuery;
 import org.springframework.data.elasticsearch.core.ElasticsearchOperations;
+import org.springframework.data.elasticsearch.core.MultiGetItem;
 import org.springframework.data.elasticsearch.core.SearchHit;
+import org.springframework.data.elasticsearch.core.SearchHits;
 import org.springframework.stereotype.Service;
 
+import java.time.Duration;
 import java.util.*;
-import java.util.concurrent.CompletableFuture;
-import java.util.concurrent.Executor;
 
 @Slf4j
 @Service
 public class RecommendationService {
 
-    private final UserPreferenceService userPreferenceService;
+    private final UserPreferenceReader userPreferenceReader;
     private final ElasticsearchOperations elasticsearchOperations;
     private final RecommendationQueryBuilder queryBuilder;
     private final VideoFeedEnricher feedEnricher;
-    private final Executor executor;
+    private final VerticalFeedProperties verticalFeedProperties;
+    private final FeedCandidateCache feedCandidateCache;
+    private final FeedCandidateProperties feedCandidateProperties;
+    private final RecommendationDeadlineProperties deadlineProperties;
+    private final SeenVideoFilter seenVideoFilter;
+    private final SeenFilterProperties seenFilterProperties;
+    private final RelatedVideoCache relatedVideoCache;
+    private final SearchCallRunner searchCallRunner;
 
     public RecommendationService(
-            UserPreferenceService userPreferenceService,
+            UserPreferenceReader userPreferenceReader,
             ElasticsearchOperations elasticsearchOperations,
             RecommendationQueryBuilder queryBuilder,
             VideoFeedEnricher feedEnricher,
-            @Qualifier("watchHistoryTaskExecutor") Executor executor) {
-        this.userPreferenceService = userPreferenceService;
+            VerticalFeedProperties verticalFeedProperties,
+            FeedCandidateCache feedCandidateCache,
+            FeedCandidateProperties feedCandidateProperties,
+            RecommendationDeadlineProperties deadlineProperties,
+            SeenVideoFilter seenVideoFilter,
+            SeenFilterProperties seenFilterProperties,
+            RelatedVideoCache relatedVideoCache,
+            SearchCallRunner searchCallRunner) {
+        this.userPreferenceReader = userPreferenceReader;
         this.elasticsearchOperations = elasticsearchOperations;
         this.queryBuilder = queryBuilder;
         this.feedEnricher = feedEnricher;
-        this.executor = executor;
+        this.verticalFeedProperties = verticalFeedProperties;
+        this.feedCandidateCache = feedCandidateCache;
+        this.feedCandidateProperties = feedCandidateProperties;
+        this.deadlineProperties = deadlineProperties;
+        this.seenVideoFilter = seenVideoFilter;
+        this.seenFilterProperties = seenFilterProperties;
+        this.relatedVideoCache = relatedVideoCache;
+        this.searchCallRunner = searchCallRunner;
     }
 
     private static final double FEED_RATIO_PERSONAL = 0.7;
     private static final double FEED_RATIO_POPULAR = 0.2;
-    private static final int USER_PREFERENCE_TAG_LIMIT = 5;
 
     // =========================================================================
     // [메인 홈 피드]
     // =========================================================================
     public List<VideoFeedResponseDto> getPersonalizedFeed(Long userId, int page, int size) {
-        List<TagScoreDto> userPreferences = userPreferenceService.getTopPreferences(userId, USER_PREFERENCE_TAG_LIMIT);
+        Deadline deadline = newDeadline();
+
+        // 완주한 영상이 빠질 만큼 더 읽고(over-fetch) 거른 뒤 요청 크기로 자름
+        double overFetch = overFetchFactor(userId);
+
+        // 로그인 사용자는 미리 만들어 둔 후보 목록에서 페이지를 잘라 제공 (FeedCandidateCache)
+        if (userId != null && feedCandidateProperties.isEnabled()) {
+            List<Long> videoIds = feedCandidateCache.getPage(userId, page, size, overFetch(size, overFetch), deadline);
+            // 목록을 만든 뒤에 완주한 영상 제외
+            Set<Long> seen = seenVideoFilter.findSeen(userId, videoIds);
+            List<Long> unseen = videoIds.stream().filter(id -> !seen.contains(id)).limit(size).toList();
+            return feedEnricher.enrich(getDocuments(unseen, deadline), userId);
+        }
+
+        List<TagScoreDto> userPreferences = readPreferences(userId, deadline);
 
         NativeQuery searchQuery = userPreferences.isEmpty()
                 ? queryBuilder.buildFallbackQuery(page, size)
                 : queryBuilder.buildMainPersonalizedQuery(userPreferences, page, size);
+        searchQuery.setTimeout(deadline.cap(deadline.remaining()));
+        if (overFetch > 1.0) {
+            // 시작 위치(page * size)는 그대로 두고 가져오는 개수만 늘림
+            searchQuery.setMaxResults(overFetch(size, overFetch));
+        }
 
-        List<VideoDocument> rawDocuments = executeSearch(searchQuery);
-        return feedEnricher.enrich(rawDocuments, userId);
+        List<VideoDocument> rawDocuments = removeSeen(userId, executeSearch(searchQuery, deadline));
+        return feedEnricher.enrich(rawDocuments.size() > size ? rawDocuments.subList(0, size) : rawDocuments, userId);
     }
     
     // =========================================================================
     // [세로 스와이프 피드] - 7(취향) : 2(인기) : 1(랜덤)
+    // 세 하위 쿼리를 _msearch 한 번으로 보내고, 합친 응답에서 섞기/중복 제거
+    // 완주한 영상이 빠질 만큼 하위 쿼리를 더 가져옴 (over-fetch)
     // =========================================================================
     public List<VideoFeedResponseDto> getVerticalMixedFeed(Long userId, int size) {
         int personalSize = (int) Math.round(size * FEED_RATIO_PERSONAL);
         int popularSize = (int) Math.round(size * FEED_RATIO_POPULAR);
         int randomSize = size - personalSize - popularSize;
 
-        List<TagScoreDto> userPreferences = userPreferenceService.getTopPreferences(userId, USER_PREFERENCE_TAG_LIMIT);
-        // 취향 영상 (개인화)
-        CompletableFuture<List<VideoDocument>> personalFuture = CompletableFuture.supplyAsync(() ->
-                        executeSearch(userPreferences.isEmpty()
-                                ? queryBuilder.buildPopularQuery(personalSize)
-                                : queryBuilder.buildMainPersonalizedQuery(userPreferences, 0, personalSize))
-                , executor);
-        // 인기 영상
-        CompletableFuture<List<VideoDocument>> popularFuture = CompletableFuture.supplyAsync(() ->
-                        executeSearch(queryBuilder.buildPopularQuery(popularSize + 5))
-                , executor);
-        // 랜덤 영상
-        CompletableFuture<List<VideoDocument>> randomFuture = CompletableFuture.supplyAsync(() ->
-                        executeSearch(queryBuilder.buildRandomQuery(randomSize + 5))
-                , executor);
-
-        CompletableFuture.allOf(personalFuture, popularFuture, randomFuture).join();
-
-        Set<VideoDocument> mixedFeed = new LinkedHashSet<>(personalFuture.join());
-        for (VideoDocument doc : popularFuture.join()) {
-            if (mixedFeed.size() < personalSize + popularSize) mixedFeed.add(doc);
+        Deadline deadline = newDeadline();
+        List<TagScoreDto> userPreferences = readPreferences(userId, deadline);
+        double overFetch = overFetchFactor(userId);
+
+        // 취향 영상 (개인화) / 인기 영상 / 랜덤 영상 - 하위 쿼리마다 시간 예산을 두고 넘으면 부분 결과 사용
+        NativeQuery personalQuery = userPreferences.isEmpty()
+                ? queryBuilder.buildPopularQuery(overFetch(personalSize, overFetch))
+                : queryBuilder.buildMainPersonalizedQuery(userPreferences, 0, overFetch(personalSize, overFetch));
+        personalQuery.setTimeout(deadline.cap(Duration.ofMillis(verticalFeedProperties.getPersonalTimeoutMs())));
+        NativeQuery popularQuery = queryBuilder.buildPopularQuery(overFetch(popularSize, overFetch) + 5);
+        popularQuery.setTimeout(deadline.cap(Duration.ofMillis(verticalFeedProperties.getPopularTimeoutMs())));
+        NativeQuery randomQuery = queryBuilder.buildRandomQuery(overFetch(randomSize, overFetch) + 5);
+        randomQuery.setTimeout(deadline.cap(Duration.ofMillis(verticalFeedProperties.getRandomTimeoutMs())));
+
+        List<List<VideoDocument>> results = executeMultiSearch(List.of(personalQuery, popularQuery, randomQuery), size, deadline)
+                .stream()
+                .map(docs -> removeSeen(userId, docs))
+                .toList();
+        List<VideoDocument> personal = results.get(0);
+        List<VideoDocument> popular = results.get(1);
+        List<VideoDocument> random = results.get(2);
+
+        // 같은 영상이 여러 하위 쿼리에 나올 수 있으므로 videoId 기준으로 중복 제거
+        Map<Long, VideoDocument> mixedFeed = new LinkedHashMap<>();
+        for (VideoDocument doc : personal) {
+            if (mixedFeed.size() < personalSize) mixedFeed.putIfAbsent(doc.getVideoId(), doc);
         }
-        for (VideoDocument doc : randomFuture.join()) {
-            if (mixedFeed.size() < size) mixedFeed.add(doc);
+        for (VideoDocument doc : popular) {
+            if (mixedFeed.size() < personalSize + popularSize) mixedFeed.putIfAbsent(doc.getVideoId(), doc);
+        }
+        for (VideoDocument doc : random) {
+            if (mixedFeed.size() < size) mixedFeed.putIfAbsent(doc.getVideoId(), doc);
+        }
+        // 일부 하위 쿼리가 실패/시간 초과로 모자라면 나머지 결과로 채움
+        for (List<VideoDocument> docs : results) {
+            for (VideoDocument doc : docs) {
+                if (mixedFeed.size() < size) mixedFeed.putIfAbsent(doc.getVideoId(), doc);
+            }
         }
 
-        return feedEnricher.enrich(new ArrayList<>(mixedFeed), userId);
+        return feedEnricher.enrich(new ArrayList<>(mixedFeed.values()), userId);
     }
 
     // =========================================================================
     //  [가로 스와이프 피드] - 상세페이지 연관 영상 추천
+    // 영상별 목록은 캐시에서 공유하고 사용자별 정보만 요청마다 붙임 (RelatedVideoCache)
     // =========================================================================
     public List<VideoFeedResponseDto> getHorizontalRelatedVideos(Long videoId, Long currentUserId, int page, int size) {
-        VideoDocument currentVideo = elasticsearchOperations.get(videoId.toString(), VideoDocument.class);
+        List<VideoDocument> rawDocuments = relatedVideoCache.get(videoId, page, size, newDeadline());
+        return feedEnricher.enrich(rawDocuments, currentUserId);
+    }
+
+    // 완주 영상 필터를 쓰는 로그인 사용자만 over-fetch
+    private double overFetchFactor(Long userId) {
+        return userId != null && seenVideoFilter.isEnabled()
+                ? Math.max(1.0, seenFilterProperties.getOverFetchFactor())
+                : 1.0;
+    }
+
+    private static int overFetch(int size, double factor) {
+        return (int) Math.ceil(size * factor);
+    }
 
-        if (currentVideo == null || currentVideo.getTags() == null || currentVideo.getTags().isEmpty()) {
+    // 이미 완주한 영상 제외 (Bloom filter 오탐으로 본 적 없는 영상이 드물게 빠질 수 있음)
+    private List<VideoDocument> removeSeen(Long userId, List<VideoDocument> documents) {
+        if (userId == null || documents.isEmpty()) {
+            return documents;
+        }
+        Set<Long> seen = seenVideoFilter.findSeen(userId, documents.stream().map(VideoDocument::getVideoId).toList());
+        return seen.isEmpty() ? documents : documents.stream().filter(doc -> !seen.contains(doc.getVideoId())).toList();
+    }
+
+    private Deadline newDeadline() {
+        return Deadline.after(Duration.ofMillis(deadlineProperties.getRequestTimeoutMs()));
+    }
+
+    // 시간 안에 취향을 읽지 못하면 취향 없는 피드(인기/최신순)로 대체
+    private List<TagScoreDto> readPreferences(Long userId, Deadline deadline) {
+        List<TagScoreDto> preferences = userPreferenceReader.read(userId, deadline);
+        return preferences == null ? List.of() : preferences;
+    }
+
+    // videoId 순서대로 문서 일괄 조회 (삭제되었거나 색인에서 빠진 영상은 제외, 마감 시각을 넘기면 빈 목록)
+    private List<VideoDocument> getDocuments(List<Long> videoIds, Deadline deadline) {
+        if (videoIds.isEmpty()) {
             return List.of();
         }
+        NativeQuery query = NativeQuery.builder()
+                .withIds(videoIds.stream().map(String::valueOf).toList())
+                .build();
+        return searchCallRunner.call("feed multiGet", () -> elasticsearchOperations.multiGet(query, VideoDocument.class),
+                        deadline, List.<MultiGetItem<VideoDocument>>of()).stream()
+                .filter(MultiGetItem::hasItem)
+                .map(MultiGetItem::getItem)
+                .filter(doc -> !doc.isDeleted())
+                .toList();
+    }
 
-        List<FieldValue> tagValues = currentVideo.getTags().stream().map(FieldValue::of).toList();
-        NativeQuery searchQuery = queryBuilder.buildRelatedQuery(tagValues, currentVideo.getVideoId(), page, size);
+    /**
+     * 여러 쿼리를 _msearch 한 번으로 실행 (결과는 항상 쿼리 수만큼, 쿼리 순서대로)
+     * 요청 자체가 실패하거나 일부 하위 쿼리가 실패하면 인기 영상 단건 검색으로 대체해 피드가 비지 않게 함
+     */
+    private List<List<VideoDocument>> executeMultiSearch(List<NativeQuery> queries, int fallbackSize, Deadline deadline) {
+        List<SearchHits<VideoDocument>> responses;
+        try {
+            // 마감 시각까지 응답이 없으면 null → 아래에서 대체 경로
+            responses = searchCallRunner.call("vertical msearch",
+                    () -> elasticsearchOperations.multiSearch(queries, VideoDocument.class), deadline, null);
+        } catch (Exception e) {
+            log.warn("[Recommendation] 세로 피드 msearch 실패 - 인기 영상으로 대체: {}", e.getMessage());
+            return degradedSections(queries.size(), fallbackSize, deadline);
+        }
 
-        List<VideoDocument> rawDocuments = executeSearch(searchQuery);
-        return feedEnricher.enrich(rawDocuments, currentUserId);
+        // 실패한 하위 쿼리는 응답 목록에서 빠지므로, 개수가 다르면 어느 결과가 어느 쿼리인지 알 수 없음
+        if (responses == null || responses.size() != queries.size()) {
+            log.warn("[Recommendation] 세로 피드 msearch 일부 실패 (요청: {}, 응답: {}) - 인기 영상으로 대체",
+                    queries.size(), responses == null ? 0 : responses.size());
+            return degradedSections(queries.size(), fallbackSize, deadline);
+        }
+        return responses.stream()
+                .map(hits -> hits == null
+                        ? List.<VideoDocument>of()
+                        : hits.getSearchHits().stream().map(SearchHit::getContent).toList())
+                .toList();
+    }
+
+    // 첫 구간만 인기 영상으로 채우고 나머지는 빈 구간 (마감 시각이 지났으면 모두 빈 구간)
+    private List<List<VideoDocument>> degradedSections(int sections, int fallbackSize, Deadline deadline) {
+        List<List<VideoDocument>> degraded = new ArrayList<>(sections);
+        if (!deadline.isExpired()) {
+            try {
+                NativeQuery popularQuery = queryBuilder.buildPopularQuery(fallbackSize);
+                popularQuery.setTimeout(deadline.cap(deadline.remaining()));
+                degraded.add(executeSearch(popularQuery, deadline));
+            } catch (Exception e) {
+                log.warn("[Recommendation] 세로 피드 대체 검색 실패: {}", e.getMessage());
+            }
+        }
+        while (degraded.size() < sections) {
+            degraded.add(List.of());
+        }
+        return degraded;
     }
 
-    // 엘라스틱서치 실행 공통 헬퍼 메서드
-    private List<VideoDocument> executeSearch(NativeQuery query) {
-        return elasticsearchOperations.search(query, VideoDocument.class).getSearchHits().stream()
-                .map(SearchHit::getContent).toList();
+    // 엘라스틱서치 실행 공통 헬퍼 메서드 (마감 시각을 넘기면 빈 목록)
+    private List<VideoDocument> executeSearch(NativeQuery query, Deadline deadline) {
+        return searchCallRunner.call("feed search", () -> elasticsearchOperations.search(query, VideoDocument.class)
+                .getSearchHits().stream()
+                .map(SearchHit::getContent)
+                .toList(), deadline, List.of());
     }
 }
\ No newline at end of file
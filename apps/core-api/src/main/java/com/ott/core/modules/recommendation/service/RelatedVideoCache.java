@@ -0,0 +1,259 @@
+package com.ott.core.modules.recommendation.service;
+
+import co.elastic.clients.elasticsearch._types.FieldValue;
+import com.github.benmanes.caffeine.cache.AsyncCache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import com.ott.core.global.concurrent.Deadline;
+import com.ott.core.modules.recommendation.component.RecommendationQueryBuilder;
+import com.ott.core.modules.recommendation.component.SearchCallRunner;
+import com.ott.core.modules.recommendation.config.CoWatchProperties;
+import com.ott.core.modules.recommendation.config.RelatedVideoCacheProperties;
+import com.ott.core.modules.search.document.VideoDocument;
+import com.ott.core.modules.search.event.VideoIndexSyncedEvent;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import jakarta.annotation.PostConstruct;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.elasticsearch.client.elc.NativeQuery;
+import org.springframework.data.elasticsearch.core.ElasticsearchOperations;
+import org.springframework.data.elasticsearch.core.MultiGetItem;
+import org.springframework.data.elasticsearch.core.SearchHit;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+/**
+ * 상세페이지 연관 영상 목록 프로세스 내 캐시 ((videoId, page, size) → 문서 목록)
+ * - 같은 키의 동시 미스는 한 번만 ES를 조회하고 나머지는 그 결과를 기다림 (single-flight, 조회는 추천 Executor에서)
+ * - 사용자별 정보(시청 진행률, 반응)는 캐시하지 않고 요청마다 붙임
+ * - co-watch가 켜져 있으면 태그 기반 결과에 함께 본 이웃을 일정 비율로 섞어 캐시
+ * - 영상 재색인/삭제가 ES에 반영되면 video:related:changed 채널로 모든 인스턴스에서 해당 영상의 목록을 제거
+ */
+@Slf4j
+@Component
+public class RelatedVideoCache implements MessageListener {
+
+    public static final String CHANGE_CHANNEL = "video:related:changed";
+
+    private final ElasticsearchOperations elasticsearchOperations;
+    private final RecommendationQueryBuilder queryBuilder;
+    private final SearchCallRunner searchCallRunner;
+    private final RelatedVideoCacheProperties properties;
+    private final CoWatchNeighborStore coWatchNeighborStore;
+    private final CoWatchProperties coWatchProperties;
+    private final StringRedisTemplate stringRedisTemplate;
+    private final RedisMessageListenerContainer redisMessageListenerContainer;
+    private final AsyncCache<RelatedKey, RelatedPage> cache;
+
+    public RelatedVideoCache(ElasticsearchOperations elasticsearchOperations,
+                             RecommendationQueryBuilder queryBuilder,
+                             SearchCallRunner searchCallRunner,
+                             RelatedVideoCacheProperties properties,
+                             CoWatchNeighborStore coWatchNeighborStore,
+                             CoWatchProperties coWatchProperties,
+                             StringRedisTemplate stringRedisTemplate,
+                             RedisMessageListenerContainer redisMessageListenerContainer,
+                             @Qualifier("recommendationTaskExecutor") Executor executor,
+                             MeterRegistry meterRegistry) {
+        this.elasticsearchOperations = elasticsearchOperations;
+        this.queryBuilder = queryBuilder;
+        this.searchCallRunner = searchCallRunner;
+        this.properties = properties;
+        this.coWatchNeighborStore = coWatchNeighborStore;
+        this.coWatchProperties = coWatchProperties;
+        this.stringRedisTemplate = stringRedisTemplate;
+        this.redisMessageListenerContainer = redisMessageListenerContainer;
+        long ttlNanos = Duration.ofSeconds(properties.getTtlSeconds()).toNanos();
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(properties.getMaxSize())
+                .executor(executor)
+                // 부분 결과는 바로 만료 (적재를 기다리던 요청에는 그대로 전달됨)
+                .expireAfter(new Expiry<RelatedKey, RelatedPage>() {
+                    @Override
+                    public long expireAfterCreate(RelatedKey key, RelatedPage value, long currentTime) {
+                        return value.partial() ? 0 : ttlNanos;
+                    }
+
+                    @Override
+                    public long expireAfterUpdate(RelatedKey key, RelatedPage value, long currentTime, long currentDuration) {
+                        return expireAfterCreate(key, value, currentTime);
+                    }
+
+                    @Override
+                    public long expireAfterRead(RelatedKey key, RelatedPage value, long currentTime, long currentDuration) {
+                        return currentDuration;
+                    }
+                })
+                .recordStats()
+                .buildAsync();
+        CaffeineCacheMetrics.monitor(meterRegistry, cache.synchronous(), "related-videos");
+    }
+
+    @PostConstruct
+    void subscribe() {
+        redisMessageListenerContainer.addMessageListener(this, new ChannelTopic(CHANGE_CHANNEL));
+    }
+
+    /**
+     * 연관 영상 문서 목록 (캐시 미스 시 추천 Executor에서 ES 조회)
+     * 요청 스레드는 마감 시각까지만 기다리고, 넘기면 빈 목록 (적재는 계속되어 같은 키를 기다리는 다른 요청과 다음 요청이 결과를 씀)
+     * 마감 시각을 넘겨 부분 결과일 수 있는 목록은 돌려주기만 하고 캐시에 남기지 않음
+     */
+    public List<VideoDocument> get(Long videoId, int page, int size, Deadline deadline) {
+        if (!properties.isEnabled()) {
+            return searchCallRunner.call("related", () -> load(videoId, page, size, deadline), deadline, List.of());
+        }
+
+        CompletableFuture<RelatedPage> future;
+        try {
+            future = cache.get(new RelatedKey(videoId, page, size),
+                    (key, executor) -> CompletableFuture.supplyAsync(() -> loadPage(videoId, page, size, deadline), executor));
+        } catch (RejectedExecutionException e) {
+            log.warn("[RelatedVideos] 추천 Executor 포화 - 빈 목록으로 대체: videoId={}", videoId);
+            return List.of();
+        }
+
+        long remainingMillis = Math.max(1, deadline.remaining().toMillis());
+        try {
+            return future.get(remainingMillis, TimeUnit.MILLISECONDS).documents();
+        } catch (TimeoutException e) {
+            log.warn("[RelatedVideos] 조회 시간 초과({}ms) - 빈 목록으로 대체: videoId={}", remainingMillis, videoId);
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw new IllegalStateException(e.getCause());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        return List.of();
+    }
+
+    /**
+     * 이 인스턴스에서 해당 영상의 모든 페이지 제거
+     */
+    public void invalidate(Long videoId) {
+        // 비동기 뷰에서 지워야 진행 중인(이전 문서로 적재 중인) 항목도 함께 빠짐
+        cache.asMap().keySet().removeIf(key -> key.videoId().equals(videoId));
+    }
+
+    /**
+     * ES 재색인/삭제가 끝난 영상 → 모든 인스턴스에 제거 알림
+     * 요청 커밋 시점이 아니라 색인 반영 후에 지워야, 그 사이 이전 문서로 다시 채워진 목록이 남지 않음
+     */
+    @EventListener
+    public void onVideoIndexSynced(VideoIndexSyncedEvent event) {
+        publishChange(event.videoId());
+    }
+
+    @Override
+    public void onMessage(Message message, byte[] pattern) {
+        try {
+            invalidate(Long.valueOf(new String(message.getBody(), StandardCharsets.UTF_8)));
+        } catch (NumberFormatException e) {
+            log.warn("[RelatedVideos] 형식이 맞지 않는 변경 알림 무시 - {}", new String(message.getBody(), StandardCharsets.UTF_8));
+        }
+    }
+
+    private void publishChange(Long videoId) {
+        // 알림 발행이 실패해도 이 인스턴스는 바로 반영, 나머지는 TTL로 수렴
+        invalidate(videoId);
+        try {
+            stringRedisTemplate.convertAndSend(CHANGE_CHANNEL, String.valueOf(videoId));
+        } catch (Exception e) {
+            log.warn("[RelatedVideos] 변경 알림 발행 실패 - videoId: {}: {}", videoId, e.getMessage());
+        }
+    }
+
+    /**
+     * 마감 시각을 넘겨 끝난 목록은 부분 결과일 수 있으므로 표시해 캐시에 남기지 않음
+     */
+    private RelatedPage loadPage(Long videoId, int page, int size, Deadline deadline) {
+        List<VideoDocument> documents = load(videoId, page, size, deadline);
+        return new RelatedPage(documents, deadline.isExpired());
+    }
+
+    private List<VideoDocument> load(Long videoId, int page, int size, Deadline deadline) {
+        VideoDocument currentVideo = elasticsearchOperations.get(videoId.toString(), VideoDocument.class);
+        if (currentVideo == null) {
+            return List.of();
+        }
+
+        List<VideoDocument> tagBased = List.of();
+        if (currentVideo.getTags() != null && !currentVideo.getTags().isEmpty()) {
+            List<FieldValue> tagValues = currentVideo.getTags().stream().map(FieldValue::of).toList();
+            NativeQuery searchQuery = queryBuilder.buildRelatedQuery(tagValues, currentVideo.getVideoId(), page, size);
+            searchQuery.setTimeout(deadline.cap(deadline.remaining()));
+            tagBased = elasticsearchOperations.search(searchQuery, VideoDocument.class).getSearchHits().stream()
+                    .map(SearchHit::getContent)
+                    .toList();
+        }
+
+        if (!coWatchProperties.isEnabled()) {
+            return tagBased;
+        }
+        // 페이지마다 이웃 목록의 다음 구간을 섞음 (태그 기반 페이지 경계는 그대로, 밀려난 끝부분은 빠짐)
+        int coWatchSlots = (int) Math.round(size * Math.min(1.0, Math.max(0.0, coWatchProperties.getBlendRatio())));
+        List<Long> neighborIds = coWatchNeighborStore.getNeighbors(videoId, (long) page * coWatchSlots, coWatchSlots);
+        return blend(getDocuments(neighborIds), tagBased, videoId, size, coWatchSlots);
+    }
+
+    /**
+     * 앞에서부터 비율에 맞춰 co-watch와 태그 기반을 번갈아 채움 (중복/자기 자신 제외, 한쪽이 모자라면 다른 쪽으로 채움)
+     */
+    private static List<VideoDocument> blend(List<VideoDocument> coWatched, List<VideoDocument> tagBased,
+                                             Long videoId, int size, int coWatchSlots) {
+        Map<Long, VideoDocument> blended = new LinkedHashMap<>();
+        int c = 0;
+        int t = 0;
+        while (blended.size() < size && (c < coWatched.size() || t < tagBased.size())) {
+            // 지금까지 채운 수 기준으로 co-watch 몫이 남았으면 co-watch, 아니면 태그 기반
+            long coWatchDue = Math.round((double) (blended.size() + 1) * coWatchSlots / size);
+            boolean takeCoWatch = c < coWatched.size() && (c < coWatchDue || t >= tagBased.size());
+            VideoDocument doc = takeCoWatch ? coWatched.get(c++) : tagBased.get(t++);
+            if (!doc.getVideoId().equals(videoId)) {
+                blended.putIfAbsent(doc.getVideoId(), doc);
+            }
+        }
+        return List.copyOf(blended.values());
+    }
+
+    // videoId 순서대로 문서 일괄 조회 (삭제되었거나 색인에서 빠진 영상은 제외)
+    private List<VideoDocument> getDocuments(List<Long> videoIds) {
+        if (videoIds.isEmpty()) {
+            return List.of();
+        }
+        NativeQuery query = NativeQuery.builder()
+                .withIds(videoIds.stream().map(String::valueOf).toList())
+                .build();
+        return elasticsearchOperations.multiGet(query, VideoDocument.class).stream()
+                .filter(MultiGetItem::hasItem)
+                .map(MultiGetItem::getItem)
+                .filter(doc -> !doc.isDeleted())
+                .toList();
+    }
+
+    private record RelatedKey(Long videoId, int page, int size) {
+    }
+
+    private record RelatedPage(List<VideoDocument> documents, boolean partial) {
+    }
+}
@@ -0,0 +1,117 @@
+package com.ott.core.modules.recommendation.service;
+
+import com.ott.common.util.BloomFilterSpec;
+import com.ott.core.modules.recommendation.config.SeenFilterProperties;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.connection.BitFieldSubCommands;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * 사용자별 완주 영상 Bloom filter
+ * - feed:seen:{userId}  STRING(비트맵)  완주한 videoId의 비트 k개를 1로 기록
+ * 시청 종료 시 실시간으로 추가하고, batch-analytics가 watch_history에서 주기적으로 다시 만듦 (오래된 기록 정리)
+ * 오탐이면 본 적 없는 영상이 빠질 뿐이고, 미탐은 없음. Redis 오류 시에는 거르지 않고 그대로 노출
+ */
+@Slf4j
+@Component
+public class SeenVideoFilter {
+
+    private static final String KEY_PREFIX = "feed:seen:";
+
+    private final StringRedisTemplate stringRedisTemplate;
+    private final SeenFilterProperties properties;
+    private final BloomFilterSpec spec;
+
+    public SeenVideoFilter(StringRedisTemplate stringRedisTemplate, SeenFilterProperties properties) {
+        this.stringRedisTemplate = stringRedisTemplate;
+        this.properties = properties;
+        this.spec = BloomFilterSpec.of(properties.getExpectedItems(), properties.getFalsePositiveRate());
+        log.info("SeenVideoFilter initialized (bits: {}, hashes: {})", spec.bitSize(), spec.hashCount());
+    }
+
+    public boolean isEnabled() {
+        return properties.isEnabled();
+    }
+
+    /**
+     * 완주한 영상 기록 (BITFIELD 한 번 + 만료 갱신)
+     */
+    public void markSeen(Long userId, Long videoId) {
+        if (!properties.isEnabled()) {
+            return;
+        }
+        BitFieldSubCommands commands = BitFieldSubCommands.create();
+        for (long offset : spec.offsets(videoId)) {
+            commands = commands.set(BitFieldSubCommands.BitFieldType.unsigned(1)).valueAt(offset).to(1);
+        }
+        BitFieldSubCommands subCommands = commands;
+        long ttlSeconds = Math.max(1, properties.getTtlDays()) * 24L * 60 * 60;
+        try {
+            stringRedisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+                byte[] key = bytes(key(userId));
+                connection.stringCommands().bitField(key, subCommands);
+                connection.keyCommands().expire(key, ttlSeconds);
+                return null;
+            });
+        } catch (Exception e) {
+            log.warn("[SeenFilter] 완주 영상 기록 실패 - userId: {}, videoId: {}: {}", userId, videoId, e.getMessage());
+        }
+    }
+
+    /**
+     * 후보 중 이미 본 것으로 판단되는 videoId (후보 전체를 BITFIELD GET 한 번으로 확인)
+     */
+    public Set<Long> findSeen(Long userId, Collection<Long> videoIds) {
+        if (!properties.isEnabled() || userId == null || videoIds.isEmpty()) {
+            return Set.of();
+        }
+        List<Long> candidates = List.copyOf(videoIds);
+        BitFieldSubCommands commands = BitFieldSubCommands.create();
+        for (Long videoId : candidates) {
+            for (long offset : spec.offsets(videoId)) {
+                commands = commands.get(BitFieldSubCommands.BitFieldType.unsigned(1)).valueAt(offset);
+            }
+        }
+
+        List<Long> bits;
+        try {
+            bits = stringRedisTemplate.opsForValue().bitField(key(userId), commands);
+        } catch (Exception e) {
+            log.warn("[SeenFilter] 완주 영상 조회 실패 - 거르지 않음, userId: {}: {}", userId, e.getMessage());
+            return Set.of();
+        }
+        if (bits == null || bits.size() < candidates.size() * spec.hashCount()) {
+            return Set.of();
+        }
+
+        Set<Long> seen = new HashSet<>();
+        int index = 0;
+        for (Long videoId : candidates) {
+            boolean all = true;
+            for (int i = 0; i < spec.hashCount(); i++) {
+                Long bit = bits.get(index++);
+                all &= bit != null && bit == 1L;
+            }
+            if (all) {
+                seen.add(videoId);
+            }
+        }
+        return seen;
+    }
+
+    private static String key(Long userId) {
+        return KEY_PREFIX + userId;
+    }
+
+    private static byte[] bytes(String value) {
+        return value.getBytes(StandardCharsets.UTF_8);
+    }
+}
@@ -0,0 +1,7 @@
+package com.ott.core.modules.search.event;
+
+/**
+ * ES 검색 문서 색인/삭제가 반영된 후 발행 (검색 결과를 캐시하는 쪽의 무효화 시점)
+ */
+public record VideoIndexSyncedEvent(Long videoId) {
+}
@@ -2,16 +2,18 @@ package com.ott.core.modules.search.listener;
 
 import com.ott.common.error.BusinessException;
 import com.ott.common.error.ErrorCode;
-import com.ott.common.persistence.entity.Tag;
 import com.ott.common.persistence.entity.VideoMetadata;
 import com.ott.core.modules.search.document.VideoDocument;
 import com.ott.core.modules.search.event.VideoIndexDeletedEvent;
 import com.ott.core.modules.search.event.VideoIndexRequestedEvent;
+import com.ott.core.modules.search.event.VideoIndexSyncedEvent;
 import com.ott.core.modules.search.repository.VideoSearchRepository;
 import com.ott.core.modules.tag.repository.VideoTagRepository;
+import com.ott.core.modules.tag.service.TagTreeSnapshotHolder;
 import com.ott.core.modules.video.repository.VideoMetadataRepository;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.retry.annotation.Backoff;
 import org.springframework.retry.annotation.Recover;
 import org.springframework.retry.annotation.Retryable;
@@ -32,11 +34,13 @@ public class VideoSearchEventListener {
     private final VideoMetadataRepository videoMetadataRepository;
     private final VideoTagRepository videoTagRepository;
     private final VideoSearchRepository videoSearchRepository;
+    private final TagTreeSnapshotHolder tagTreeSnapshotHolder;
+    private final ApplicationEventPublisher eventPublisher;
 
     /**
      * DB 저장이 완료된 후, ES에 문서를 색인
      */
-    @Async
+    @Async("searchIndexTaskExecutor")
     @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
     @Transactional(propagation = Propagation.REQUIRES_NEW, readOnly = true)
     @Retryable(value = {Exception.class}, maxAttempts = 3, backoff = @Backoff(delay = 2000))
@@ -50,14 +54,9 @@ public class VideoSearchEventListener {
                         return new BusinessException(ErrorCode.VIDEO_METADATA_NOT_FOUND);
                     });
         try {
-            List<Tag> tags = videoTagRepository.findTagsWithParentByVideoMetadataId(metadata.getId());
-
-            List<String> distinctTagNames = tags.stream()
-                    .flatMap(tag -> tag.getParent() != null
-                            ? java.util.stream.Stream.of(tag.getTagName(), tag.getParent().getTagName())
-                            : java.util.stream.Stream.of(tag.getTagName()))
-                    .distinct()
-                    .toList();
+            // 태그 ID만 조회하고 이름/부모 태그는 태그 트리 스냅샷에서 풀어냄
+            List<Long> tagIds = videoTagRepository.findTagIdsByVideoMetadataId(metadata.getId());
+            List<String> distinctTagNames = tagTreeSnapshotHolder.current().namesWithParents(tagIds);
 
             VideoDocument document = VideoDocument.from(metadata, distinctTagNames);
 
@@ -69,12 +68,14 @@ public class VideoSearchEventListener {
             log.warn("[Search] Elasticsearch 저장 중 오류 발생 (재시도 예정) - videoId: {}", event.videoId());
             throw new BusinessException(ErrorCode.ELASTICSEARCH_SYNC_ERROR);
         }
+        // 색인 반영 후에 알려야 캐시가 이전 문서로 다시 채워지지 않음 (알림 처리 실패가 재색인 재시도로 이어지지 않도록 try 밖에서)
+        eventPublisher.publishEvent(new VideoIndexSyncedEvent(event.videoId()));
     }
 
     /**
      * 비디오 삭제 이벤트 처리
      */
-    @Async
+    @Async("searchIndexTaskExecutor")
     @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
     @Retryable(value = {Exception.class}, maxAttempts = 3, backoff = @Backoff(delay = 2000))
     public void handleVideoIndexDelete(VideoIndexDeletedEvent event) {
@@ -86,6 +87,7 @@ public class VideoSearchEventListener {
             log.warn("[Search] Elasticsearch 삭제 중 오류 발생 (재시도 예정) - videoId: {}", event.videoId());
             throw new BusinessException(ErrorCode.ELASTICSEARCH_SYNC_ERROR);
         }
+        eventPublisher.publishEvent(new VideoIndexSyncedEvent(event.videoId()));
     }
     @Recover
     public void recover(Exception e, VideoIndexRequestedEvent event) {
@@ -0,0 +1,47 @@
+package com.ott.core.modules.search.service;
+
+import com.ott.core.modules.search.document.VideoDocument;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.elasticsearch.BulkFailureException;
+import org.springframework.data.elasticsearch.core.ElasticsearchOperations;
+import org.springframework.data.elasticsearch.core.document.Document;
+import org.springframework.data.elasticsearch.core.query.UpdateQuery;
+import org.springframework.stereotype.Service;
+
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 검색 문서의 카운터 필드만 부분 갱신 (전체 문서 재색인 없이 _bulk update 1회)
+ * 값이 같으면 ES가 noop으로 처리하므로 변경 여부를 따로 추적하지 않음
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class VideoSearchCounterService {
+
+    private final ElasticsearchOperations elasticsearchOperations;
+
+    /**
+     * @param viewCounts videoId → 조회수
+     */
+    public void updateViewCounts(Map<Long, Long> viewCounts) {
+        if (viewCounts.isEmpty()) {
+            return;
+        }
+
+        List<UpdateQuery> queries = viewCounts.entrySet().stream()
+                .map(e -> UpdateQuery.builder(String.valueOf(e.getKey()))
+                        .withDocument(Document.create().append("viewCount", e.getValue()))
+                        .build())
+                .toList();
+
+        try {
+            elasticsearchOperations.bulkUpdate(queries, VideoDocument.class);
+        } catch (BulkFailureException e) {
+            // 색인 전/삭제된 영상 문서는 없을 수 있음 → 나머지는 반영된 상태이므로 로그만 남김
+            log.warn("[Search] 조회수 부분 갱신 일부 실패 - 대상: {}건, 실패: {}건", queries.size(), e.getFailedDocuments().size());
+        }
+    }
+}
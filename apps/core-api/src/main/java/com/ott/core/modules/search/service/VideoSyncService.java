@@ -1,10 +1,11 @@
 package com.ott.core.modules.search.service;
 
 import com.ott.common.persistence.entity.VideoMetadata;
-import com.ott.common.persistence.entity.VideoTag;
 import com.ott.core.modules.search.document.VideoDocument;
 import com.ott.core.modules.search.repository.VideoSearchRepository;
 import com.ott.core.modules.tag.repository.VideoTagRepository;
+import com.ott.core.modules.tag.service.TagTreeSnapshotHolder;
+import com.ott.core.modules.tag.snapshot.TagTreeSnapshot;
 import com.ott.core.modules.video.repository.VideoMetadataRepository;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -23,11 +24,12 @@ public class VideoSyncService {
         private final VideoMetadataRepository videoMetadataRepository;
         private final VideoTagRepository videoTagRepository;
         private final VideoSearchRepository videoSearchRepository;
+        private final TagTreeSnapshotHolder tagTreeSnapshotHolder;
 
         /**
          * DB의 모든 비디오 데이터를 엘라스틱서치로 동기화
          */
-        @Async
+        @Async("searchIndexTaskExecutor")
         public void syncAllVideosToElasticsearch() {
             log.info("[ES Sync] DB에서 비디오 메타데이터 조회를 시작합니다...");
 
@@ -35,6 +37,8 @@ public class VideoSyncService {
             int chunkSize = 1000;
             boolean hasNext = true;
             int totalSynced = 0;
+            // 전체 동기화 동안 같은 태그 트리 기준으로 색인
+            TagTreeSnapshot tagTree = tagTreeSnapshotHolder.current();
 
             while (hasNext) {
                 // findAll 대신 새로 만든 findSliceBy 호출 (Page -> Slice로 변경)
@@ -44,24 +48,16 @@ public class VideoSyncService {
 
                 List<Long> videoIds = videoSlice.stream().map(VideoMetadata::getId).toList();
 
-                // 부모 태그까지 FETCH JOIN 하는 쿼리 사용 (N+1 해결)
-                List<VideoTag> allTagsForChunk = videoTagRepository.findWithTagAndParentByVideoMetadataIdIn(videoIds);
-
-                // 부모 태그를 포함하도록 Grouping 로직 완벽 수정
-                java.util.Map<Long, List<String>> tagsByVideoId = allTagsForChunk.stream()
+                // 태그 ID만 한 번에 조회 (N+1 해결), 이름/부모 태그는 스냅샷에서 풀어냄
+                java.util.Map<Long, List<String>> tagsByVideoId = videoTagRepository.findTagIdRowsByVideoMetadataIdIn(videoIds).stream()
                         .collect(java.util.stream.Collectors.groupingBy(
-                                vt -> vt.getVideoMetadata().getId(),
-                                java.util.stream.Collectors.mapping(VideoTag::getTag, java.util.stream.Collectors.toList())
+                                row -> (Long) row[0],
+                                java.util.stream.Collectors.mapping(row -> (Long) row[1], java.util.stream.Collectors.toList())
                         ))
                         .entrySet().stream()
                         .collect(java.util.stream.Collectors.toMap(
                                 java.util.Map.Entry::getKey,
-                                e -> e.getValue().stream()
-                                        .flatMap(tag -> tag.getParent() != null
-                                                ? java.util.stream.Stream.of(tag.getTagName(), tag.getParent().getTagName())
-                                                : java.util.stream.Stream.of(tag.getTagName()))
-                                        .distinct()
-                                        .toList()
+                                e -> tagTree.namesWithParents(e.getValue())
                         ));
 
                 // 비디오 엔티티를 ES용 문서로 변환
@@ -11,6 +11,7 @@ import lombok.RequiredArgsConstructor;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RestController;
 
@@ -47,4 +48,11 @@ public class TagApiController {
         List<ParentTagWithChildResponse> response = tagService.getParentTagsWithChild();
         return ApiResponse.success(response);
     }
+
+    @Operation(summary = "[관리자] 태그 트리 캐시 갱신", description = "DB에서 태그를 직접 변경한 뒤 모든 서버의 태그 트리 스냅샷을 다시 적재합니다.")
+    @PostMapping("/admin/refresh")
+    public ApiResponse<String> refreshTagTree() {
+        long version = tagService.refreshTagTree();
+        return ApiResponse.success("✅ 태그 트리 스냅샷 갱신을 요청했습니다. (version: " + version + ")");
+    }
 }
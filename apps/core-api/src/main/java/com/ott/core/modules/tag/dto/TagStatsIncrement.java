@@ -0,0 +1,15 @@
+package com.ott.core.modules.tag.dto;
+
+import java.time.LocalDate;
+
+/**
+ * 사용자-태그-일자 단위 시청 통계 증분
+ */
+public record TagStatsIncrement(
+        Long tagId,
+        Long userId,
+        LocalDate statsDate,
+        int viewTime,
+        int viewCount
+) {
+}
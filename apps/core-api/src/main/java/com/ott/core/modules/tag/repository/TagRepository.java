@@ -8,9 +8,7 @@ import java.util.List;
 
 public interface TagRepository extends JpaRepository<Tag, Long> {
 
-    @Query("SELECT t FROM Tag t WHERE t.parent IS NULL ORDER BY t.tagName")
-    List<Tag> findAllParentTags();
-
-    @Query("SELECT t FROM Tag t JOIN FETCH t.parent WHERE t.parent IS NOT NULL ORDER BY t.parent.id, t.tagName")
-    List<Tag> findAllChildTagsWithParent();
+    // 태그 트리 스냅샷용 (tagId, tagName, parentId, depth)
+    @Query("SELECT t.id, t.tagName, p.id, t.depth FROM Tag t LEFT JOIN t.parent p")
+    List<Object[]> findAllTagRows();
 }
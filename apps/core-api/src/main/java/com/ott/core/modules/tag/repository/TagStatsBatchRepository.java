@@ -0,0 +1,59 @@
+package com.ott.core.modules.tag.repository;
+
+import com.ott.common.util.IdGenerator;
+import com.ott.core.modules.tag.dto.TagStatsIncrement;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.List;
+
+@Repository
+@RequiredArgsConstructor
+public class TagStatsBatchRepository {
+
+    private final JdbcTemplate jdbcTemplate;
+
+    /**
+     * (tag_id, user_id, stats_date) 단위로 시청 시간/횟수를 누적
+     */
+    public int addAll(List<TagStatsIncrement> increments) {
+        if (increments.isEmpty()) {
+            return 0;
+        }
+
+        OffsetDateTime now = OffsetDateTime.now(ZoneOffset.UTC);
+        StringBuilder sql = new StringBuilder("""
+                INSERT INTO tag_stats (tag_stats_id, tag_id, user_id, stats_date, total_view_time, view_count, created_at, updated_at)
+                VALUES
+                """);
+        List<Object> params = new ArrayList<>(increments.size() * 8);
+
+        for (int i = 0; i < increments.size(); i++) {
+            TagStatsIncrement increment = increments.get(i);
+            sql.append(i == 0 ? "" : ",\n").append("(?, ?, ?, ?, ?, ?, ?, ?)");
+            params.add(IdGenerator.generate());
+            params.add(increment.tagId());
+            params.add(increment.userId());
+            params.add(increment.statsDate());
+            params.add(increment.viewTime());
+            params.add(increment.viewCount());
+            params.add(now);
+            params.add(now);
+        }
+
+        sql.append("""
+
+                ON CONFLICT (tag_id, user_id, stats_date)
+                DO UPDATE SET
+                    total_view_time = tag_stats.total_view_time + EXCLUDED.total_view_time,
+                    view_count = tag_stats.view_count + EXCLUDED.view_count,
+                    updated_at = EXCLUDED.updated_at
+                """);
+
+        return jdbcTemplate.update(sql.toString(), params.toArray());
+    }
+}
@@ -17,13 +17,6 @@ public interface VideoTagRepository extends JpaRepository<VideoTag, Long> {
     @Query("SELECT vt.tag FROM VideoTag vt JOIN vt.tag WHERE vt.videoMetadata.id = :videoMetadataId")
     List<Tag> findTagsByVideoMetadataId(@Param("videoMetadataId") Long videoMetadataId);
 
-    /**
-     * N+1 방지: 여러 비디오 메타데이터 ID를 IN 절로 던져서 연관된 태그를 한 번에 가져옵니다.
-     * (JOIN FETCH를 써서 Tag 테이블까지 쿼리 한 방에 가져옵니다)
-     */
-    @Query("SELECT vt FROM VideoTag vt JOIN FETCH vt.tag WHERE vt.videoMetadata.id IN :videoMetadataIds")
-    List<VideoTag> findWithTagByVideoMetadataIdIn(@Param("videoMetadataIds") List<Long> videoMetadataIds);
-
     @Modifying
     @Query("DELETE FROM VideoTag vt WHERE vt.videoMetadata = :videoMetadata")
     void deleteAllByVideoMetadata(@Param("videoMetadata") VideoMetadata videoMetadata);
@@ -31,11 +24,16 @@ public interface VideoTagRepository extends JpaRepository<VideoTag, Long> {
     @Query("SELECT vt.videoMetadata FROM VideoTag vt WHERE vt.tag.id = :tagId AND vt.videoMetadata.deleted = false ORDER BY vt.videoMetadata.viewCount DESC")
     List<VideoMetadata> findTop10VideosByTagId(@Param("tagId") Long tagId, Pageable pageable);
 
-    // 1. 단건 비디오에 대한 태그 + 부모 태그 페치 조인 (EventListener용)
-    @Query("SELECT t FROM VideoTag vt JOIN vt.tag t LEFT JOIN FETCH t.parent WHERE vt.videoMetadata.id = :metadataId")
-    List<Tag> findTagsWithParentByVideoMetadataId(@Param("metadataId") Long metadataId);
+    // 태그 이름/부모는 태그 트리 스냅샷에서 풀고, 여기서는 연결된 태그 ID만 조회
+    // 1. 단건 비디오의 태그 ID (EventListener용)
+    @Query("SELECT vt.tag.id FROM VideoTag vt WHERE vt.videoMetadata.id = :metadataId")
+    List<Long> findTagIdsByVideoMetadataId(@Param("metadataId") Long metadataId);
+
+    // 2. 다건 비디오의 (videoMetadataId, tagId) (SyncService 벌크, 시청 통계용)
+    @Query("SELECT vt.videoMetadata.id, vt.tag.id FROM VideoTag vt WHERE vt.videoMetadata.id IN :metadataIds")
+    List<Object[]> findTagIdRowsByVideoMetadataIdIn(@Param("metadataIds") List<Long> metadataIds);
 
-    // 2. 다건 비디오에 대한 태그 + 부모 태그 페치 조인 (SyncService 벌크용)
-    @Query("SELECT vt FROM VideoTag vt JOIN FETCH vt.tag t LEFT JOIN FETCH t.parent WHERE vt.videoMetadata.id IN :metadataIds")
-    List<VideoTag> findWithTagAndParentByVideoMetadataIdIn(@Param("metadataIds") List<Long> metadataIds);
-}
\ No newline at end of file
+    // 3. 다건 비디오(videoId 기준)의 (videoId, tagId) - 취향 점수 일괄 반영용
+    @Query("SELECT vm.videoId, vt.tag.id FROM VideoTag vt JOIN vt.videoMetadata vm WHERE vm.videoId IN :videoIds")
+    List<Object[]> findTagIdRowsByVideoIdIn(@Param("videoIds") List<Long> videoIds);
+}
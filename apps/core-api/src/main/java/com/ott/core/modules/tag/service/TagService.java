@@ -7,8 +7,8 @@ import com.ott.common.persistence.entity.WatchHistory;
 import com.ott.core.modules.tag.dto.response.ChildTagResponse;
 import com.ott.core.modules.tag.dto.response.ParentTagWithChildResponse;
 import com.ott.core.modules.tag.dto.response.TagVideoResponse;
-import com.ott.core.modules.tag.repository.TagRepository;
 import com.ott.core.modules.tag.repository.VideoTagRepository;
+import com.ott.core.modules.tag.snapshot.TagTreeSnapshot;
 import com.ott.core.modules.user.repository.UserRepository;
 import com.ott.core.modules.usertag.repository.UserTagRepository;
 import com.ott.core.modules.watch.repository.WatchHistoryRepository;
@@ -30,7 +30,7 @@ public class TagService {
     private final VideoTagRepository videoTagRepository;
     private final UserRepository userRepository;
     private final WatchHistoryRepository watchHistoryRepository;
-    private final TagRepository tagRepository;
+    private final TagTreeSnapshotHolder tagTreeSnapshotHolder;
 
     public List<ChildTagResponse> getUserChildTags(Long userId) {
         List<Tag> tagList = userTagRepository.findChildTagsByUserId(userId);
@@ -78,26 +78,30 @@ public class TagService {
         return Math.min(100.0, (double) lastPosition / duration * 100);
     }
 
+    /**
+     * 태그 트리 스냅샷에서 조회 (DB 조회 없음)
+     */
     public List<ParentTagWithChildResponse> getParentTagsWithChild() {
-        List<Tag> parentTags = tagRepository.findAllParentTags();
-        List<Tag> childTags = tagRepository.findAllChildTagsWithParent();
-
-        Map<Long, List<ChildTagResponse>> childrenByParentId = childTags.stream()
-                .collect(Collectors.groupingBy(
-                        t -> t.getParent().getId(),
-                        Collectors.mapping(
-                                t -> new ChildTagResponse(String.valueOf(t.getId()), t.getTagName()),
-                                Collectors.toList()
-                        )
-                ));
+        TagTreeSnapshot snapshot = tagTreeSnapshotHolder.current();
 
-        return parentTags.stream()
+        return snapshot.roots().stream()
                 .map(parent -> new ParentTagWithChildResponse(
-                        String.valueOf(parent.getId()),
-                        parent.getTagName(),
-                        childrenByParentId.getOrDefault(parent.getId(), List.of())
+                        String.valueOf(parent.id()),
+                        parent.tagName(),
+                        snapshot.childrenOf(parent.id()).stream()
+                                .map(child -> new ChildTagResponse(String.valueOf(child.id()), child.tagName()))
+                                .toList()
                 ))
                 .toList();
     }
 
+    /**
+     * 태그 변경 후 모든 인스턴스의 태그 트리 스냅샷 갱신 요청
+     */
+    public long refreshTagTree() {
+        long version = tagTreeSnapshotHolder.refresh().version();
+        tagTreeSnapshotHolder.publishChange();
+        return version;
+    }
+
 }
@@ -0,0 +1,111 @@
+package com.ott.core.modules.tag.service;
+
+import com.ott.core.modules.tag.repository.TagRepository;
+import com.ott.core.modules.tag.snapshot.TagNode;
+import com.ott.core.modules.tag.snapshot.TagTreeSnapshot;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 태그 트리 스냅샷 보관 및 갱신
+ * - 첫 조회 시 DB에서 적재, 이후 tag:tree:changed 채널 메시지를 받으면 모든 인스턴스가 다시 적재
+ * - 메시지 유실 대비로 주기적으로도 다시 적재 (내용이 같으면 교체하지 않음)
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class TagTreeSnapshotHolder implements MessageListener {
+
+    public static final String CHANGE_CHANNEL = "tag:tree:changed";
+
+    private final TagRepository tagRepository;
+    private final StringRedisTemplate stringRedisTemplate;
+    private final RedisMessageListenerContainer redisMessageListenerContainer;
+
+    private final AtomicLong versionSequence = new AtomicLong();
+    private volatile TagTreeSnapshot snapshot = TagTreeSnapshot.EMPTY;
+
+    @PostConstruct
+    void subscribe() {
+        redisMessageListenerContainer.addMessageListener(this, new ChannelTopic(CHANGE_CHANNEL));
+    }
+
+    /**
+     * 현재 스냅샷 (아직 적재 전이면 적재 후 반환)
+     */
+    public TagTreeSnapshot current() {
+        TagTreeSnapshot current = snapshot;
+        return current.version() == 0 ? refresh() : current;
+    }
+
+    /**
+     * DB에서 태그 트리를 다시 읽어 내용이 바뀌었을 때만 교체
+     */
+    public synchronized TagTreeSnapshot refresh() {
+        List<TagNode> nodes = tagRepository.findAllTagRows().stream()
+                .map(row -> new TagNode(
+                        (Long) row[0],
+                        (String) row[1],
+                        row[2] == null ? TagNode.NO_PARENT : (Long) row[2],
+                        row[3] == null ? 0 : (Integer) row[3]))
+                .toList();
+
+        TagTreeSnapshot current = snapshot;
+        if (current.version() != 0 && current.sameContent(nodes)) {
+            return current;
+        }
+
+        TagTreeSnapshot next = TagTreeSnapshot.of(versionSequence.incrementAndGet(), nodes);
+        snapshot = next;
+        log.info("[TagTree] 스냅샷 교체 - version: {}, 태그 수: {}", next.version(), next.size());
+        return next;
+    }
+
+    /**
+     * 태그 변경을 모든 인스턴스에 알림 (트랜잭션 안이면 커밋 후 발행)
+     */
+    public void publishChange() {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    stringRedisTemplate.convertAndSend(CHANGE_CHANNEL, String.valueOf(System.currentTimeMillis()));
+                }
+            });
+            return;
+        }
+        stringRedisTemplate.convertAndSend(CHANGE_CHANNEL, String.valueOf(System.currentTimeMillis()));
+    }
+
+    @Override
+    public void onMessage(Message message, byte[] pattern) {
+        try {
+            refresh();
+        } catch (Exception e) {
+            // 다음 메시지나 주기 갱신에서 다시 시도
+            log.warn("[TagTree] 변경 알림 후 스냅샷 갱신 실패 - 기존 스냅샷 유지: {}", e.getMessage());
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${app.tag.snapshot.refresh-interval-ms:600000}")
+    public void scheduledRefresh() {
+        try {
+            refresh();
+        } catch (Exception e) {
+            log.warn("[TagTree] 주기 스냅샷 갱신 실패 - 기존 스냅샷 유지: {}", e.getMessage());
+        }
+    }
+}
@@ -0,0 +1,19 @@
+package com.ott.core.modules.tag.snapshot;
+
+/**
+ * 태그 트리 스냅샷의 노드 (불변)
+ * @param parentId 부모 태그 ID, 최상위 태그면 {@link #NO_PARENT}
+ */
+public record TagNode(
+        long id,
+        String tagName,
+        long parentId,
+        int depth
+) {
+
+    public static final long NO_PARENT = 0L;
+
+    public boolean isRoot() {
+        return parentId == NO_PARENT;
+    }
+}
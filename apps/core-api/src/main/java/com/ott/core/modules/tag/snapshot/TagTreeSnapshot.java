@@ -0,0 +1,146 @@
+package com.ott.core.modules.tag.snapshot;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * 태그 트리 전체의 불변 스냅샷
+ * - 태그 수가 적고 거의 바뀌지 않으므로 통째로 메모리에 두고, 변경 시 새 스냅샷으로 교체 (읽기 측 잠금 없음)
+ * - id → 노드 조회는 정렬된 long[] 이진 탐색 (박싱 없음), 부모/자식은 같은 인덱스의 배열로 보관
+ */
+public final class TagTreeSnapshot {
+
+    public static final TagTreeSnapshot EMPTY = new TagTreeSnapshot(0L, List.of());
+
+    private static final Comparator<TagNode> BY_NAME = Comparator.comparing(TagNode::tagName);
+
+    private final long version;
+    private final long[] ids;
+    private final TagNode[] nodes;
+    private final int[] parentIndex;
+    private final List<List<TagNode>> children;
+    private final List<TagNode> roots;
+
+    private TagTreeSnapshot(long version, List<TagNode> source) {
+        this.version = version;
+        this.nodes = source.stream()
+                .sorted(Comparator.comparingLong(TagNode::id))
+                .toArray(TagNode[]::new);
+        this.ids = Arrays.stream(nodes).mapToLong(TagNode::id).toArray();
+        this.parentIndex = new int[nodes.length];
+
+        List<List<TagNode>> childLists = new ArrayList<>(nodes.length);
+        for (int i = 0; i < nodes.length; i++) {
+            childLists.add(new ArrayList<>());
+        }
+        List<TagNode> rootList = new ArrayList<>();
+        for (int i = 0; i < nodes.length; i++) {
+            int parent = nodes[i].isRoot() ? -1 : indexOf(nodes[i].parentId());
+            parentIndex[i] = parent;
+            if (parent >= 0) {
+                childLists.get(parent).add(nodes[i]);
+            } else {
+                // 부모가 없거나 부모가 스냅샷에 없는 태그는 최상위로 취급
+                rootList.add(nodes[i]);
+            }
+        }
+
+        rootList.sort(BY_NAME);
+        this.roots = List.copyOf(rootList);
+        this.children = childLists.stream()
+                .map(list -> {
+                    list.sort(BY_NAME);
+                    return List.copyOf(list);
+                })
+                .toList();
+    }
+
+    public static TagTreeSnapshot of(long version, List<TagNode> nodes) {
+        return new TagTreeSnapshot(version, nodes);
+    }
+
+    public long version() {
+        return version;
+    }
+
+    public int size() {
+        return nodes.length;
+    }
+
+    /**
+     * @return 태그 노드, 없으면 null
+     */
+    public TagNode find(long id) {
+        int index = indexOf(id);
+        return index < 0 ? null : nodes[index];
+    }
+
+    public boolean contains(long id) {
+        return indexOf(id) >= 0;
+    }
+
+    /**
+     * @return 부모 태그 노드, 최상위이거나 태그가 없으면 null
+     */
+    public TagNode parentOf(long id) {
+        int index = indexOf(id);
+        if (index < 0 || parentIndex[index] < 0) {
+            return null;
+        }
+        return nodes[parentIndex[index]];
+    }
+
+    /**
+     * @return 이름순 자식 태그 목록 (불변)
+     */
+    public List<TagNode> childrenOf(long id) {
+        int index = indexOf(id);
+        return index < 0 ? List.of() : children.get(index);
+    }
+
+    /**
+     * @return 이름순 최상위 태그 목록 (불변)
+     */
+    public List<TagNode> roots() {
+        return roots;
+    }
+
+    /**
+     * 태그 이름과 부모 태그 이름을 중복 없이 펼침 (검색 문서 색인용)
+     * 스냅샷에 없는 태그는 건너뜀
+     */
+    public List<String> namesWithParents(Collection<Long> tagIds) {
+        Set<String> names = new LinkedHashSet<>();
+        for (Long tagId : tagIds) {
+            int index = indexOf(tagId);
+            if (index < 0) {
+                continue;
+            }
+            names.add(nodes[index].tagName());
+            if (parentIndex[index] >= 0) {
+                names.add(nodes[parentIndex[index]].tagName());
+            }
+        }
+        return List.copyOf(names);
+    }
+
+    /**
+     * 같은 태그 구성인지 (버전 제외) - 변경 없는 갱신은 교체하지 않기 위해 사용
+     */
+    public boolean sameContent(List<TagNode> other) {
+        TagNode[] sorted = other.stream()
+                .sorted(Comparator.comparingLong(TagNode::id))
+                .toArray(TagNode[]::new);
+        return Arrays.equals(nodes, sorted);
+    }
+
+    private int indexOf(long id) {
+        int index = Arrays.binarySearch(ids, id);
+        return index < 0 ? -1 : index;
+    }
+}
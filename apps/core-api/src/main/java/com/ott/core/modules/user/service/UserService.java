@@ -6,6 +6,7 @@ import com.ott.common.persistence.entity.UserPreference;
 import com.ott.common.persistence.enums.UserRole;
 import com.ott.core.global.exception.UserNotFoundException;
 import com.ott.core.modules.preference.repository.UserPreferenceRepository;
+import com.ott.core.modules.preference.service.PreferenceScoreStore;
 import com.ott.core.modules.tag.repository.TagRepository;
 import com.ott.core.modules.user.dto.request.CreateUserRequest;
 import com.ott.core.modules.user.dto.request.UpdateUserRequest;
@@ -121,7 +122,7 @@ public class UserService {
      */
     private void updatePreferredTags(User user, List<Long> preferredTagIds) {
         Long userId = user.getId();
-        String redisKey = "user:" + userId + ":preference";
+        String redisKey = PreferenceScoreStore.preferenceKey(userId);
 
         // 기존 선호 태그 목록 조회
         List<UserPreference> existingPrefs = userPreferenceRepository.findWithTagByUserId(userId);
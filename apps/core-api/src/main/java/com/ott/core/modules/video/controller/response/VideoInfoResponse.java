@@ -18,6 +18,8 @@ public record VideoInfoResponse(
         String otherVideoUrl,
         String userProfile,
         String userNickname,
+        long viewCount,
+        long uniqueViewerCount,
         WatchHistoryResponse watchHistory
 ) {
     public static VideoInfoResponse of(VideoInfoResult result, WatchHistoryResponse watchHistory) {
@@ -32,6 +34,8 @@ public record VideoInfoResponse(
                 result.otherVideoUrl(),
                 result.userProfile(),
                 result.userNickname(),
+                result.viewCount(),
+                result.uniqueViewerCount(),
                 watchHistory
         );
     }
@@ -0,0 +1,11 @@
+package com.ott.core.modules.video.dto;
+
+/**
+ * 시청 하트비트 처리에 필요한 최소 메타데이터 (near-cache 값)
+ */
+public record VideoPlaybackMeta(
+        Long videoMetadataId,
+        Integer duration,
+        boolean isAd
+) {
+}
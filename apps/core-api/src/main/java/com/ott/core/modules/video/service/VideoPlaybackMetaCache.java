@@ -0,0 +1,88 @@
+package com.ott.core.modules.video.service;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import com.ott.common.error.BusinessException;
+import com.ott.common.error.ErrorCode;
+import com.ott.core.modules.search.event.VideoIndexRequestedEvent;
+import com.ott.core.modules.video.dto.VideoPlaybackMeta;
+import com.ott.core.modules.video.repository.VideoMetadataRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.Collection;
+import java.util.Optional;
+
+/**
+ * videoId → (videoMetadataId, duration, isAd) 프로세스 내 캐시
+ * - 하트비트마다 반복되던 video_metadata 조회를 제거
+ * - 트랜스코딩 완료(duration 확정) 및 삭제 시 로컬 무효화, 다른 인스턴스는 TTL로 수렴
+ * - 없는(삭제/잘못된) videoId도 짧은 TTL로 캐시해 반복 하트비트가 매번 DB를 조회하지 않게 함
+ */
+@Slf4j
+@Component
+public class VideoPlaybackMetaCache {
+
+    private final VideoMetadataRepository videoMetadataRepository;
+    private final Cache<Long, Optional<VideoPlaybackMeta>> cache;
+
+    public VideoPlaybackMetaCache(VideoMetadataRepository videoMetadataRepository,
+                                  @Value("${app.video.playback-meta-cache.max-size:100000}") long maxSize,
+                                  @Value("${app.video.playback-meta-cache.ttl-seconds:300}") long ttlSeconds,
+                                  @Value("${app.video.playback-meta-cache.negative-ttl-seconds:30}") long negativeTtlSeconds) {
+        this.videoMetadataRepository = videoMetadataRepository;
+        long ttlNanos = Duration.ofSeconds(ttlSeconds).toNanos();
+        long negativeTtlNanos = Duration.ofSeconds(negativeTtlSeconds).toNanos();
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .expireAfter(new Expiry<Long, Optional<VideoPlaybackMeta>>() {
+                    @Override
+                    public long expireAfterCreate(Long key, Optional<VideoPlaybackMeta> value, long currentTime) {
+                        return value.isPresent() ? ttlNanos : negativeTtlNanos;
+                    }
+
+                    @Override
+                    public long expireAfterUpdate(Long key, Optional<VideoPlaybackMeta> value, long currentTime,
+                                                  long currentDuration) {
+                        return expireAfterCreate(key, value, currentTime);
+                    }
+
+                    @Override
+                    public long expireAfterRead(Long key, Optional<VideoPlaybackMeta> value, long currentTime,
+                                                long currentDuration) {
+                        return currentDuration;
+                    }
+                })
+                .build();
+    }
+
+    /**
+     * 캐시 미스 시 DB에서 로딩 (같은 키에 대한 동시 미스는 한 번만 조회)
+     */
+    public VideoPlaybackMeta get(Long videoId) {
+        return cache.get(videoId, this::load)
+                .orElseThrow(() -> new BusinessException(ErrorCode.VIDEO_METADATA_NOT_FOUND));
+    }
+
+    public void invalidate(Long videoId) {
+        cache.invalidate(videoId);
+    }
+
+    public void invalidateAll(Collection<Long> videoIds) {
+        cache.invalidateAll(videoIds);
+    }
+
+    @EventListener
+    public void onVideoIndexRequested(VideoIndexRequestedEvent event) {
+        invalidate(event.videoId());
+    }
+
+    private Optional<VideoPlaybackMeta> load(Long videoId) {
+        return videoMetadataRepository.findByVideoIdAndDeleted(videoId, false)
+                .map(vm -> new VideoPlaybackMeta(vm.getId(), vm.getDuration(), vm.isAd()));
+    }
+}
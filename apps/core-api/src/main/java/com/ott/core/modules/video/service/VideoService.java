@@ -8,6 +8,7 @@ import com.ott.common.persistence.enums.UploadSessionStatus;
 import com.ott.common.persistence.enums.VideoType;
 import com.ott.common.persistence.enums.Visibility;
 import com.ott.common.util.IdGenerator;
+import com.ott.core.modules.counter.service.VideoViewService;
 import com.ott.core.modules.tag.repository.TagRepository;
 import com.ott.core.modules.tag.repository.VideoTagRepository;
 import com.ott.core.modules.user.repository.UserRepository;
@@ -52,6 +53,7 @@ public class VideoService {
     private final ApplicationEventPublisher eventPublisher;
 
     private final SignedCookieProcessor signedCookieProcessor;
+    private final VideoViewService videoViewService;
     private final String CLOUD_FRONT_DOMAIN;
     private final int COOKIE_TTL_SECONDS;
 
@@ -68,6 +70,7 @@ public class VideoService {
                         ObjectStorageVerifier objectStorageVerifier,
                         ApplicationEventPublisher eventPublisher,
                         SignedCookieProcessor signedCookieProcessor,
+                        VideoViewService videoViewService,
                         @Value("${aws.cloudfront.domain}") String cloudFrontDomain,
                         @Value("${aws.cloudfront.ttl}") Integer ttl,
                         @Value("${aws.s3.source-bucket}") String bucket) {
@@ -83,6 +86,7 @@ public class VideoService {
         this.objectStorageVerifier = objectStorageVerifier;
         this.eventPublisher = eventPublisher;
         this.signedCookieProcessor = signedCookieProcessor;
+        this.videoViewService = videoViewService;
 
         this.CLOUD_FRONT_DOMAIN = cloudFrontDomain;
         this.COOKIE_TTL_SECONDS = ttl;
@@ -289,7 +293,9 @@ public class VideoService {
                 videoMetadata.getCreatedAt(),
                 videoMetadata.getOtherVideoUrl(),
                 uploader.getProfileImageUrl(),
-                uploader.getNickname()
+                uploader.getNickname(),
+                videoViewService.getViewCount(videoId, videoMetadata.getViewCount()),
+                videoViewService.getUniqueViewers(videoId)
         );
     }
 }
@@ -55,13 +55,13 @@ public class WatchHistoryApiController {
 
     // 최근 3개월간 시청 이력 조회
     @GetMapping("/history/recent")
-    @Operation(summary = "최근 시청 이력 조회", description = "최근 3개월간의 시청 이력을 페이지네이션으로 조회합니다.")
+    @Operation(summary = "최근 시청 이력 조회", description = "최근 3개월간의 시청 이력을 커서 기반으로 조회합니다. 첫 페이지는 cursor 없이, 이후에는 응답의 nextCursor를 전달합니다.")
     public ApiResponse<WatchHistoryPageResponse> getRecentWatchHistory(
             @AuthenticationPrincipal String userId,
-            @RequestParam(defaultValue = "0") int page,
+            @RequestParam(required = false) String cursor,
             @RequestParam(defaultValue = "10") int size
     ) {
-        WatchHistoryPageResponse response = watchHistoryService.getRecentWatchHistory(Long.parseLong(userId), page, size);
+        WatchHistoryPageResponse response = watchHistoryService.getRecentWatchHistory(Long.parseLong(userId), cursor, size);
         return ApiResponse.success(response);
     }
 }
@@ -0,0 +1,40 @@
+package com.ott.core.modules.watch.codec;
+
+import com.ott.core.global.redis.codec.RedisValueCodec;
+import com.ott.core.global.redis.codec.VarInts;
+import com.ott.core.modules.watch.dto.WatchState;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.ByteBuffer;
+
+/**
+ * [버전(1byte)][lastPosition varint][duration varint][watchedAtMillis varint] 바이너리 형식
+ * 일반적인 값 기준 약 12바이트 (텍스트 형식 약 23바이트)
+ */
+public class WatchStateBinaryCodec implements RedisValueCodec<WatchState> {
+
+    private static final byte VERSION_1 = 0x01;
+
+    @Override
+    public byte[] encode(WatchState value) {
+        ByteArrayOutputStream out = new ByteArrayOutputStream(16);
+        out.write(VERSION_1);
+        VarInts.write(out, Math.max(0, value.lastPosition()));
+        VarInts.write(out, Math.max(0, value.duration()));
+        VarInts.write(out, Math.max(0, value.watchedAt()));
+        return out.toByteArray();
+    }
+
+    @Override
+    public WatchState decode(byte[] bytes) {
+        ByteBuffer buffer = ByteBuffer.wrap(bytes);
+        byte version = buffer.get();
+        if (version != VERSION_1) {
+            throw new IllegalArgumentException("지원하지 않는 시청 상태 스키마 버전입니다: " + version);
+        }
+        return new WatchState(
+                (int) VarInts.read(buffer),
+                (int) VarInts.read(buffer),
+                VarInts.read(buffer));
+    }
+}
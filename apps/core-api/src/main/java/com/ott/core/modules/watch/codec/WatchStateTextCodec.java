@@ -0,0 +1,27 @@
+package com.ott.core.modules.watch.codec;
+
+import com.ott.core.global.redis.codec.RedisValueCodec;
+import com.ott.core.modules.watch.dto.WatchState;
+
+import java.nio.charset.StandardCharsets;
+
+/**
+ * "lastPosition:duration:watchedAtMillis" 텍스트 형식
+ */
+public class WatchStateTextCodec implements RedisValueCodec<WatchState> {
+
+    @Override
+    public byte[] encode(WatchState value) {
+        return (value.lastPosition() + ":" + value.duration() + ":" + value.watchedAt())
+                .getBytes(StandardCharsets.US_ASCII);
+    }
+
+    @Override
+    public WatchState decode(byte[] bytes) {
+        String[] parts = new String(bytes, StandardCharsets.US_ASCII).split(":");
+        return new WatchState(
+                Integer.parseInt(parts[0]),
+                Integer.parseInt(parts[1]),
+                Long.parseLong(parts[2]));
+    }
+}
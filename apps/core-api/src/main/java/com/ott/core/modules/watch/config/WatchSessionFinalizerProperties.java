@@ -0,0 +1,39 @@
+package com.ott.core.modules.watch.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+@Getter
+@Setter
+@Component
+@ConfigurationProperties(prefix = "app.watch.session-finalizer")
+public class WatchSessionFinalizerProperties {
+
+    /**
+     * 마지막 하트비트 이후 이 시간(밀리초)이 지나면 종료 호출이 없어도 세션을 종료 처리
+     */
+    private long idleTimeoutMs = 30 * 60 * 1000L;
+
+    /**
+     * 한 번에 가져가는 세션 수
+     */
+    private int batchSize = 200;
+
+    /**
+     * 한 주기에 처리하는 최대 배치 수 (주기당 작업량 상한 = batchSize * maxBatchesPerTick)
+     */
+    private int maxBatchesPerTick = 5;
+
+    /**
+     * 정리 주기 (밀리초)
+     */
+    private long intervalMs = 60_000L;
+
+    /**
+     * 세션 종료 후 이 시간(밀리초) 안에 도착한 하트비트는 종료 전에 보낸 요청으로 보고 무시
+     * (하트비트 간격 10초보다 짧게 두어 바로 다시 재생한 새 세션의 다음 하트비트는 정상 반영)
+     */
+    private long endedGraceMs = 5_000L;
+}
@@ -0,0 +1,24 @@
+package com.ott.core.modules.watch.config;
+
+import com.ott.core.global.redis.codec.DualReadCodec;
+import com.ott.core.global.redis.codec.RedisCodecProperties;
+import com.ott.core.global.redis.codec.RedisValueCodec;
+import com.ott.core.modules.watch.codec.WatchStateBinaryCodec;
+import com.ott.core.modules.watch.codec.WatchStateTextCodec;
+import com.ott.core.modules.watch.dto.WatchState;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration
+public class WatchStateCodecConfig {
+
+    public static final String WATCH_STATE_FAMILY = "watch-state";
+
+    @Bean
+    public RedisValueCodec<WatchState> watchStateCodec(RedisCodecProperties properties) {
+        return new DualReadCodec<>(
+                properties.getType(WATCH_STATE_FAMILY),
+                new WatchStateTextCodec(),
+                new WatchStateBinaryCodec());
+    }
+}
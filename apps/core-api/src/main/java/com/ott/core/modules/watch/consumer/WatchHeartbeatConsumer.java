@@ -0,0 +1,39 @@
+package com.ott.core.modules.watch.consumer;
+
+import com.ott.core.modules.watch.event.WatchHeartbeatEvent;
+import com.ott.core.modules.watch.service.WatchHeartbeatIngestionService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.kafka.annotation.KafkaListener;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+
+/**
+ * 하트비트 배치 소비 (app.watch.ingestion-mode=kafka 일 때만 활성화)
+ * 배치 처리 후 오프셋을 커밋하므로 실패 시 배치 전체가 재전달됨 (at-least-once)
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "app.watch.ingestion-mode", havingValue = "kafka")
+public class WatchHeartbeatConsumer {
+
+    private final WatchHeartbeatIngestionService watchHeartbeatIngestionService;
+
+    @KafkaListener(
+            topics = "${app.kafka.topics.watchHeartbeat:watch.heartbeat}",
+            groupId = "watch-heartbeat-consumer-group",
+            batch = "true",
+            properties = {
+                    "spring.json.use.type.headers=false",
+                    "spring.json.value.default.type=com.ott.core.modules.watch.event.WatchHeartbeatEvent",
+                    "max.poll.records=${app.watch.write-behind.batch-size:500}"
+            }
+    )
+    public void onMessages(List<WatchHeartbeatEvent> events) {
+        log.debug("[WatchHeartbeat] 배치 수신 - {}건", events.size());
+        watchHeartbeatIngestionService.ingest(events);
+    }
+}
@@ -0,0 +1,25 @@
+package com.ott.core.modules.watch.dto;
+
+/**
+ * 하트비트 저장 스크립트 결과
+ * @param accepted    false면 종료된 세션에 늦게 도착한 하트비트라 아무것도 반영하지 않음
+ * @param canSaveToDb Rate Limit을 통과해 DB에 반영해도 되는지
+ * @param newView     직전 시청 후 재집계 방지 윈도우가 지나 새 조회로 집계해야 하는지
+ */
+public record HeartbeatSaveResult(
+        boolean accepted,
+        boolean canSaveToDb,
+        boolean newView
+) {
+
+    private static final long DB_SAVE_FLAG = 1L;
+    private static final long NEW_VIEW_FLAG = 2L;
+
+    public static HeartbeatSaveResult of(Long scriptResult) {
+        long value = scriptResult != null ? scriptResult : 0L;
+        if (value < 0) {
+            return new HeartbeatSaveResult(false, false, false);
+        }
+        return new HeartbeatSaveResult(true, (value & DB_SAVE_FLAG) != 0, (value & NEW_VIEW_FLAG) != 0);
+    }
+}
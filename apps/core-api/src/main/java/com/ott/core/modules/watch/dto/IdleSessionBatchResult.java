@@ -0,0 +1,18 @@
+package com.ott.core.modules.watch.dto;
+
+import java.util.List;
+
+/**
+ * 유휴 세션 일괄 종료 결과
+ * @param finalized 종료 처리한 세션 수
+ * @param skipped   그 사이 시청이 재개됐거나 상태가 없어 건너뛴 세션 수
+ * @param dropped   삭제된 영상 등 재시도해도 실패해 버린 세션 수
+ * @param adRewards 커밋 후 광고 포인트를 적립할 (userId, videoMetadataId)
+ */
+public record IdleSessionBatchResult(
+        int finalized,
+        int skipped,
+        int dropped,
+        List<WatchHistoryKey> adRewards
+) {
+}
@@ -0,0 +1,12 @@
+package com.ott.core.modules.watch.dto;
+
+/**
+ * 종료 호출 없이 하트비트가 끊긴 시청 세션
+ * @param lastSeenAt 마지막 하트비트 시각 (epoch millis)
+ */
+public record IdleWatchSession(
+        Long userId,
+        Long videoId,
+        long lastSeenAt
+) {
+}
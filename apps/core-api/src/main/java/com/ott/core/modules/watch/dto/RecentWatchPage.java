@@ -0,0 +1,13 @@
+package com.ott.core.modules.watch.dto;
+
+import java.util.List;
+
+/**
+ * "이어보기" 정렬 집합에서 읽은 최근 시청 목록 (최근 시청 순)
+ * @param complete true면 정렬 집합이 잘리지 않아 DB에 더 오래된 이력이 남아있지 않음
+ */
+public record RecentWatchPage(
+        List<WatchHistoryDto> items,
+        boolean complete
+) {
+}
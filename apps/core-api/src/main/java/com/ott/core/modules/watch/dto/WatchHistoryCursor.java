@@ -0,0 +1,70 @@
+package com.ott.core.modules.watch.dto;
+
+import com.ott.common.error.BusinessException;
+import com.ott.common.error.ErrorCode;
+
+import java.time.Instant;
+import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
+import java.time.temporal.ChronoUnit;
+
+/**
+ * 최근 시청 이력 keyset 커서 - 마지막으로 반환한 항목의 (updatedAt, videoMetadataId)
+ * 문자열 형식: "{updatedAt epoch micros}_{videoMetadataId}"
+ */
+public record WatchHistoryCursor(
+        OffsetDateTime updatedAt,
+        Long videoMetadataId
+) {
+
+    private static final String DELIMITER = "_";
+
+    public static WatchHistoryCursor of(OffsetDateTime updatedAt, Long videoMetadataId) {
+        // DB(timestamptz) 정밀도에 맞춰 마이크로초 단위로 절삭
+        return new WatchHistoryCursor(updatedAt.truncatedTo(ChronoUnit.MICROS), videoMetadataId);
+    }
+
+    /**
+     * @return 커서가 없으면 null (첫 페이지)
+     */
+    public static WatchHistoryCursor decode(String cursor) {
+        if (cursor == null || cursor.isBlank()) {
+            return null;
+        }
+        String[] parts = cursor.split(DELIMITER);
+        if (parts.length != 2) {
+            throw new BusinessException(ErrorCode.WATCH_HISTORY_INVALID_CURSOR);
+        }
+        try {
+            long micros = Long.parseLong(parts[0]);
+            Instant instant = Instant.EPOCH.plus(micros, ChronoUnit.MICROS);
+            return new WatchHistoryCursor(OffsetDateTime.ofInstant(instant, ZoneOffset.UTC), Long.parseLong(parts[1]));
+        } catch (NumberFormatException e) {
+            throw new BusinessException(ErrorCode.WATCH_HISTORY_INVALID_CURSOR);
+        }
+    }
+
+    public static WatchHistoryCursor ofEpochMillis(long epochMillis, Long videoMetadataId) {
+        return of(OffsetDateTime.ofInstant(Instant.ofEpochMilli(epochMillis), ZoneOffset.UTC), videoMetadataId);
+    }
+
+    public String encode() {
+        return epochMicros() + DELIMITER + videoMetadataId;
+    }
+
+    public long epochMicros() {
+        return ChronoUnit.MICROS.between(Instant.EPOCH, updatedAt.toInstant());
+    }
+
+    public long epochMillis() {
+        return updatedAt.toInstant().toEpochMilli();
+    }
+
+    /**
+     * (updatedAt DESC, videoMetadataId DESC) 순서에서 이 커서 뒤에 오는 항목인지 (DB 경로의 keyset 조건과 같음)
+     */
+    public boolean precedes(long epochMicros, long videoMetadataId) {
+        long cursorMicros = epochMicros();
+        return epochMicros < cursorMicros || (epochMicros == cursorMicros && videoMetadataId < this.videoMetadataId);
+    }
+}
@@ -14,4 +14,5 @@ public class WatchHistoryDto {
     private Long videoId;
     private Integer lastPosition;
     private Integer duration;
+    private Long watchedAt; // epoch millis
 }
@@ -0,0 +1,10 @@
+package com.ott.core.modules.watch.dto;
+
+/**
+ * watch_history 행 식별자 (user_id, video_metadata_id)
+ */
+public record WatchHistoryKey(
+        Long userId,
+        Long videoMetadataId
+) {
+}
@@ -0,0 +1,14 @@
+package com.ott.core.modules.watch.dto;
+
+import java.util.Map;
+
+/**
+ * 사용자 시청 상태 해시 일괄 조회 결과
+ * @param histories videoId → 시청 상태 (Redis 적중분)
+ * @param complete  true면 해시가 사용자의 전체 시청 이력을 담고 있어 미적중분을 DB에서 다시 찾을 필요가 없음
+ */
+public record WatchHistoryLookup(
+        Map<Long, WatchHistoryDto> histories,
+        boolean complete
+) {
+}
@@ -0,0 +1,29 @@
+package com.ott.core.modules.watch.dto;
+
+import java.time.OffsetDateTime;
+
+/**
+ * write-behind 버퍼에 적재되는 시청 이력 upsert 단위
+ * 같은 (userId, videoMetadataId)에 대한 하트비트는 하나로 병합됩니다.
+ */
+public record WatchHistoryUpsert(
+        Long userId,
+        Long videoMetadataId,
+        Integer lastPosition,
+        boolean completed,
+        OffsetDateTime updatedAt
+) {
+
+    /**
+     * 최신 위치는 나중에 들어온 값을 따르고, 완주 여부는 한 번이라도 완주했으면 유지
+     */
+    public WatchHistoryUpsert merge(WatchHistoryUpsert newer) {
+        WatchHistoryUpsert latest = newer.updatedAt.isBefore(this.updatedAt) ? this : newer;
+        return new WatchHistoryUpsert(
+                userId,
+                videoMetadataId,
+                latest.lastPosition,
+                this.completed || newer.completed,
+                latest.updatedAt);
+    }
+}
@@ -0,0 +1,12 @@
+package com.ott.core.modules.watch.dto;
+
+/**
+ * Redis 시청 상태 해시에 저장되는 값 (videoId 필드 하나당)
+ * @param watchedAt epoch millis
+ */
+public record WatchState(
+        int lastPosition,
+        int duration,
+        long watchedAt
+) {
+}
@@ -12,4 +12,5 @@ import java.util.List;
 public class WatchHistoryPageResponse {
     private List<WatchHistoryItemResponse> items;
     private boolean hasMore;
+    private String nextCursor; // 다음 페이지 요청 시 전달 (마지막 페이지면 null)
 }
@@ -0,0 +1,13 @@
+package com.ott.core.modules.watch.event;
+
+/**
+ * 시청 위치 하트비트 (Kafka 메시지, key = userId)
+ * @param occurredAt API 수신 시각 (epoch millis)
+ */
+public record WatchHeartbeatEvent(
+        Long userId,
+        Long videoId,
+        Integer lastPosition,
+        long occurredAt
+) {
+}
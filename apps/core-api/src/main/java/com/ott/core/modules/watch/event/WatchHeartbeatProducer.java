@@ -0,0 +1,33 @@
+package com.ott.core.modules.watch.event;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.kafka.core.KafkaTemplate;
+import org.springframework.stereotype.Component;
+
+@Slf4j
+@Component
+public class WatchHeartbeatProducer {
+
+    private final KafkaTemplate<String, Object> kafkaTemplate;
+    private final String topic;
+
+    public WatchHeartbeatProducer(KafkaTemplate<String, Object> kafkaTemplate,
+                                  @Value("${app.kafka.topics.watchHeartbeat:watch.heartbeat}") String topic) {
+        this.kafkaTemplate = kafkaTemplate;
+        this.topic = topic;
+    }
+
+    /**
+     * userId를 키로 사용해 같은 사용자의 하트비트는 같은 파티션에서 순서대로 처리되도록 함
+     */
+    public void send(WatchHeartbeatEvent event) {
+        kafkaTemplate.send(topic, String.valueOf(event.userId()), event)
+                .whenComplete((result, ex) -> {
+                    if (ex != null) {
+                        log.error("[WatchHeartbeat] 이벤트 발행 실패 - userId: {}, videoId: {}",
+                                event.userId(), event.videoId(), ex);
+                    }
+                });
+    }
+}
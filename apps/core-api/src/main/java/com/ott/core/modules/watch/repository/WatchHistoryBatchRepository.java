@@ -0,0 +1,97 @@
+package com.ott.core.modules.watch.repository;
+
+import com.ott.common.util.IdGenerator;
+import com.ott.core.modules.watch.dto.WatchHistoryKey;
+import com.ott.core.modules.watch.dto.WatchHistoryUpsert;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.time.OffsetDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+@Repository
+@RequiredArgsConstructor
+public class WatchHistoryBatchRepository {
+
+    private final JdbcTemplate jdbcTemplate;
+
+    /**
+     * 이미 있는 행의 updated_at(마지막으로 반영된 시청 시각)을 잠그고 조회
+     * 트랜잭션 안에서 호출해야 하며, 커밋 전까지 같은 행을 반영하려는 다른 소비자는 대기 후 갱신된 값을 보게 됨
+     * 여러 소비자가 겹쳐도 교착되지 않도록 (user_id, video_metadata_id) 순으로 잠금
+     */
+    public Map<WatchHistoryKey, OffsetDateTime> lockUpdatedAt(Collection<WatchHistoryKey> keys) {
+        if (keys.isEmpty()) {
+            return Map.of();
+        }
+
+        StringBuilder sql = new StringBuilder("""
+                SELECT user_id, video_metadata_id, updated_at
+                FROM watch_history
+                WHERE (user_id, video_metadata_id) IN (""");
+        List<Object> params = new ArrayList<>(keys.size() * 2);
+        for (WatchHistoryKey key : keys) {
+            sql.append(params.isEmpty() ? "" : ", ").append("(?, ?)");
+            params.add(key.userId());
+            params.add(key.videoMetadataId());
+        }
+        sql.append("""
+                )
+                ORDER BY user_id, video_metadata_id
+                FOR UPDATE
+                """);
+
+        Map<WatchHistoryKey, OffsetDateTime> updatedAt = new HashMap<>(keys.size());
+        jdbcTemplate.query(sql.toString(), rs -> {
+            updatedAt.put(new WatchHistoryKey(rs.getLong("user_id"), rs.getLong("video_metadata_id")),
+                    rs.getObject("updated_at", OffsetDateTime.class));
+        }, params.toArray());
+        return updatedAt;
+    }
+
+    /**
+     * 여러 시청 이력을 하나의 INSERT ... ON CONFLICT 문으로 반영
+     * - 완주 여부는 한 번 true가 되면 유지
+     * - 이미 더 최신 값이 저장된 행(예: 시청 종료 시 직접 저장)은 덮어쓰지 않음
+     */
+    public int upsertAll(List<WatchHistoryUpsert> rows) {
+        if (rows.isEmpty()) {
+            return 0;
+        }
+
+        StringBuilder sql = new StringBuilder("""
+                INSERT INTO watch_history (watch_history_id, user_id, video_metadata_id, last_position, completed, deleted, created_at, updated_at)
+                VALUES
+                """);
+        List<Object> params = new ArrayList<>(rows.size() * 6);
+
+        for (int i = 0; i < rows.size(); i++) {
+            WatchHistoryUpsert row = rows.get(i);
+            sql.append(i == 0 ? "" : ",\n").append("(?, ?, ?, ?, ?, false, ?, ?)");
+            params.add(IdGenerator.generate());
+            params.add(row.userId());
+            params.add(row.videoMetadataId());
+            params.add(row.lastPosition());
+            params.add(row.completed());
+            params.add(row.updatedAt());
+            params.add(row.updatedAt());
+        }
+
+        sql.append("""
+
+                ON CONFLICT (user_id, video_metadata_id)
+                DO UPDATE SET
+                    last_position = EXCLUDED.last_position,
+                    completed = watch_history.completed OR EXCLUDED.completed,
+                    updated_at = EXCLUDED.updated_at
+                WHERE watch_history.updated_at <= EXCLUDED.updated_at
+                """);
+
+        return jdbcTemplate.update(sql.toString(), params.toArray());
+    }
+}
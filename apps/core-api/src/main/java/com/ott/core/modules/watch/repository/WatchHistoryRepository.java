@@ -1,8 +1,8 @@
 package com.ott.core.modules.watch.repository;
 
 import com.ott.common.persistence.entity.WatchHistory;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.domain.Pageable;
-import org.springframework.data.domain.Slice;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
@@ -42,11 +42,39 @@ public interface WatchHistoryRepository extends JpaRepository<WatchHistory, Long
               AND wh.deleted = false 
               AND vm.deleted = false 
               AND wh.updatedAt >= :threeMonthsAgo
-            ORDER BY wh.updatedAt DESC 
+            ORDER BY wh.updatedAt DESC, vm.id DESC
             """)
-    Slice<WatchHistory> findRecentHistory(@Param("userId") Long userId,
-                                          @Param("threeMonthsAgo") OffsetDateTime threeMonthsAgo,
-                                          Pageable pageable);
+    List<WatchHistory> findRecentHistory(@Param("userId") Long userId,
+                                         @Param("threeMonthsAgo") OffsetDateTime threeMonthsAgo,
+                                         Limit limit);
+
+    // keyset 페이지네이션: (updatedAt, videoMetadataId)가 커서보다 작은 항목
+    @Query("""
+            SELECT wh FROM WatchHistory wh
+            JOIN FETCH wh.videoMetadata vm
+            WHERE wh.user.id = :userId
+              AND wh.deleted = false
+              AND vm.deleted = false
+              AND wh.updatedAt >= :threeMonthsAgo
+              AND (wh.updatedAt < :cursorAt OR (wh.updatedAt = :cursorAt AND vm.id < :cursorId))
+            ORDER BY wh.updatedAt DESC, vm.id DESC
+            """)
+    List<WatchHistory> findRecentHistoryAfter(@Param("userId") Long userId,
+                                              @Param("threeMonthsAgo") OffsetDateTime threeMonthsAgo,
+                                              @Param("cursorAt") OffsetDateTime cursorAt,
+                                              @Param("cursorId") Long cursorId,
+                                              Limit limit);
+
+    // Redis 최근 시청 목록 시딩용 (기간 제한 없이 최신순)
+    @Query("""
+            SELECT wh FROM WatchHistory wh
+            JOIN FETCH wh.videoMetadata vm
+            WHERE wh.user.id = :userId
+              AND wh.deleted = false
+              AND vm.deleted = false
+            ORDER BY wh.updatedAt DESC
+            """)
+    List<WatchHistory> findLatestHistory(@Param("userId") Long userId, Pageable pageable);
 
     @Query("SELECT wh FROM WatchHistory wh WHERE wh.user.id = :userId AND wh.videoMetadata.id IN :videoMetadataIds AND wh.deleted = false ")
     List<WatchHistory> findByUserIdAndVideoMetadataIdIn(@Param("userId") Long userId,
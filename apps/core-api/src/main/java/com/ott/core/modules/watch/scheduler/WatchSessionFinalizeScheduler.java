@@ -0,0 +1,68 @@
+package com.ott.core.modules.watch.scheduler;
+
+import com.ott.core.modules.watch.config.WatchSessionFinalizerProperties;
+import com.ott.core.modules.watch.dto.IdleSessionBatchResult;
+import com.ott.core.modules.watch.dto.IdleWatchSession;
+import com.ott.core.modules.watch.service.WatchHistoryRedisService;
+import com.ott.core.modules.watch.service.WatchHistoryService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+
+/**
+ * 종료 호출 없이 끊긴 시청 세션 정리
+ * 진행 중 세션 ZSET에서 유휴 세션을 원자적으로 꺼내 오므로 여러 인스턴스가 동시에 실행해도 같은 세션을 중복 처리하지 않음
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class WatchSessionFinalizeScheduler {
+
+    private final WatchHistoryRedisService watchHistoryRedisService;
+    private final WatchHistoryService watchHistoryService;
+    private final WatchSessionFinalizerProperties properties;
+
+    @Scheduled(fixedDelayString = "${app.watch.session-finalizer.interval-ms:60000}")
+    public void finalizeIdleSessions() {
+        long idleBefore = System.currentTimeMillis() - properties.getIdleTimeoutMs();
+        int batchSize = Math.max(1, properties.getBatchSize());
+        int finalized = 0;
+        int skipped = 0;
+        int dropped = 0;
+        int failed = 0;
+
+        for (int batch = 0; batch < properties.getMaxBatchesPerTick(); batch++) {
+            List<IdleWatchSession> sessions = watchHistoryRedisService.claimIdleSessions(idleBefore, batchSize);
+            if (sessions.isEmpty()) {
+                break;
+            }
+
+            // 가져온 배치 하나를 한 트랜잭션으로 반영
+            try {
+                IdleSessionBatchResult result = watchHistoryService.finalizeIdleSessions(sessions);
+                finalized += result.finalized();
+                skipped += result.skipped();
+                dropped += result.dropped();
+                result.adRewards().forEach(key -> watchHistoryService.rewardAdPoint(key.userId(), key.videoMetadataId()));
+            } catch (Exception e) {
+                failed += sessions.size();
+                log.error("[WatchSession] 세션 종료 배치 처리 실패 - {}건", sessions.size(), e);
+                // 배치 전체가 롤백되었으므로 다음 주기에 다시 가져가도록 되돌림 (그 사이 새 하트비트가 있었다면 그 값을 유지)
+                sessions.forEach(session -> watchHistoryRedisService.restoreActiveSession(
+                        session.userId(), session.videoId(), session.lastSeenAt()));
+            }
+
+            if (sessions.size() < batchSize) {
+                break;
+            }
+        }
+
+        if (finalized + skipped + dropped + failed > 0) {
+            log.info("[WatchSession] 유휴 세션 정리 - 종료: {}, 재개/상태 없음: {}, 제외: {}, 실패: {}",
+                    finalized, skipped, dropped, failed);
+        }
+    }
+}
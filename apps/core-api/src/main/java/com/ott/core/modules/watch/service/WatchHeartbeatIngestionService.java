@@ -0,0 +1,234 @@
+package com.ott.core.modules.watch.service;
+
+import com.ott.common.error.BusinessException;
+import com.ott.common.persistence.entity.WatchHistory;
+import com.ott.core.modules.counter.service.VideoViewService;
+import com.ott.core.modules.tag.dto.TagStatsIncrement;
+import com.ott.core.modules.tag.repository.TagStatsBatchRepository;
+import com.ott.core.modules.tag.repository.VideoTagRepository;
+import com.ott.core.modules.video.dto.VideoPlaybackMeta;
+import com.ott.core.modules.video.service.VideoPlaybackMetaCache;
+import com.ott.core.modules.watch.config.WatchWriteBehindProperties;
+import com.ott.core.modules.watch.dto.HeartbeatSaveResult;
+import com.ott.core.modules.watch.dto.WatchHistoryDto;
+import com.ott.core.modules.watch.dto.WatchHistoryKey;
+import com.ott.core.modules.watch.dto.WatchHistoryUpsert;
+import com.ott.core.modules.watch.event.WatchHeartbeatEvent;
+import com.ott.core.modules.watch.repository.WatchHistoryBatchRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+/**
+ * Kafka로 들어온 하트비트 배치를 세션 단위로 묶어 반영
+ * - (userId, videoId)별 마지막 위치 → watch_history multi-row upsert + Redis 시청 상태
+ * - 연속 하트비트 간 실제 재생 시간 → tag_stats (tag, user, date) 누적
+ * watch_history/tag_stats는 한 트랜잭션으로 반영하고, Redis는 커밋 후에 갱신
+ * 재전달(at-least-once)로 같은 하트비트가 다시 와도 watch_history.updated_at(마지막으로 반영된 시청 시각)을
+ * 잠그고 읽어 그 이전 하트비트는 버리므로 재생 시간/조회 수가 두 번 누적되지 않음
+ * (행이 아직 없는 세션을 두 소비자가 동시에 처음 반영하는 경우만 예외)
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class WatchHeartbeatIngestionService {
+
+    // 직전 시청 상태와 이 시간 이상 떨어지면 새 시청 세션으로 간주
+    private static final long SESSION_GAP_MILLIS = 30 * 60 * 1000L;
+    // 하트비트 간격(10초)보다 충분히 큰 값. 이보다 벌어진 구간은 재생 시간으로 보지 않음 (일시정지/탐색)
+    private static final long HEARTBEAT_GAP_MAX_MILLIS = 60 * 1000L;
+
+    private final VideoPlaybackMetaCache videoPlaybackMetaCache;
+    private final WatchHistoryRedisService watchHistoryRedisService;
+    private final WatchHistoryBatchRepository watchHistoryBatchRepository;
+    private final VideoTagRepository videoTagRepository;
+    private final TagStatsBatchRepository tagStatsBatchRepository;
+    private final WatchWriteBehindProperties writeBehindProperties;
+    private final VideoViewService videoViewService;
+
+    @Transactional
+    public void ingest(List<WatchHeartbeatEvent> events) {
+        Map<SessionKey, List<WatchHeartbeatEvent>> grouped = new LinkedHashMap<>();
+        for (WatchHeartbeatEvent event : events) {
+            if (event == null || event.userId() == null || event.videoId() == null || event.lastPosition() == null) {
+                continue;
+            }
+            grouped.computeIfAbsent(new SessionKey(event.userId(), event.videoId()), k -> new ArrayList<>()).add(event);
+        }
+
+        Map<SessionKey, VideoPlaybackMeta> metas = new LinkedHashMap<>();
+        for (SessionKey key : grouped.keySet()) {
+            try {
+                metas.put(key, videoPlaybackMetaCache.get(key.videoId()));
+            } catch (BusinessException e) {
+                log.warn("[WatchHeartbeat] 존재하지 않는 영상 하트비트 무시 - userId: {}, videoId: {}", key.userId(), key.videoId());
+            }
+        }
+
+        if (metas.isEmpty()) {
+            return;
+        }
+
+        // 1. 이미 반영된 시각을 잠그고 조회 → 그 이전 하트비트(재전달분)는 제외하고 세션 계산
+        Map<WatchHistoryKey, OffsetDateTime> appliedAt = watchHistoryBatchRepository.lockUpdatedAt(
+                metas.entrySet().stream()
+                        .map(e -> new WatchHistoryKey(e.getKey().userId(), e.getValue().videoMetadataId()))
+                        .toList());
+
+        List<SessionResult> sessions = new ArrayList<>(metas.size());
+        metas.forEach((key, meta) -> {
+            OffsetDateTime applied = appliedAt.get(new WatchHistoryKey(key.userId(), meta.videoMetadataId()));
+            long appliedMillis = applied != null ? applied.toInstant().toEpochMilli() : Long.MIN_VALUE;
+            List<WatchHeartbeatEvent> fresh = grouped.get(key).stream()
+                    .filter(event -> event.occurredAt() > appliedMillis)
+                    .collect(Collectors.toCollection(ArrayList::new));
+            if (!fresh.isEmpty()) {
+                sessions.add(sessionize(key, meta, fresh));
+            }
+        });
+
+        if (sessions.isEmpty()) {
+            log.info("[WatchHeartbeat] 이미 반영된 배치 - 이벤트: {}", events.size());
+            return;
+        }
+
+        // 2. watch_history 일괄 upsert
+        List<WatchHistoryUpsert> upserts = sessions.stream().map(SessionResult::upsert).toList();
+        int batchSize = Math.max(1, writeBehindProperties.getBatchSize());
+        for (int from = 0; from < upserts.size(); from += batchSize) {
+            watchHistoryBatchRepository.upsertAll(upserts.subList(from, Math.min(from + batchSize, upserts.size())));
+        }
+
+        // 3. tag_stats 일괄 누적 (같은 트랜잭션)
+        tagStatsBatchRepository.addAll(rollUpTagStats(sessions));
+
+        // 4. 커밋 후 Redis 시청 상태 갱신 (더 최신 상태가 이미 있으면 유지됨) + 새 조회로 판단된 세션만 조회수 반영
+        afterCommit(() -> {
+            for (SessionResult session : sessions) {
+                WatchHistoryUpsert upsert = session.upsert();
+                HeartbeatSaveResult saved = watchHistoryRedisService.saveWatchHistory(session.key().userId(),
+                        session.key().videoId(), upsert.lastPosition(), session.duration(), session.lastOccurredAt(), true);
+                if (saved.newView()) {
+                    videoViewService.recordView(session.key().userId(), session.key().videoId());
+                }
+            }
+        });
+
+        log.info("[WatchHeartbeat] 배치 반영 완료 - 이벤트: {}, 세션: {}", events.size(), sessions.size());
+    }
+
+    private void afterCommit(Runnable action) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            action.run();
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                action.run();
+            }
+        });
+    }
+
+    private SessionResult sessionize(SessionKey key, VideoPlaybackMeta meta, List<WatchHeartbeatEvent> sessionEvents) {
+        sessionEvents.sort(Comparator.comparingLong(WatchHeartbeatEvent::occurredAt));
+        WatchHeartbeatEvent first = sessionEvents.getFirst();
+        WatchHeartbeatEvent last = sessionEvents.getLast();
+
+        // 이전 배치에서 이어지는 세션이면 Redis의 직전 상태부터 재생 시간을 이어서 계산
+        WatchHistoryDto prior = watchHistoryRedisService.getWatchHistory(key.userId(), key.videoId());
+        boolean newSession = prior == null || prior.getWatchedAt() == null
+                || first.occurredAt() - prior.getWatchedAt() > SESSION_GAP_MILLIS;
+
+        long prevAt = newSession ? -1 : prior.getWatchedAt();
+        int prevPosition = newSession ? 0 : prior.getLastPosition();
+        int watchedSeconds = 0;
+        boolean completed = false;
+
+        for (WatchHeartbeatEvent event : sessionEvents) {
+            if (prevAt >= 0) {
+                long wallMillis = event.occurredAt() - prevAt;
+                int positionDelta = event.lastPosition() - prevPosition;
+                if (wallMillis > 0 && wallMillis <= HEARTBEAT_GAP_MAX_MILLIS && positionDelta > 0) {
+                    watchedSeconds += (int) Math.min(positionDelta, (wallMillis + 999) / 1000);
+                }
+            }
+            prevAt = event.occurredAt();
+            prevPosition = event.lastPosition();
+            completed |= WatchHistory.isVideoCompleted(event.lastPosition(), meta.duration());
+        }
+
+        OffsetDateTime lastAt = OffsetDateTime.ofInstant(Instant.ofEpochMilli(last.occurredAt()), ZoneOffset.UTC);
+        WatchHistoryUpsert upsert = new WatchHistoryUpsert(
+                key.userId(), meta.videoMetadataId(), last.lastPosition(), completed, lastAt);
+
+        return new SessionResult(key, upsert, meta.duration(), last.occurredAt(),
+                lastAt.toLocalDate(), watchedSeconds, newSession ? 1 : 0);
+    }
+
+    private List<TagStatsIncrement> rollUpTagStats(List<SessionResult> sessions) {
+        List<Long> metadataIds = sessions.stream()
+                .map(s -> s.upsert().videoMetadataId())
+                .distinct()
+                .toList();
+
+        Map<Long, List<Long>> tagIdsByMetadataId = new HashMap<>();
+        for (Object[] row : videoTagRepository.findTagIdRowsByVideoMetadataIdIn(metadataIds)) {
+            tagIdsByMetadataId.computeIfAbsent((Long) row[0], k -> new ArrayList<>()).add((Long) row[1]);
+        }
+
+        Map<TagStatsKey, int[]> rollup = new LinkedHashMap<>();
+        for (SessionResult session : sessions) {
+            if (session.watchedSeconds() == 0 && session.views() == 0) {
+                continue;
+            }
+            for (Long tagId : tagIdsByMetadataId.getOrDefault(session.upsert().videoMetadataId(), List.of())) {
+                int[] acc = rollup.computeIfAbsent(
+                        new TagStatsKey(tagId, session.key().userId(), session.statsDate()), k -> new int[2]);
+                acc[0] += session.watchedSeconds();
+                acc[1] += session.views();
+            }
+        }
+
+        // 여러 인스턴스의 동시 upsert 시 잠금 순서를 맞추기 위해 정렬
+        return rollup.entrySet().stream()
+                .map(e -> new TagStatsIncrement(e.getKey().tagId(), e.getKey().userId(), e.getKey().statsDate(),
+                        e.getValue()[0], e.getValue()[1]))
+                .sorted(Comparator.comparing(TagStatsIncrement::tagId)
+                        .thenComparing(TagStatsIncrement::userId)
+                        .thenComparing(TagStatsIncrement::statsDate))
+                .toList();
+    }
+
+    private record SessionKey(Long userId, Long videoId) {
+    }
+
+    private record TagStatsKey(Long tagId, Long userId, LocalDate statsDate) {
+    }
+
+    private record SessionResult(
+            SessionKey key,
+            WatchHistoryUpsert upsert,
+            Integer duration,
+            long lastOccurredAt,
+            LocalDate statsDate,
+            int watchedSeconds,
+            int views
+    ) {
+    }
+}
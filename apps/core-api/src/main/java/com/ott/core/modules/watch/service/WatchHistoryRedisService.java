@@ -1,84 +1,527 @@
 package com.ott.core.modules.watch.service;
 
+import com.ott.core.global.redis.codec.RedisValueCodec;
+import com.ott.core.modules.watch.config.WatchSessionFinalizerProperties;
+import com.ott.core.modules.watch.dto.HeartbeatSaveResult;
+import com.ott.core.modules.watch.dto.IdleWatchSession;
+import com.ott.core.modules.watch.dto.RecentWatchPage;
 import com.ott.core.modules.watch.dto.WatchHistoryDto;
+import com.ott.core.modules.watch.dto.WatchHistoryLookup;
+import com.ott.core.modules.watch.dto.WatchState;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
 import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.ZSetOperations;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
 import org.springframework.stereotype.Service;
 
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
 
+/**
+ * 사용자 단위 시청 상태 저장소 (Redis)
+ * - watch:{s}:userId        HASH  videoId → 시청 상태 (코덱은 app.redis.codec.families.watch-state, 텍스트/바이너리 모두 읽기 지원)
+ *                                 {videoId}:f → 마지막 DB 반영 허용 시각 (Rate Limit)
+ *                                 {videoId}:e → 세션 종료 시각 (종료 후 늦게 도착한 하트비트 무시용)
+ *                                 ~seed → DB 시딩 여부 (full: 전체 이력 보유, partial: 최근 N건만 보유)
+ * - watch:recent:{s}:userId ZSET  videoId → watchedAtMillis ("이어보기" 순서, 최대 N건 유지)
+ * - watch:active:{s}        ZSET  "userId:videoId" → 마지막 하트비트 시각 (종료 호출 없이 끊긴 세션 정리용)
+ * s = userId % {@link #SHARDS}를 해시 태그로 써서 한 스크립트가 건드리는 세 키가 Redis Cluster에서도 같은 슬롯에 있도록 하고,
+ * 모든 하트비트가 하나의 진행 중 세션 ZSET에 몰리지 않도록 샤드별로 나눔 (샤드 수를 바꾸면 키가 바뀌므로 고정)
+ */
 @Slf4j
 @Service
 @RequiredArgsConstructor
 public class WatchHistoryRedisService {
 
-    private final RedisTemplate<String, Object> redisTemplate;
+    private final RedisTemplate<String, byte[]> binaryRedisTemplate;
+    private final RedisValueCodec<WatchState> watchStateCodec;
+    private final WatchSessionFinalizerProperties sessionFinalizerProperties;
+    private final AtomicInteger claimCursor = new AtomicInteger();
 
-    private static final String WATCH_HISTORY_PREFIX = "watch:";
-    private static final String RATE_LIMIT_PREFIX = "rate:";
+    // 같은 사용자의 하트비트가 이 시간 이상 끊겼다가 다시 들어와야 새 조회로 집계
+    @Value("${app.view.replay-window-seconds:1800}")
+    private long replayWindowSeconds;
+
+    private static final String WATCH_STATE_PREFIX = "watch:";
+    private static final String RECENT_WATCH_PREFIX = "watch:recent:";
+    private static final String ACTIVE_SESSION_PREFIX = "watch:active:";
+    // 샤딩 이전의 진행 중 세션 ZSET (기동 시 샤드로 이동)
+    private static final String LEGACY_ACTIVE_SESSION_KEY = "watch:active";
+    private static final int LEGACY_MIGRATION_BATCH = 1000;
+    static final int SHARDS = 128;
+    private static final String RATE_FIELD_SUFFIX = ":f";
+    private static final String ENDED_FIELD_SUFFIX = ":e";
+    private static final String MODE_HEARTBEAT = "heartbeat";
+    private static final String MODE_END = "end";
+    private static final String MODE_SAVE = "save";
+    private static final String SEED_FIELD = "~seed";
+    private static final String SEED_FULL = "full";
+    private static final String SEED_PARTIAL = "partial";
 
     // TTL 설정
-    private static final long WATCH_HISTORY_TTL_HOURS = 12; // 12시간
-    private static final long RATE_LIMIT_TTL_SECONDS = 60; // 1분
+    private static final long WATCH_STATE_TTL_DAYS = 30; // 마지막 시청 후 30일
+    private static final long RATE_LIMIT_MILLIS = 60_000; // 1분
+
+    // 사용자별 유지하는 최근 시청 영상 수
+    public static final int RECENT_MAX_SIZE = 200;
+
+    /**
+     * 시청 상태 저장 (+ 선택적으로 Rate Limit 체크), 최근 시청 순서 갱신 및 초과분 정리
+     * KEYS[1] = 상태 해시, KEYS[2] = 최근 시청 ZSET, KEYS[3] = 사용자 샤드의 진행 중 세션 ZSET (세 키 모두 같은 해시 태그)
+     * ARGV[1] = videoId, ARGV[2] = 상태, ARGV[3] = watchedAtMillis,
+     * ARGV[4] = Rate Limit 간격(ms, 음수면 체크 안 함), ARGV[5] = TTL(초), ARGV[6] = 최대 보관 수,
+     * ARGV[7] = 진행 중 세션 멤버 ("userId:videoId"), ARGV[8] = 저장 종류 (heartbeat / end / save),
+     * ARGV[9] = 종료 후 유예 시간(ms), ARGV[10] = 조회수 재집계 방지 윈도우(ms)
+     * - end: 상태 저장과 함께 {videoId}:e에 종료 시각을 남기고 진행 중 목록에서 제거
+     * - heartbeat: 종료 시각 + 유예 시간 안에 들어온 하트비트는 종료 직전에 보낸 요청이 늦게 도착한 것으로 보고
+     *   상태/진행 중 목록을 건드리지 않음 (종료된 세션이 되살아나 유휴 정리에서 한 번 더 종료되는 것 방지)
+     *   유예 시간이 지난 하트비트는 새 세션 시작으로 보고 종료 표시를 지움
+     * - heartbeat: 직전 시청 시각(최근 시청 ZSET 점수)이 없거나 윈도우 이상 지났으면 새 조회로 판단
+     *   (하트비트마다 점수가 갱신되므로 이어서 보는 동안은 1회, 윈도우 이상 끊긴 뒤 재생하면 새 조회)
+     * 반환: -1 = 종료된 세션의 늦은 하트비트라 무시, 그 외 비트 플래그 (1 = DB 저장 가능, 2 = 새 조회)
+     */
+    private static final RedisScript<Long> SAVE_STATE_SCRIPT = new DefaultRedisScript<>("""
+            local videoId = ARGV[1]
+            local watchedAt = tonumber(ARGV[3])
+            local mode = ARGV[8]
+            local endedField = videoId .. ':e'
+
+            if mode == 'heartbeat' then
+                local ended = redis.call('HGET', KEYS[1], endedField)
+                if ended then
+                    if watchedAt < tonumber(ended) + tonumber(ARGV[9]) then
+                        return -1
+                    end
+                    redis.call('HDEL', KEYS[1], endedField)
+                end
+            end
+
+            local current = redis.call('ZSCORE', KEYS[2], videoId)
+            local newView = 0
+            if mode == 'heartbeat' and ((not current) or watchedAt - tonumber(current) >= tonumber(ARGV[10])) then
+                newView = 2
+            end
+            if (not current) or tonumber(current) <= watchedAt then
+                redis.call('HSET', KEYS[1], videoId, ARGV[2])
+                redis.call('ZADD', KEYS[2], watchedAt, videoId)
+                if mode == 'heartbeat' then
+                    redis.call('ZADD', KEYS[3], watchedAt, ARGV[7])
+                end
+            end
+            if mode == 'end' then
+                redis.call('HSET', KEYS[1], endedField, watchedAt)
+                redis.call('ZREM', KEYS[3], ARGV[7])
+            end
+
+            local allowed = 0
+            local interval = tonumber(ARGV[4])
+            if interval >= 0 then
+                local rateField = videoId .. ':f'
+                local last = tonumber(redis.call('HGET', KEYS[1], rateField) or '0')
+                if watchedAt - last >= interval then
+                    redis.call('HSET', KEYS[1], rateField, watchedAt)
+                    allowed = 1
+                end
+            end
+
+            local overflow = redis.call('ZCARD', KEYS[2]) - tonumber(ARGV[6])
+            if overflow > 0 then
+                local evicted = redis.call('ZRANGE', KEYS[2], 0, overflow - 1)
+                redis.call('ZREMRANGEBYRANK', KEYS[2], 0, overflow - 1)
+                for _, v in ipairs(evicted) do
+                    redis.call('HDEL', KEYS[1], v, v .. ':f', v .. ':e')
+                end
+                if redis.call('HEXISTS', KEYS[1], '~seed') == 1 then
+                    redis.call('HSET', KEYS[1], '~seed', 'partial')
+                end
+            end
+
+            redis.call('EXPIRE', KEYS[1], ARGV[5])
+            redis.call('EXPIRE', KEYS[2], ARGV[5])
+            return allowed + newView
+            """, Long.class);
+
+    /**
+     * DB 최근 시청 이력으로 시딩 (이미 더 최신 상태가 있으면 유지)
+     * ARGV[1] = 시딩 표시값, ARGV[2] = TTL(초), 이후 (videoId, 상태, watchedAtMillis) 반복
+     */
+    private static final RedisScript<Long> SEED_SCRIPT = new DefaultRedisScript<>("""
+            for i = 3, #ARGV, 3 do
+                local videoId = ARGV[i]
+                local watchedAt = tonumber(ARGV[i + 2])
+                local current = redis.call('ZSCORE', KEYS[2], videoId)
+                if (not current) or tonumber(current) < watchedAt then
+                    redis.call('HSET', KEYS[1], videoId, ARGV[i + 1])
+                    redis.call('ZADD', KEYS[2], watchedAt, videoId)
+                end
+            end
+            redis.call('HSET', KEYS[1], '~seed', ARGV[1])
+            redis.call('EXPIRE', KEYS[1], ARGV[2])
+            redis.call('EXPIRE', KEYS[2], ARGV[2])
+            return 1
+            """, Long.class);
+
+    /**
+     * 최근 시청 목록 조회 (시딩되지 않은 사용자는 빈 목록)
+     * ARGV[1] = 최소 watchedAtMillis, ARGV[2] = 최대 watchedAtMillis ('+inf' 또는 포함 경계), ARGV[3] = count
+     * - 포함 경계와 같은 시각의 항목은 호출 측이 videoMetadataId로 걸러내므로 그만큼 더 가져옴
+     * - 마지막 항목과 같은 시각의 항목은 LIMIT에 잘리지 않도록 모두 포함 (같은 ms 안의 순서는 호출 측이 정함)
+     * 반환: [시딩 표시값, videoId, 상태, videoId, 상태, ...]
+     */
+    @SuppressWarnings("rawtypes")
+    private static final RedisScript<List> RECENT_SCRIPT = new DefaultRedisScript<>("""
+            local seed = redis.call('HGET', KEYS[1], '~seed')
+            if not seed then
+                return {}
+            end
+            local result = { seed }
+            local limit = tonumber(ARGV[3])
+            if ARGV[2] ~= '+inf' then
+                limit = limit + redis.call('ZCOUNT', KEYS[2], ARGV[2], ARGV[2])
+            end
+            local items = redis.call('ZREVRANGEBYSCORE', KEYS[2], ARGV[2], ARGV[1], 'LIMIT', 0, limit)
+            if #items > 0 and #items == limit then
+                local last = redis.call('ZSCORE', KEYS[2], items[#items])
+                local included = {}
+                for _, v in ipairs(items) do
+                    included[v] = true
+                end
+                for _, v in ipairs(redis.call('ZREVRANGEBYSCORE', KEYS[2], last, last)) do
+                    if not included[v] then
+                        items[#items + 1] = v
+                    end
+                end
+            end
+            for _, v in ipairs(items) do
+                result[#result + 1] = v
+                result[#result + 1] = redis.call('HGET', KEYS[1], v) or ''
+            end
+            return result
+            """, List.class);
+
+    /**
+     * 마지막 하트비트가 기준 시각 이전인 세션을 최대 N건 꺼내 제거 (원자적으로 처리되어 여러 인스턴스가 동시에 실행해도 한 곳에서만 가져감)
+     * ARGV[1] = 기준 시각(ms), ARGV[2] = 최대 건수
+     * 반환: [member, lastSeenMillis, member, lastSeenMillis, ...]
+     */
+    @SuppressWarnings("rawtypes")
+    private static final RedisScript<List> CLAIM_IDLE_SCRIPT = new DefaultRedisScript<>("""
+            local claimed = redis.call('ZRANGEBYSCORE', KEYS[1], '-inf', ARGV[1], 'WITHSCORES', 'LIMIT', 0, ARGV[2])
+            for i = 1, #claimed, 2 do
+                redis.call('ZREM', KEYS[1], claimed[i])
+            end
+            return claimed
+            """, List.class);
 
     /**
      * 시청 이력 조회 (Redis)
      */
     public WatchHistoryDto getWatchHistory(Long userId, Long videoId) {
-        String key = generateWatchKey(userId, videoId);
-        Object value = redisTemplate.opsForValue().get(key);
+        Object value = binaryRedisTemplate.opsForHash().get(stateKey(userId), String.valueOf(videoId));
 
-        if (value instanceof WatchHistoryDto) {
+        if (value != null) {
             log.debug("[Redis] Hit - userId: {}, videoId: {}", userId, videoId);
-            return (WatchHistoryDto) value;
+            return toDto(userId, videoId, (byte[]) value);
         }
 
         log.debug("[Redis] Miss - userId: {}, videoId: {}", userId, videoId);
         return null;
     }
 
+    /**
+     * 여러 영상의 시청 상태를 한 번의 HMGET으로 조회
+     */
+    public WatchHistoryLookup getWatchHistories(Long userId, Collection<Long> videoIds) {
+        if (videoIds.isEmpty()) {
+            return new WatchHistoryLookup(Map.of(), false);
+        }
+
+        List<Long> ids = List.copyOf(videoIds);
+        List<Object> fields = new ArrayList<>(ids.size() + 1);
+        fields.add(SEED_FIELD);
+        ids.forEach(id -> fields.add(String.valueOf(id)));
+
+        List<Object> values = binaryRedisTemplate.opsForHash().multiGet(stateKey(userId), fields);
+
+        Map<Long, WatchHistoryDto> histories = new HashMap<>();
+        for (int i = 0; i < ids.size(); i++) {
+            Object value = values.get(i + 1);
+            if (value != null) {
+                histories.put(ids.get(i), toDto(userId, ids.get(i), (byte[]) value));
+            }
+        }
+        return new WatchHistoryLookup(histories, SEED_FULL.equals(asString(values.get(0))));
+    }
+
+    /**
+     * 최근 시청 목록 조회 (ZREVRANGEBYSCORE)
+     * @param maxMillis 이 시각 이전(포함)에 시청한 항목만 (null이면 처음부터). 같은 시각의 항목도 함께 반환되므로 커서 비교는 호출 측에서
+     * @return 시딩되지 않은 사용자는 null
+     */
+    @SuppressWarnings("unchecked")
+    public RecentWatchPage getRecentWatches(Long userId, long sinceMillis, Long maxMillis, long count) {
+        String max = maxMillis == null ? "+inf" : String.valueOf(maxMillis);
+        List<Object> raw = binaryRedisTemplate.execute(
+                RECENT_SCRIPT,
+                List.of(stateKey(userId), recentKey(userId)),
+                bytes(sinceMillis), bytes(max), bytes(count));
+
+        if (raw == null || raw.isEmpty()) {
+            return null;
+        }
+
+        List<WatchHistoryDto> items = new ArrayList<>((raw.size() - 1) / 2);
+        for (int i = 1; i + 1 < raw.size(); i += 2) {
+            byte[] state = (byte[]) raw.get(i + 1);
+            if (state != null && state.length > 0) {
+                items.add(toDto(userId, Long.parseLong(asString(raw.get(i))), state));
+            }
+        }
+        return new RecentWatchPage(items, SEED_FULL.equals(asString(raw.get(0))));
+    }
+
+    /**
+     * DB에서 읽은 최근 시청 이력으로 시딩
+     * @param complete DB의 전체 이력을 모두 담았는지 여부
+     */
+    public void seedRecentWatches(Long userId, List<WatchHistoryDto> histories, boolean complete) {
+        List<byte[]> args = new ArrayList<>(histories.size() * 3 + 2);
+        args.add(bytes(complete ? SEED_FULL : SEED_PARTIAL));
+        args.add(bytes(TimeUnit.DAYS.toSeconds(WATCH_STATE_TTL_DAYS)));
+        for (WatchHistoryDto history : histories) {
+            args.add(bytes(history.getVideoId()));
+            args.add(encode(history.getLastPosition(), history.getDuration(), history.getWatchedAt()));
+            args.add(bytes(history.getWatchedAt()));
+        }
+
+        binaryRedisTemplate.execute(
+                SEED_SCRIPT,
+                List.of(stateKey(userId), recentKey(userId)),
+                args.toArray());
+        log.debug("[Redis] Seeded - userId: {}, count: {}, complete: {}", userId, histories.size(), complete);
+    }
+
     /**
      * 시청 이력 저장 (Redis)
      */
     public void saveWatchHistory(Long userId, Long videoId, Integer lastPosition, Integer duration) {
-        String key = generateWatchKey(userId, videoId);
+        saveWatchHistory(userId, videoId, lastPosition, duration, System.currentTimeMillis());
+    }
 
-        WatchHistoryDto watchHistory = WatchHistoryDto.builder()
-                .userId(userId)
-                .videoId(videoId)
-                .lastPosition(lastPosition)
-                .duration(duration)
-                .build();
+    /**
+     * 시청 이력 저장 (Redis) - DB 이력을 캐싱할 때는 실제 시청 시각을 유지
+     */
+    public void saveWatchHistory(Long userId, Long videoId, Integer lastPosition, Integer duration, long watchedAtMillis) {
+        saveWatchHistory(userId, videoId, lastPosition, duration, watchedAtMillis, false);
+    }
 
-        redisTemplate.opsForValue().set(key, watchHistory, WATCH_HISTORY_TTL_HOURS, TimeUnit.HOURS);
-        log.info("[Redis] Updated - userId: {}, videoId: {}, lastPosition: {}, duration: {}",
+    /**
+     * 시청 이력 저장 (Redis)
+     * @param heartbeat 하트비트로 들어온 상태인지 여부 (진행 중 세션으로 기록되어 종료 호출이 없으면 정리 대상이 됨)
+     * @return 하트비트면 새 조회 여부 포함 (하트비트가 아니면 항상 새 조회 아님)
+     */
+    public HeartbeatSaveResult saveWatchHistory(Long userId, Long videoId, Integer lastPosition, Integer duration,
+                                                long watchedAtMillis, boolean heartbeat) {
+        Long result = executeSave(userId, videoId, lastPosition, duration, watchedAtMillis, -1,
+                heartbeat ? MODE_HEARTBEAT : MODE_SAVE);
+        log.debug("[Redis] Updated - userId: {}, videoId: {}, lastPosition: {}, duration: {}",
                 userId, videoId, lastPosition, duration);
+        return HeartbeatSaveResult.of(result);
     }
 
     /**
-     * Rate Limit 체크 (1분 주기로 DB 저장)
-     * @return true: DB 저장 가능, false: DB 저장 스킵
+     * 시청 이력 저장 + Rate Limit 체크 + 새 조회 판단 (하트비트 전용, 단일 스크립트)
      */
-    public boolean checkRateLimit(Long userId, Long videoId) {
-        String key = generateRateLimitKey(userId, videoId);
+    public HeartbeatSaveResult saveWatchHistoryAndCheckRateLimit(Long userId, Long videoId, Integer lastPosition, Integer duration) {
+        Long result = executeSave(userId, videoId, lastPosition, duration, System.currentTimeMillis(),
+                RATE_LIMIT_MILLIS, MODE_HEARTBEAT);
 
-        // key가 존재하면 False, 존재하지 않으면 True 반환
-        Boolean isFirstRequest = redisTemplate.opsForValue().setIfAbsent(key, "1", RATE_LIMIT_TTL_SECONDS, TimeUnit.SECONDS);
+        log.debug("[Redis] Heartbeat - userId: {}, videoId: {}, lastPosition: {}, result: {}",
+                userId, videoId, lastPosition, result);
+        return HeartbeatSaveResult.of(result);
+    }
 
-        return Boolean.TRUE.equals(isFirstRequest);
+    /**
+     * 세션 종료: 최종 상태 저장 + 종료 시각 기록 + 진행 중 목록에서 제거 (단일 스크립트)
+     * 이후 유예 시간 안에 늦게 도착한 하트비트는 세션을 되살리지 않음
+     */
+    public void endWatchSession(Long userId, Long videoId, Integer lastPosition, Integer duration, long endedAtMillis) {
+        executeSave(userId, videoId, lastPosition, duration, endedAtMillis, -1, MODE_END);
+        log.debug("[Redis] Ended - userId: {}, videoId: {}, lastPosition: {}", userId, videoId, lastPosition);
     }
 
     public void deleteWatchHistory(Long userId, Long videoId) {
-        String key = generateWatchKey(userId, videoId);
-        redisTemplate.delete(key);
+        String field = String.valueOf(videoId);
+        binaryRedisTemplate.opsForHash().delete(stateKey(userId), field, field + RATE_FIELD_SUFFIX, field + ENDED_FIELD_SUFFIX);
+        binaryRedisTemplate.opsForZSet().remove(recentKey(userId), bytes(field));
+    }
+
+    /**
+     * 마지막 하트비트 이후 유휴 상태가 된 세션을 샤드를 돌며 최대 limit건 가져감 (가져간 세션은 진행 중 목록에서 제거됨)
+     */
+    public List<IdleWatchSession> claimIdleSessions(long idleBeforeMillis, int limit) {
+        List<IdleWatchSession> sessions = new ArrayList<>();
+        // 매번 앞쪽 샤드부터 비우지 않도록 시작 샤드를 돌아가며 바꿈
+        int first = Math.floorMod(claimCursor.getAndIncrement(), SHARDS);
+        for (int i = 0; i < SHARDS && sessions.size() < limit; i++) {
+            claimIdleSessions((first + i) % SHARDS, idleBeforeMillis, limit - sessions.size(), sessions);
+        }
+        return sessions;
+    }
+
+    @SuppressWarnings("unchecked")
+    private void claimIdleSessions(int shard, long idleBeforeMillis, int limit, List<IdleWatchSession> sessions) {
+        List<Object> raw = binaryRedisTemplate.execute(
+                CLAIM_IDLE_SCRIPT,
+                List.of(ACTIVE_SESSION_PREFIX + tag(shard)),
+                bytes(idleBeforeMillis), bytes(limit));
+
+        if (raw == null) {
+            return;
+        }
+        for (int i = 0; i + 1 < raw.size(); i += 2) {
+            String[] member = asString(raw.get(i)).split(":");
+            sessions.add(new IdleWatchSession(
+                    Long.parseLong(member[0]),
+                    Long.parseLong(member[1]),
+                    (long) Double.parseDouble(asString(raw.get(i + 1)))));
+        }
+    }
+
+    /**
+     * 샤딩 이전 진행 중 세션 ZSET의 세션을 사용자 샤드로 옮김 (옮기지 않으면 배포 시점에 진행 중이던 세션이 유휴 정리되지 않음)
+     * 새 버전은 기존 키에 쓰지 않으므로 배포가 끝나면 EXISTS만 하고 끝남
+     * 시청 상태/최근 시청 키는 옮기지 않음 (다음 조회 때 DB에서 다시 시딩)
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void migrateLegacyActiveSessions() {
+        try {
+            moveLegacyActiveSessions();
+        } catch (Exception e) {
+            // 기동은 막지 않음 (남은 키는 다음 기동 때 다시 시도)
+            log.warn("[Redis] 기존 진행 중 세션 이동 실패: {}", e.getMessage());
+        }
+    }
+
+    private void moveLegacyActiveSessions() {
+        String movingKey = LEGACY_ACTIVE_SESSION_KEY + ":migrating";
+        // 옮기던 중 죽은 흔적(movingKey)이 있으면 이어서 처리 (ZADD NX는 중복 실행해도 안전)
+        if (Boolean.TRUE.equals(binaryRedisTemplate.hasKey(LEGACY_ACTIVE_SESSION_KEY))) {
+            try {
+                binaryRedisTemplate.rename(LEGACY_ACTIVE_SESSION_KEY, movingKey); // 동시에 기동한 인스턴스 중 하나만 성공
+            } catch (Exception e) {
+                log.debug("[Redis] 기존 진행 중 세션은 다른 인스턴스가 이동 중");
+            }
+        }
+        if (!Boolean.TRUE.equals(binaryRedisTemplate.hasKey(movingKey))) {
+            return;
+        }
+
+        long moved = 0;
+        for (long start = 0; ; start += LEGACY_MIGRATION_BATCH) {
+            Set<ZSetOperations.TypedTuple<byte[]>> sessions = binaryRedisTemplate.opsForZSet()
+                    .rangeWithScores(movingKey, start, start + LEGACY_MIGRATION_BATCH - 1);
+            if (sessions == null || sessions.isEmpty()) {
+                break;
+            }
+            for (ZSetOperations.TypedTuple<byte[]> session : sessions) {
+                if (session.getValue() == null || session.getScore() == null) {
+                    continue;
+                }
+                long userId = Long.parseLong(asString(session.getValue()).split(":")[0]);
+                binaryRedisTemplate.opsForZSet().addIfAbsent(activeKey(userId), session.getValue(), session.getScore());
+                moved++;
+            }
+        }
+        binaryRedisTemplate.delete(movingKey);
+        log.info("[Redis] 기존 진행 중 세션 → 샤드 이동 ({}건)", moved);
+    }
+
+    /**
+     * 정리에 실패한 세션을 다시 진행 중 목록에 넣음 (그 사이 새 하트비트가 있었다면 그 값을 유지)
+     */
+    public void restoreActiveSession(Long userId, Long videoId, long lastSeenMillis) {
+        binaryRedisTemplate.opsForZSet().addIfAbsent(
+                activeKey(userId), bytes(activeMember(userId, videoId)), lastSeenMillis);
+    }
+
+    private Long executeSave(Long userId, Long videoId, Integer lastPosition, Integer duration,
+                             long watchedAtMillis, long rateLimitMillis, String mode) {
+        return binaryRedisTemplate.execute(
+                SAVE_STATE_SCRIPT,
+                List.of(stateKey(userId), recentKey(userId), activeKey(userId)),
+                bytes(videoId),
+                encode(lastPosition, duration, watchedAtMillis),
+                bytes(watchedAtMillis),
+                bytes(rateLimitMillis),
+                bytes(TimeUnit.DAYS.toSeconds(WATCH_STATE_TTL_DAYS)),
+                bytes(RECENT_MAX_SIZE),
+                bytes(activeMember(userId, videoId)),
+                bytes(mode),
+                bytes(Math.max(0, sessionFinalizerProperties.getEndedGraceMs())),
+                bytes(TimeUnit.SECONDS.toMillis(replayWindowSeconds)));
+    }
+
+    private byte[] encode(Integer lastPosition, Integer duration, long watchedAtMillis) {
+        return watchStateCodec.encode(new WatchState(
+                lastPosition != null ? lastPosition : 0,
+                duration != null ? duration : 0,
+                watchedAtMillis));
+    }
+
+    private WatchHistoryDto toDto(Long userId, Long videoId, byte[] value) {
+        WatchState state = watchStateCodec.decode(value);
+        return WatchHistoryDto.builder()
+                .userId(userId)
+                .videoId(videoId)
+                .lastPosition(state.lastPosition())
+                .duration(state.duration())
+                .watchedAt(state.watchedAt())
+                .build();
+    }
+
+    // 스크립트 인자/결과 중 숫자·식별자는 UTF-8 문자열로 주고받음
+    private static byte[] bytes(Object value) {
+        return String.valueOf(value).getBytes(StandardCharsets.UTF_8);
+    }
+
+    private static String asString(Object value) {
+        return value == null ? null : new String((byte[]) value, StandardCharsets.UTF_8);
+    }
+
+    private static String activeMember(Long userId, Long videoId) {
+        return userId + ":" + videoId;
+    }
+
+    static String stateKey(Long userId) {
+        return WATCH_STATE_PREFIX + tag(userId) + ":" + userId;
+    }
+
+    static String recentKey(Long userId) {
+        return RECENT_WATCH_PREFIX + tag(userId) + ":" + userId;
+    }
+
+    static String activeKey(Long userId) {
+        return ACTIVE_SESSION_PREFIX + tag(userId);
     }
 
-    private String generateWatchKey(Long userId, Long videoId) {
-        return WATCH_HISTORY_PREFIX + userId + ":" + videoId;
+    private static String tag(Long userId) {
+        return tag((int) Math.floorMod(userId, (long) SHARDS));
     }
 
-    private String generateRateLimitKey(Long userId, Long videoId) {
-        return RATE_LIMIT_PREFIX + userId + ":" + videoId;
+    private static String tag(int shard) {
+        return "{" + shard + "}";
     }
 }
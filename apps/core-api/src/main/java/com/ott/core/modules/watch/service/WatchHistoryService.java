@@ -6,29 +6,48 @@ import com.ott.common.persistence.entity.User;
 import com.ott.common.persistence.entity.VideoMetadata;
 import com.ott.common.persistence.entity.WatchHistory;
 import com.ott.common.util.IdGenerator;
+import com.ott.core.modules.counter.service.VideoViewService;
 import com.ott.core.modules.point.service.PointService;
 import com.ott.core.modules.preference.event.VideoWatchedEvent;
-import com.ott.core.modules.preference.service.UserPreferenceService;
+import com.ott.core.modules.recommendation.service.SeenVideoFilter;
 import com.ott.core.modules.user.repository.UserRepository;
+import com.ott.core.modules.video.dto.VideoPlaybackMeta;
 import com.ott.core.modules.video.repository.VideoMetadataRepository;
+import com.ott.core.modules.video.service.VideoPlaybackMetaCache;
+import com.ott.core.modules.watch.dto.HeartbeatSaveResult;
+import com.ott.core.modules.watch.dto.IdleSessionBatchResult;
+import com.ott.core.modules.watch.dto.IdleWatchSession;
+import com.ott.core.modules.watch.dto.RecentWatchPage;
+import com.ott.core.modules.watch.dto.WatchHistoryCursor;
 import com.ott.core.modules.watch.dto.WatchHistoryDto;
+import com.ott.core.modules.watch.dto.WatchHistoryKey;
+import com.ott.core.modules.watch.dto.WatchHistoryLookup;
+import com.ott.core.modules.watch.dto.WatchHistoryUpsert;
 import com.ott.core.modules.watch.dto.response.WatchHistoryItemResponse;
 import com.ott.core.modules.watch.dto.response.WatchHistoryPageResponse;
 import com.ott.core.modules.watch.dto.response.WatchHistoryResponse;
+import com.ott.core.modules.watch.event.WatchHeartbeatEvent;
+import com.ott.core.modules.watch.event.WatchHeartbeatProducer;
+import com.ott.core.modules.watch.repository.WatchHistoryBatchRepository;
 import com.ott.core.modules.watch.repository.WatchHistoryRepository;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.domain.PageRequest;
-import org.springframework.data.domain.Pageable;
-import org.springframework.data.domain.Slice;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.time.OffsetDateTime;
+import java.time.Instant;
 import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Objects;
 import java.util.Set;
 import java.util.stream.Collectors;
 
@@ -39,13 +58,21 @@ import java.util.stream.Collectors;
 public class WatchHistoryService {
 
     private final WatchHistoryRepository watchHistoryRepository;
+    private final WatchHistoryBatchRepository watchHistoryBatchRepository;
     private final WatchHistoryRedisService watchHistoryRedisService;
-    private final WatchHistoryAsyncService watchHistoryAsyncService;
-    private final UserPreferenceService userPreferenceService;
+    private final WatchHistoryWriteBuffer watchHistoryWriteBuffer;
     private final ApplicationEventPublisher eventPublisher;
     private final VideoMetadataRepository videoMetadataRepository;
+    private final VideoPlaybackMetaCache videoPlaybackMetaCache;
     private final UserRepository userRepository;
     private final PointService pointService;
+    private final WatchHeartbeatProducer watchHeartbeatProducer;
+    private final VideoViewService videoViewService;
+    private final SeenVideoFilter seenVideoFilter;
+
+    // direct: API에서 Redis/DB 직접 반영, kafka: 이벤트만 발행하고 컨슈머가 배치 반영
+    @Value("${app.watch.ingestion-mode:direct}")
+    private String ingestionMode;
 
     /**
      * 시청 이력 조회
@@ -76,7 +103,8 @@ public class WatchHistoryService {
                     userId,
                     videoId,
                     watchHistory.getLastPosition(),
-                    videoMetadata.getDuration());
+                    videoMetadata.getDuration(),
+                    watchHistory.getUpdatedAt().toInstant().toEpochMilli());
 
             return WatchHistoryResponse.builder()
                     .videoId(String.valueOf(videoId))
@@ -98,20 +126,31 @@ public class WatchHistoryService {
      */
     public void updateWatchPosition(Long userId, Long videoId, Integer lastPosition) {
 
-        VideoMetadata vm = videoMetadataRepository.findByVideoIdAndDeleted(videoId, false).orElseThrow(() -> new BusinessException(ErrorCode.VIDEO_METADATA_NOT_FOUND));
-        Integer duration = vm.getDuration();
+        if ("kafka".equals(ingestionMode)) {
+            watchHeartbeatProducer.send(new WatchHeartbeatEvent(userId, videoId, lastPosition, System.currentTimeMillis()));
+            return;
+        }
+
+        VideoPlaybackMeta meta = videoPlaybackMetaCache.get(videoId);
 
         // 도메인 로직을 사용하여 완주 여부 계산
-        boolean isCompleted = WatchHistory.isVideoCompleted(lastPosition, duration);
+        boolean isCompleted = WatchHistory.isVideoCompleted(lastPosition, meta.duration());
 
-        watchHistoryRedisService.saveWatchHistory(userId, videoId, lastPosition, duration);
-        boolean canSaveToDb = watchHistoryRedisService.checkRateLimit(userId, videoId);
+        HeartbeatSaveResult saved = watchHistoryRedisService.saveWatchHistoryAndCheckRateLimit(
+                userId, videoId, lastPosition, meta.duration());
+        // 종료 직후 늦게 도착한 하트비트는 종료 시 저장한 최종 위치를 덮어쓰지 않음
+        if (!saved.accepted()) {
+            return;
+        }
 
-        VideoMetadata videoMetadata = videoMetadataRepository.findByVideoIdAndDeleted(videoId, false)
-                .orElseThrow(() -> new BusinessException(ErrorCode.NOT_FOUND));
-        Long videoMetadataId = videoMetadata.getId();
-        if (canSaveToDb || isCompleted) {
-            watchHistoryAsyncService.saveWatchHistoryToDb(userId, videoMetadataId, lastPosition, isCompleted);
+        // 조회수 (재집계 방지 윈도우는 저장 스크립트에서 직전 시청 시각으로 판단)
+        if (saved.newView()) {
+            videoViewService.recordView(userId, videoId);
+        }
+
+        // DB 반영은 write-behind 버퍼에서 병합 후 일괄 처리
+        if (saved.canSaveToDb() || isCompleted) {
+            watchHistoryWriteBuffer.enqueue(userId, meta.videoMetadataId(), lastPosition, isCompleted);
         }
     }
 
@@ -120,47 +159,151 @@ public class WatchHistoryService {
      */
     @Transactional
     public void stopWatching(Long userId, Long videoId, Integer lastPosition) {
-
-        VideoMetadata vm = videoMetadataRepository.findByVideoIdAndDeleted(videoId, false).orElseThrow(() -> new BusinessException(ErrorCode.VIDEO_METADATA_NOT_FOUND));
-        Integer duration = vm.getDuration();
+        VideoPlaybackMeta meta = videoPlaybackMetaCache.get(videoId);
+        long endedAtMillis = System.currentTimeMillis();
 
         // 종료 시점에 완주 여부 계산
-        boolean isCompleted = WatchHistory.isVideoCompleted(lastPosition, duration);
+        boolean isCompleted = WatchHistory.isVideoCompleted(lastPosition, meta.duration());
 
-        VideoMetadata videoMetadata = videoMetadataRepository.findByVideoIdAndDeleted(videoId, false)
-                .orElseThrow(() -> new BusinessException(ErrorCode.NOT_FOUND));
-        Long videoMetadataId = videoMetadata.getId();
+        // 버퍼에 남은 이전 위치가 최종 위치를 덮어쓰지 않도록 제거
+        watchHistoryWriteBuffer.discard(userId, meta.videoMetadataId());
+        watchHistoryRepository.upsertWatchHistory(IdGenerator.generate(), userId, meta.videoMetadataId(), lastPosition,
+                isCompleted, OffsetDateTime.ofInstant(Instant.ofEpochMilli(endedAtMillis), ZoneOffset.UTC));
 
-        watchHistoryRepository.upsertWatchHistory(IdGenerator.generate(), userId, videoMetadataId, lastPosition,
-                isCompleted, OffsetDateTime.now(ZoneOffset.UTC));
-        userPreferenceService.reflectWatchScore(userId, videoId, lastPosition, isCompleted);
-        watchHistoryRedisService.deleteWatchHistory(userId, videoId);
-        eventPublisher.publishEvent(new VideoWatchedEvent(userId, videoId, lastPosition, isCompleted));
+        if (endSession(userId, videoId, meta, lastPosition, isCompleted, endedAtMillis)) {
+            rewardAdPoint(userId, meta.videoMetadataId());
+        }
+    }
+
+    /**
+     * 종료 호출 없이 하트비트가 끊긴 세션들을 마지막 하트비트 기준으로 한 번에 종료 처리
+     * - 최종 위치는 multi-row upsert 한 번으로 반영 (배치 전체가 하나의 트랜잭션)
+     * - 광고 포인트는 적립 실패가 배치 트랜잭션을 롤백시키지 않도록 대상만 돌려주고 호출 측에서 따로 적립
+     */
+    @Transactional
+    public IdleSessionBatchResult finalizeIdleSessions(List<IdleWatchSession> sessions) {
+        List<IdleSessionEnd> ends = new ArrayList<>(sessions.size());
+        int skipped = 0;
+        int dropped = 0;
+
+        for (IdleWatchSession session : sessions) {
+            WatchHistoryDto state = watchHistoryRedisService.getWatchHistory(session.userId(), session.videoId());
+
+            // 가져간 뒤 새 하트비트가 들어왔다면 세션이 이어지는 중이므로 다음 정리 주기에 맡김
+            if (state == null || state.getWatchedAt() == null || state.getWatchedAt() > session.lastSeenAt()) {
+                skipped++;
+                continue;
+            }
 
-        // 포인트 적립
-        if (isCompleted && videoMetadata.isAd()) {
             try {
-                pointService.rewardAdPoint(userId, videoMetadata);
+                VideoPlaybackMeta meta = videoPlaybackMetaCache.get(session.videoId());
+                boolean isCompleted = WatchHistory.isVideoCompleted(state.getLastPosition(), meta.duration());
+                ends.add(new IdleSessionEnd(session, meta, state.getLastPosition(), isCompleted, state.getWatchedAt()));
             } catch (BusinessException e) {
-                log.info("포인트 적립 실패 (정상적인 비즈니스 룰 예외): userId={}, videoMetadataId={}, reason={}", userId,
-                        videoMetadata.getId(), e.getErrorCode());
-            } catch (Exception e) {
-                log.error("포인트 적립 중 시스템 에러 발생: userId={}, videoMetadataId={}", userId, videoMetadata.getId(), e);
+                // 삭제된 영상 등 재시도해도 실패할 세션은 버림
+                dropped++;
+                log.warn("[WatchSession] 종료 처리 불가 세션 제외 - userId: {}, videoId: {}, reason: {}",
+                        session.userId(), session.videoId(), e.getErrorCode());
+            }
+        }
+
+        List<WatchHistoryUpsert> rows = ends.stream()
+                .map(end -> {
+                    watchHistoryWriteBuffer.discard(end.session().userId(), end.meta().videoMetadataId());
+                    return new WatchHistoryUpsert(end.session().userId(), end.meta().videoMetadataId(),
+                            end.lastPosition(), end.completed(),
+                            OffsetDateTime.ofInstant(Instant.ofEpochMilli(end.endedAtMillis()), ZoneOffset.UTC));
+                })
+                // 여러 인스턴스/버퍼 flush와 잠금 순서를 맞추기 위해 정렬
+                .sorted(Comparator.comparing(WatchHistoryUpsert::userId).thenComparing(WatchHistoryUpsert::videoMetadataId))
+                .toList();
+        watchHistoryBatchRepository.upsertAll(rows);
+
+        List<WatchHistoryKey> adRewards = new ArrayList<>();
+        for (IdleSessionEnd end : ends) {
+            if (endSession(end.session().userId(), end.session().videoId(), end.meta(),
+                    end.lastPosition(), end.completed(), end.endedAtMillis())) {
+                adRewards.add(new WatchHistoryKey(end.session().userId(), end.meta().videoMetadataId()));
             }
         }
+        return new IdleSessionBatchResult(ends.size(), skipped, dropped, adRewards);
     }
 
     /**
-     * 최근 3개월 시청 이력 조회 (캐러셀 / 바텀시트 공용)
+     * 광고 영상 완주 포인트 적립 (적립 실패는 시청 종료 처리에 영향을 주지 않음)
      */
-    public WatchHistoryPageResponse getRecentWatchHistory(long userId, int page, int size) {
+    public void rewardAdPoint(Long userId, Long videoMetadataId) {
+        // id만 사용하므로 프록시 참조로 충분
+        try {
+            pointService.rewardAdPoint(userId, videoMetadataRepository.getReferenceById(videoMetadataId));
+        } catch (BusinessException e) {
+            log.info("포인트 적립 실패 (정상적인 비즈니스 룰 예외): userId={}, videoMetadataId={}, reason={}", userId,
+                    videoMetadataId, e.getErrorCode());
+        } catch (Exception e) {
+            log.error("포인트 적립 중 시스템 에러 발생: userId={}, videoMetadataId={}", userId, videoMetadataId, e);
+        }
+    }
+
+    /**
+     * 시청 세션 종료 공통 처리: Redis 최종 상태/종료 표시, 시청 완료 이벤트(선호도 점수), 완주 영상 필터
+     * @param endedAtMillis 세션 종료 시각 (DB updated_at, Redis 최근 시청 순서 기준)
+     * @return 광고 포인트 적립 대상이면 true
+     */
+    private boolean endSession(Long userId, Long videoId, VideoPlaybackMeta meta, Integer lastPosition,
+                               boolean isCompleted, long endedAtMillis) {
+        // 최종 위치를 남겨 "이어보기" 목록과 진행률 표시에 바로 반영, 이후 늦게 도착한 하트비트는 세션을 되살리지 않음
+        watchHistoryRedisService.endWatchSession(userId, videoId, lastPosition, meta.duration(), endedAtMillis);
+        // 선호도 점수는 커밋 후 이벤트 리스너가 비동기로 버퍼에 적재 (태그 수와 무관하게 종료 응답 시간 일정)
+        eventPublisher.publishEvent(new VideoWatchedEvent(userId, videoId, lastPosition, isCompleted));
+        // 완주한 영상은 이후 피드에서 제외
+        if (isCompleted) {
+            seenVideoFilter.markSeen(userId, videoId);
+        }
+        return isCompleted && meta.isAd();
+    }
+
+    private record IdleSessionEnd(
+            IdleWatchSession session,
+            VideoPlaybackMeta meta,
+            Integer lastPosition,
+            boolean completed,
+            long endedAtMillis
+    ) {
+    }
+
+    /**
+     * 최근 3개월 시청 이력 조회 (캐러셀 / 바텀시트 공용, keyset 커서 페이지네이션)
+     * Redis "이어보기" 목록이 요청 범위를 모두 담고 있으면 Redis에서, 아니면 DB에서 조회
+     */
+    public WatchHistoryPageResponse getRecentWatchHistory(long userId, String cursor, int size) {
+        WatchHistoryCursor after = WatchHistoryCursor.decode(cursor);
         OffsetDateTime threeMonthsAgo = OffsetDateTime.now(ZoneOffset.UTC).minusMonths(3);
+        long sinceMillis = threeMonthsAgo.toInstant().toEpochMilli();
+        // 커서 시각(µs)이 속한 ms까지 포함해서 읽고, 같은 ms 안에서는 videoMetadataId로 커서 이후 항목만 남김
+        Long maxMillis = after != null ? after.epochMillis() : null;
+
+        RecentWatchPage recent = watchHistoryRedisService.getRecentWatches(userId, sinceMillis, maxMillis, size + 1);
+        if (recent == null) {
+            seedRecentWatches(userId);
+            recent = watchHistoryRedisService.getRecentWatches(userId, sinceMillis, maxMillis, size + 1);
+        }
+
+        if (recent != null) {
+            WatchHistoryPageResponse response = buildRecentWatchHistoryFromRedis(recent, after, size);
+            if (response != null) {
+                return response;
+            }
+        }
 
-        Pageable pageable = PageRequest.of(page, size);
-        Slice<WatchHistory> slice = watchHistoryRepository.findRecentHistory(userId, threeMonthsAgo, pageable);
+        // (user_id, updated_at DESC, video_metadata_id DESC) 인덱스를 타므로 깊은 페이지도 첫 페이지와 같은 비용
+        List<WatchHistory> rows = after == null
+                ? watchHistoryRepository.findRecentHistory(userId, threeMonthsAgo, Limit.of(size + 1))
+                : watchHistoryRepository.findRecentHistoryAfter(
+                        userId, threeMonthsAgo, after.updatedAt(), after.videoMetadataId(), Limit.of(size + 1));
 
-        boolean hasMore = slice.hasNext();
-        List<WatchHistory> pageItems = slice.getContent();
+        List<WatchHistory> pageItems = rows.size() > size ? rows.subList(0, size) : rows;
+        // 빈 페이지는 커서를 만들 항목이 없으므로 마지막 페이지로 취급
+        boolean hasMore = !pageItems.isEmpty() && rows.size() > size;
 
         Set<Long> uploaderIds = pageItems.stream()
                 .map(wh -> wh.getVideoMetadata().getUserId())
@@ -185,9 +328,141 @@ public class WatchHistoryService {
                 })
                 .collect(Collectors.toList());
 
+        String nextCursor = null;
+        if (hasMore) {
+            WatchHistory last = pageItems.getLast();
+            nextCursor = WatchHistoryCursor.of(last.getUpdatedAt(), last.getVideoMetadata().getId()).encode();
+        }
+
+        return WatchHistoryPageResponse.builder()
+                .items(items)
+                .hasMore(hasMore)
+                .nextCursor(nextCursor)
+                .build();
+    }
+
+    /**
+     * 피드 진행률 표시용 마지막 시청 위치 일괄 조회
+     * Redis 해시를 우선 사용하고, 해시가 전체 이력을 담고 있지 않을 때만 미적중분을 DB에서 조회
+     * @param metadataIdByVideoId videoId → videoMetadataId
+     * @return videoId → lastPosition
+     */
+    public Map<Long, Integer> getLastPositions(Long userId, Map<Long, Long> metadataIdByVideoId) {
+        Map<Long, Integer> positions = new HashMap<>();
+        if (userId == null || metadataIdByVideoId.isEmpty()) {
+            return positions;
+        }
+
+        WatchHistoryLookup lookup = watchHistoryRedisService.getWatchHistories(userId, metadataIdByVideoId.keySet());
+        lookup.histories().forEach((videoId, history) -> positions.put(videoId, history.getLastPosition()));
+
+        if (lookup.complete()) {
+            return positions;
+        }
+
+        Map<Long, Long> videoIdByMissingMetadataId = new HashMap<>();
+        metadataIdByVideoId.forEach((videoId, metadataId) -> {
+            if (!positions.containsKey(videoId) && metadataId != null) {
+                videoIdByMissingMetadataId.put(metadataId, videoId);
+            }
+        });
+
+        if (!videoIdByMissingMetadataId.isEmpty()) {
+            List<WatchHistory> histories = watchHistoryRepository.findByUserIdAndVideoMetadataIdIn(
+                    userId, List.copyOf(videoIdByMissingMetadataId.keySet()));
+            for (WatchHistory h : histories) {
+                Long videoId = videoIdByMissingMetadataId.get(h.getVideoMetadata().getId());
+                if (videoId != null && h.getLastPosition() != null) {
+                    positions.put(videoId, h.getLastPosition());
+                }
+            }
+        }
+        return positions;
+    }
+
+    /**
+     * DB의 최근 시청 이력을 Redis "이어보기" 목록에 적재
+     */
+    private void seedRecentWatches(long userId) {
+        List<WatchHistory> latest = watchHistoryRepository.findLatestHistory(
+                userId, PageRequest.of(0, WatchHistoryRedisService.RECENT_MAX_SIZE));
+
+        List<WatchHistoryDto> histories = latest.stream()
+                .map(wh -> WatchHistoryDto.builder()
+                        .userId(userId)
+                        .videoId(wh.getVideoMetadata().getVideoId())
+                        .lastPosition(wh.getLastPosition())
+                        .duration(wh.getVideoMetadata().getDuration())
+                        .watchedAt(wh.getUpdatedAt().toInstant().toEpochMilli())
+                        .build())
+                .toList();
+
+        watchHistoryRedisService.seedRecentWatches(
+                userId, histories, latest.size() < WatchHistoryRedisService.RECENT_MAX_SIZE);
+    }
+
+    /**
+     * Redis 최근 시청 목록으로 페이지 구성 (DB 경로와 같은 (시청 시각 µs, videoMetadataId) 내림차순과 커서 형식)
+     * @return 잘린 목록(partial)이거나 삭제된 영상을 빼고 나니 페이지를 채우지 못해 DB에서 이어 읽어야 하면 null
+     */
+    private WatchHistoryPageResponse buildRecentWatchHistoryFromRedis(RecentWatchPage recent, WatchHistoryCursor after, int size) {
+        List<Long> videoIds = recent.items().stream().map(WatchHistoryDto::getVideoId).toList();
+
+        Map<Long, VideoMetadata> metadataMap = videoIds.isEmpty() ? Map.of() : videoMetadataRepository.findAllByVideoIdIn(videoIds).stream()
+                .filter(vm -> !vm.isDeleted())
+                .collect(Collectors.toMap(VideoMetadata::getVideoId, vm -> vm));
+
+        List<WatchHistoryDto> ordered = recent.items().stream()
+                .filter(h -> metadataMap.containsKey(h.getVideoId()))
+                .filter(h -> after == null || after.precedes(h.getWatchedAt() * 1000, metadataMap.get(h.getVideoId()).getId()))
+                .sorted(Comparator.comparing(WatchHistoryDto::getWatchedAt)
+                        .thenComparing(h -> metadataMap.get(h.getVideoId()).getId())
+                        .reversed())
+                .toList();
+
+        // 읽은 범위 안에 다음 페이지 항목이 있거나, 정렬 집합이 잘리지 않았고 끝까지 읽었을 때만 Redis로 응답
+        boolean exhausted = recent.complete() && recent.items().size() <= size;
+        if (ordered.size() <= size && !exhausted) {
+            return null;
+        }
+
+        List<WatchHistoryDto> pageHistories = ordered.stream().limit(size).toList();
+        boolean hasMore = !pageHistories.isEmpty() && ordered.size() > size;
+
+        Set<Long> uploaderIds = pageHistories.stream()
+                .map(h -> metadataMap.get(h.getVideoId()).getUserId())
+                .filter(Objects::nonNull)
+                .collect(Collectors.toSet());
+
+        Map<Long, String> uploaderNameMap = userRepository.findAllById(uploaderIds).stream()
+                .collect(Collectors.toMap(User::getId, User::getNickname));
+
+        List<WatchHistoryItemResponse> items = pageHistories.stream()
+                .map(h -> {
+                    VideoMetadata vm = metadataMap.get(h.getVideoId());
+                    return WatchHistoryItemResponse.builder()
+                            .videoId(String.valueOf(vm.getVideoId()))
+                            .title(vm.getTitle())
+                            .thumbnailUrl(vm.getThumbnailUrl())
+                            .viewCount(vm.getViewCount())
+                            .uploaderName(uploaderNameMap.getOrDefault(vm.getUserId(), ""))
+                            .watchProgressPercent(calculateWatchProgressPercent(h.getLastPosition(), vm.getDuration()))
+                            .watchedAt(OffsetDateTime.ofInstant(Instant.ofEpochMilli(h.getWatchedAt()), ZoneOffset.UTC))
+                            .duration(vm.getDuration())
+                            .build();
+                })
+                .collect(Collectors.toList());
+
+        String nextCursor = null;
+        if (hasMore) {
+            WatchHistoryDto last = pageHistories.getLast();
+            nextCursor = WatchHistoryCursor.ofEpochMillis(last.getWatchedAt(), metadataMap.get(last.getVideoId()).getId()).encode();
+        }
+
         return WatchHistoryPageResponse.builder()
                 .items(items)
                 .hasMore(hasMore)
+                .nextCursor(nextCursor)
                 .build();
     }
 
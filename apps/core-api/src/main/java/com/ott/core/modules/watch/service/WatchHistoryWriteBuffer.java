@@ -0,0 +1,175 @@
+package com.ott.core.modules.watch.service;
+
+import com.ott.core.modules.watch.config.WatchWriteBehindProperties;
+import com.ott.core.modules.watch.dto.WatchHistoryUpsert;
+import com.ott.core.modules.watch.repository.WatchHistoryBatchRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * 시청 위치 하트비트 write-behind 버퍼
+ * - 같은 (userId, videoMetadataId)의 하트비트는 메모리에서 하나로 병합 (마지막 위치만 유지)
+ * - batch-size 도달 또는 flush-interval 주기마다 multi-row upsert로 일괄 반영
+ * - 종료 시 남은 항목을 모두 flush 하고, 이후 들어오는 요청은 즉시 DB에 반영
+ */
+@Slf4j
+@Component
+public class WatchHistoryWriteBuffer {
+
+    private final WatchHistoryBatchRepository watchHistoryBatchRepository;
+    private final WatchWriteBehindProperties properties;
+    private final Executor watchHistoryTaskExecutor;
+
+    private final Map<BufferKey, WatchHistoryUpsert> pending = new ConcurrentHashMap<>();
+    private final AtomicBoolean flushRequested = new AtomicBoolean(false);
+    private volatile boolean shutdown = false;
+
+    private final Timer flushTimer;
+    private final Counter flushedRowsCounter;
+    private final Counter flushFailureCounter;
+
+    public WatchHistoryWriteBuffer(WatchHistoryBatchRepository watchHistoryBatchRepository,
+                                   WatchWriteBehindProperties properties,
+                                   @Qualifier("watchHistoryTaskExecutor") Executor watchHistoryTaskExecutor,
+                                   MeterRegistry meterRegistry) {
+        this.watchHistoryBatchRepository = watchHistoryBatchRepository;
+        this.properties = properties;
+        this.watchHistoryTaskExecutor = watchHistoryTaskExecutor;
+
+        Gauge.builder("watch.history.buffer.depth", pending, Map::size)
+                .description("DB 반영 대기 중인 시청 이력 수")
+                .register(meterRegistry);
+        this.flushTimer = Timer.builder("watch.history.buffer.flush.latency")
+                .description("시청 이력 일괄 upsert 소요 시간")
+                .register(meterRegistry);
+        this.flushedRowsCounter = Counter.builder("watch.history.buffer.flushed.rows")
+                .register(meterRegistry);
+        this.flushFailureCounter = Counter.builder("watch.history.buffer.flush.failures")
+                .register(meterRegistry);
+    }
+
+    /**
+     * 시청 위치를 버퍼에 적재
+     */
+    public void enqueue(Long userId, Long videoMetadataId, Integer lastPosition, boolean isCompleted) {
+        WatchHistoryUpsert row = new WatchHistoryUpsert(
+                userId, videoMetadataId, lastPosition, isCompleted, OffsetDateTime.now(ZoneOffset.UTC));
+
+        if (shutdown) {
+            // 종료 중에는 버퍼를 거치지 않고 바로 저장
+            watchHistoryBatchRepository.upsertAll(List.of(row));
+            return;
+        }
+
+        pending.merge(new BufferKey(userId, videoMetadataId), row, WatchHistoryUpsert::merge);
+
+        if (pending.size() >= properties.getBatchSize()) {
+            requestFlush();
+        }
+    }
+
+    /**
+     * 아직 반영되지 않은 항목 제거 (시청 종료 시 최종 위치를 직접 저장하므로)
+     */
+    public void discard(Long userId, Long videoMetadataId) {
+        pending.remove(new BufferKey(userId, videoMetadataId));
+    }
+
+    @Scheduled(fixedDelayString = "${app.watch.write-behind.flush-interval-ms:1000}")
+    public void scheduledFlush() {
+        flush();
+    }
+
+    @PreDestroy
+    public void drain() {
+        shutdown = true;
+        flush();
+        log.info("[WatchWriteBehind] 종료 전 버퍼 flush 완료 - 잔여: {}", pending.size());
+    }
+
+    /**
+     * 크기 기준 flush는 한 번에 하나만 executor에 제출
+     */
+    private void requestFlush() {
+        if (!flushRequested.compareAndSet(false, true)) {
+            return;
+        }
+        try {
+            watchHistoryTaskExecutor.execute(() -> {
+                try {
+                    flush();
+                } finally {
+                    flushRequested.set(false);
+                }
+            });
+        } catch (RejectedExecutionException e) {
+            flushRequested.set(false);
+            log.warn("[WatchWriteBehind] flush 작업 제출 거부 - 다음 주기에 반영: {}", e.getMessage());
+        }
+    }
+
+    synchronized void flush() {
+        if (pending.isEmpty()) {
+            return;
+        }
+
+        // 여러 인스턴스가 동시에 upsert 할 때 행 잠금 순서를 맞추기 위해 키 순으로 정렬
+        List<BufferKey> keys = new ArrayList<>(pending.keySet());
+        keys.sort(Comparator.comparing(BufferKey::userId).thenComparing(BufferKey::videoMetadataId));
+
+        int batchSize = Math.max(1, properties.getBatchSize());
+        List<WatchHistoryUpsert> batch = new ArrayList<>(Math.min(batchSize, keys.size()));
+
+        for (BufferKey key : keys) {
+            WatchHistoryUpsert row = pending.remove(key);
+            if (row == null) {
+                continue;
+            }
+            batch.add(row);
+            if (batch.size() >= batchSize) {
+                writeBatch(batch);
+                batch = new ArrayList<>(batchSize);
+            }
+        }
+        writeBatch(batch);
+    }
+
+    private void writeBatch(List<WatchHistoryUpsert> batch) {
+        if (batch.isEmpty()) {
+            return;
+        }
+        try {
+            flushTimer.record(() -> watchHistoryBatchRepository.upsertAll(batch));
+            flushedRowsCounter.increment(batch.size());
+            log.debug("[WatchWriteBehind] {}건 upsert 완료", batch.size());
+        } catch (Exception e) {
+            flushFailureCounter.increment();
+            log.error("[WatchWriteBehind] {}건 upsert 실패 - 버퍼에 재적재", batch.size(), e);
+            // 그 사이 들어온 더 최신 하트비트가 있으면 병합 규칙에 따라 최신 값이 유지됨
+            for (WatchHistoryUpsert row : batch) {
+                pending.merge(new BufferKey(row.userId(), row.videoMetadataId()), row, WatchHistoryUpsert::merge);
+            }
+        }
+    }
+
+    private record BufferKey(Long userId, Long videoMetadataId) {
+    }
+}
@@ -0,0 +1,61 @@
+-- V12__partition_watch_history.sql
+-- watch_history를 user_id 기준 HASH 파티션 테이블로 전환
+--
+-- 월(updated_at) RANGE 파티션은 사용하지 않음:
+--   PostgreSQL 파티션 테이블의 UNIQUE 제약은 파티션 키를 반드시 포함해야 하므로
+--   (user_id, video_metadata_id) 유일성을 보장할 수 없고, upsert마다 updated_at이 바뀌어
+--   ON CONFLICT (user_id, video_metadata_id) 시맨틱이 깨짐.
+-- 모든 조회(최근 시청, 태그 통계)가 user_id 조건을 가지므로 HASH(user_id)면 항상 단일 파티션으로 프루닝됨.
+
+-- =============================================
+-- 1. 기존 테이블 보관
+-- =============================================
+ALTER TABLE watch_history RENAME TO watch_history_legacy;
+
+-- =============================================
+-- 2. 파티션 부모 테이블
+--    PK/UNIQUE 모두 파티션 키(user_id) 포함
+-- =============================================
+CREATE TABLE watch_history
+(
+    watch_history_id  BIGINT      NOT NULL,
+    user_id           BIGINT      NOT NULL,
+    video_metadata_id BIGINT      NOT NULL,
+    last_position     INT         NOT NULL,
+    completed         BOOLEAN     NOT NULL DEFAULT FALSE,
+    deleted           BOOLEAN     NOT NULL DEFAULT FALSE,
+    created_at        TIMESTAMPTZ NOT NULL DEFAULT now(),
+    updated_at        TIMESTAMPTZ NOT NULL DEFAULT now(),
+
+    CONSTRAINT pk_watch_history PRIMARY KEY (user_id, watch_history_id),
+    CONSTRAINT fk_watch_history_user FOREIGN KEY (user_id) REFERENCES users (user_id),
+    CONSTRAINT fk_watch_history_video_metadata FOREIGN KEY (video_metadata_id) REFERENCES video_metadata (video_metadata_id),
+    CONSTRAINT uk_watch_history_user_video UNIQUE (user_id, video_metadata_id)
+) PARTITION BY HASH (user_id);
+
+-- =============================================
+-- 3. 파티션 16개
+-- =============================================
+DO
+$$
+    BEGIN
+        FOR i IN 0..15
+            LOOP
+                EXECUTE format(
+                        'CREATE TABLE watch_history_p%s PARTITION OF watch_history FOR VALUES WITH (MODULUS 16, REMAINDER %s)',
+                        lpad(i::text, 2, '0'), i);
+            END LOOP;
+    END
+$$;
+
+-- 최근 시청 이력 keyset 페이지네이션: (updated_at, video_metadata_id) < 커서
+CREATE INDEX idx_watch_history_user_updated ON watch_history (user_id, updated_at DESC, video_metadata_id DESC);
+
+-- =============================================
+-- 4. 데이터 이관 후 기존 테이블 삭제
+-- =============================================
+INSERT INTO watch_history (watch_history_id, user_id, video_metadata_id, last_position, completed, deleted, created_at, updated_at)
+SELECT watch_history_id, user_id, video_metadata_id, last_position, completed, deleted, created_at, updated_at
+FROM watch_history_legacy;
+
+DROP TABLE watch_history_legacy;
@@ -0,0 +1,34 @@
+-- V13__add_tag_stats_unique.sql
+-- 하트비트 배치 집계에서 (tag_id, user_id, stats_date) 단위 upsert를 위해 유니크 제약 추가
+
+-- =============================================
+-- 1. 기존 중복 행 병합 (가장 작은 id에 합산)
+-- =============================================
+WITH merged AS (SELECT MIN(tag_stats_id)      AS keep_id,
+                       tag_id,
+                       user_id,
+                       stats_date,
+                       SUM(total_view_time) AS total_view_time,
+                       SUM(view_count)      AS view_count
+                FROM tag_stats
+                GROUP BY tag_id, user_id, stats_date
+                HAVING COUNT(*) > 1)
+UPDATE tag_stats ts
+SET total_view_time = m.total_view_time,
+    view_count      = m.view_count
+FROM merged m
+WHERE ts.tag_stats_id = m.keep_id;
+
+DELETE
+FROM tag_stats ts
+    USING tag_stats other
+WHERE ts.tag_id = other.tag_id
+  AND ts.user_id = other.user_id
+  AND ts.stats_date IS NOT DISTINCT FROM other.stats_date
+  AND ts.tag_stats_id > other.tag_stats_id;
+
+-- =============================================
+-- 2. 유니크 제약
+-- =============================================
+ALTER TABLE tag_stats
+    ADD CONSTRAINT uk_tag_stats_tag_user_date UNIQUE (tag_id, user_id, stats_date);
@@ -10,6 +10,7 @@ import com.ott.common.util.IdGenerator;
 import com.ott.core.modules.bookmark.dto.BookmarkPageResponse;
 import com.ott.core.modules.bookmark.dto.BookmarkSummaryResponse;
 import com.ott.core.modules.bookmark.repository.BookmarkRepository;
+import com.ott.core.modules.counter.service.VideoCounterService;
 import com.ott.core.modules.user.repository.UserRepository;
 import com.ott.core.modules.video.repository.VideoMetadataRepository;
 import com.ott.core.modules.video.service.SignedCookieProcessor;
@@ -19,8 +20,10 @@ import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.redis.core.StringRedisTemplate;
 import org.springframework.test.context.ActiveProfiles;
 import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import org.springframework.test.context.transaction.TestTransaction;
 import org.springframework.transaction.annotation.Transactional;
 
 import static org.assertj.core.api.Assertions.assertThat;
@@ -40,6 +43,7 @@ class BookmarkServiceTest {
     @Autowired private VideoMetadataRepository videoMetadataRepository;
     @Autowired private BookmarkRepository bookmarkRepository;
     @Autowired private WatchHistoryRepository watchHistoryRepository;
+    @Autowired private StringRedisTemplate stringRedisTemplate;
 
     private User saveUser(String email, String nickname) {
         return userRepository.save(new User(email, nickname, "pw", UserRole.VIEWER));
@@ -184,4 +188,24 @@ class BookmarkServiceTest {
 
         assertThat(result.getItems().get(0).getWatchProgressPercent()).isEqualTo(50.0);
     }
-}
\ No newline at end of file
+
+    @Test
+    @DisplayName("북마크 토글의 카운터/랭킹 반영은 커밋 후에만 실행되어 롤백되면 Redis에 남지 않음")
+    void 토글_커밋전_Redis미반영() {
+        User user = saveUser("user@test.com", "유저");
+        VideoMetadata vm = saveVideo(user.getId(), VideoType.SHORT, "https://thumb.com/1.jpg");
+        em.flush();
+        String counterKey = VideoCounterService.COUNTER_PREFIX + vm.getVideoId();
+
+        try {
+            bookmarkService.toggleBookmark(user.getId(), vm.getVideoId());
+            assertThat(stringRedisTemplate.hasKey(counterKey)).isFalse();
+
+            TestTransaction.end(); // 롤백
+            assertThat(stringRedisTemplate.hasKey(counterKey)).isFalse();
+            assertThat(stringRedisTemplate.opsForZSet().score("video:ranking", String.valueOf(vm.getVideoId()))).isNull();
+        } finally {
+            stringRedisTemplate.delete(counterKey);
+        }
+    }
+}
@@ -12,6 +12,8 @@ import com.ott.core.modules.comment.dto.CommentEditRequest;
 import com.ott.core.modules.comment.dto.CommentPageResponse;
 import com.ott.core.modules.comment.dto.MyCommentResponse;
 import com.ott.core.modules.comment.repository.CommentRepository;
+import com.ott.core.modules.counter.dto.VideoCounterField;
+import com.ott.core.modules.counter.service.VideoCounterService;
 import com.ott.core.modules.user.repository.UserRepository;
 import com.ott.core.modules.video.repository.VideoMetadataRepository;
 import com.ott.core.modules.video.service.SignedCookieProcessor;
@@ -24,6 +26,10 @@ import org.springframework.test.context.ActiveProfiles;
 import org.springframework.test.context.bean.override.mockito.MockitoBean;
 import org.springframework.test.util.ReflectionTestUtils;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.List;
 
 import static org.assertj.core.api.Assertions.*;
 
@@ -41,6 +47,12 @@ class CommentServiceTest {
     @Autowired private CommentRepository commentRepository;
     @Autowired private UserRepository userRepository;
     @Autowired private VideoMetadataRepository videoMetadataRepository;
+    @Autowired private VideoCounterService videoCounterService;
+
+    // 테스트 트랜잭션은 롤백되므로 커밋 후 콜백을 직접 실행
+    private void runAfterCommitCallbacks() {
+        TransactionSynchronizationManager.getSynchronizations().forEach(TransactionSynchronization::afterCommit);
+    }
 
     private User saveUser(String email, String nickname) {
         return userRepository.save(new User(email, nickname, "pw", UserRole.VIEWER));
@@ -155,7 +167,7 @@ class CommentServiceTest {
     }
 
     @Test
-    @DisplayName("댓글 작성 성공 - DB 저장 및 commentCount 1 증가")
+    @DisplayName("댓글 작성 성공 - DB 저장 및 댓글 카운터 1 증가")
     void 댓글작성_성공() {
         User user = saveUser("u@test.com", "유저");
         VideoMetadata vm = saveVideoMetadata();
@@ -166,8 +178,13 @@ class CommentServiceTest {
         em.flush();
         em.clear();
 
-        VideoMetadata updated = videoMetadataRepository.findByVideoId(vm.getVideoId()).orElseThrow();
-        assertThat(updated.getCommentCount()).isEqualTo(1);
+        // 카운터는 커밋 후 반영
+        assertThat(videoCounterService.getCounts(List.of(vm.getVideoId()))).doesNotContainKey(vm.getVideoId());
+        runAfterCommitCallbacks();
+
+        long commentCount = videoCounterService.getCounts(List.of(vm.getVideoId()))
+                .get(vm.getVideoId()).get(VideoCounterField.COMMENT);
+        assertThat(commentCount).isEqualTo(1);
         assertThat(commentRepository.existsByUserIdAndVideoId(user.getId(), vm.getVideoId())).isTrue();
     }
 
@@ -229,7 +246,9 @@ class CommentServiceTest {
         Comment deleted = commentRepository.findById(comment.getId()).orElseThrow();
         assertThat(deleted.isDeleted()).isTrue();
 
-        VideoMetadata updated = videoMetadataRepository.findByVideoId(vm.getVideoId()).orElseThrow();
-        assertThat(updated.getCommentCount()).isEqualTo(0);
+        runAfterCommitCallbacks();
+        long commentCount = videoCounterService.getCounts(List.of(vm.getVideoId()))
+                .get(vm.getVideoId()).get(VideoCounterField.COMMENT);
+        assertThat(commentCount).isEqualTo(0);
     }
 }
\ No newline at end of file
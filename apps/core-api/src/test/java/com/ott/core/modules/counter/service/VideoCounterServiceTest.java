@@ -0,0 +1,112 @@
+package com.ott.core.modules.counter.service;
+
+import com.ott.common.error.BusinessException;
+import com.ott.common.error.ErrorCode;
+import com.ott.common.persistence.entity.VideoMetadata;
+import com.ott.common.util.IdGenerator;
+import com.ott.core.modules.counter.dto.VideoCounterField;
+import com.ott.core.modules.video.repository.VideoMetadataRepository;
+import com.ott.core.modules.video.service.SignedCookieProcessor;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@SpringBootTest
+@Transactional
+@ActiveProfiles("test")
+class VideoCounterServiceTest {
+
+    @MockitoBean private SignedCookieProcessor signedCookieProcessor;
+    @MockitoBean private software.amazon.awssdk.services.s3.S3Client s3Client;
+    @MockitoBean private software.amazon.awssdk.services.s3.presigner.S3Presigner s3Presigner;
+
+    @Autowired private EntityManager em;
+    @Autowired private VideoCounterService videoCounterService;
+    @Autowired private StringRedisTemplate stringRedisTemplate;
+    @Autowired private VideoMetadataRepository videoMetadataRepository;
+
+    private Long videoId;
+    private String rankingKey;
+
+    @BeforeEach
+    void setUp() {
+        VideoMetadata vm = videoMetadataRepository.save(VideoMetadata.builder()
+                .videoId(IdGenerator.generate())
+                .userId(IdGenerator.generate())
+                .title("테스트 영상")
+                .likeCount(3)
+                .bookmarkCount(1)
+                .deleted(false)
+                .build());
+        em.flush();
+        videoId = vm.getVideoId();
+        rankingKey = "test:ranking:" + videoId;
+    }
+
+    @AfterEach
+    void cleanUp() {
+        stringRedisTemplate.delete(VideoCounterService.COUNTER_PREFIX + videoId);
+        stringRedisTemplate.delete(rankingKey);
+        stringRedisTemplate.opsForSet().remove(videoCounterService.dirtyKey(videoId), String.valueOf(videoId));
+    }
+
+    @Test
+    @DisplayName("해시가 없으면 video_metadata 값으로 시딩한 뒤 증감하고 dirty에 등록")
+    void 시딩후_증감() {
+        videoCounterService.increment(videoId, VideoCounterField.LIKE, 1);
+
+        Map<Object, Object> hash = stringRedisTemplate.opsForHash().entries(VideoCounterService.COUNTER_PREFIX + videoId);
+        assertThat(hash.get(VideoCounterField.LIKE.hashField())).isEqualTo("4");
+        assertThat(hash.get(VideoCounterField.BOOKMARK.hashField())).isEqualTo("1");
+        assertThat(hash.get(VideoCounterField.VIEW.hashField())).isEqualTo("0");
+        assertThat(stringRedisTemplate.opsForSet().isMember(videoCounterService.dirtyKey(videoId), String.valueOf(videoId))).isTrue();
+    }
+
+    @Test
+    @DisplayName("랭킹 증감은 반영 후 카운터 값을 반환하고 랭킹 점수를 같은 값으로 맞춤")
+    void 랭킹증감_반환값() {
+        long first = videoCounterService.incrementRanked(videoId, VideoCounterField.BOOKMARK, 1, rankingKey);
+        long second = videoCounterService.incrementRanked(videoId, VideoCounterField.BOOKMARK, 1, rankingKey);
+
+        assertThat(first).isEqualTo(2L);
+        assertThat(second).isEqualTo(3L);
+        assertThat(stringRedisTemplate.opsForZSet().score(rankingKey, String.valueOf(videoId))).isEqualTo(3.0);
+    }
+
+    @Test
+    @DisplayName("0 아래로 내려가는 감소는 0으로 보정하고 랭킹에서 제거")
+    void 음수보정_랭킹제거() {
+        videoCounterService.incrementRanked(videoId, VideoCounterField.BOOKMARK, 1, rankingKey);
+
+        long result = videoCounterService.incrementRanked(videoId, VideoCounterField.BOOKMARK, -5, rankingKey);
+
+        assertThat(result).isZero();
+        assertThat(stringRedisTemplate.opsForHash().get(VideoCounterService.COUNTER_PREFIX + videoId,
+                VideoCounterField.BOOKMARK.hashField())).isEqualTo("0");
+        assertThat(stringRedisTemplate.opsForZSet().score(rankingKey, String.valueOf(videoId))).isNull();
+    }
+
+    @Test
+    @DisplayName("메타데이터가 없는 영상은 시딩할 수 없으므로 VIDEO_NOT_FOUND")
+    void 없는영상() {
+        long unknownVideoId = IdGenerator.generate();
+
+        assertThatThrownBy(() -> videoCounterService.increment(unknownVideoId, VideoCounterField.LIKE, 1))
+                .isInstanceOf(BusinessException.class)
+                .extracting(e -> ((BusinessException) e).getErrorCode())
+                .isEqualTo(ErrorCode.VIDEO_NOT_FOUND);
+    }
+}
@@ -0,0 +1,149 @@
+package com.ott.core.modules.counter.service;
+
+import com.ott.common.persistence.entity.Interaction;
+import com.ott.common.persistence.entity.User;
+import com.ott.common.persistence.entity.VideoMetadata;
+import com.ott.common.persistence.enums.InteractionType;
+import com.ott.common.persistence.enums.UserRole;
+import com.ott.common.util.IdGenerator;
+import com.ott.core.modules.counter.dto.VideoCounterField;
+import com.ott.core.modules.interaction.repository.InteractionRepository;
+import com.ott.core.modules.user.repository.UserRepository;
+import com.ott.core.modules.video.repository.VideoMetadataRepository;
+import com.ott.core.modules.video.service.SignedCookieProcessor;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Duration;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest
+@Transactional
+@ActiveProfiles("test")
+class VideoCounterSyncServiceTest {
+
+    @MockitoBean private SignedCookieProcessor signedCookieProcessor;
+    @MockitoBean private software.amazon.awssdk.services.s3.S3Client s3Client;
+    @MockitoBean private software.amazon.awssdk.services.s3.presigner.S3Presigner s3Presigner;
+
+    @Autowired private EntityManager em;
+    @Autowired private VideoCounterSyncService videoCounterSyncService;
+    @Autowired private VideoCounterService videoCounterService;
+    @Autowired private StringRedisTemplate stringRedisTemplate;
+    @Autowired private UserRepository userRepository;
+    @Autowired private VideoMetadataRepository videoMetadataRepository;
+    @Autowired private InteractionRepository interactionRepository;
+
+    private Long videoId;
+
+    @AfterEach
+    void cleanUp() {
+        if (videoId != null) {
+            stringRedisTemplate.delete(VideoCounterService.COUNTER_PREFIX + videoId);
+            stringRedisTemplate.opsForSet().remove(videoCounterService.dirtyKey(videoId), String.valueOf(videoId));
+            stringRedisTemplate.opsForSet().remove(VideoCounterSyncService.PROCESSING_PREFIX + shard(), String.valueOf(videoId));
+            stringRedisTemplate.delete(VideoCounterSyncService.LEASE_PREFIX + shard());
+        }
+    }
+
+    @Test
+    @DisplayName("동기화 시 DB와 어긋난 반응 카운트(웜업 중 덮어써진 증감 등)는 DB 기준으로 보정 후 반영")
+    void 반응카운트_보정() {
+        User liker = userRepository.save(new User("liker@test.com", "좋아요", "pw", UserRole.VIEWER));
+        User superLiker = userRepository.save(new User("super@test.com", "왕따봉", "pw", UserRole.VIEWER));
+        VideoMetadata vm = videoMetadataRepository.save(VideoMetadata.builder()
+                .videoId(IdGenerator.generate())
+                .userId(IdGenerator.generate())
+                .title("테스트 영상")
+                .deleted(false)
+                .build());
+        interactionRepository.save(new Interaction(liker, vm, InteractionType.LIKE));
+        interactionRepository.save(new Interaction(superLiker, vm, InteractionType.SUPERLIKE));
+        em.flush();
+        videoId = vm.getVideoId();
+
+        // DB: 좋아요 1, 싫어요 0, 왕따봉 1 / Redis: 덮어써져 어긋난 값
+        stringRedisTemplate.opsForHash().putAll(VideoCounterService.COUNTER_PREFIX + videoId, Map.of(
+                VideoCounterField.LIKE.hashField(), "5",
+                VideoCounterField.DISLIKE.hashField(), "2",
+                VideoCounterField.SUPER_LIKE.hashField(), "1"));
+        stringRedisTemplate.opsForSet().add(videoCounterService.dirtyKey(videoId), String.valueOf(videoId));
+
+        videoCounterSyncService.syncDirtyCounters();
+
+        Map<Object, Object> hash = stringRedisTemplate.opsForHash().entries(VideoCounterService.COUNTER_PREFIX + videoId);
+        assertThat(hash.get(VideoCounterField.LIKE.hashField())).isEqualTo("1");
+        assertThat(hash.get(VideoCounterField.DISLIKE.hashField())).isEqualTo("0");
+        assertThat(hash.get(VideoCounterField.SUPER_LIKE.hashField())).isEqualTo("1");
+
+        em.clear();
+        VideoMetadata synced = videoMetadataRepository.findById(vm.getId()).orElseThrow();
+        assertThat(synced.getLikeCount()).isEqualTo(1);
+        assertThat(synced.getDislikeCount()).isZero();
+        assertThat(synced.getSuperLikeCount()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("다른 인스턴스가 임대 중인 샤드는 건너뛰고 대기열과 임대를 그대로 둠")
+    void 임대중_샤드_건너뜀() {
+        VideoMetadata vm = saveVideo();
+        String leaseKey = VideoCounterSyncService.LEASE_PREFIX + shard();
+        stringRedisTemplate.opsForValue().set(leaseKey, "other-instance", Duration.ofMinutes(1));
+        stringRedisTemplate.opsForHash().put(VideoCounterService.COUNTER_PREFIX + videoId, VideoCounterField.VIEW.hashField(), "7");
+        stringRedisTemplate.opsForSet().add(videoCounterService.dirtyKey(videoId), String.valueOf(videoId));
+
+        videoCounterSyncService.syncDirtyCounters();
+
+        assertThat(stringRedisTemplate.opsForSet().isMember(videoCounterService.dirtyKey(videoId), String.valueOf(videoId))).isTrue();
+        assertThat(stringRedisTemplate.opsForValue().get(leaseKey)).isEqualTo("other-instance");
+
+        em.clear();
+        assertThat(videoMetadataRepository.findById(vm.getId()).orElseThrow().getViewCount()).isZero();
+    }
+
+    @Test
+    @DisplayName("이전 소유 인스턴스가 처리 중 죽어 남긴 processing은 임대를 잡은 인스턴스가 dirty로 되돌려 반영하고 임대를 해제")
+    void 미완료작업_복구() {
+        VideoMetadata vm = saveVideo();
+        String processingKey = VideoCounterSyncService.PROCESSING_PREFIX + shard();
+        stringRedisTemplate.opsForHash().put(VideoCounterService.COUNTER_PREFIX + videoId, VideoCounterField.VIEW.hashField(), "7");
+        // dirty → processing 이동 후 반영 전에 죽은 상태 (임대는 만료됨)
+        stringRedisTemplate.opsForSet().add(processingKey, String.valueOf(videoId));
+
+        videoCounterSyncService.syncDirtyCounters();
+
+        assertThat(stringRedisTemplate.opsForSet().isMember(processingKey, String.valueOf(videoId))).isFalse();
+        assertThat(stringRedisTemplate.opsForSet().isMember(videoCounterService.dirtyKey(videoId), String.valueOf(videoId))).isFalse();
+        assertThat(stringRedisTemplate.hasKey(VideoCounterSyncService.LEASE_PREFIX + shard())).isFalse();
+        assertThat(stringRedisTemplate.opsForHash().hasKey(VideoCounterSyncService.DRAINED_KEY, shard())).isTrue();
+
+        em.clear();
+        assertThat(videoMetadataRepository.findById(vm.getId()).orElseThrow().getViewCount()).isEqualTo(7);
+    }
+
+    private VideoMetadata saveVideo() {
+        VideoMetadata vm = videoMetadataRepository.save(VideoMetadata.builder()
+                .videoId(IdGenerator.generate())
+                .userId(IdGenerator.generate())
+                .title("테스트 영상")
+                .deleted(false)
+                .build());
+        em.flush();
+        videoId = vm.getVideoId();
+        return vm;
+    }
+
+    private String shard() {
+        return videoCounterService.dirtyKey(videoId).substring(VideoCounterService.DIRTY_PREFIX.length());
+    }
+}
@@ -0,0 +1,156 @@
+package com.ott.core.modules.engagement.service;
+
+import com.ott.common.persistence.entity.Bookmark;
+import com.ott.common.persistence.entity.Interaction;
+import com.ott.common.persistence.entity.User;
+import com.ott.common.persistence.entity.VideoMetadata;
+import com.ott.common.persistence.enums.InteractionType;
+import com.ott.common.persistence.enums.UserRole;
+import com.ott.common.util.IdGenerator;
+import com.ott.core.modules.bookmark.repository.BookmarkRepository;
+import com.ott.core.modules.engagement.dto.EngagementStatus;
+import com.ott.core.modules.interaction.repository.InteractionRepository;
+import com.ott.core.modules.user.repository.UserRepository;
+import com.ott.core.modules.video.repository.VideoMetadataRepository;
+import com.ott.core.modules.video.service.SignedCookieProcessor;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import org.springframework.test.context.bean.override.mockito.MockitoSpyBean;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.clearInvocations;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+@SpringBootTest
+@Transactional
+@ActiveProfiles("test")
+class EngagementStatusServiceTest {
+
+    @MockitoBean private SignedCookieProcessor signedCookieProcessor;
+    @MockitoBean private software.amazon.awssdk.services.s3.S3Client s3Client;
+    @MockitoBean private software.amazon.awssdk.services.s3.presigner.S3Presigner s3Presigner;
+
+    @Autowired private EntityManager em;
+    @Autowired private EngagementStatusService engagementStatusService;
+    @Autowired private StringRedisTemplate stringRedisTemplate;
+    @Autowired private UserRepository userRepository;
+    @Autowired private VideoMetadataRepository videoMetadataRepository;
+    @MockitoSpyBean private InteractionRepository interactionRepository;
+    @MockitoSpyBean private BookmarkRepository bookmarkRepository;
+
+    private User user;
+    private Long liked;
+    private Long bookmarked;
+    private String key;
+
+    @BeforeEach
+    void setUp() {
+        user = userRepository.save(new User("viewer@test.com", "시청자", "pw", UserRole.VIEWER));
+        VideoMetadata likedVideo = saveVideo();
+        VideoMetadata bookmarkedVideo = saveVideo();
+        interactionRepository.save(new Interaction(user, likedVideo, InteractionType.LIKE));
+        bookmarkRepository.save(new Bookmark(user, bookmarkedVideo));
+        em.flush();
+
+        liked = likedVideo.getVideoId();
+        bookmarked = bookmarkedVideo.getVideoId();
+        key = "user:engagement:" + user.getId();
+    }
+
+    @AfterEach
+    void cleanUp() {
+        stringRedisTemplate.delete(key);
+    }
+
+    @Test
+    @DisplayName("캐시 미적중 시 DB에서 일괄 조회해 요청 순서대로 반환하고, 없는 상태까지 해시에 채움")
+    void 미적중_DB조회후_채움() {
+        Map<Long, EngagementStatus> statuses = engagementStatusService.getStatuses(user.getId(), List.of(bookmarked, liked));
+
+        assertThat(statuses.keySet()).containsExactly(bookmarked, liked);
+        assertThat(statuses.get(liked)).isEqualTo(new EngagementStatus(InteractionType.LIKE, false));
+        assertThat(statuses.get(bookmarked)).isEqualTo(new EngagementStatus(null, true));
+
+        assertThat(stringRedisTemplate.<String, String>opsForHash().entries(key)).containsExactlyInAnyOrderEntriesOf(Map.of(
+                "i:" + liked, "LIKE",
+                "i:" + bookmarked, "-",
+                "b:" + liked, "0",
+                "b:" + bookmarked, "1"));
+        assertThat(stringRedisTemplate.getExpire(key)).isPositive();
+    }
+
+    @Test
+    @DisplayName("모두 캐시에 있으면 DB를 조회하지 않음")
+    void 적중시_DB조회X() {
+        engagementStatusService.getStatuses(user.getId(), List.of(liked, bookmarked));
+        clearInvocations(interactionRepository, bookmarkRepository);
+
+        Map<Long, EngagementStatus> statuses = engagementStatusService.getStatuses(user.getId(), List.of(liked, bookmarked));
+
+        assertThat(statuses.get(liked).interactionType()).isEqualTo(InteractionType.LIKE);
+        assertThat(statuses.get(bookmarked).bookmarked()).isTrue();
+        verify(interactionRepository, never()).findTypesByUserIdAndVideoIdIn(any(), anyList());
+        verify(bookmarkRepository, never()).findVideoIdsByUserIdAndVideoIdIn(any(), anyList());
+    }
+
+    @Test
+    @DisplayName("일부만 캐시에 있으면 미적중 필드의 영상만 DB에서 조회")
+    void 부분적중_미적중분만_조회() {
+        stringRedisTemplate.opsForHash().put(key, "i:" + liked, "LIKE");
+
+        engagementStatusService.getStatuses(user.getId(), List.of(liked, bookmarked));
+
+        verify(interactionRepository).findTypesByUserIdAndVideoIdIn(eq(user.getId()), eq(List.of(bookmarked)));
+        verify(bookmarkRepository).findVideoIdsByUserIdAndVideoIdIn(eq(user.getId()), eq(List.of(liked, bookmarked)));
+    }
+
+    @Test
+    @DisplayName("DB 조회 중 커밋된 최신 상태가 먼저 기록되면 DB 값으로 덮어쓰지 않음 (HSETNX)")
+    void 동시변경_덮어쓰지않음() {
+        doAnswer(invocation -> {
+            // 조회와 채우기 사이에 다른 요청이 싫어요로 변경하고 커밋한 상황
+            stringRedisTemplate.opsForHash().put(key, "i:" + liked, InteractionType.DISLIKE.name());
+            return invocation.callRealMethod();
+        }).when(interactionRepository).findTypesByUserIdAndVideoIdIn(any(), anyList());
+
+        engagementStatusService.getStatuses(user.getId(), List.of(liked));
+
+        assertThat(stringRedisTemplate.opsForHash().get(key, "i:" + liked)).isEqualTo(InteractionType.DISLIKE.name());
+        assertThat(engagementStatusService.getStatus(user.getId(), liked).interactionType()).isEqualTo(InteractionType.DISLIKE);
+    }
+
+    @Test
+    @DisplayName("비로그인 사용자는 조회 없이 모두 상태 없음")
+    void 비로그인_상태없음() {
+        Map<Long, EngagementStatus> statuses = engagementStatusService.getStatuses(null, List.of(liked, bookmarked));
+
+        assertThat(statuses.values()).containsOnly(EngagementStatus.NONE);
+        verify(interactionRepository, never()).findTypesByUserIdAndVideoIdIn(any(), anyList());
+    }
+
+    private VideoMetadata saveVideo() {
+        return videoMetadataRepository.save(VideoMetadata.builder()
+                .videoId(IdGenerator.generate())
+                .userId(IdGenerator.generate())
+                .title("테스트 영상")
+                .deleted(false)
+                .build());
+    }
+}
@@ -0,0 +1,119 @@
+package com.ott.core.modules.interaction.service;
+
+import com.ott.common.persistence.entity.User;
+import com.ott.common.persistence.entity.VideoMetadata;
+import com.ott.common.persistence.enums.InteractionType;
+import com.ott.common.persistence.enums.UserRole;
+import com.ott.common.util.IdGenerator;
+import com.ott.core.modules.counter.dto.VideoCounterField;
+import com.ott.core.modules.counter.service.VideoCounterService;
+import com.ott.core.modules.interaction.repository.InteractionRepository;
+import com.ott.core.modules.user.repository.UserRepository;
+import com.ott.core.modules.video.repository.VideoMetadataRepository;
+import com.ott.core.modules.video.service.SignedCookieProcessor;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import org.springframework.test.context.transaction.TestTransaction;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest
+@Transactional
+@ActiveProfiles("test")
+class InteractionServiceTest {
+
+    @MockitoBean private SignedCookieProcessor signedCookieProcessor;
+    @MockitoBean private software.amazon.awssdk.services.s3.S3Client s3Client;
+    @MockitoBean private software.amazon.awssdk.services.s3.presigner.S3Presigner s3Presigner;
+
+    @Autowired private EntityManager em;
+    @Autowired private InteractionService interactionService;
+    @Autowired private VideoCounterService videoCounterService;
+    @Autowired private StringRedisTemplate stringRedisTemplate;
+    @Autowired private UserRepository userRepository;
+    @Autowired private VideoMetadataRepository videoMetadataRepository;
+    @Autowired private InteractionRepository interactionRepository;
+
+    private User user;
+    private VideoMetadata vm;
+    private String counterKey;
+
+    @BeforeEach
+    void setUp() {
+        user = userRepository.save(new User("liker@test.com", "좋아요", "pw", UserRole.VIEWER));
+        vm = videoMetadataRepository.save(VideoMetadata.builder()
+                .videoId(IdGenerator.generate())
+                .userId(IdGenerator.generate())
+                .title("테스트 영상")
+                .deleted(false)
+                .build());
+        em.flush();
+        counterKey = VideoCounterService.COUNTER_PREFIX + vm.getVideoId();
+
+        // 동기화가 끝나 dirty에서 빠진 상태의 카운터
+        stringRedisTemplate.opsForHash().putAll(counterKey, Map.of(
+                VideoCounterField.LIKE.hashField(), "0",
+                VideoCounterField.DISLIKE.hashField(), "0",
+                VideoCounterField.SUPER_LIKE.hashField(), "0"));
+    }
+
+    @AfterEach
+    void cleanUp() {
+        stringRedisTemplate.delete(counterKey);
+        stringRedisTemplate.delete("user:engagement:" + user.getId());
+        stringRedisTemplate.opsForSet().remove(videoCounterService.dirtyKey(vm.getVideoId()), String.valueOf(vm.getVideoId()));
+    }
+
+    @Test
+    @DisplayName("반응 카운트는 커밋 전에는 반영되지 않고, 롤백되면 Redis에 남지 않음")
+    void 커밋전_미반영_롤백시_미반영() {
+        interactionService.interact(user.getId(), vm.getVideoId(), InteractionType.LIKE);
+
+        // 커밋 전에 동기화가 돌아도 dirty가 아니므로 커밋 전 DB 값으로 덮어쓰지 않음
+        assertThat(stringRedisTemplate.opsForHash().get(counterKey, VideoCounterField.LIKE.hashField())).isEqualTo("0");
+        assertThat(isDirty()).isFalse();
+
+        TestTransaction.end(); // 롤백
+
+        assertThat(stringRedisTemplate.opsForHash().get(counterKey, VideoCounterField.LIKE.hashField())).isEqualTo("0");
+        assertThat(isDirty()).isFalse();
+    }
+
+    @Test
+    @DisplayName("커밋 후 반응 카운트 증감과 dirty 등록이 반영됨")
+    void 커밋후_반영() {
+        interactionService.interact(user.getId(), vm.getVideoId(), InteractionType.LIKE);
+
+        TestTransaction.flagForCommit();
+        TestTransaction.end();
+
+        try {
+            assertThat(stringRedisTemplate.opsForHash().get(counterKey, VideoCounterField.LIKE.hashField())).isEqualTo("1");
+            assertThat(isDirty()).isTrue();
+        } finally {
+            // 커밋된 데이터 정리
+            TestTransaction.start();
+            interactionRepository.deleteAll(interactionRepository.findByUserAndVideoMetadata(user, vm).stream().toList());
+            videoMetadataRepository.deleteById(vm.getId());
+            userRepository.deleteById(user.getId());
+            TestTransaction.flagForCommit();
+            TestTransaction.end();
+        }
+    }
+
+    private boolean isDirty() {
+        return Boolean.TRUE.equals(stringRedisTemplate.opsForSet()
+                .isMember(videoCounterService.dirtyKey(vm.getVideoId()), String.valueOf(vm.getVideoId())));
+    }
+}
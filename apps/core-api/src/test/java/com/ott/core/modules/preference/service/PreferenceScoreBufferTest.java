@@ -0,0 +1,153 @@
+package com.ott.core.modules.preference.service;
+
+import com.ott.core.modules.preference.config.PreferenceBufferProperties;
+import com.ott.core.modules.preference.dto.PreferenceScoreIncrement;
+import com.ott.core.modules.preference.event.PreferenceScoresChangedEvent;
+import com.ott.core.modules.preference.repository.UserPreferenceBatchRepository;
+import com.ott.core.modules.tag.repository.VideoTagRepository;
+import com.ott.core.modules.tag.service.TagTreeSnapshotHolder;
+import com.ott.core.modules.tag.snapshot.TagNode;
+import com.ott.core.modules.tag.snapshot.TagTreeSnapshot;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.tuple;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class PreferenceScoreBufferTest {
+
+    private static final TagNode ACTION = new TagNode(1L, "액션", TagNode.NO_PARENT, 0);
+    private static final TagNode COMEDY = new TagNode(2L, "코미디", TagNode.NO_PARENT, 0);
+    private static final TagNode THRILLER = new TagNode(3L, "스릴러", TagNode.NO_PARENT, 0);
+
+    @Mock private UserPreferenceBatchRepository userPreferenceBatchRepository;
+    @Mock private VideoTagRepository videoTagRepository;
+    @Mock private TagTreeSnapshotHolder tagTreeSnapshotHolder;
+    @Mock private PreferenceScoreStore preferenceScoreStore;
+    @Mock private ApplicationEventPublisher eventPublisher;
+
+    private final PreferenceBufferProperties properties = new PreferenceBufferProperties();
+    private PreferenceScoreBuffer buffer;
+
+    @BeforeEach
+    void setUp() {
+        properties.setBatchSize(100);
+        buffer = new PreferenceScoreBuffer(userPreferenceBatchRepository, videoTagRepository, tagTreeSnapshotHolder,
+                preferenceScoreStore, properties, Runnable::run, eventPublisher, new SimpleMeterRegistry());
+    }
+
+    @Test
+    @DisplayName("(사용자, 영상) 점수를 영상 태그로 펼쳐 (사용자, 태그) 단위로 합산하고 (userId, tagId) 순으로 한 번에 반영")
+    void 태그단위_합산_정렬() {
+        givenTags(TagTreeSnapshot.of(1L, List.of(ACTION, COMEDY)),
+                new Object[]{10L, 1L}, new Object[]{10L, 2L}, new Object[]{20L, 1L});
+
+        buffer.add(2L, 10L, 1.0);
+        buffer.add(1L, 20L, 3.0);
+        buffer.add(1L, 10L, 1.5);
+        buffer.add(1L, 10L, 0.5);
+        buffer.flush();
+
+        List<PreferenceScoreIncrement> increments = captureAddAll(1).get(0);
+        assertThat(increments)
+                .extracting(PreferenceScoreIncrement::userId, PreferenceScoreIncrement::tagId, PreferenceScoreIncrement::score)
+                .containsExactly(
+                        tuple(1L, 1L, 5.0),
+                        tuple(1L, 2L, 2.0),
+                        tuple(2L, 1L, 1.0),
+                        tuple(2L, 2L, 1.0));
+        verify(preferenceScoreStore).increment(increments);
+
+        ArgumentCaptor<PreferenceScoresChangedEvent> event = ArgumentCaptor.forClass(PreferenceScoresChangedEvent.class);
+        verify(eventPublisher).publishEvent(event.capture());
+        assertThat(event.getValue().changeByUserId()).containsEntry(1L, 5.0).containsEntry(2L, 1.0);
+    }
+
+    @Test
+    @DisplayName("DB 반영 실패 시 버퍼에 재적재되어 그 사이 들어온 점수와 합산해 다음 flush에 반영 (Redis는 건드리지 않음)")
+    void DB실패시_재적재() {
+        givenTags(TagTreeSnapshot.of(1L, List.of(ACTION)), new Object[]{10L, 1L});
+        when(userPreferenceBatchRepository.addAll(anyList()))
+                .thenThrow(new IllegalStateException("DB 장애"))
+                .thenReturn(1);
+
+        buffer.add(1L, 10L, 2.0);
+        buffer.flush();
+        verifyNoInteractions(preferenceScoreStore);
+
+        buffer.add(1L, 10L, 1.0);
+        buffer.flush();
+
+        assertThat(captureAddAll(2).get(1))
+                .extracting(PreferenceScoreIncrement::tagId, PreferenceScoreIncrement::score)
+                .containsExactly(tuple(1L, 3.0));
+        verify(preferenceScoreStore).increment(anyList());
+    }
+
+    @Test
+    @DisplayName("DB 반영 후 Redis 반영이 실패해도 재적재하지 않음 (중복 누적 방지)")
+    void Redis실패시_재적재X() {
+        givenTags(TagTreeSnapshot.of(1L, List.of(ACTION)), new Object[]{10L, 1L});
+        doThrow(new IllegalStateException("Redis 장애")).when(preferenceScoreStore).increment(anyList());
+
+        buffer.add(1L, 10L, 2.0);
+        buffer.flush();
+        buffer.flush();
+
+        verify(userPreferenceBatchRepository, times(1)).addAll(anyList());
+        verify(eventPublisher).publishEvent(any(PreferenceScoresChangedEvent.class));
+    }
+
+    @Test
+    @DisplayName("스냅샷에 없는 태그 id가 조회되면 스냅샷을 한 번 다시 적재해 새 태그까지 반영")
+    void 새태그_스냅샷갱신() {
+        givenTags(TagTreeSnapshot.of(1L, List.of(ACTION)), new Object[]{10L, 1L}, new Object[]{10L, 3L});
+        when(tagTreeSnapshotHolder.refresh()).thenReturn(TagTreeSnapshot.of(2L, List.of(ACTION, THRILLER)));
+
+        buffer.add(1L, 10L, 1.0);
+        buffer.flush();
+
+        assertThat(captureAddAll(1).get(0))
+                .extracting(PreferenceScoreIncrement::tagId, PreferenceScoreIncrement::tagName)
+                .containsExactly(tuple(1L, "액션"), tuple(3L, "스릴러"));
+        verify(tagTreeSnapshotHolder).refresh();
+    }
+
+    @Test
+    @DisplayName("조회된 태그가 모두 스냅샷에 있으면 다시 적재하지 않음")
+    void 기존태그_스냅샷유지() {
+        givenTags(TagTreeSnapshot.of(1L, List.of(ACTION)), new Object[]{10L, 1L});
+
+        buffer.add(1L, 10L, 1.0);
+        buffer.flush();
+
+        verify(tagTreeSnapshotHolder, never()).refresh();
+    }
+
+    private void givenTags(TagTreeSnapshot snapshot, Object[]... videoTagRows) {
+        List<Object[]> rows = new ArrayList<>(List.of(videoTagRows));
+        when(videoTagRepository.findTagIdRowsByVideoIdIn(anyList())).thenReturn(rows);
+        when(tagTreeSnapshotHolder.current()).thenReturn(snapshot);
+    }
+
+    @SuppressWarnings("unchecked")
+    private List<List<PreferenceScoreIncrement>> captureAddAll(int times) {
+        ArgumentCaptor<List<PreferenceScoreIncrement>> captor = ArgumentCaptor.forClass(List.class);
+        verify(userPreferenceBatchRepository, times(times)).addAll(captor.capture());
+        return captor.getAllValues();
+    }
+}
@@ -0,0 +1,90 @@
+package com.ott.core.modules.recommendation.service;
+
+import com.ott.common.util.BloomFilterSpec;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.BitSet;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * SeenVideoFilter(core-api)와 SeenVideoFilterRebuildTasklet(batch)이 같은 Redis 비트맵을 쓰므로
+ * 크기/비트 위치가 바뀌면 기존 필터를 잘못 읽게 됨 → 계산 결과를 고정 값으로 검증
+ */
+class BloomFilterSpecTest {
+
+    @Test
+    @DisplayName("예상 원소 수와 오탐률로 비트 수 m과 해시 수 k를 계산")
+    void 크기계산() {
+        BloomFilterSpec spec = BloomFilterSpec.of(1000, 0.01);
+
+        assertThat(spec.bitSize()).isEqualTo(9586L);
+        assertThat(spec.hashCount()).isEqualTo(7);
+    }
+
+    @Test
+    @DisplayName("비트 수는 최소 8비트, 최대 Redis 비트맵 한도(2^32)로 보정")
+    void 크기보정() {
+        BloomFilterSpec tiny = BloomFilterSpec.of(1, 0.5);
+        BloomFilterSpec huge = BloomFilterSpec.of(100_000_000, 1e-9);
+
+        assertThat(tiny.bitSize()).isEqualTo(8L);
+        assertThat(tiny.hashCount()).isEqualTo(6);
+        assertThat(huge.bitSize()).isEqualTo(1L << 32);
+    }
+
+    @Test
+    @DisplayName("같은 값은 항상 같은 비트 위치 k개를 차지 (core-api/batch 공통)")
+    void 비트위치_고정() {
+        BloomFilterSpec spec = BloomFilterSpec.of(1000, 0.01);
+
+        assertThat(spec.offsets(42L)).containsExactly(2962, 7851, 5738, 1041, 8514, 3817, 1704);
+        assertThat(spec.offsets(0L)).containsExactly(0, 5543, 4084, 2625, 1166, 6709, 5250);
+    }
+
+    @Test
+    @DisplayName("비트 위치는 음수 값을 포함해 항상 [0, m) 범위")
+    void 비트위치_범위() {
+        BloomFilterSpec spec = BloomFilterSpec.of(1000, 0.01);
+
+        for (long value : new long[]{-1L, Long.MIN_VALUE, Long.MAX_VALUE, 7_000_000_000_000_000L}) {
+            assertThat(spec.offsets(value))
+                    .hasSize(spec.hashCount())
+                    .allSatisfy(offset -> assertThat(offset).isBetween(0L, spec.bitSize() - 1));
+        }
+    }
+
+    @Test
+    @DisplayName("예상 원소 수만큼 넣었을 때 실제 오탐률이 목표 근처")
+    void 오탐률() {
+        BloomFilterSpec spec = BloomFilterSpec.of(1000, 0.01);
+        BitSet bits = new BitSet((int) spec.bitSize());
+        for (long value = 1; value <= 1000; value++) {
+            for (long offset : spec.offsets(value)) {
+                bits.set((int) offset);
+            }
+        }
+
+        int falsePositives = 0;
+        for (long value = 1_000_001; value <= 1_010_000; value++) {
+            boolean all = true;
+            for (long offset : spec.offsets(value)) {
+                all &= bits.get((int) offset);
+            }
+            if (all) {
+                falsePositives++;
+            }
+        }
+        assertThat(falsePositives / 10_000.0).isLessThan(0.02);
+    }
+
+    @Test
+    @DisplayName("원소 수가 0 이하이거나 오탐률이 (0, 1) 밖이면 IllegalArgumentException")
+    void 잘못된설정() {
+        assertThatThrownBy(() -> BloomFilterSpec.of(0, 0.01)).isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> BloomFilterSpec.of(1000, 0)).isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> BloomFilterSpec.of(1000, 1)).isInstanceOf(IllegalArgumentException.class);
+    }
+}
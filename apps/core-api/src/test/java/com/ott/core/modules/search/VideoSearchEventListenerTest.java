@@ -1,13 +1,16 @@
 package com.ott.core.modules.search;
-import com.ott.common.persistence.entity.Tag;
 import com.ott.common.persistence.entity.VideoMetadata;
 import com.ott.common.persistence.enums.VideoType;
 import com.ott.core.modules.search.document.VideoDocument;
 import com.ott.core.modules.search.event.VideoIndexDeletedEvent;
 import com.ott.core.modules.search.event.VideoIndexRequestedEvent;
+import com.ott.core.modules.search.event.VideoIndexSyncedEvent;
 import com.ott.core.modules.search.listener.VideoSearchEventListener;
 import com.ott.core.modules.search.repository.VideoSearchRepository;
 import com.ott.core.modules.tag.repository.VideoTagRepository;
+import com.ott.core.modules.tag.service.TagTreeSnapshotHolder;
+import com.ott.core.modules.tag.snapshot.TagNode;
+import com.ott.core.modules.tag.snapshot.TagTreeSnapshot;
 import com.ott.core.modules.video.repository.VideoMetadataRepository;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
@@ -16,6 +19,7 @@ import org.mockito.ArgumentCaptor;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.test.util.ReflectionTestUtils;
 
 import java.util.List;
@@ -39,6 +43,12 @@ public class VideoSearchEventListenerTest {
     @Mock
     private VideoSearchRepository videoSearchRepository;
 
+    @Mock
+    private TagTreeSnapshotHolder tagTreeSnapshotHolder;
+
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
     @Test
     @DisplayName("트랜스코딩 완료 이벤트 수신 시, 메타데이터와 태그를 조합하여 ES에 정상적으로 저장해야 한다.")
     void handleVideoIndexRequest_Success() {
@@ -57,18 +67,19 @@ public class VideoSearchEventListenerTest {
                 .build();
         ReflectionTestUtils.setField(mockMetadata, "id", metadataId); // JPA ID 강제 주입
 
-        // 2. 가짜 태그 데이터 생성 (부모 태그가 있는 경우와 없는 경우 혼합)
-        Tag parentTag = createMockTag(10L, "영화", null);
-        Tag childTag1 = createMockTag(11L, "액션", parentTag);
-        Tag childTag2 = createMockTag(12L, "마블", null); // 부모 없는 독립 태그
-
-        List<Tag> mockTags = List.of(childTag1, childTag2);
+        // 2. 가짜 태그 트리 생성 (부모 태그가 있는 경우와 없는 경우 혼합)
+        TagTreeSnapshot tagTree = TagTreeSnapshot.of(1L, List.of(
+                new TagNode(10L, "영화", TagNode.NO_PARENT, 0),
+                new TagNode(11L, "액션", 10L, 1),
+                new TagNode(12L, "마블", TagNode.NO_PARENT, 0) // 부모 없는 독립 태그
+        ));
 
         // 3. Mock 객체 행동 정의 (Stubbing)
         when(videoMetadataRepository.findByVideoIdAndDeleted(videoId, false))
                 .thenReturn(Optional.of(mockMetadata));
-        when(videoTagRepository.findTagsWithParentByVideoMetadataId(metadataId))
-                .thenReturn(mockTags);
+        when(videoTagRepository.findTagIdsByVideoMetadataId(metadataId))
+                .thenReturn(List.of(11L, 12L));
+        when(tagTreeSnapshotHolder.current()).thenReturn(tagTree);
 
         // 이벤트 객체 생성
         VideoIndexRequestedEvent event = new VideoIndexRequestedEvent(videoId);
@@ -91,6 +102,9 @@ public class VideoSearchEventListenerTest {
 
         // 3. 부모 태그("영화")와 자식 태그("액션", "마블")가 중복 없이 평탄화(flatMap) 되었는지 검증
         assertThat(savedDocument.getTags()).containsExactlyInAnyOrder("영화", "액션", "마블");
+
+        // 4. 색인 반영 후 캐시 무효화용 이벤트 발행
+        verify(eventPublisher).publishEvent(new VideoIndexSyncedEvent(videoId));
     }
 
     @Test
@@ -114,6 +128,7 @@ public class VideoSearchEventListenerTest {
 
         // ES 저장이 절대 호출되지 않았어야 함을 검증
         verify(videoSearchRepository, never()).save(any(VideoDocument.class));
+        verify(eventPublisher, never()).publishEvent(any(Object.class));
     }
 
     @Test
@@ -128,19 +143,6 @@ public class VideoSearchEventListenerTest {
 
         // then
         verify(videoSearchRepository, times(1)).deleteById(videoIdToDelete);
-    }
-
-    // 테스트용 태그 생성 유틸리티 메서드
-    private Tag createMockTag(Long id, String name, Tag parent) {
-        // 1. public 생성자 사용
-        Tag tag = new Tag(name);
-
-        // 2. public setter 사용
-        tag.setParent(parent);
-
-        // 3. ID는 setter가 없으므로 ReflectionTestUtils로 주입
-        ReflectionTestUtils.setField(tag, "id", id);
-
-        return tag;
+        verify(eventPublisher).publishEvent(new VideoIndexSyncedEvent(videoIdToDelete));
     }
 }
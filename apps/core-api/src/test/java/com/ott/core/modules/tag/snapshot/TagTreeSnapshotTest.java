@@ -0,0 +1,69 @@
+package com.ott.core.modules.tag.snapshot;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class TagTreeSnapshotTest {
+
+    private static final TagNode GENRE = new TagNode(10L, "장르", TagNode.NO_PARENT, 0);
+    private static final TagNode ACTION = new TagNode(30L, "액션", 10L, 1);
+    private static final TagNode COMEDY = new TagNode(20L, "코미디", 10L, 1);
+    private static final TagNode MOOD = new TagNode(40L, "분위기", TagNode.NO_PARENT, 0);
+    private static final TagNode ORPHAN = new TagNode(50L, "고아", 999L, 1);
+
+    // 입력 순서와 관계없이 id로 조회되는지 확인하기 위해 섞어서 생성
+    private final TagTreeSnapshot snapshot = TagTreeSnapshot.of(3L, List.of(COMEDY, ORPHAN, GENRE, MOOD, ACTION));
+
+    @Test
+    @DisplayName("id로 태그와 부모 태그를 찾고, 최상위/없는 태그의 부모는 null")
+    void 부모조회() {
+        assertThat(snapshot.find(30L)).isEqualTo(ACTION);
+        assertThat(snapshot.parentOf(30L)).isEqualTo(GENRE);
+        assertThat(snapshot.parentOf(20L)).isEqualTo(GENRE);
+
+        assertThat(snapshot.parentOf(10L)).isNull();
+        assertThat(snapshot.parentOf(12345L)).isNull();
+        assertThat(snapshot.find(12345L)).isNull();
+        assertThat(snapshot.contains(12345L)).isFalse();
+    }
+
+    @Test
+    @DisplayName("부모가 스냅샷에 없는 태그는 부모 없이 최상위로 취급")
+    void 고아태그_최상위() {
+        assertThat(snapshot.parentOf(50L)).isNull();
+        assertThat(snapshot.roots()).containsExactly(ORPHAN, MOOD, GENRE);
+    }
+
+    @Test
+    @DisplayName("자식 목록은 이름순이며 수정할 수 없음")
+    void 자식목록() {
+        List<TagNode> children = snapshot.childrenOf(10L);
+
+        assertThat(children).containsExactly(ACTION, COMEDY);
+        assertThat(snapshot.childrenOf(30L)).isEmpty();
+        assertThat(snapshot.childrenOf(12345L)).isEmpty();
+        assertThatThrownBy(() -> children.add(MOOD)).isInstanceOf(UnsupportedOperationException.class);
+    }
+
+    @Test
+    @DisplayName("태그 이름과 부모 이름을 순서대로 중복 없이 펼치고, 없는 태그는 건너뜀")
+    void 부모이름_펼침() {
+        List<String> names = snapshot.namesWithParents(List.of(30L, 12345L, 20L, 10L, 40L));
+
+        assertThat(names).containsExactly("액션", "장르", "코미디", "분위기");
+    }
+
+    @Test
+    @DisplayName("버전이 달라도 같은 태그 구성이면 같은 내용으로 판단")
+    void 같은내용() {
+        assertThat(snapshot.version()).isEqualTo(3L);
+        assertThat(snapshot.size()).isEqualTo(5);
+        assertThat(snapshot.sameContent(List.of(ACTION, MOOD, GENRE, ORPHAN, COMEDY))).isTrue();
+        assertThat(snapshot.sameContent(List.of(ACTION, MOOD, GENRE, COMEDY))).isFalse();
+    }
+}
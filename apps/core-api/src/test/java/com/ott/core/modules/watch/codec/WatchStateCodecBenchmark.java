@@ -0,0 +1,64 @@
+package com.ott.core.modules.watch.codec;
+
+import com.ott.core.global.redis.codec.RedisValueCodec;
+import com.ott.core.modules.watch.dto.WatchState;
+import lombok.extern.slf4j.Slf4j;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 텍스트/바이너리 코덱의 크기와 인코딩+디코딩 처리 시간 비교
+ * 단위 테스트에서 제외되며 측정할 때만 실행: ./gradlew :apps:core-api:test -Pbenchmark
+ */
+@Slf4j
+@Tag("benchmark")
+class WatchStateCodecBenchmark {
+
+    private static final WatchState STATE = new WatchState(1234, 5400, 1_760_000_000_000L);
+    private static final int WARMUP_ROUNDS = 5;
+    private static final int MEASURE_ROUNDS = 10;
+    private static final int ITERATIONS = 200_000;
+
+    private final WatchStateTextCodec textCodec = new WatchStateTextCodec();
+    private final WatchStateBinaryCodec binaryCodec = new WatchStateBinaryCodec();
+
+    @Test
+    @DisplayName("코덱별 크기 및 처리 시간 비교")
+    void compareSizeAndSpeed() {
+        long textNs = measure(textCodec);
+        long binaryNs = measure(binaryCodec);
+
+        log.info("[Codec] text: {} bytes, {} ns/op", textCodec.encode(STATE).length, textNs);
+        log.info("[Codec] binary: {} bytes, {} ns/op", binaryCodec.encode(STATE).length, binaryNs);
+    }
+
+    /**
+     * 워밍업 후 여러 라운드 중 가장 빠른 라운드의 op당 시간 (JIT/GC 잡음 최소화)
+     */
+    private long measure(RedisValueCodec<WatchState> codec) {
+        long sink = 0;
+        for (int round = 0; round < WARMUP_ROUNDS; round++) {
+            sink += run(codec);
+        }
+
+        long best = Long.MAX_VALUE;
+        for (int round = 0; round < MEASURE_ROUNDS; round++) {
+            long start = System.nanoTime();
+            sink += run(codec);
+            best = Math.min(best, System.nanoTime() - start);
+        }
+        assertThat(sink).isPositive(); // 결과를 사용해 루프가 제거되지 않도록
+        return best / ITERATIONS;
+    }
+
+    private long run(RedisValueCodec<WatchState> codec) {
+        long sink = 0;
+        for (int i = 0; i < ITERATIONS; i++) {
+            sink += codec.decode(codec.encode(STATE)).lastPosition();
+        }
+        return sink;
+    }
+}
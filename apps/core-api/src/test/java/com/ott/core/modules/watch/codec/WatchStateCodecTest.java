@@ -0,0 +1,43 @@
+package com.ott.core.modules.watch.codec;
+
+import com.ott.core.global.redis.codec.DualReadCodec;
+import com.ott.core.global.redis.codec.RedisCodecType;
+import com.ott.core.modules.watch.dto.WatchState;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class WatchStateCodecTest {
+
+    private static final WatchState STATE = new WatchState(1234, 5400, 1_760_000_000_000L);
+
+    private final WatchStateTextCodec textCodec = new WatchStateTextCodec();
+    private final WatchStateBinaryCodec binaryCodec = new WatchStateBinaryCodec();
+
+    @Test
+    @DisplayName("텍스트/바이너리 코덱 왕복 변환 테스트")
+    void roundTrip() {
+        assertThat(textCodec.decode(textCodec.encode(STATE))).isEqualTo(STATE);
+        assertThat(binaryCodec.decode(binaryCodec.encode(STATE))).isEqualTo(STATE);
+        assertThat(binaryCodec.decode(binaryCodec.encode(new WatchState(0, 0, 0)))).isEqualTo(new WatchState(0, 0, 0));
+    }
+
+    @Test
+    @DisplayName("쓰기 코덱과 관계없이 기존 텍스트/바이너리 값을 모두 읽는지 테스트")
+    void dualRead() {
+        for (RedisCodecType writeType : RedisCodecType.values()) {
+            DualReadCodec<WatchState> codec = new DualReadCodec<>(writeType, textCodec, binaryCodec);
+
+            assertThat(codec.decode(textCodec.encode(STATE))).isEqualTo(STATE);
+            assertThat(codec.decode(binaryCodec.encode(STATE))).isEqualTo(STATE);
+            assertThat(codec.decode(codec.encode(STATE))).isEqualTo(STATE);
+        }
+    }
+
+    @Test
+    @DisplayName("바이너리 코덱이 텍스트 코덱보다 작게 인코딩하는지 테스트")
+    void binaryIsSmaller() {
+        assertThat(binaryCodec.encode(STATE).length).isLessThan(textCodec.encode(STATE).length);
+    }
+}
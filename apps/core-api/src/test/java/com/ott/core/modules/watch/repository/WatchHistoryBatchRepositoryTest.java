@@ -0,0 +1,105 @@
+package com.ott.core.modules.watch.repository;
+
+import com.ott.common.persistence.entity.User;
+import com.ott.common.persistence.entity.VideoMetadata;
+import com.ott.common.persistence.enums.UserRole;
+import com.ott.common.util.IdGenerator;
+import com.ott.core.modules.user.repository.UserRepository;
+import com.ott.core.modules.video.repository.VideoMetadataRepository;
+import com.ott.core.modules.video.service.SignedCookieProcessor;
+import com.ott.core.modules.watch.dto.WatchHistoryUpsert;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest
+@Transactional
+@ActiveProfiles("test")
+class WatchHistoryBatchRepositoryTest {
+
+    @MockitoBean private SignedCookieProcessor signedCookieProcessor;
+    @MockitoBean private software.amazon.awssdk.services.s3.S3Client s3Client;
+    @MockitoBean private software.amazon.awssdk.services.s3.presigner.S3Presigner s3Presigner;
+
+    @Autowired private EntityManager em;
+    @Autowired private WatchHistoryBatchRepository watchHistoryBatchRepository;
+    @Autowired private JdbcTemplate jdbcTemplate;
+    @Autowired private UserRepository userRepository;
+    @Autowired private VideoMetadataRepository videoMetadataRepository;
+
+    private static final OffsetDateTime BASE = OffsetDateTime.of(2026, 1, 1, 0, 0, 0, 0, ZoneOffset.UTC);
+
+    private Long userId;
+    private Long videoMetadataId;
+
+    @BeforeEach
+    void setUp() {
+        userId = userRepository.save(new User("watcher@test.com", "시청자", "pw", UserRole.VIEWER)).getId();
+        videoMetadataId = videoMetadataRepository.save(VideoMetadata.builder()
+                .videoId(IdGenerator.generate())
+                .userId(IdGenerator.generate())
+                .title("테스트 영상")
+                .deleted(false)
+                .build()).getId();
+        em.flush();
+    }
+
+    @Test
+    @DisplayName("행이 없으면 삽입하고, 더 최신 updated_at이면 위치를 갱신")
+    void 삽입후_최신값_갱신() {
+        watchHistoryBatchRepository.upsertAll(List.of(row(100, false, BASE)));
+        watchHistoryBatchRepository.upsertAll(List.of(row(200, false, BASE.plusSeconds(10))));
+
+        Map<String, Object> saved = findRow();
+        assertThat(saved.get("last_position")).isEqualTo(200);
+        assertThat(saved.get("completed")).isEqualTo(false);
+    }
+
+    @Test
+    @DisplayName("이미 더 최신 값이 저장된 행은 늦게 도착한 이전 하트비트로 덮어쓰지 않음")
+    void 이전값_무시() {
+        watchHistoryBatchRepository.upsertAll(List.of(row(290, true, BASE.plusSeconds(10))));
+
+        int updated = watchHistoryBatchRepository.upsertAll(List.of(row(10, false, BASE)));
+
+        Map<String, Object> saved = findRow();
+        assertThat(updated).isZero();
+        assertThat(saved.get("last_position")).isEqualTo(290);
+        assertThat(saved.get("completed")).isEqualTo(true);
+    }
+
+    @Test
+    @DisplayName("한 번 완주한 이력은 이후 최신 하트비트가 미완주여도 완주 상태 유지")
+    void 완주여부_유지() {
+        watchHistoryBatchRepository.upsertAll(List.of(row(290, true, BASE)));
+        watchHistoryBatchRepository.upsertAll(List.of(row(10, false, BASE.plusSeconds(10))));
+
+        Map<String, Object> saved = findRow();
+        assertThat(saved.get("last_position")).isEqualTo(10);
+        assertThat(saved.get("completed")).isEqualTo(true);
+    }
+
+    private WatchHistoryUpsert row(int lastPosition, boolean completed, OffsetDateTime updatedAt) {
+        return new WatchHistoryUpsert(userId, videoMetadataId, lastPosition, completed, updatedAt);
+    }
+
+    private Map<String, Object> findRow() {
+        return jdbcTemplate.queryForMap(
+                "SELECT last_position, completed FROM watch_history WHERE user_id = ? AND video_metadata_id = ?",
+                userId, videoMetadataId);
+    }
+}
@@ -21,6 +21,7 @@ import org.springframework.transaction.annotation.Transactional;
 
 import java.time.OffsetDateTime;
 import java.time.ZoneOffset;
+import java.util.stream.Stream;
 
 import static org.assertj.core.api.Assertions.assertThat;
 
@@ -68,7 +69,7 @@ class GetRecentWatchHistoryTest {
 
         insertHistory(viewer.getId(), vm.getId(), 150, vm.getDuration(), OffsetDateTime.now(ZoneOffset.UTC).minusDays(10));
 
-        WatchHistoryPageResponse response = watchHistoryService.getRecentWatchHistory(viewer.getId(), 0, 10);
+        WatchHistoryPageResponse response = watchHistoryService.getRecentWatchHistory(viewer.getId(), null, 10);
 
         assertThat(response.getItems()).hasSize(1);
         assertThat(response.isHasMore()).isFalse();
@@ -89,7 +90,7 @@ class GetRecentWatchHistoryTest {
 
         insertHistory(viewer.getId(), vm.getId(), 150, vm.getDuration(), OffsetDateTime.now(ZoneOffset.UTC).minusMonths(4));
 
-        WatchHistoryPageResponse response = watchHistoryService.getRecentWatchHistory(viewer.getId(), 0, 10);
+        WatchHistoryPageResponse response = watchHistoryService.getRecentWatchHistory(viewer.getId(), null, 10);
 
         assertThat(response.getItems()).isEmpty();
         assertThat(response.isHasMore()).isFalse();
@@ -107,10 +108,11 @@ class GetRecentWatchHistoryTest {
             insertHistory(viewer.getId(), vm.getId(), 100, 300, base.minusMinutes(i));
         }
 
-        WatchHistoryPageResponse response = watchHistoryService.getRecentWatchHistory(viewer.getId(), 0, 10);
+        WatchHistoryPageResponse response = watchHistoryService.getRecentWatchHistory(viewer.getId(), null, 10);
 
         assertThat(response.getItems()).hasSize(10);
         assertThat(response.isHasMore()).isTrue();
+        assertThat(response.getNextCursor()).isNotNull();
     }
 
     @Test
@@ -125,11 +127,55 @@ class GetRecentWatchHistoryTest {
             insertHistory(viewer.getId(), vm.getId(), 100, 300, base.minusMinutes(i));
         }
 
-        // 두 번째 페이지(page=1, size=10) → 나머지 1건
-        WatchHistoryPageResponse response = watchHistoryService.getRecentWatchHistory(viewer.getId(), 1, 10);
+        // 두 번째 페이지(첫 페이지의 nextCursor, size=10) → 나머지 1건
+        WatchHistoryPageResponse first = watchHistoryService.getRecentWatchHistory(viewer.getId(), null, 10);
+        WatchHistoryPageResponse response = watchHistoryService.getRecentWatchHistory(viewer.getId(), first.getNextCursor(), 10);
 
         assertThat(response.getItems()).hasSize(1);
+        assertThat(response.getItems().getFirst().getTitle()).isEqualTo("영상10");
         assertThat(response.isHasMore()).isFalse();
+        assertThat(response.getNextCursor()).isNull();
+    }
+
+    @Test
+    @DisplayName("같은 시각에 시청한 이력은 videoMetadataId로 이어서 페이지 구분")
+    void 같은_시각_이력_페이지_중복_누락_없음() {
+        User uploader = saveUser("uploader@test.com", "업로더");
+        User viewer = saveUser("viewer@test.com", "시청자");
+        OffsetDateTime at = OffsetDateTime.now(ZoneOffset.UTC).minusDays(1);
+
+        for (int i = 0; i < 3; i++) {
+            VideoMetadata vm = saveVideo(uploader.getId(), "영상" + i, 300, false);
+            insertHistory(viewer.getId(), vm.getId(), 100, 300, at);
+        }
+
+        WatchHistoryPageResponse first = watchHistoryService.getRecentWatchHistory(viewer.getId(), null, 2);
+        WatchHistoryPageResponse second = watchHistoryService.getRecentWatchHistory(viewer.getId(), first.getNextCursor(), 2);
+
+        assertThat(first.getItems()).hasSize(2);
+        assertThat(first.isHasMore()).isTrue();
+        assertThat(second.getItems()).hasSize(1);
+        assertThat(second.isHasMore()).isFalse();
+        assertThat(second.getNextCursor()).isNull();
+        assertThat(Stream.concat(first.getItems().stream(), second.getItems().stream())
+                .map(WatchHistoryItemResponse::getVideoId)
+                .distinct())
+                .hasSize(3);
+    }
+
+    @Test
+    @DisplayName("빈 페이지는 hasMore=false, 커서 없음")
+    void 빈_페이지_커서_없음() {
+        User uploader = saveUser("uploader@test.com", "업로더");
+        User viewer = saveUser("viewer@test.com", "시청자");
+        VideoMetadata vm = saveVideo(uploader.getId(), "제목", 300, false);
+        insertHistory(viewer.getId(), vm.getId(), 100, 300, OffsetDateTime.now(ZoneOffset.UTC).minusDays(1));
+
+        WatchHistoryPageResponse response = watchHistoryService.getRecentWatchHistory(viewer.getId(), null, 0);
+
+        assertThat(response.getItems()).isEmpty();
+        assertThat(response.isHasMore()).isFalse();
+        assertThat(response.getNextCursor()).isNull();
     }
 
 }
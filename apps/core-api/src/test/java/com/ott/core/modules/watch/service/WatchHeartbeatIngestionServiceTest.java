@@ -0,0 +1,178 @@
+package com.ott.core.modules.watch.service;
+
+import com.ott.core.modules.counter.service.VideoViewService;
+import com.ott.core.modules.tag.dto.TagStatsIncrement;
+import com.ott.core.modules.tag.repository.TagStatsBatchRepository;
+import com.ott.core.modules.tag.repository.VideoTagRepository;
+import com.ott.core.modules.video.dto.VideoPlaybackMeta;
+import com.ott.core.modules.video.service.VideoPlaybackMetaCache;
+import com.ott.core.modules.watch.config.WatchWriteBehindProperties;
+import com.ott.core.modules.watch.dto.HeartbeatSaveResult;
+import com.ott.core.modules.watch.dto.WatchHistoryDto;
+import com.ott.core.modules.watch.dto.WatchHistoryKey;
+import com.ott.core.modules.watch.dto.WatchHistoryUpsert;
+import com.ott.core.modules.watch.event.WatchHeartbeatEvent;
+import com.ott.core.modules.watch.repository.WatchHistoryBatchRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InOrder;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class WatchHeartbeatIngestionServiceTest {
+
+    private static final Long VIDEO_ID = 10L;
+    private static final Long VIDEO_METADATA_ID = 100L;
+    private static final Long TAG_ID = 7L;
+    // 2026-01-01T00:00:00Z
+    private static final long T0 = 1_767_225_600_000L;
+
+    @Mock private VideoPlaybackMetaCache videoPlaybackMetaCache;
+    @Mock private WatchHistoryRedisService watchHistoryRedisService;
+    @Mock private WatchHistoryBatchRepository watchHistoryBatchRepository;
+    @Mock private VideoTagRepository videoTagRepository;
+    @Mock private TagStatsBatchRepository tagStatsBatchRepository;
+    @Mock private VideoViewService videoViewService;
+
+    private final WatchWriteBehindProperties writeBehindProperties = new WatchWriteBehindProperties();
+    private WatchHeartbeatIngestionService ingestionService;
+
+    @BeforeEach
+    void setUp() {
+        writeBehindProperties.setBatchSize(100);
+        ingestionService = new WatchHeartbeatIngestionService(videoPlaybackMetaCache, watchHistoryRedisService,
+                watchHistoryBatchRepository, videoTagRepository, tagStatsBatchRepository, writeBehindProperties,
+                videoViewService);
+        when(videoPlaybackMetaCache.get(VIDEO_ID)).thenReturn(new VideoPlaybackMeta(VIDEO_METADATA_ID, 300, false));
+    }
+
+    @Test
+    @DisplayName("이미 반영된 시각 이전의 하트비트만 재전달되면 DB/Redis 모두 건드리지 않음")
+    void 재전달_전부스킵() {
+        givenAppliedAt(1L, T0 + 10_000);
+
+        ingestionService.ingest(List.of(heartbeat(1L, 10, T0), heartbeat(1L, 20, T0 + 10_000)));
+
+        verify(watchHistoryBatchRepository, never()).upsertAll(anyList());
+        verifyNoInteractions(tagStatsBatchRepository, videoViewService);
+        verify(watchHistoryRedisService, never()).saveWatchHistory(any(), any(), any(), any(), anyLong(), eq(true));
+    }
+
+    @Test
+    @DisplayName("재전달분과 새 하트비트가 섞이면 새 하트비트만 이어서 계산해 재생 시간이 두 번 누적되지 않음")
+    void 재전달_일부스킵() {
+        givenAppliedAt(1L, T0 + 10_000);
+        // 직전 배치에서 T0+10s 위치 20초까지 반영된 상태
+        when(watchHistoryRedisService.getWatchHistory(1L, VIDEO_ID))
+                .thenReturn(new WatchHistoryDto(1L, VIDEO_ID, 20, 300, T0 + 10_000));
+        givenSaveResult(false);
+        givenTag();
+
+        ingestionService.ingest(List.of(
+                heartbeat(1L, 10, T0), heartbeat(1L, 20, T0 + 10_000), heartbeat(1L, 30, T0 + 20_000)));
+
+        WatchHistoryUpsert upsert = captureUpserts(1).get(0).get(0);
+        assertThat(upsert.lastPosition()).isEqualTo(30);
+        assertThat(upsert.updatedAt()).isEqualTo(at(T0 + 20_000));
+
+        // 이어지는 세션 → 새 조회 아님, 재생 시간은 T0+10s → T0+20s 구간만
+        assertThat(captureTagStats()).containsExactly(
+                new TagStatsIncrement(TAG_ID, 1L, LocalDate.of(2026, 1, 1), 10, 0));
+        verify(videoViewService, never()).recordView(any(), any());
+    }
+
+    @Test
+    @DisplayName("배치의 잠금/upsert/tag_stats는 한 흐름에서 순서대로 반영되고, Redis 상태와 조회수는 커밋 후에만 반영")
+    void 단일트랜잭션_커밋후_Redis() {
+        writeBehindProperties.setBatchSize(1);
+        when(watchHistoryBatchRepository.lockUpdatedAt(anyList())).thenReturn(Map.of());
+        givenSaveResult(true);
+        givenTag();
+
+        TransactionSynchronizationManager.initSynchronization();
+        try {
+            ingestionService.ingest(List.of(
+                    heartbeat(1L, 10, T0), heartbeat(2L, 50, T0), heartbeat(1L, 20, T0 + 10_000)));
+
+            // 두 세션을 한 번에 잠그고, batch-size 단위 upsert 후 tag_stats를 한 번 누적
+            InOrder inOrder = inOrder(watchHistoryBatchRepository, tagStatsBatchRepository);
+            inOrder.verify(watchHistoryBatchRepository).lockUpdatedAt(List.of(
+                    new WatchHistoryKey(1L, VIDEO_METADATA_ID), new WatchHistoryKey(2L, VIDEO_METADATA_ID)));
+            inOrder.verify(watchHistoryBatchRepository, times(2)).upsertAll(anyList());
+            inOrder.verify(tagStatsBatchRepository).addAll(anyList());
+
+            // 커밋 전에는 Redis/조회수 미반영
+            verify(watchHistoryRedisService, never()).saveWatchHistory(any(), any(), any(), any(), anyLong(), eq(true));
+            verifyNoInteractions(videoViewService);
+
+            List<TransactionSynchronization> synchronizations = TransactionSynchronizationManager.getSynchronizations();
+            synchronizations.forEach(TransactionSynchronization::afterCommit);
+        } finally {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+
+        verify(watchHistoryRedisService).saveWatchHistory(1L, VIDEO_ID, 20, 300, T0 + 10_000, true);
+        verify(watchHistoryRedisService).saveWatchHistory(2L, VIDEO_ID, 50, 300, T0, true);
+        verify(videoViewService).recordView(1L, VIDEO_ID);
+        verify(videoViewService).recordView(2L, VIDEO_ID);
+    }
+
+    private WatchHeartbeatEvent heartbeat(Long userId, int lastPosition, long occurredAt) {
+        return new WatchHeartbeatEvent(userId, VIDEO_ID, lastPosition, occurredAt);
+    }
+
+    private static OffsetDateTime at(long epochMillis) {
+        return OffsetDateTime.ofInstant(Instant.ofEpochMilli(epochMillis), ZoneOffset.UTC);
+    }
+
+    private void givenAppliedAt(Long userId, long appliedAtMillis) {
+        when(watchHistoryBatchRepository.lockUpdatedAt(anyList()))
+                .thenReturn(Map.of(new WatchHistoryKey(userId, VIDEO_METADATA_ID), at(appliedAtMillis)));
+    }
+
+    private void givenSaveResult(boolean newView) {
+        when(watchHistoryRedisService.saveWatchHistory(any(), any(), any(), any(), anyLong(), eq(true)))
+                .thenReturn(new HeartbeatSaveResult(true, true, newView));
+    }
+
+    private void givenTag() {
+        List<Object[]> rows = new ArrayList<>();
+        rows.add(new Object[]{VIDEO_METADATA_ID, TAG_ID});
+        when(videoTagRepository.findTagIdRowsByVideoMetadataIdIn(List.of(VIDEO_METADATA_ID))).thenReturn(rows);
+    }
+
+    @SuppressWarnings("unchecked")
+    private List<List<WatchHistoryUpsert>> captureUpserts(int times) {
+        ArgumentCaptor<List<WatchHistoryUpsert>> captor = ArgumentCaptor.forClass(List.class);
+        verify(watchHistoryBatchRepository, times(times)).upsertAll(captor.capture());
+        return captor.getAllValues();
+    }
+
+    @SuppressWarnings("unchecked")
+    private List<TagStatsIncrement> captureTagStats() {
+        ArgumentCaptor<List<TagStatsIncrement>> captor = ArgumentCaptor.forClass(List.class);
+        verify(tagStatsBatchRepository).addAll(captor.capture());
+        return captor.getValue();
+    }
+}
@@ -1,6 +1,9 @@
 package com.ott.core.modules.watch.service;
 
 import com.ott.core.modules.video.service.SignedCookieProcessor;
+import com.ott.core.modules.watch.dto.HeartbeatSaveResult;
+import com.ott.core.modules.watch.dto.IdleWatchSession;
+import com.ott.core.modules.watch.dto.RecentWatchPage;
 import com.ott.core.modules.watch.dto.WatchHistoryDto;
 import lombok.extern.slf4j.Slf4j;
 import org.junit.jupiter.api.AfterEach;
@@ -8,10 +11,11 @@ import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.context.SpringBootTest;
-import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.StringRedisTemplate;
 import org.springframework.test.context.ActiveProfiles;
 import org.springframework.test.context.bean.override.mockito.MockitoBean;
 
+import java.util.List;
 import java.util.concurrent.TimeUnit;
 
 import static org.assertj.core.api.Assertions.assertThat;
@@ -26,23 +30,24 @@ class WatchHistoryRedisServiceTest {
     @MockitoBean private software.amazon.awssdk.services.s3.presigner.S3Presigner s3Presigner;
 
     @Autowired private WatchHistoryRedisService watchHistoryRedisService;
-    @Autowired private RedisTemplate<String, Object> redisTemplate;
+    @Autowired private StringRedisTemplate redisTemplate;
 
     private static final Long USER_ID = 1L;
     private static final Long VIDEO_METADATA_ID = 100L;
 
     private String watchKey() {
-        return "watch:" + USER_ID + ":" + VIDEO_METADATA_ID;
+        return WatchHistoryRedisService.stateKey(USER_ID);
     }
 
-    private String rateKey() {
-        return "rate:" + USER_ID + ":" + VIDEO_METADATA_ID;
+    private String recentKey() {
+        return WatchHistoryRedisService.recentKey(USER_ID);
     }
 
     @AfterEach
     void cleanUp() {
         redisTemplate.delete(watchKey());
-        redisTemplate.delete(rateKey());
+        redisTemplate.delete(recentKey());
+        redisTemplate.opsForZSet().remove(WatchHistoryRedisService.activeKey(USER_ID), USER_ID + ":" + VIDEO_METADATA_ID);
     }
 
     @Test
@@ -58,21 +63,55 @@ class WatchHistoryRedisServiceTest {
     @Test
     @DisplayName("RateLimit 테스트")
     void rateLimitTest() {
-        boolean firstResult = watchHistoryRedisService.checkRateLimit(USER_ID, VIDEO_METADATA_ID);
-        boolean secondResult = watchHistoryRedisService.checkRateLimit(USER_ID, VIDEO_METADATA_ID);
+        boolean firstResult = watchHistoryRedisService.saveWatchHistoryAndCheckRateLimit(USER_ID, VIDEO_METADATA_ID, 10, 300).canSaveToDb();
+        boolean secondResult = watchHistoryRedisService.saveWatchHistoryAndCheckRateLimit(USER_ID, VIDEO_METADATA_ID, 20, 300).canSaveToDb();
 
         assertThat(firstResult).isTrue();
         assertThat(secondResult).isFalse();
     }
 
+    @Test
+    @DisplayName("첫 하트비트만 새 조회로 판단, 이어지는 하트비트는 재집계하지 않음")
+    void newViewFlagTest() {
+        HeartbeatSaveResult first = watchHistoryRedisService.saveWatchHistoryAndCheckRateLimit(USER_ID, VIDEO_METADATA_ID, 10, 300);
+        HeartbeatSaveResult second = watchHistoryRedisService.saveWatchHistoryAndCheckRateLimit(USER_ID, VIDEO_METADATA_ID, 20, 300);
+
+        assertThat(first.newView()).isTrue();
+        assertThat(second.newView()).isFalse();
+    }
+
+    @Test
+    @DisplayName("종료 직후 늦게 도착한 하트비트는 최종 위치를 덮어쓰거나 세션을 되살리지 않음")
+    void lateHeartbeatAfterEndTest() {
+        watchHistoryRedisService.endWatchSession(USER_ID, VIDEO_METADATA_ID, 250, 300, System.currentTimeMillis());
+
+        HeartbeatSaveResult result = watchHistoryRedisService.saveWatchHistoryAndCheckRateLimit(USER_ID, VIDEO_METADATA_ID, 240, 300);
+
+        assertThat(result.accepted()).isFalse();
+        assertThat(watchHistoryRedisService.getWatchHistory(USER_ID, VIDEO_METADATA_ID).getLastPosition()).isEqualTo(250);
+        assertThat(redisTemplate.opsForZSet().score(WatchHistoryRedisService.activeKey(USER_ID), USER_ID + ":" + VIDEO_METADATA_ID)).isNull();
+    }
+
+    @Test
+    @DisplayName("종료 후 유예 시간이 지난 하트비트는 새 세션으로 반영")
+    void heartbeatAfterGraceStartsNewSessionTest() {
+        watchHistoryRedisService.endWatchSession(USER_ID, VIDEO_METADATA_ID, 250, 300, System.currentTimeMillis() - 60_000);
+
+        HeartbeatSaveResult result = watchHistoryRedisService.saveWatchHistoryAndCheckRateLimit(USER_ID, VIDEO_METADATA_ID, 10, 300);
+
+        assertThat(result.accepted()).isTrue();
+        assertThat(watchHistoryRedisService.getWatchHistory(USER_ID, VIDEO_METADATA_ID).getLastPosition()).isEqualTo(10);
+        assertThat(redisTemplate.opsForZSet().score(WatchHistoryRedisService.activeKey(USER_ID), USER_ID + ":" + VIDEO_METADATA_ID)).isNotNull();
+    }
+
     @Test
     @DisplayName("WATCH_HISTORY_TTL 동작 확인")
     void ttlTest() {
         watchHistoryRedisService.saveWatchHistory(USER_ID, VIDEO_METADATA_ID, 10, 100);
-        Long ttl = redisTemplate.getExpire(watchKey(), TimeUnit.HOURS);
+        Long ttl = redisTemplate.getExpire(watchKey(), TimeUnit.DAYS);
 
         assertThat(ttl).isNotNull();
-        assertThat(ttl).isBetween(11L, 12L);
+        assertThat(ttl).isBetween(29L, 30L);
     }
 
     @Test
@@ -81,8 +120,8 @@ class WatchHistoryRedisServiceTest {
         watchHistoryRedisService.saveWatchHistory(USER_ID, VIDEO_METADATA_ID, 10, 100);
         watchHistoryRedisService.deleteWatchHistory(USER_ID, VIDEO_METADATA_ID);
 
-        Object value = redisTemplate.opsForValue().get(watchKey());
-        assertThat(value).isNull();
+        assertThat(watchHistoryRedisService.getWatchHistory(USER_ID, VIDEO_METADATA_ID)).isNull();
+        assertThat(redisTemplate.opsForZSet().score(recentKey(), String.valueOf(VIDEO_METADATA_ID))).isNull();
     }
 
     @Test
@@ -94,4 +133,46 @@ class WatchHistoryRedisServiceTest {
         WatchHistoryDto result = watchHistoryRedisService.getWatchHistory(USER_ID, VIDEO_METADATA_ID);
         assertThat(result.getLastPosition()).isEqualTo(30);
     }
-}
\ No newline at end of file
+
+    @Test
+    @DisplayName("시딩 후 최근 시청 순서대로 조회")
+    void recentWatchesOrderTest() {
+        long now = System.currentTimeMillis();
+        watchHistoryRedisService.seedRecentWatches(USER_ID, List.of(
+                WatchHistoryDto.builder().videoId(200L).lastPosition(10).duration(100).watchedAt(now - 2000).build(),
+                WatchHistoryDto.builder().videoId(300L).lastPosition(20).duration(100).watchedAt(now - 1000).build()
+        ), true);
+        watchHistoryRedisService.saveWatchHistory(USER_ID, VIDEO_METADATA_ID, 30, 100);
+
+        RecentWatchPage page = watchHistoryRedisService.getRecentWatches(USER_ID, 0, null, 10);
+
+        assertThat(page).isNotNull();
+        assertThat(page.complete()).isTrue();
+        assertThat(page.items()).extracting(WatchHistoryDto::getVideoId)
+                .containsExactly(VIDEO_METADATA_ID, 300L, 200L);
+    }
+
+    @Test
+    @DisplayName("한 스크립트가 쓰는 사용자 키는 같은 해시 태그, 진행 중 세션은 샤드별로 나뉘어도 모두 정리 대상으로 가져옴")
+    void shardedActiveSessionsTest() {
+        Long otherUserId = USER_ID + 1;
+        String tag = WatchHistoryRedisService.activeKey(USER_ID).substring("watch:active:".length());
+        assertThat(WatchHistoryRedisService.stateKey(USER_ID)).contains(tag);
+        assertThat(WatchHistoryRedisService.recentKey(USER_ID)).contains(tag);
+        assertThat(WatchHistoryRedisService.activeKey(otherUserId)).isNotEqualTo(WatchHistoryRedisService.activeKey(USER_ID));
+
+        try {
+            // 다른 데이터와 겹치지 않도록 아주 오래된 시각으로 하트비트
+            watchHistoryRedisService.saveWatchHistory(USER_ID, VIDEO_METADATA_ID, 10, 100, 500L, true);
+            watchHistoryRedisService.saveWatchHistory(otherUserId, VIDEO_METADATA_ID, 20, 100, 600L, true);
+
+            List<IdleWatchSession> claimed = watchHistoryRedisService.claimIdleSessions(1_000L, 10);
+
+            assertThat(claimed).extracting(IdleWatchSession::userId).containsExactlyInAnyOrder(USER_ID, otherUserId);
+            assertThat(watchHistoryRedisService.claimIdleSessions(1_000L, 10)).isEmpty();
+        } finally {
+            redisTemplate.delete(List.of(WatchHistoryRedisService.stateKey(otherUserId), WatchHistoryRedisService.recentKey(otherUserId)));
+            redisTemplate.opsForZSet().remove(WatchHistoryRedisService.activeKey(otherUserId), otherUserId + ":" + VIDEO_METADATA_ID);
+        }
+    }
+}
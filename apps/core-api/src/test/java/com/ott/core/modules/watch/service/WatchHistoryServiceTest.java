@@ -37,17 +37,17 @@ class WatchHistoryServiceTest {
     private static final Long VIDEO_METADATA_ID = 100L;
 
     private String watchKey() {
-        return "watch:" + USER_ID + ":" + VIDEO_METADATA_ID;
+        return WatchHistoryRedisService.stateKey(USER_ID);
     }
 
-    private String rateKey() {
-        return "rate:" + USER_ID + ":" + VIDEO_METADATA_ID;
+    private String recentKey() {
+        return WatchHistoryRedisService.recentKey(USER_ID);
     }
 
     @AfterEach
     void cleanUp() {
         redisTemplate.delete(watchKey());
-        redisTemplate.delete(rateKey());
+        redisTemplate.delete(recentKey());
     }
 
     @Test
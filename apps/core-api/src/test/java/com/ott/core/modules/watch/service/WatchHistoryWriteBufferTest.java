@@ -0,0 +1,126 @@
+package com.ott.core.modules.watch.service;
+
+import com.ott.core.modules.watch.config.WatchWriteBehindProperties;
+import com.ott.core.modules.watch.dto.WatchHistoryUpsert;
+import com.ott.core.modules.watch.repository.WatchHistoryBatchRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.tuple;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class WatchHistoryWriteBufferTest {
+
+    @Mock
+    private WatchHistoryBatchRepository watchHistoryBatchRepository;
+
+    private final WatchWriteBehindProperties properties = new WatchWriteBehindProperties();
+    // 크기 기준 flush로 제출된 작업 (테스트에서 직접 실행)
+    private final List<Runnable> submitted = new ArrayList<>();
+    private WatchHistoryWriteBuffer buffer;
+
+    @BeforeEach
+    void setUp() {
+        properties.setBatchSize(10);
+        buffer = new WatchHistoryWriteBuffer(watchHistoryBatchRepository, properties, submitted::add, new SimpleMeterRegistry());
+    }
+
+    @Test
+    @DisplayName("같은 (userId, videoMetadataId)의 하트비트는 마지막 위치 하나로 병합되고, 키 순으로 정렬해 한 번에 upsert")
+    void 병합_정렬() {
+        buffer.enqueue(2L, 100L, 10, false);
+        buffer.enqueue(1L, 200L, 5, false);
+        buffer.enqueue(1L, 100L, 30, false);
+        buffer.enqueue(1L, 100L, 40, false);
+
+        buffer.flush();
+
+        List<WatchHistoryUpsert> rows = captureUpserts(1).get(0);
+        assertThat(rows).extracting(WatchHistoryUpsert::userId, WatchHistoryUpsert::videoMetadataId, WatchHistoryUpsert::lastPosition)
+                .containsExactly(
+                        tuple(1L, 100L, 40),
+                        tuple(1L, 200L, 5),
+                        tuple(2L, 100L, 10));
+    }
+
+    @Test
+    @DisplayName("버퍼가 batch-size에 도달하면 주기를 기다리지 않고 flush 작업을 한 번만 제출")
+    void 크기기준_flush() {
+        properties.setBatchSize(2);
+
+        buffer.enqueue(1L, 100L, 10, false);
+        assertThat(submitted).isEmpty();
+
+        buffer.enqueue(1L, 200L, 20, false);
+        buffer.enqueue(1L, 300L, 30, false);
+        assertThat(submitted).hasSize(1);
+
+        submitted.get(0).run();
+
+        // batch-size 단위로 나누어 upsert
+        assertThat(captureUpserts(2)).extracting(List::size).containsExactly(2, 1);
+    }
+
+    @Test
+    @DisplayName("upsert 실패 시 버퍼에 재적재되고, 그 사이 들어온 최신 위치와 병합 (완주 여부는 유지)")
+    void 실패시_재적재_병합() throws InterruptedException {
+        when(watchHistoryBatchRepository.upsertAll(anyList())).thenThrow(new IllegalStateException("DB 장애")).thenReturn(1);
+
+        buffer.enqueue(1L, 100L, 290, true);
+        buffer.flush();
+
+        Thread.sleep(2); // 재적재된 값보다 확실히 나중 시각
+        buffer.enqueue(1L, 100L, 10, false);
+        buffer.flush();
+
+        List<WatchHistoryUpsert> retried = captureUpserts(2).get(1);
+        assertThat(retried).hasSize(1);
+        assertThat(retried.get(0).lastPosition()).isEqualTo(10);
+        assertThat(retried.get(0).completed()).isTrue();
+    }
+
+    @Test
+    @DisplayName("종료 시 남은 항목을 모두 반영하고, 이후 요청은 버퍼를 거치지 않고 바로 저장")
+    void 종료시_drain() {
+        buffer.enqueue(1L, 100L, 10, false);
+        buffer.enqueue(1L, 200L, 20, false);
+
+        buffer.drain();
+        buffer.enqueue(1L, 300L, 30, false);
+
+        List<List<WatchHistoryUpsert>> calls = captureUpserts(2);
+        assertThat(calls.get(0)).hasSize(2);
+        assertThat(calls.get(1)).extracting(WatchHistoryUpsert::videoMetadataId).containsExactly(300L);
+        assertThat(submitted).isEmpty();
+    }
+
+    @Test
+    @DisplayName("시청 종료로 직접 저장한 항목은 버퍼에서 제거되어 덮어쓰지 않음")
+    void discard() {
+        buffer.enqueue(1L, 100L, 10, false);
+        buffer.discard(1L, 100L);
+
+        buffer.flush();
+
+        verify(watchHistoryBatchRepository, never()).upsertAll(anyList());
+    }
+
+    @SuppressWarnings("unchecked")
+    private List<List<WatchHistoryUpsert>> captureUpserts(int times) {
+        ArgumentCaptor<List<WatchHistoryUpsert>> captor = ArgumentCaptor.forClass(List.class);
+        verify(watchHistoryBatchRepository, times(times)).upsertAll(captor.capture());
+        return captor.getAllValues();
+    }
+}
@@ -78,6 +78,9 @@ public enum ErrorCode {
     // ===== VideoMetadata =====
     VIDEO_METADATA_NOT_FOUND("VIDEO-METADATA-404-001", 404, "비디오 메타데이터를 찾을 수 없습니다."),
 
+    // ===== WatchHistory =====
+    WATCH_HISTORY_INVALID_CURSOR("WATCH-400-001", 400, "잘못된 시청 이력 커서입니다."),
+
     // ===== U+ =====
     UPLUS_NOT_REGISTERED("UPLUS-404-001", 404, "U+ 가입 정보가 없습니다."),
     UPLUS_ALREADY_REGISTERED("UPLUS-409-001", 409, "이미 U+ 가입 정보가 등록되어 있습니다."),
@@ -12,7 +12,10 @@ import java.time.LocalDate;
 @Entity
 @Getter
 @NoArgsConstructor (access = AccessLevel.PROTECTED)
-@Table(name = "tag_stats")
+@Table(name = "tag_stats",
+        uniqueConstraints = {
+                @UniqueConstraint(name = "uk_tag_stats_tag_user_date", columnNames = {"tag_id", "user_id", "stats_date"})
+        })
 public class TagStats extends BaseEntity {
 
     @Id
@@ -12,7 +12,11 @@ import lombok.Getter;
 @Table(
         name = "watch_history",
         uniqueConstraints = {
-                @UniqueConstraint(columnNames = {"user_id", "video_metadata_id"})
+                @UniqueConstraint(name = "uk_watch_history_user_video", columnNames = {"user_id", "video_metadata_id"})
+        },
+        indexes = {
+                // 최근 시청 이력 keyset 페이지네이션용
+                @Index(name = "idx_watch_history_user_updated", columnList = "user_id, updated_at DESC, video_metadata_id DESC")
         }
 )
 public class WatchHistory extends BaseEntity {
@@ -0,0 +1,65 @@
+package com.ott.common.util;
+
+/**
+ * Bloom filter 크기/해시 계산 (core-api 실시간 기록과 batch 재구성이 같은 비트 위치를 쓰도록 공유)
+ * - 비트 수 m = -n·ln(p) / (ln 2)^2, 해시 수 k = m/n · ln 2
+ * - k개 위치는 64비트 해시 두 개의 조합 (h1 + i·h2)으로 계산
+ */
+public final class BloomFilterSpec {
+
+    // Redis 비트맵 최대 크기 (512MB)
+    private static final long MAX_BITS = 1L << 32;
+
+    private final long bitSize;
+    private final int hashCount;
+
+    private BloomFilterSpec(long bitSize, int hashCount) {
+        this.bitSize = bitSize;
+        this.hashCount = hashCount;
+    }
+
+    /**
+     * @param expectedItems     예상 원소 수 (넘으면 오탐률이 점점 올라감)
+     * @param falsePositiveRate 목표 오탐률 (0 ~ 1)
+     */
+    public static BloomFilterSpec of(int expectedItems, double falsePositiveRate) {
+        if (expectedItems <= 0) {
+            throw new IllegalArgumentException("expectedItems must be positive: " + expectedItems);
+        }
+        if (falsePositiveRate <= 0 || falsePositiveRate >= 1) {
+            throw new IllegalArgumentException("falsePositiveRate must be between 0 and 1: " + falsePositiveRate);
+        }
+        long bits = (long) Math.ceil(-expectedItems * Math.log(falsePositiveRate) / (Math.log(2) * Math.log(2)));
+        bits = Math.min(Math.max(bits, 8), MAX_BITS);
+        int hashes = Math.max(1, (int) Math.round((double) bits / expectedItems * Math.log(2)));
+        return new BloomFilterSpec(bits, hashes);
+    }
+
+    public long bitSize() {
+        return bitSize;
+    }
+
+    public int hashCount() {
+        return hashCount;
+    }
+
+    /**
+     * 값이 차지하는 비트 위치 k개
+     */
+    public long[] offsets(long value) {
+        long h1 = mix(value);
+        long h2 = mix(value ^ 0x9E3779B97F4A7C15L) | 1;
+        long[] offsets = new long[hashCount];
+        for (int i = 0; i < hashCount; i++) {
+            offsets[i] = ((h1 + i * h2) & Long.MAX_VALUE) % bitSize;
+        }
+        return offsets;
+    }
+
+    // SplitMix64 finalizer
+    private static long mix(long z) {
+        z = (z ^ (z >>> 30)) * 0xBF58476D1CE4E5B9L;
+        z = (z ^ (z >>> 27)) * 0x94D049BB133111EBL;
+        return z ^ (z >>> 31);
+    }
+}
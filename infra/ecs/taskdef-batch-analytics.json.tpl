@@ -16,7 +16,10 @@
         { "name": "BATCH_ANALYTICS_PORT",   "value": "8082" },
         { "name": "DB_URL",                 "value": "${DB_URL}" },
         { "name": "DB_USER",                "value": "${DB_USER}" },
-        { "name": "DB_PASSWORD",            "value": "${DB_PASSWORD}" }
+        { "name": "DB_PASSWORD",            "value": "${DB_PASSWORD}" },
+        { "name": "REDIS_HOST",             "value": "${REDIS_HOST}" },
+        { "name": "REDIS_PORT",             "value": "${REDIS_PORT}" },
+        { "name": "REDIS_PASSWORD",         "value": "${REDIS_PASSWORD}" }
       ],
       "logConfiguration": {
         "logDriver": "awslogs",